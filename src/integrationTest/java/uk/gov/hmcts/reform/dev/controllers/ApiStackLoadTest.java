@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same read mix at high concurrency through /api/tasks (servlet, JPA) and
+ * /api/v2/tasks (WebFlux, R2DBC) and logs throughput, latency percentiles and rejections.
+ * Opt-in because it takes a while: ./gradlew loadTest [-PloadConcurrency=512 -PloadRequests=20000]
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-load;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+    "spring.r2dbc.url=r2dbc:h2:mem:///testdb-load;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=ERROR"
+})
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+@Slf4j
+@DisplayName("v1 vs v2 API load comparison")
+class ApiStackLoadTest {
+
+    private static final int TASKS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final int concurrency = Integer.getInteger("loadConcurrency", 512);
+    private final int requests = Integer.getInteger("loadRequests", 20_000);
+
+    private List<Long> ids;
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        List<TaskEntity> entities = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            entities.add(new TaskEntity("Load task " + i, "Description " + i,
+                                        TaskStatus.values()[i % TaskStatus.values().length],
+                                        LocalDateTime.now().plusHours(i)));
+        }
+        ids = taskRepository.saveAll(entities).stream().map(TaskEntity::getId).toList();
+
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+            .maxConnections(concurrency)
+            .pendingAcquireMaxCount(-1)
+            .build();
+        client = WebClient.builder()
+            .baseUrl("http://localhost:" + port)
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should serve a high-concurrency read mix on both stacks")
+    void shouldCompareStacksUnderLoad() {
+        // Warm up both paths before measuring
+        run("/api/tasks", Math.min(requests, 2_000));
+        run("/api/v2/tasks", Math.min(requests, 2_000));
+
+        Result servlet = run("/api/tasks", requests);
+        Result reactive = run("/api/v2/tasks", requests);
+
+        log.info("Load test: {} requests, {} concurrent", requests, concurrency);
+        log.info("  v1 servlet+JPA   {}", servlet);
+        log.info("  v2 WebFlux+R2DBC {}", reactive);
+
+        assertThat(servlet.statuses.keySet()).allMatch(status -> status == 200 || status == 503);
+        assertThat(reactive.statuses.keySet()).allMatch(status -> status == 200 || status == 503);
+    }
+
+    /**
+     * Nine lookups by ID for every due-date page, all at the configured concurrency
+     */
+    private Result run(String basePath, int total) {
+        long[] latencies = new long[total];
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+
+        Flux.range(0, total)
+            .flatMap(i -> {
+                String uri = i % 10 == 0
+                    ? basePath + "/due?from=" + LocalDateTime.now().minusDays(1) + "&to="
+                        + LocalDateTime.now().plusDays(30) + "&size=50"
+                    : basePath + "/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                long sent = System.nanoTime();
+                return client.get().uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().value()))
+                    .onErrorResume(e -> Mono.just(-1))
+                    .doOnNext(status -> {
+                        latencies[i] = System.nanoTime() - sent;
+                        statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                    });
+            }, concurrency)
+            .blockLast();
+
+        return new Result(total, System.nanoTime() - start, latencies, new TreeMap<>(statuses));
+    }
+
+    private record Result(int total, long elapsedNanos, long[] latencies, Map<Integer, AtomicLong> statuses) {
+
+        @Override
+        public String toString() {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return String.format("%,8.0f req/s  p50 %6.1f ms  p99 %7.1f ms  max %7.1f ms  statuses %s",
+                                 total / (elapsedNanos / 1e9),
+                                 percentile(sorted, 0.50), percentile(sorted, 0.99),
+                                 sorted[sorted.length - 1] / 1e6, statuses);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
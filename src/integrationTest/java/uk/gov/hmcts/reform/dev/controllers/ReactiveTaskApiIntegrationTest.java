@@ -0,0 +1,192 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import uk.gov.hmcts.reform.dev.models.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.UpdateTaskStatusRequest;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-v2;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+    "spring.r2dbc.url=r2dbc:h2:mem:///testdb-v2;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Reactive /api/v2/tasks Integration Tests")
+class ReactiveTaskApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create a task on v2 that v1 can read")
+    void shouldCreateTaskVisibleToBothStacks() {
+        // When
+        Task created = create("Reactive task", TaskStatus.PENDING, LocalDateTime.now().plusDays(1));
+
+        // Then
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getStatus()).isEqualTo(TaskStatus.PENDING);
+        webTestClient.get().uri("/api/tasks/{id}", created.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.title").isEqualTo("Reactive task");
+        webTestClient.get().uri("/api/v2/tasks/{id}", created.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.title").isEqualTo("Reactive task");
+    }
+
+    @Test
+    @DisplayName("Should reject a blank title with 400, like v1")
+    void shouldRejectBlankTitle() {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle("  ");
+
+        webTestClient.post().uri("/api/v2/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Should stream tasks as NDJSON in due date order")
+    void shouldStreamTasksAsNdjson() {
+        // Given
+        create("Later", TaskStatus.PENDING, LocalDateTime.now().plusDays(5));
+        create("Sooner", TaskStatus.PENDING, LocalDateTime.now().plusDays(1));
+        create("Done", TaskStatus.COMPLETED, LocalDateTime.now().plusDays(2));
+
+        // When
+        List<Task> pending = webTestClient.get().uri("/api/v2/tasks?status=PENDING")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(Task.class)
+            .getResponseBody()
+            .collectList()
+            .block();
+
+        // Then
+        assertThat(pending).extracting(Task::getTitle).containsExactly("Sooner", "Later");
+    }
+
+    @Test
+    @DisplayName("Should update, patch and delete through v2")
+    void shouldUpdatePatchAndDelete() {
+        // Given
+        Task created = create("Original", TaskStatus.PENDING, null);
+        UpdateTaskStatusRequest statusRequest = new UpdateTaskStatusRequest();
+        statusRequest.setStatus(TaskStatus.IN_PROGRESS);
+
+        // When & Then
+        webTestClient.put().uri("/api/v2/tasks/{id}/status", created.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(statusRequest)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("IN_PROGRESS");
+
+        webTestClient.patch().uri("/api/v2/tasks/{id}", created.getId())
+            .contentType(MediaType.valueOf("application/merge-patch+json"))
+            .bodyValue(Map.of("title", "Renamed"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.title").isEqualTo("Renamed")
+            .jsonPath("$.status").isEqualTo("IN_PROGRESS");
+
+        webTestClient.delete().uri("/api/v2/tasks/{id}", created.getId())
+            .exchange()
+            .expectStatus().isNoContent();
+        webTestClient.get().uri("/api/v2/tasks/{id}", created.getId())
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should persist an assignee set and cleared by a v2 patch")
+    void shouldPersistPatchedAssignee() {
+        // Given
+        Task created = create("Unassigned", TaskStatus.PENDING, null);
+
+        // When
+        webTestClient.patch().uri("/api/v2/tasks/{id}", created.getId())
+            .contentType(MediaType.valueOf("application/merge-patch+json"))
+            .bodyValue(Map.of("assignee", "caseworker-1"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.assignee").isEqualTo("caseworker-1");
+
+        // Then
+        assertThat(taskRepository.findById(created.getId()).orElseThrow().getAssignee()).isEqualTo("caseworker-1");
+
+        // And clearing it with null unassigns the task
+        Map<String, Object> unassign = new HashMap<>();
+        unassign.put("assignee", null);
+        webTestClient.patch().uri("/api/v2/tasks/{id}", created.getId())
+            .contentType(MediaType.valueOf("application/merge-patch+json"))
+            .bodyValue(unassign)
+            .exchange()
+            .expectStatus().isOk();
+        assertThat(taskRepository.findById(created.getId()).orElseThrow().getAssignee()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown task and 400 for a malformed ID")
+    void shouldMapMissingAndMalformedIds() {
+        webTestClient.get().uri("/api/v2/tasks/99999")
+            .exchange()
+            .expectStatus().isNotFound();
+        webTestClient.get().uri("/api/v2/tasks/not-a-number")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    private Task create(String title, TaskStatus status, LocalDateTime dueDate) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle(title);
+        request.setStatus(status);
+        request.setDueDate(dueDate);
+        return webTestClient.post().uri("/api/v2/tasks")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(Task.class)
+            .returnResult()
+            .getResponseBody();
+    }
+}
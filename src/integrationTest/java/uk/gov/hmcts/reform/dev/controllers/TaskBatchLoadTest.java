@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the same create, patch, status change and delete work through the single-task endpoints
+ * and through POST /api/tasks/batch, and logs operations per second for each. Opt-in because it
+ * takes a while: ./gradlew loadTest [-PloadConcurrency=512 -PloadRequests=20000]
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-batch-load;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=ERROR"
+})
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+@Slf4j
+@DisplayName("Single-task calls vs batch load comparison")
+class TaskBatchLoadTest {
+
+    /**
+     * Create, patch, status change and delete
+     */
+    private static final int OPERATIONS_PER_UNIT = 4;
+    private static final int UNITS_PER_LARGE_BATCH = 25;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final int concurrency = Integer.getInteger("loadConcurrency", 512);
+    private final int requests = Integer.getInteger("loadRequests", 20_000);
+
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        ConnectionProvider connections = ConnectionProvider.builder("batch-load-test")
+            .maxConnections(concurrency)
+            .pendingAcquireMaxCount(-1)
+            .build();
+        client = WebClient.builder()
+            .baseUrl("http://localhost:" + port)
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should do the same work with single calls and with batches")
+    void shouldCompareSingleCallsWithBatches() {
+        int units = Math.max(UNITS_PER_LARGE_BATCH, requests / OPERATIONS_PER_UNIT);
+
+        // Warm up every path before measuring
+        run(Math.min(units, 500), 1, false);
+        run(Math.min(units, 500), 1, true);
+        run(Math.min(units, 500), UNITS_PER_LARGE_BATCH, true);
+
+        Result single = run(units, 1, false);
+        Result batched = run(units, 1, true);
+        Result largeBatches = run(units, UNITS_PER_LARGE_BATCH, true);
+
+        log.info("Batch load test: {} operations, {} concurrent", units * OPERATIONS_PER_UNIT, concurrency);
+        log.info("  single-task calls        {}", single);
+        log.info("  batches of {} operations  {}", OPERATIONS_PER_UNIT, batched);
+        log.info("  batches of {} operations {}", OPERATIONS_PER_UNIT * UNITS_PER_LARGE_BATCH, largeBatches);
+
+        assertThat(single.statuses.keySet()).allMatch(status -> status < 300 || status == 503);
+        assertThat(batched.statuses.keySet()).allMatch(status -> status == 200 || status == 503);
+        assertThat(largeBatches.statuses.keySet()).allMatch(status -> status == 200 || status == 503);
+    }
+
+    /**
+     * Each unit of work creates a task and patches, moves and deletes an existing one. Units are
+     * sent as four calls each, or {@code unitsPerBatch} at a time as one batch.
+     */
+    private Result run(int units, int unitsPerBatch, boolean batched) {
+        List<Long> ids = seed(units);
+        int requestCount = batched ? (units + unitsPerBatch - 1) / unitsPerBatch : units;
+        long[] latencies = new long[requestCount];
+        Map<Integer, AtomicLong> statuses = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+
+        Flux.range(0, requestCount)
+            .flatMap(i -> {
+                long sent = System.nanoTime();
+                Mono<Integer> work = batched
+                    ? batch(ids.subList(i * unitsPerBatch, Math.min((i + 1) * unitsPerBatch, units)))
+                    : singleCalls(ids.get(i), statuses);
+                return work
+                    .onErrorResume(e -> Mono.just(-1))
+                    .doOnNext(status -> {
+                        latencies[i] = System.nanoTime() - sent;
+                        statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                    });
+            }, concurrency)
+            .blockLast();
+
+        int httpRequests = batched ? requestCount : units * OPERATIONS_PER_UNIT;
+        return new Result(units * OPERATIONS_PER_UNIT, httpRequests, System.nanoTime() - start, latencies,
+                          new TreeMap<>(statuses));
+    }
+
+    private Mono<Integer> singleCalls(Long id, Map<Integer, AtomicLong> statuses) {
+        return send(client.post().uri("/api/tasks"), "{\"title\":\"Load task\"}", statuses)
+            .then(send(client.patch().uri("/api/tasks/" + id), "{\"title\":\"Patched\"}", statuses))
+            .then(send(client.put().uri("/api/tasks/" + id + "/status"), "{\"status\":\"IN_PROGRESS\"}", statuses))
+            .then(client.delete().uri("/api/tasks/" + id)
+                      .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value())));
+    }
+
+    /**
+     * Send one of the first three calls of a unit, counting its status; the caller counts the last
+     */
+    private Mono<Integer> send(WebClient.RequestBodySpec request, String body, Map<Integer, AtomicLong> statuses) {
+        return request
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON)
+            .bodyValue(body)
+            .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+            .doOnNext(status -> statuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet());
+    }
+
+    private Mono<Integer> batch(List<Long> ids) {
+        String operations = ids.stream()
+            .map(id -> "{\"op\":\"CREATE\",\"task\":{\"title\":\"Load task\"}},"
+                + "{\"op\":\"UPDATE\",\"id\":" + id + ",\"patch\":{\"title\":\"Patched\"}},"
+                + "{\"op\":\"UPDATE_STATUS\",\"id\":" + id + ",\"status\":\"IN_PROGRESS\"},"
+                + "{\"op\":\"DELETE\",\"id\":" + id + "}")
+            .collect(Collectors.joining(","));
+        return client.post().uri("/api/tasks/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON)
+            .bodyValue("{\"operations\":[" + operations + "]}")
+            .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+    }
+
+    private List<Long> seed(int count) {
+        List<TaskEntity> entities = new ArrayList<>(count);
+        IntStream.range(0, count).forEach(i -> entities.add(new TaskEntity(
+            "Seed task " + i, "Description " + i, TaskStatus.PENDING, LocalDateTime.now().plusHours(i))));
+        return taskRepository.saveAll(entities).stream().map(TaskEntity::getId).toList();
+    }
+
+    /**
+     * Latencies are per batch, or per four-call unit for single-task calls
+     */
+    private record Result(int operations, int httpRequests, long elapsedNanos, long[] latencies,
+                          Map<Integer, AtomicLong> statuses) {
+
+        @Override
+        public String toString() {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return String.format("%,8.0f ops/s  %,7.0f req/s  p50 %6.1f ms  p99 %7.1f ms  statuses %s",
+                                 operations / (elapsedNanos / 1e9), httpRequests / (elapsedNanos / 1e9),
+                                 percentile(sorted, 0.50), percentile(sorted, 0.99), statuses);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
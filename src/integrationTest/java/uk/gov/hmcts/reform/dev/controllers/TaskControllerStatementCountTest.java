@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.sql.StatementCountAssertions.assertAtMostStatements;
+import static uk.gov.hmcts.reform.dev.sql.StatementCountAssertions.assertStatementCount;
+
+/**
+ * Statement budgets for the TaskController endpoints against the JPA store. Not transactional:
+ * each request must commit on its own so its flush is counted.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb-statements;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=ERROR",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=ERROR"
+})
+@DisplayName("TaskController Statement Count Tests")
+class TaskControllerStatementCountTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private MockMvc mockMvc;
+    private final List<Long> createdIds = new ArrayList<>();
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        taskId = persist("Counted task", LocalDateTime.of(2099, 1, 15, 10, 0));
+        persist("Other counted task", LocalDateTime.of(2099, 1, 16, 10, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdIds.stream().filter(taskRepository::existsById).forEach(taskRepository::deleteById);
+    }
+
+    @Test
+    @DisplayName("POST /api/tasks - one INSERT")
+    void createTask() throws Exception {
+        assertStatementCount(1, () -> mockMvc.perform(post("/api/tasks")
+                                                          .contentType(MediaType.APPLICATION_JSON)
+                                                          .content("{\"title\":\"New task\"}"))
+            .andExpect(status().isCreated()));
+        taskRepository.findAll().stream()
+            .filter(task -> "New task".equals(task.getTitle()))
+            .forEach(task -> createdIds.add(task.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/{id} and POST /api/tasks/lookup - one SELECT each")
+    void readTasks() throws Exception {
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/tasks/" + taskId))
+            .andExpect(status().isOk()));
+        assertStatementCount(1, () -> mockMvc.perform(post("/api/tasks/lookup")
+                                                          .contentType(MediaType.APPLICATION_JSON)
+                                                          .content("{\"ids\":" + createdIds + "}"))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("List, due and calendar reads - at most one query each")
+    void listTasks() throws Exception {
+        // Coalesced reads may share another caller's query and issue none
+        assertAtMostStatements(1, () -> mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk()));
+        // The first page is short, so no COUNT query is needed
+        assertAtMostStatements(1, () -> mockMvc.perform(get("/api/tasks/due")
+                                                             .param("from", "2099-01-01T00:00:00")
+                                                             .param("to", "2099-01-31T00:00:00"))
+            .andExpect(status().isOk()));
+        // Answered from the columnar snapshot once it has loaded
+        assertAtMostStatements(1, () -> mockMvc.perform(get("/api/tasks/due/calendar")
+                                                             .param("from", "2099-01-01")
+                                                             .param("to", "2099-01-31"))
+            .andExpect(status().isOk()));
+        // Served from memory
+        assertStatementCount(0, () -> mockMvc.perform(get("/api/tasks/board")));
+    }
+
+    @Test
+    @DisplayName("PUT /api/tasks/{id}/status and PATCH /api/tasks/{id} - SELECT then UPDATE")
+    void updateTask() throws Exception {
+        assertStatementCount(2, () -> mockMvc.perform(put("/api/tasks/" + taskId + "/status")
+                                                          .contentType(MediaType.APPLICATION_JSON)
+                                                          .content("{\"status\":\"IN_PROGRESS\"}"))
+            .andExpect(status().isOk()));
+        assertStatementCount(2, () -> mockMvc.perform(patch("/api/tasks/" + taskId)
+                                                          .contentType("application/merge-patch+json")
+                                                          .content("{\"title\":\"Renamed\"}"))
+            .andExpect(status().isOk()));
+        // A patch that changes nothing skips the UPDATE
+        assertStatementCount(1, () -> mockMvc.perform(patch("/api/tasks/" + taskId)
+                                                          .contentType("application/merge-patch+json")
+                                                          .content("{\"title\":\"Renamed\"}"))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/tasks/{id} - existence check, load and DELETE")
+    void deleteTask() throws Exception {
+        // existsById, then deleteById loads the entity before removing it
+        assertStatementCount(3, () -> mockMvc.perform(delete("/api/tasks/" + taskId))
+            .andExpect(status().isNoContent()));
+        assertStatementCount(1, () -> mockMvc.perform(delete("/api/tasks/" + taskId))
+            .andExpect(status().isNotFound()));
+    }
+
+    private Long persist(String title, LocalDateTime dueDate) {
+        Long id = taskRepository.save(new TaskEntity(title, "Description", TaskStatus.PENDING, dueDate)).getId();
+        createdIds.add(id);
+        return id;
+    }
+}
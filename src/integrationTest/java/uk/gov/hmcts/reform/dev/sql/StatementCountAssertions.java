@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.sql;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts how many SQL statements a block of code issues through Hibernate on the calling
+ * thread. Use around a MockMvc call (which runs the request on the test thread) to fix an
+ * endpoint's statement budget, so a change that adds queries fails the build.
+ */
+public final class StatementCountAssertions {
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private StatementCountAssertions() {
+    }
+
+    /**
+     * Run the action and return the statements it issued
+     */
+    public static StatementCounts countStatements(ThrowingRunnable action) throws Exception {
+        try (StatementCounts counts = SqlStatementCounter.open()) {
+            action.run();
+            return counts;
+        }
+    }
+
+    public static StatementCounts assertStatementCount(int expected, ThrowingRunnable action) throws Exception {
+        StatementCounts counts = countStatements(action);
+        assertThat(counts.getTotal()).as(describe(counts)).isEqualTo(expected);
+        return counts;
+    }
+
+    public static StatementCounts assertAtMostStatements(int budget, ThrowingRunnable action) throws Exception {
+        StatementCounts counts = countStatements(action);
+        assertThat(counts.getTotal()).as(describe(counts)).isLessThanOrEqualTo(budget);
+        return counts;
+    }
+
+    private static String describe(StatementCounts counts) {
+        return counts + ":" + counts.getStatements().entrySet().stream()
+            .map((Map.Entry<String, Integer> entry) -> "\n  " + entry.getValue() + "x " + entry.getKey())
+            .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.dev.logstore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.util.FileSystemUtils;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskEntityRowMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded insert and point-read throughput of the log store against an H2 file database
+ * configured like the application's {@code ./data/taskdb}. Both start from {@code taskCount}
+ * tasks. Run with {@code ./gradlew jmh}.
+ *
+ * <p>The H2 database is created in a temporary directory rather than ./data so a benchmark run
+ * never touches local application data. H2 autocommits each insert and the log store
+ * is run with and without {@code forceOnWrite}: by default H2 does not fsync each commit
+ * either, so {@code forceOnWrite=false} is the like-for-like setting.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskStoreBenchmark {
+
+    private static final String SELECT_BY_ID = "SELECT " + TaskEntityRowMapper.COLUMNS + " FROM tasks WHERE id = ?";
+
+    @Param({"100000"})
+    private int taskCount;
+
+    @Param({"false", "true"})
+    private boolean forceOnWrite;
+
+    private Path directory;
+    private LogStructuredTaskStore store;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("task-store-benchmark");
+
+        store = new LogStructuredTaskStore(directory.resolve("taskstore"), 64 * 1024 * 1024, forceOnWrite, 0.5);
+        store.open();
+
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:file:" + directory.resolve("taskdb").toAbsolutePath() + ";MODE=MySQL", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+                                 + "description VARCHAR(1000), status VARCHAR(20) NOT NULL, due_date TIMESTAMP, "
+                                 + "created_date TIMESTAMP NOT NULL, updated_date TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_due_date ON tasks (due_date)");
+
+        for (int i = 1; i <= taskCount; i++) {
+            store.put(task(i));
+        }
+        store.snapshot();
+        List<Object[]> rows = new ArrayList<>(taskCount);
+        for (int i = 1; i <= taskCount; i++) {
+            rows.add(row(task(i)));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (title, description, status, due_date, created_date, "
+                                     + "updated_date) VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        dataSource.destroy();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public TaskEntity logStoreInsert() {
+        return store.put(task(taskCount));
+    }
+
+    @Benchmark
+    public int h2Insert() {
+        return jdbcTemplate.update("INSERT INTO tasks (title, description, status, due_date, created_date, "
+                                       + "updated_date) VALUES (?, ?, ?, ?, ?, ?)", row(task(taskCount)));
+    }
+
+    @Benchmark
+    public TaskEntity logStoreRead() {
+        return store.get(ThreadLocalRandom.current().nextLong(1, taskCount + 1));
+    }
+
+    @Benchmark
+    public List<TaskEntity> h2Read() {
+        return jdbcTemplate.query(SELECT_BY_ID, TaskEntityRowMapper.INSTANCE,
+                                  ThreadLocalRandom.current().nextLong(1, taskCount + 1));
+    }
+
+    private static TaskEntity task(int i) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        TaskEntity task = new TaskEntity();
+        task.setTitle("Task " + i);
+        task.setDescription("Review the documents submitted for case " + i + " and record the outcome");
+        task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+        task.setDueDate(base.plusMinutes(i * 7L));
+        task.setCreatedDate(base.minusDays(i % 90));
+        task.setUpdatedDate(task.getCreatedDate());
+        return task;
+    }
+
+    private static Object[] row(TaskEntity task) {
+        return new Object[] {
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus().name(),
+            Timestamp.valueOf(task.getDueDate()),
+            Timestamp.valueOf(task.getCreatedDate()),
+            Timestamp.valueOf(task.getUpdatedDate())
+        };
+    }
+}
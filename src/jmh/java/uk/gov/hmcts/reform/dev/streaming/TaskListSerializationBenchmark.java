@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.dev.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskEntityRowMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the list endpoint's current path (row to TaskEntity to Task to List to Jackson) with
+ * the streaming writer, over the same H2 table. Run with {@code ./gradlew jmh}; the gc profiler
+ * configured in build.gradle reports gc.alloc.rate.norm, i.e. bytes allocated per serialized list.
+ *
+ * <p>The current path here maps rows with TaskEntityRowMapper rather than Hibernate, so it
+ * understates the real cost of the JPA path (no persistence context or entity snapshots).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskListSerializationBenchmark {
+
+    private static final String SELECT_ALL = "SELECT " + TaskEntityRowMapper.COLUMNS
+        + " FROM tasks ORDER BY due_date ASC NULLS FIRST, id ASC";
+
+    @Param({"100000"})
+    private int taskCount;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ObjectMapper objectMapper;
+    private TaskMapper taskMapper;
+    private TaskJsonStreamWriter streamWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(500);
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+                                 + "description VARCHAR(1000), status VARCHAR(20) NOT NULL, due_date TIMESTAMP, "
+                                 + "created_date TIMESTAMP NOT NULL, updated_date TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_due_date ON tasks (due_date)");
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Object[]> rows = new ArrayList<>(taskCount);
+        for (int i = 1; i <= taskCount; i++) {
+            Timestamp created = Timestamp.valueOf(base.minusDays(i % 90));
+            rows.add(new Object[] {
+                (long) i,
+                "Task " + i,
+                "Review the documents submitted for case " + i + " and record the outcome",
+                statuses[i % statuses.length].name(),
+                Timestamp.valueOf(base.plusMinutes(i * 7L)),
+                created,
+                created
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (" + TaskEntityRowMapper.COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                                 rows);
+
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskMapper = new TaskMapper();
+        streamWriter = new TaskJsonStreamWriter(jdbcTemplate, objectMapper.getFactory());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE tasks");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void mappedList() throws IOException {
+        List<Task> tasks = jdbcTemplate.query(SELECT_ALL, TaskEntityRowMapper.INSTANCE).stream()
+            .map(taskMapper::toModel)
+            .toList();
+        objectMapper.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+
+    @Benchmark
+    public void streamed() throws IOException {
+        streamWriter.writeTasks(null, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+/**
+ * AIMD concurrency limit. The limit grows by one for every request that completes
+ * within the latency threshold while the limit is being used, and is multiplied
+ * by the backoff ratio whenever a request is slow or fails because of overload.
+ * <p>
+ * Reads may only use readShare of the limit, so the remaining headroom is kept
+ * for writes when the service is busy.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final double readShare;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    long latencyThresholdNanos, double backoffRatio, double readShare) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.readShare = Math.min(1, Math.max(0, readShare));
+        this.limit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+    }
+
+    /**
+     * Admit a request if it fits under the current limit for its priority
+     */
+    public synchronized boolean tryAcquire(boolean write) {
+        int allowed = write ? (int) limit : Math.max(1, (int) (limit * readShare));
+        if (inFlight >= allowed) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Record the outcome of an admitted request and adjust the limit
+     *
+     * @param overloaded true if the request failed because a downstream resource was saturated
+     */
+    public synchronized void release(long latencyNanos, boolean overloaded) {
+        boolean wasSaturated = inFlight * 2 >= limit;
+        inFlight--;
+        if (overloaded || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (wasSaturated) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
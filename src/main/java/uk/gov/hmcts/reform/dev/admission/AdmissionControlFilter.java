@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Admission control in front of the task API. Each request first needs a token from its
+ * client's bucket (429 otherwise) and then a slot under the adaptive concurrency limit
+ * (503 otherwise). Both rejections carry Retry-After and happen before any database work.
+ *
+ * <p>Bulk paths (streams, uploads, downloads) are rate limited but bypass the concurrency limit:
+ * they run for as long as the transfer takes, which says nothing about how loaded the service
+ * is, and would otherwise shrink the limit for every short request. The database work behind
+ * them is bounded elsewhere (the reporting bulkhead, the R2DBC pool, the import workers).</p>
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final ClientRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final List<String> bulkPaths;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final LongSupplier nanoClock;
+
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public AdmissionControlFilter(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimit concurrencyLimit,
+                                  List<String> bulkPaths, MeterRegistry meterRegistry) {
+        this(rateLimiter, concurrencyLimit, bulkPaths, meterRegistry, System::nanoTime);
+    }
+
+    AdmissionControlFilter(ClientRateLimiter rateLimiter, AdaptiveConcurrencyLimit concurrencyLimit,
+                           List<String> bulkPaths, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimit = concurrencyLimit;
+        this.bulkPaths = List.copyOf(bulkPaths);
+        this.nanoClock = nanoClock;
+
+        this.rateLimited = Counter.builder("task.admission.rejected")
+            .tag("reason", "rate_limit")
+            .description("Requests rejected before reaching the task API")
+            .register(meterRegistry);
+        this.shed = Counter.builder("task.admission.rejected")
+            .tag("reason", "concurrency")
+            .description("Requests rejected before reaching the task API")
+            .register(meterRegistry);
+        Gauge.builder("task.admission.limit", concurrencyLimit, AdaptiveConcurrencyLimit::getLimit)
+            .description("Current adaptive concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("task.admission.in.flight", concurrencyLimit, AdaptiveConcurrencyLimit::getInFlight)
+            .description("Requests currently admitted")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = rateLimiter.tryAcquire(clientId(request), nanoClock.getAsLong());
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos);
+            return;
+        }
+
+        if (isBulk(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean write = isWrite(request);
+        if (!concurrencyLimit.tryAcquire(write)) {
+            shed.increment();
+            log.debug("Shedding {} {} at concurrency limit {}", request.getMethod(), request.getRequestURI(),
+                      concurrencyLimit.getLimit());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1));
+            return;
+        }
+
+        long start = nanoClock.getAsLong();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            concurrencyLimit.release(nanoClock.getAsLong() - start, true);
+            throw e;
+        }
+
+        if (request.isAsyncStarted()) {
+            // Async responses outside the bulk paths finish after the chain returns; hold the permit until then
+            request.getAsyncContext().addListener(new ReleaseOnComplete(start));
+            return;
+        }
+        concurrencyLimit.release(nanoClock.getAsLong() - start, isOverloaded(response));
+    }
+
+    private static boolean isOverloaded(HttpServletResponse response) {
+        return response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        private final long start;
+        private volatile boolean failed;
+
+        ReleaseOnComplete(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            boolean overloaded = failed || isOverloaded((HttpServletResponse) event.getSuppliedResponse());
+            concurrencyLimit.release(nanoClock.getAsLong() - start, overloaded);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Not re-registered: the permit belongs to the original request
+        }
+    }
+
+    /**
+     * The authenticated user if there is one, else the remote address. Never a request header,
+     * which a client could change on every request to get a fresh bucket. Behind a proxy the
+     * remote address is only the client's when server.forward-headers-strategy is set; otherwise
+     * every client shares the proxy's bucket.
+     */
+    private static String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : request.getRemoteAddr();
+    }
+
+    private boolean isBulk(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : bulkPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One token bucket per client. Idle clients are dropped by {@link #evictIdle}, which runs on a
+ * schedule rather than on the request path. Once maxClients are tracked, clients not yet seen share
+ * one overflow bucket until an eviction makes room, so the table stays bounded.
+ */
+public class ClientRateLimiter {
+
+    private final double burst;
+    private final double ratePerSecond;
+    private final int maxClients;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+
+    public ClientRateLimiter(double ratePerSecond, double burst, int maxClients, long nowNanos) {
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxClients = maxClients;
+        this.overflow = new TokenBucket(burst, ratePerSecond, nowNanos);
+    }
+
+    /**
+     * @return 0 if the request is allowed, otherwise the nanoseconds until the client may retry
+     */
+    public long tryAcquire(String clientId, long nowNanos) {
+        TokenBucket bucket = buckets.get(clientId);
+        if (bucket == null) {
+            bucket = buckets.size() < maxClients
+                ? buckets.computeIfAbsent(clientId, id -> new TokenBucket(burst, ratePerSecond, nowNanos))
+                : overflow;
+        }
+        return bucket.tryConsume(nowNanos);
+    }
+
+    /**
+     * Drop clients whose buckets have refilled completely, i.e. that have been idle
+     *
+     * @return the number of clients dropped
+     */
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        return before - buckets.size();
+    }
+
+    public int getTrackedClients() {
+        return buckets.size();
+    }
+}
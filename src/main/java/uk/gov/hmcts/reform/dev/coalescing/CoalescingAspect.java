@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+
+/**
+ * Coalesces concurrent identical calls to {@link Coalesced} methods. Ordered ahead of the
+ * workload bulkhead and the transaction, so followers hold neither a permit nor a connection.
+ * Calls made inside an existing transaction are not coalesced, since they may need to see
+ * that transaction's own uncommitted writes.
+ */
+@Aspect
+@Order(CoalescingAspect.ORDER)
+public class CoalescingAspect {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 200;
+
+    private final RequestCoalescer coalescer;
+
+    public CoalescingAspect(RequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @Around("@annotation(uk.gov.hmcts.reform.dev.coalescing.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+        return coalescer.execute(operation, Arrays.asList(joinPoint.getArgs()), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksReassignedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+
+/**
+ * Moves the coalescer to a new generation once a write commits, so reads made after the write
+ * run their own query instead of sharing one that may have read the data before it.
+ */
+public class CoalescingInvalidator {
+
+    private final RequestCoalescer coalescer;
+
+    public CoalescingInvalidator(RequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        coalescer.invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksRemoved(TasksRemovedEvent event) {
+        coalescer.invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksCreated(TasksCreatedEvent event) {
+        coalescer.invalidate();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        coalescer.invalidate();
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-flight execution: the first caller for a key runs the call, callers that arrive
+ * with the same key while it is in flight wait for and share its result (or exception).
+ * An optional window holds the leader back briefly so a burst of callers joins one flight.
+ *
+ * <p>Flights are keyed by a generation that {@link #invalidate()} bumps after each committed
+ * write, so a caller that arrives after a write never joins a query that began before it and
+ * always reads its own writes.</p>
+ */
+public class RequestCoalescer {
+
+    private final Duration window;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> leaderCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> followerCounters = new ConcurrentHashMap<>();
+    private final AtomicLong leaders = new AtomicLong();
+    private final AtomicLong followers = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    public RequestCoalescer(Duration window, MeterRegistry meterRegistry) {
+        this.window = window != null ? window : Duration.ZERO;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("task.coalescing.ratio", this, RequestCoalescer::getCoalescingRatio)
+            .description("Fraction of calls served by another caller's in-flight execution")
+            .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface Flight {
+        Object run() throws Throwable;
+    }
+
+    /**
+     * Run the call, or join an identical call already in flight
+     */
+    public Object execute(String operation, List<Object> arguments, Flight flight) throws Throwable {
+        Key key = new Key(operation, arguments, generation.get());
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            followers.incrementAndGet();
+            counter(followerCounters, operation, "follower").increment();
+            return await(existing);
+        }
+
+        leaders.incrementAndGet();
+        counter(leaderCounters, operation, "leader").increment();
+        try {
+            holdForWindow();
+            Object result = flight.run();
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Stop later callers joining flights that are already running, after a write has committed
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    public double getCoalescingRatio() {
+        long total = leaders.get() + followers.get();
+        return total == 0 ? 0 : (double) followers.get() / total;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) throws Throwable {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void holdForWindow() throws InterruptedException {
+        if (!window.isZero() && !window.isNegative()) {
+            Thread.sleep(window.toMillis(), window.toNanosPart() % 1_000_000);
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String operation, String role) {
+        return counters.computeIfAbsent(operation, op -> Counter.builder("task.coalescing.calls")
+            .tag("operation", op)
+            .tag("role", role)
+            .description("Coalesced calls; leaders executed the call, followers shared its result")
+            .register(meterRegistry));
+    }
+
+    private record Key(String operation, List<Object> arguments, long generation) {
+    }
+}
@@ -0,0 +1,264 @@
+package uk.gov.hmcts.reform.dev.columnar;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.DueDateCount;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The fields analytical queries scan (task ID, status and due date) held as three parallel
+ * primitive arrays sorted by ID: 17 bytes per task and no per-task objects, so tens of millions
+ * of tasks fit in a few hundred MB and a scan is a tight loop over contiguous memory.
+ * Scans over more than {@link #PARALLEL_THRESHOLD} rows are split across the common fork-join pool.
+ *
+ * <p>A deleted task leaves a tombstone in place until tombstones make up a quarter of the
+ * rows, when they are squeezed out. Not thread-safe: callers serialise writes against scans.</p>
+ */
+public final class TaskColumns {
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    static final long NO_DUE_DATE = Long.MIN_VALUE;
+    static final byte DELETED = -1;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final int BYTES_PER_ROW = Long.BYTES + 1 + Long.BYTES;
+
+    private long[] ids;
+    private byte[] statuses;
+    private long[] dueDates;
+    private int rows;
+    private int deleted;
+
+    public TaskColumns(int capacity) {
+        int initial = Math.max(capacity, 16);
+        ids = new long[initial];
+        statuses = new byte[initial];
+        dueDates = new long[initial];
+    }
+
+    /**
+     * Insert a task or update its status and due date
+     */
+    public void put(long id, TaskStatus status, LocalDateTime dueDate) {
+        int slot = find(id);
+        if (slot < 0) {
+            slot = -slot - 1;
+            ensureCapacity(rows + 1);
+            if (slot < rows) {
+                // Out of ID order, e.g. a restored or late-committed task; normally this appends
+                System.arraycopy(ids, slot, ids, slot + 1, rows - slot);
+                System.arraycopy(statuses, slot, statuses, slot + 1, rows - slot);
+                System.arraycopy(dueDates, slot, dueDates, slot + 1, rows - slot);
+            }
+            ids[slot] = id;
+            rows++;
+        } else if (statuses[slot] == DELETED) {
+            deleted--;
+        }
+        statuses[slot] = (byte) status.ordinal();
+        dueDates[slot] = dueDate != null ? epochSecond(dueDate) : NO_DUE_DATE;
+    }
+
+    /**
+     * @return whether the task was present
+     */
+    public boolean remove(long id) {
+        int slot = find(id);
+        if (slot < 0 || statuses[slot] == DELETED) {
+            return false;
+        }
+        statuses[slot] = DELETED;
+        deleted++;
+        if (deleted > rows / 4) {
+            compact();
+        }
+        return true;
+    }
+
+    public int size() {
+        return rows - deleted;
+    }
+
+    /**
+     * Heap held by the arrays, including spare capacity
+     */
+    public long allocatedBytes() {
+        return (long) ids.length * BYTES_PER_ROW;
+    }
+
+    public Map<TaskStatus, Long> countByStatus() {
+        byte[] statusColumn = statuses;
+        long[] counts = scan(STATUSES.length, (from, to) -> {
+            long[] partial = new long[STATUSES.length];
+            for (int i = from; i < to; i++) {
+                byte status = statusColumn[i];
+                if (status != DELETED) {
+                    partial[status]++;
+                }
+            }
+            return partial;
+        });
+
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            byStatus.put(status, counts[status.ordinal()]);
+        }
+        return byStatus;
+    }
+
+    /**
+     * Count tasks due before {@code now} whose status is not excluded
+     */
+    public long countOverdue(LocalDateTime now, Collection<TaskStatus> excludedStatuses) {
+        boolean[] counted = new boolean[STATUSES.length];
+        for (TaskStatus status : STATUSES) {
+            counted[status.ordinal()] = !excludedStatuses.contains(status);
+        }
+        long cutoff = epochSecond(now);
+        byte[] statusColumn = statuses;
+        long[] dueColumn = dueDates;
+        return scan(1, (from, to) -> {
+            long count = 0;
+            for (int i = from; i < to; i++) {
+                byte status = statusColumn[i];
+                long due = dueColumn[i];
+                // NO_DUE_DATE is Long.MIN_VALUE, so it must be excluded explicitly
+                if (status != DELETED && due != NO_DUE_DATE && due < cutoff && counted[status]) {
+                    count++;
+                }
+            }
+            return new long[] {count};
+        })[0];
+    }
+
+    /**
+     * Count tasks per due day and status for the days {@code from}..{@code to} inclusive,
+     * ordered by day then status. Day/status pairs with no tasks are omitted.
+     */
+    public List<DueDateCount> countByDueDay(LocalDate from, LocalDate to) {
+        long firstDay = from.toEpochDay();
+        int days = Math.toIntExact(to.toEpochDay() - firstDay + 1);
+        long start = firstDay * SECONDS_PER_DAY;
+        long end = start + days * SECONDS_PER_DAY;
+        int statusCount = STATUSES.length;
+        byte[] statusColumn = statuses;
+        long[] dueColumn = dueDates;
+        long[] counts = scan(days * statusCount, (rangeFrom, rangeTo) -> {
+            long[] partial = new long[days * statusCount];
+            for (int i = rangeFrom; i < rangeTo; i++) {
+                long due = dueColumn[i];
+                byte status = statusColumn[i];
+                if (due >= start && due < end && status != DELETED) {
+                    partial[(int) ((due - start) / SECONDS_PER_DAY) * statusCount + status]++;
+                }
+            }
+            return partial;
+        });
+
+        List<DueDateCount> result = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            for (int status = 0; status < statusCount; status++) {
+                long total = counts[day * statusCount + status];
+                if (total > 0) {
+                    result.add(new DueDateCount.Row(LocalDate.ofEpochDay(firstDay + day), STATUSES[status], total));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Due dates are stored as the epoch second of the local date-time read as UTC, so whole
+     * days stay 86,400 seconds apart regardless of daylight saving
+     */
+    static long epochSecond(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private int find(long id) {
+        if (rows == 0 || id > ids[rows - 1]) {
+            return -rows - 1;
+        }
+        return Arrays.binarySearch(ids, 0, rows, id);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > ids.length) {
+            int capacity = Math.max(required, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            dueDates = Arrays.copyOf(dueDates, capacity);
+        }
+    }
+
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < rows; i++) {
+            if (statuses[i] != DELETED) {
+                ids[kept] = ids[i];
+                statuses[kept] = statuses[i];
+                dueDates[kept] = dueDates[i];
+                kept++;
+            }
+        }
+        rows = kept;
+        deleted = 0;
+    }
+
+    private long[] scan(int width, RangeScan leaf) {
+        if (rows <= PARALLEL_THRESHOLD) {
+            return leaf.scan(0, rows);
+        }
+        return ForkJoinPool.commonPool().invoke(new ScanTask(leaf, width, 0, rows));
+    }
+
+    /**
+     * Scans rows [from, to) into a vector of counts
+     */
+    @FunctionalInterface
+    private interface RangeScan {
+        long[] scan(int from, int to);
+    }
+
+    private static final class ScanTask extends RecursiveTask<long[]> {
+
+        private final RangeScan leaf;
+        private final int width;
+        private final int from;
+        private final int to;
+
+        private ScanTask(RangeScan leaf, int width, int from, int to) {
+            this.leaf = leaf;
+            this.width = width;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return leaf.scan(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(leaf, width, from, middle);
+            left.fork();
+            long[] right = new ScanTask(leaf, width, middle, to).compute();
+            long[] sum = left.join();
+            for (int i = 0; i < width; i++) {
+                sum[i] += right[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import uk.gov.hmcts.reform.dev.admission.AdaptiveConcurrencyLimit;
+import uk.gov.hmcts.reform.dev.admission.AdmissionControlFilter;
+import uk.gov.hmcts.reform.dev.admission.ClientRateLimiter;
+
+/**
+ * Registers the admission control filter for the task API
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.admission", name = "enabled", havingValue = "true")
+@Slf4j
+public class AdmissionConfig {
+
+    private ClientRateLimiter rateLimiter;
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionProperties properties,
+                                                                                MeterRegistry meterRegistry) {
+        rateLimiter = new ClientRateLimiter(
+            properties.getRatePerSecond(), properties.getBurst(), properties.getMaxClients(), System.nanoTime());
+        AdaptiveConcurrencyLimit concurrencyLimit = new AdaptiveConcurrencyLimit(
+            properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(),
+            properties.getLatencyThreshold().toNanos(), properties.getBackoffRatio(), properties.getReadShare());
+
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+            new AdmissionControlFilter(rateLimiter, concurrencyLimit, properties.getBulkPaths(), meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Scheduled(initialDelayString = "${task-management.admission.eviction-interval:PT30S}",
+               fixedDelayString = "${task-management.admission.eviction-interval:PT30S}")
+    public void evictIdleClients() {
+        int evicted = rateLimiter.evictIdle(System.nanoTime());
+        log.debug("Dropped {} idle clients, {} still tracked", evicted, rateLimiter.getTrackedClients());
+    }
+}
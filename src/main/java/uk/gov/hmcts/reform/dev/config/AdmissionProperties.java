@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-client rate limits and adaptive concurrency limit applied to /api/* before the controllers
+ */
+@ConfigurationProperties(prefix = "task-management.admission")
+@Getter
+@Setter
+public class AdmissionProperties {
+
+    /**
+     * Off by default. Clients are keyed on the authenticated user, else the remote address, so
+     * behind a proxy set server.forward-headers-strategy or every user shares the proxy's bucket.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Sustained requests per second allowed for one client (the authenticated user, else the
+     * remote address)
+     */
+    private double ratePerSecond = 20;
+
+    /**
+     * Requests one client may make in a burst above the sustained rate
+     */
+    private double burst = 40;
+
+    /**
+     * Clients tracked at most; clients beyond this share one bucket until idle ones are dropped
+     */
+    private int maxClients = 10_000;
+
+    /**
+     * How often clients whose buckets have refilled are dropped
+     */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 100;
+
+    /**
+     * Requests slower than this shrink the concurrency limit
+     */
+    private Duration latencyThreshold = Duration.ofMillis(500);
+
+    /**
+     * Multiplier applied to the limit on a slow or overloaded request
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * Fraction of the concurrency limit reads may use; the rest is reserved for writes
+     */
+    private double readShare = 0.8;
+
+    /**
+     * Ant-style paths of long transfers (streams, uploads, downloads) that are rate limited but
+     * not counted against the concurrency limit, whose latency they would distort
+     */
+    private List<String> bulkPaths = new ArrayList<>(List.of(
+        "/api/tasks/stream", "/api/v2/**", "/api/imports", "/api/reports/*/download"));
+}
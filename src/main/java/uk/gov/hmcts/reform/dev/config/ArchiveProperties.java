@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for moving closed tasks out of the live tasks table
+ */
+@ConfigurationProperties(prefix = "task-management.archive")
+@Getter
+@Setter
+public class ArchiveProperties {
+
+    /**
+     * Run the scheduled archival job. Off by default: archived tasks drop out of every
+     * /api/tasks query, so turning it on changes what those endpoints return.
+     */
+    private boolean enabled;
+
+    /**
+     * Statuses that count as closed
+     */
+    private List<TaskStatus> statuses = new ArrayList<>(List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED));
+
+    /**
+     * Closed tasks not updated for this long are archived
+     */
+    private Duration closedAge = Duration.ofDays(30);
+
+    /**
+     * Rows moved per transaction
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on batches per scheduled run, so one run cannot monopolise the database
+     */
+    private int maxBatchesPerRun = 200;
+
+    /**
+     * Pause between batches to let OLTP traffic through
+     */
+    private Duration batchPause = Duration.ofMillis(50);
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.coalescing.CoalescingAspect;
+import uk.gov.hmcts.reform.dev.coalescing.CoalescingInvalidator;
+import uk.gov.hmcts.reform.dev.coalescing.RequestCoalescer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.coalescing", name = "enabled", havingValue = "true",
+                       matchIfMissing = true)
+public class CoalescingConfig {
+
+    @Bean
+    public RequestCoalescer requestCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return new RequestCoalescer(properties.getWindow(), meterRegistry);
+    }
+
+    @Bean
+    public CoalescingAspect coalescingAspect(RequestCoalescer requestCoalescer) {
+        return new CoalescingAspect(requestCoalescer);
+    }
+
+    @Bean
+    public CoalescingInvalidator coalescingInvalidator(RequestCoalescer requestCoalescer) {
+        return new CoalescingInvalidator(requestCoalescer);
+    }
+}
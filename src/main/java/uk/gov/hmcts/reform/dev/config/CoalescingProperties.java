@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Single-flight coalescing of identical concurrent list and statistics reads
+ */
+@ConfigurationProperties(prefix = "task-management.coalescing")
+@Getter
+@Setter
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long the first caller waits before querying, so a burst of identical calls shares it
+     */
+    private Duration window = Duration.ZERO;
+}
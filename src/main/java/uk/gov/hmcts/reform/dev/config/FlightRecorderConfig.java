@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.flightrecorder.FlightRecorderAspect;
+
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.flight-recorder", name = "events-enabled", havingValue = "true",
+                       matchIfMissing = true)
+public class FlightRecorderConfig {
+
+    @Bean
+    public FlightRecorderAspect flightRecorderAspect() {
+        return new FlightRecorderAspect();
+    }
+}
@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for on-demand Java Flight Recorder recordings and the task management events
+ */
+@ConfigurationProperties(prefix = "task-management.flight-recorder")
+@Getter
+@Setter
+public class FlightRecorderProperties {
+
+    /**
+     * Whether recordings can be started through /admin/flight-recordings; off by default
+     */
+    private boolean enabled;
+
+    /**
+     * Bearer token callers must send to /admin/flight-recordings; required when enabled
+     */
+    private String accessToken;
+
+    /**
+     * Whether TaskService and repository calls emit events; they cost nothing until a recording enables them
+     */
+    private boolean eventsEnabled = true;
+
+    /**
+     * Where finished recordings are written
+     */
+    private String directory = "./data/recordings";
+
+    /**
+     * Length of a recording started without a duration
+     */
+    private Duration defaultDuration = Duration.ofMinutes(5);
+
+    /**
+     * Longest recording that can be requested
+     */
+    private Duration maxDuration = Duration.ofMinutes(30);
+
+    /**
+     * Recording data kept on disk while recording; older chunks are dropped beyond this
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+
+    /**
+     * Finished recordings kept for download; the oldest is deleted when another is started
+     */
+    private int retained = 5;
+}
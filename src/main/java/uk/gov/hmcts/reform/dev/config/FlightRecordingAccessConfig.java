@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import uk.gov.hmcts.reform.dev.flightrecorder.FlightRecordingAccessFilter;
+
+/**
+ * Puts the access token check in front of /admin/flight-recordings. Enabling recordings
+ * without a token fails start-up rather than leaving the endpoints open.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.flight-recorder", name = "enabled", havingValue = "true")
+public class FlightRecordingAccessConfig {
+
+    @Bean
+    public FilterRegistrationBean<FlightRecordingAccessFilter> flightRecordingAccessFilter(
+            FlightRecorderProperties properties) {
+        if (!StringUtils.hasText(properties.getAccessToken())) {
+            throw new IllegalStateException(
+                "task-management.flight-recorder.access-token must be set when flight recordings are enabled");
+        }
+        FilterRegistrationBean<FlightRecordingAccessFilter> registration = new FilterRegistrationBean<>(
+            new FlightRecordingAccessFilter(properties.getAccessToken()));
+        registration.addUrlPatterns("/admin/flight-recordings", "/admin/flight-recordings/*");
+        return registration;
+    }
+}
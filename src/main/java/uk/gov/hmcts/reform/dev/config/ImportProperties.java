@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for bulk task imports
+ */
+@ConfigurationProperties(prefix = "task-management.imports")
+@Getter
+@Setter
+public class ImportProperties {
+
+    /**
+     * Where uploads are spooled until their import finishes
+     */
+    private String directory = "./data/imports";
+
+    /**
+     * Largest upload accepted
+     */
+    private DataSize maxUploadSize = DataSize.ofGigabytes(2);
+
+    /**
+     * Longest record (CSV record or NDJSON line) read into memory, counted in characters; longer
+     * records are rejected as unreadable rows instead of being buffered
+     */
+    private DataSize maxRecordSize = DataSize.ofKilobytes(64);
+
+    /**
+     * Imports run at the same time; further imports wait their turn
+     */
+    private int workers = 1;
+
+    /**
+     * Rows committed per transaction; a restarted import resumes after the last committed batch
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Pause between batches to let OLTP traffic through
+     */
+    private Duration batchPause = Duration.ofMillis(10);
+
+    /**
+     * Rejected rows recorded per import; later rejections are only counted
+     */
+    private int maxErrors = 1000;
+}
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import uk.gov.hmcts.reform.dev.logstore.LogStructuredTaskStore;
+import uk.gov.hmcts.reform.dev.repositories.LogStructuredTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.nio.file.Path;
+
+/**
+ * Swaps the JPA TaskRepository for a TaskStore over the log-structured store when
+ * task-management.log-store.enabled=true. The JPA datasource stays configured for the
+ * features that still use it (cases and the transition log).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.log-store", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LogStoreProperties.class)
+@Slf4j
+public class LogStoreConfig {
+
+    private LogStructuredTaskStore store;
+
+    @Bean
+    public LogStructuredTaskStore logStructuredTaskStore(
+        LogStoreProperties properties,
+        @Value("${task-management.sharding.enabled:false}") boolean shardingEnabled) {
+        if (shardingEnabled) {
+            throw new IllegalStateException("task-management.log-store and task-management.sharding "
+                                                + "cannot both be enabled");
+        }
+        store = new LogStructuredTaskStore(Path.of(properties.getDirectory()),
+                                           (int) properties.getSegmentSize().toBytes(),
+                                           properties.isForceOnWrite(),
+                                           properties.getCompactionThreshold());
+        store.open();
+        return store;
+    }
+
+    @Bean
+    @Primary
+    public TaskStore logStructuredTaskRepository(LogStructuredTaskStore logStructuredTaskStore,
+                                                 LogStoreProperties properties) {
+        log.info("Task storage is the log store in {}", properties.getDirectory());
+        return new LogStructuredTaskRepository(logStructuredTaskStore);
+    }
+
+    @Scheduled(initialDelayString = "${task-management.log-store.maintenance-interval:PT1M}",
+               fixedDelayString = "${task-management.log-store.maintenance-interval:PT1M}")
+    public void maintain() {
+        try {
+            store.maintain();
+        } catch (Exception e) {
+            log.error("Task log store maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
+}
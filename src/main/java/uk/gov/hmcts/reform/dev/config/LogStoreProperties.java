@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the optional log-structured task storage
+ */
+@ConfigurationProperties(prefix = "task-management.log-store")
+@Getter
+@Setter
+public class LogStoreProperties {
+
+    /**
+     * Store tasks in the memory-mapped log instead of the JPA datasource
+     */
+    private boolean enabled = false;
+
+    private String directory = "./data/taskstore";
+
+    /**
+     * Size of each segment file; also the largest task record that can be written
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Flush every write to the device. Without it a write survives the process being killed
+     * but not the machine losing power.
+     */
+    private boolean forceOnWrite = true;
+
+    /**
+     * How often the index is snapshotted and sparse segments compacted
+     */
+    private Duration maintenanceInterval = Duration.ofMinutes(1);
+
+    /**
+     * Compact a full segment once less than this fraction of it holds current task versions
+     */
+    private double compactionThreshold = 0.5;
+}
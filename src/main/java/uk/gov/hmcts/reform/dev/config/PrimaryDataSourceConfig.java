@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The JDBC pool for JPA. Declared here because Boot's DataSource auto-configuration backs off
+ * once an R2DBC ConnectionFactory (the /api/v2 stack) is present. Replaced by the routing
+ * DataSource in ReadReplicaConfig when the replica is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.datasource.replica", name = "enabled", havingValue = "false",
+                       matchIfMissing = true)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class PrimaryDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ServletHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import uk.gov.hmcts.reform.dev.controllers.ReactiveTaskHandler;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.repositories.ReactiveTaskRepository;
+import uk.gov.hmcts.reform.dev.services.ReactiveTaskService;
+import uk.gov.hmcts.reform.dev.services.TaskBoardService;
+
+/**
+ * The /api/v2 stack: WebFlux functional endpoints on R2DBC, mounted as an async servlet next to
+ * the Spring MVC DispatcherServlet so both APIs share one server, port and filter chain.
+ * Like the streaming writer it reads the main tasks table, so it is off when tasks are sharded or
+ * kept in the log store.
+ */
+@Configuration
+@ConditionalOnExpression("!${task-management.sharding.enabled:false} and !${task-management.log-store.enabled:false}")
+public class ReactiveApiConfig {
+
+    private static final String MAPPING = "/api/v2/*";
+
+    @Bean
+    public ReactiveTaskRepository reactiveTaskRepository(ConnectionFactory connectionFactory) {
+        return new ReactiveTaskRepository(DatabaseClient.create(connectionFactory));
+    }
+
+    @Bean
+    public ReactiveTaskService reactiveTaskService(ReactiveTaskRepository reactiveTaskRepository, TaskMapper taskMapper,
+                                                   ApplicationEventPublisher eventPublisher,
+                                                   WorkloadProperties workloadProperties) {
+        return new ReactiveTaskService(reactiveTaskRepository, taskMapper, eventPublisher, workloadProperties);
+    }
+
+    @Bean
+    public ReactiveTaskHandler reactiveTaskHandler(ReactiveTaskService reactiveTaskService,
+                                                   TaskBoardService taskBoardService) {
+        return new ReactiveTaskHandler(reactiveTaskService, taskBoardService);
+    }
+
+    @Bean
+    public ServletRegistrationBean<ServletHttpHandlerAdapter> reactiveTaskApi(ReactiveTaskHandler reactiveTaskHandler,
+                                                                              ObjectMapper objectMapper) {
+        // Same Jackson configuration as the servlet API, so v1 and v2 bodies are identical
+        HandlerStrategies strategies = HandlerStrategies.builder()
+            .codecs(codecs -> {
+                codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+            })
+            .build();
+
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("*");
+        cors.addAllowedMethod("*");
+        cors.addAllowedHeader("*");
+        UrlBasedCorsConfigurationSource corsSource = new UrlBasedCorsConfigurationSource();
+        corsSource.registerCorsConfiguration("/**", cors);
+
+        HttpHandler httpHandler = WebHttpHandlerBuilder
+            .webHandler(RouterFunctions.toWebHandler(reactiveTaskHandler.routes(), strategies))
+            .filter(new CorsWebFilter(corsSource))
+            .build();
+
+        ServletRegistrationBean<ServletHttpHandlerAdapter> registration =
+            new ServletRegistrationBean<>(new ServletHttpHandlerAdapter(httpHandler), MAPPING);
+        registration.setName("reactiveTaskApi");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import uk.gov.hmcts.reform.dev.readcache.CircuitBreaker;
+import uk.gov.hmcts.reform.dev.readcache.ReadCache;
+import uk.gov.hmcts.reform.dev.readcache.ReadCacheAspect;
+import uk.gov.hmcts.reform.dev.readcache.ReadCacheInvalidator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.read-cache", name = "enabled", havingValue = "true",
+                       matchIfMissing = true)
+public class ReadCacheConfig {
+
+    private ThreadPoolExecutor refreshExecutor;
+
+    @Bean
+    public ReadCache readCache(ReadCacheProperties properties, MeterRegistry meterRegistry) {
+        ReadCacheProperties.CircuitBreaker circuit = properties.getCircuitBreaker();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+            circuit.getWindowSize(), circuit.getMinimumCalls(), circuit.getFailureRateThreshold(),
+            circuit.getSlowCallThreshold().toNanos(), circuit.getOpenDuration().toNanos());
+
+        // Not a bean, so Boot's own task executor is still configured
+        refreshExecutor = new ThreadPoolExecutor(
+            properties.getRefreshThreads(), properties.getRefreshThreads(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getMaxQueuedRefreshes())),
+            new CustomizableThreadFactory("task-cache-refresh-"), new ThreadPoolExecutor.AbortPolicy());
+
+        return new ReadCache(properties.getTtl(), properties.getStaleWindow(), properties.getMaxEntries(),
+                             circuitBreaker, refreshExecutor, meterRegistry);
+    }
+
+    @Bean
+    public ReadCacheAspect readCacheAspect(ReadCache readCache) {
+        return new ReadCacheAspect(readCache);
+    }
+
+    @Bean
+    public ReadCacheInvalidator readCacheInvalidator(ReadCache readCache) {
+        return new ReadCacheInvalidator(readCache);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Stale-while-revalidate read cache and database circuit breaker for list and statistics reads
+ */
+@ConfigurationProperties(prefix = "task-management.read-cache")
+@Getter
+@Setter
+public class ReadCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a result is served without asking the database
+     */
+    private Duration ttl = Duration.ofSeconds(5);
+
+    /**
+     * How long past its time to live a result is still served while it is refreshed in the background
+     */
+    private Duration staleWindow = Duration.ofSeconds(60);
+
+    /**
+     * Distinct reads (method and arguments) cached at most; further ones go to the database
+     */
+    private int maxEntries = 256;
+
+    /**
+     * Threads running background refreshes
+     */
+    private int refreshThreads = 2;
+
+    /**
+     * Background refreshes queued at most; beyond this stale results wait for the next read
+     */
+    private int maxQueuedRefreshes = 64;
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * Number of recent database reads the failure rate is taken over
+         */
+        private int windowSize = 20;
+
+        /**
+         * Reads needed in the window before the circuit can open
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * Share of failed or slow reads that opens the circuit
+         */
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * Reads taking longer than this count as failures
+         */
+        private Duration slowCallThreshold = Duration.ofSeconds(2);
+
+        /**
+         * How long the circuit stays open before one probe read is let through
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
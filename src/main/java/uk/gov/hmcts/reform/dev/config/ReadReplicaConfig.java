@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool for writes and a
+ * replica pool for read-only transactions. Only active when
+ * task-management.datasource.replica.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({ReadReplicaProperties.class, DataSourceProperties.class})
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("task-management.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReadReplicaProperties properties,
+                                              DataSourceProperties primaryProperties) {
+        if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+            throw new IllegalStateException("task-management.datasource.replica.url must be set when the replica is enabled");
+        }
+        if (properties.getUrl().equals(primaryProperties.getUrl())) {
+            throw new IllegalStateException("task-management.datasource.replica.url must not be the primary's URL");
+        }
+        return DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.getDriverClassName())
+            .url(properties.getUrl())
+            .username(properties.getUsername())
+            .password(properties.getPassword())
+            .build();
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadReplicaProperties properties) {
+        log.info("Read replica enabled, routing read-only transactions to {}", properties.getUrl());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+                                              properties.getStickyAfterWrite(),
+                                              properties.getHealthCheckTimeout());
+    }
+
+    /**
+     * Keeps each client's reads on the primary for sticky-after-write after its own writes
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            ReadWriteRoutingDataSource readWriteRoutingDataSource, ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+            new ReadYourWritesFilter(readWriteRoutingDataSource, properties.getStickyAfterWrite()));
+        registration.addUrlPatterns("/api/*", "/cases/*", "/cases");
+        return registration;
+    }
+
+    /**
+     * The DataSource used by JPA. The lazy proxy defers fetching a physical connection
+     * until the first statement, after the transaction's read-only flag is set.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
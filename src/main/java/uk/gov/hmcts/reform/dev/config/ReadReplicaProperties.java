@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the optional read replica used by read-only transactions
+ */
+@ConfigurationProperties(prefix = "task-management.datasource.replica")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+
+    /**
+     * Route read-only transactions to the replica when enabled
+     */
+    private boolean enabled = false;
+
+    private String driverClassName = "org.h2.Driver";
+
+    /**
+     * Required when enabled, and must not be the primary's URL
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * How long a client's reads stay on the primary after its own committed write
+     * (read-your-writes), carried between requests in a cookie. Zero disables stickiness.
+     */
+    private Duration stickyAfterWrite = Duration.ofSeconds(1);
+
+    /**
+     * Timeout used when validating a replica connection during health checks
+     */
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+}
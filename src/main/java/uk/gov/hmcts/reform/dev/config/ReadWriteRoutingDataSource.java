@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known
+ * by the time the physical connection is fetched.
+ *
+ * <p>Read-your-writes is per client: after a commit, reads on the same thread stay on the
+ * primary for {@code stickyAfterWrite}. Between requests the window is carried by
+ * {@link ReadYourWritesFilter}, so one client's writes do not take everyone else's reads
+ * off the replica.</p>
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource replica;
+    private final long stickyAfterWriteMillis;
+    private final int healthCheckTimeoutSeconds;
+    private final ThreadLocal<StickyWindow> stickyWindow = ThreadLocal.withInitial(StickyWindow::new);
+
+    private volatile boolean replicaHealthy = true;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      Duration stickyAfterWrite, Duration healthCheckTimeout) {
+        this.replica = replica;
+        this.stickyAfterWriteMillis = stickyAfterWrite != null ? stickyAfterWrite.toMillis() : 0L;
+        this.healthCheckTimeoutSeconds = healthCheckTimeout != null
+            ? (int) Math.max(1, healthCheckTimeout.toSeconds()) : 1;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        targets.put(Route.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteCommitCallback();
+            return Route.PRIMARY;
+        }
+        if (!replicaHealthy || withinStickyWindow()) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    /**
+     * Validate a replica connection and update the routing decision accordingly
+     */
+    @Scheduled(fixedDelayString = "${task-management.datasource.replica.health-check-interval:PT5S}")
+    public void refreshReplicaHealth() {
+        boolean healthy;
+        try (Connection connection = replica.getConnection()) {
+            healthy = connection.isValid(healthCheckTimeoutSeconds);
+        } catch (SQLException e) {
+            log.debug("Replica health check failed: {}", e.getMessage());
+            healthy = false;
+        }
+
+        if (healthy != replicaHealthy) {
+            if (healthy) {
+                log.info("Read replica is healthy again, routing read-only transactions to it");
+            } else {
+                log.warn("Read replica is unhealthy, falling back to the primary for reads");
+            }
+        }
+        replicaHealthy = healthy;
+    }
+
+    /**
+     * Start a request for a client whose last write keeps its reads on the primary until
+     * {@code stickyUntilMillis} (epoch millis, 0 for none)
+     *
+     * @param onWrite told the new end of the window when this request commits a write
+     */
+    public void beginRequest(long stickyUntilMillis, LongConsumer onWrite) {
+        StickyWindow window = stickyWindow.get();
+        // Never longer than one window from now, whatever the client sent
+        window.untilMillis = Math.min(stickyUntilMillis, System.currentTimeMillis() + stickyAfterWriteMillis);
+        window.onWrite = onWrite;
+    }
+
+    public void endRequest() {
+        stickyWindow.remove();
+    }
+
+    /**
+     * Record a write committed on this thread so its following reads can see it
+     */
+    public void recordWrite() {
+        StickyWindow window = stickyWindow.get();
+        window.untilMillis = System.currentTimeMillis() + stickyAfterWriteMillis;
+        if (window.onWrite != null) {
+            window.onWrite.accept(window.untilMillis);
+        }
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    private boolean withinStickyWindow() {
+        return stickyAfterWriteMillis > 0 && System.currentTimeMillis() < stickyWindow.get().untilMillis;
+    }
+
+    private void registerWriteCommitCallback() {
+        if (stickyAfterWriteMillis > 0
+            && TransactionSynchronizationManager.isSynchronizationActive()
+            && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordWrite();
+                }
+            });
+        }
+    }
+
+    /**
+     * The current client's read-your-writes window. Threads outside a request keep their own.
+     */
+    private static final class StickyWindow {
+        private long untilMillis;
+        private LongConsumer onWrite;
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Carries a client's read-your-writes window between requests in a cookie. A request that
+ * commits a write is answered with the time its window ends; the client's next requests
+ * send it back and keep their reads on the primary until then.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "task-replica-sticky-until";
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final int cookieMaxAgeSeconds;
+
+    public ReadYourWritesFilter(ReadWriteRoutingDataSource routingDataSource, Duration stickyAfterWrite) {
+        this.routingDataSource = routingDataSource;
+        this.cookieMaxAgeSeconds = (int) Math.max(1, Math.ceilDiv(stickyAfterWrite.toMillis(), 1000));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        routingDataSource.beginRequest(stickyUntil(request), untilMillis -> {
+            // Writes commit before the handler renders its response, so the header can still be set
+            if (!response.isCommitted()) {
+                Cookie cookie = new Cookie(COOKIE, Long.toString(untilMillis));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge(cookieMaxAgeSeconds);
+                response.addCookie(cookie);
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            routingDataSource.endRequest();
+        }
+    }
+
+    private static long stickyUntil(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for asynchronous task report jobs
+ */
+@ConfigurationProperties(prefix = "task-management.reports")
+@Getter
+@Setter
+public class ReportProperties {
+
+    /**
+     * Where report files are written
+     */
+    private String directory = "./data/reports";
+
+    /**
+     * Reports generated at the same time
+     */
+    private int workers = 2;
+
+    /**
+     * Reports waiting for a worker before new requests are refused
+     */
+    private int maxQueued = 10;
+
+    /**
+     * Task IDs read per chunk, each in its own short read-only transaction
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * Chunks read and encoded at once across all reports, each holding a connection for one chunk.
+     * Also how far one report reads ahead of its file writer.
+     */
+    private int chunkParallelism = 2;
+
+    /**
+     * How long a finished report stays downloadable
+     */
+    private Duration retention = Duration.ofHours(24);
+}
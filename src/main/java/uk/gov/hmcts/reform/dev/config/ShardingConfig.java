@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import uk.gov.hmcts.reform.dev.repositories.ShardedTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Swaps the JPA TaskRepository for a sharded TaskStore when
+ * task-management.sharding.enabled=true. The shard pools are deliberately not
+ * registered as DataSource beans so the JPA datasource stays auto-configured.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+@Slf4j
+public class ShardingConfig {
+
+    private final List<HikariDataSource> shardPools = new ArrayList<>();
+    private ExecutorService scatterGatherExecutor;
+
+    @Bean
+    @Primary
+    public TaskStore shardedTaskRepository(ShardingProperties properties) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("task-management.sharding.shards must list at least one shard");
+        }
+
+        List<DataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.Shard shard = shards.get(i);
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("TaskShard" + i + "HikariCP");
+            config.setJdbcUrl(shard.getUrl());
+            config.setUsername(shard.getUsername());
+            config.setPassword(shard.getPassword());
+            config.setMaximumPoolSize(properties.getMaximumPoolSizePerShard());
+            HikariDataSource pool = new HikariDataSource(config);
+            shardPools.add(pool);
+            dataSources.add(pool);
+        }
+
+        int threads = properties.getScatterGatherThreads() > 0 ? properties.getScatterGatherThreads() : shards.size();
+        scatterGatherExecutor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("task-shard-"));
+
+        ShardedTaskRepository repository = new ShardedTaskRepository(dataSources, scatterGatherExecutor);
+        repository.initialiseSchema();
+        log.info("Task storage is sharded across {} databases", shards.size());
+        return repository;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scatterGatherExecutor != null) {
+            scatterGatherExecutor.shutdown();
+        }
+        shardPools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the optional sharded task storage
+ */
+@ConfigurationProperties(prefix = "task-management.sharding")
+@Getter
+@Setter
+public class ShardingProperties {
+
+    /**
+     * Store tasks across the configured shards instead of the JPA datasource
+     */
+    private boolean enabled = false;
+
+    /**
+     * One entry per shard. The order is significant: it determines which IDs a shard owns.
+     */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Threads used for scatter-gather queries; defaults to one per shard
+     */
+    private int scatterGatherThreads = 0;
+
+    private int maximumPoolSizePerShard = 5;
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username = "sa";
+        private String password;
+    }
+}
@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.sql.SqlStatementCounter;
+import uk.gov.hmcts.reform.dev.sql.SqlStatementFilter;
+
+/**
+ * Hooks the statement counter and slow query log into Hibernate and counts statements per
+ * request on the APIs. With statistics on, Boot's Hibernate metrics binder publishes them as
+ * hibernate.* metrics.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task-management.sql", name = "enabled", havingValue = "true",
+                       matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlInstrumentationCustomizer(SqlInstrumentationProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, properties.getSlowQueryThreshold().toMillis());
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, properties.isStatistics());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(SqlInstrumentationProperties properties,
+                                                                        MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+            new SqlStatementFilter(meterRegistry, properties.getRepeatedStatementThreshold()));
+        registration.addUrlPatterns("/api/*", "/cases/*", "/cases");
+        return registration;
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Per-request SQL statement counts, the slow query log and Hibernate statistics
+ */
+@ConfigurationProperties(prefix = "task-management.sql")
+@Getter
+@Setter
+public class SqlInstrumentationProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Queries taking longer than this are logged by Hibernate under org.hibernate.SQL_SLOW; zero disables
+     */
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    /**
+     * A request preparing the same statement this many times is logged as a likely N+1
+     */
+    private int repeatedStatementThreshold = 5;
+
+    /**
+     * Collect Hibernate statistics (entity loads, flushes, query times) for the hibernate.* metrics
+     */
+    private boolean statistics = true;
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.reform.dev.streaming.TaskJsonStreamWriter;
+
+import javax.sql.DataSource;
+
+/**
+ * Streaming list writer. It reads the tasks table of the main datasource directly, so it is
+ * not available when tasks are stored in shards or the log store.
+ */
+@Configuration
+@ConditionalOnExpression("!${task-management.sharding.enabled:false} and !${task-management.log-store.enabled:false}")
+public class StreamingConfig {
+
+    private static final int FETCH_SIZE = 500;
+
+    @Bean
+    public TaskJsonStreamWriter taskJsonStreamWriter(DataSource dataSource, ObjectMapper objectMapper,
+                                                     WorkloadProperties workloadProperties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(FETCH_SIZE);
+        jdbcTemplate.setQueryTimeout(workloadProperties.getReporting().getStatementTimeoutSeconds());
+        return new TaskJsonStreamWriter(jdbcTemplate, objectMapper.getFactory());
+    }
+}
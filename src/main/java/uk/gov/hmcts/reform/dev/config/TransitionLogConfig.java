@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import uk.gov.hmcts.reform.dev.repositories.TaskTransitionRepository;
+
+import javax.sql.DataSource;
+
+/**
+ * The transition log and its rollups live in the main database, whether or not tasks are sharded
+ */
+@Configuration
+public class TransitionLogConfig {
+
+    @Bean
+    public TaskTransitionRepository taskTransitionRepository(DataSource dataSource) {
+        TaskTransitionRepository repository = new TaskTransitionRepository(new NamedParameterJdbcTemplate(dataSource));
+        repository.initialiseSchema();
+        return repository;
+    }
+}
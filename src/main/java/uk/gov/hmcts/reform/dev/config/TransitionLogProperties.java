@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the task status transition log
+ */
+@ConfigurationProperties(prefix = "task-management.transitions")
+@Getter
+@Setter
+public class TransitionLogProperties {
+
+    /**
+     * How often buffered transitions are written
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Transitions written per transaction
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Transitions held in memory while waiting to be written; further ones are dropped and counted
+     */
+    private int bufferCapacity = 100_000;
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection budgets per workload class. Statement timeouts are applied through
+ * the transaction timeout on the annotated TaskService methods.
+ */
+@ConfigurationProperties(prefix = "task-management.workload")
+@Getter
+@Setter
+public class WorkloadProperties {
+
+    private Limits oltp = new Limits(10, 50, Duration.ofSeconds(2), 5);
+
+    private Limits reporting = new Limits(4, 10, Duration.ofSeconds(1), 30);
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Limits {
+        /**
+         * Operations of this class allowed to run at the same time
+         */
+        private int maxConcurrent;
+        /**
+         * Callers allowed to wait for a permit before new ones are rejected
+         */
+        private int maxQueued;
+        /**
+         * How long a queued caller waits for a permit
+         */
+        private Duration maxWait;
+        /**
+         * JDBC statement timeout for this class, in seconds
+         */
+        private int statementTimeoutSeconds;
+    }
+}
@@ -1,19 +1,40 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.CreateCaseRequest;
 import uk.gov.hmcts.reform.dev.models.ExampleCase;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.services.CaseService;
+import uk.gov.hmcts.reform.dev.workload.BulkheadFullException;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.http.ResponseEntity.ok;
 
 @RestController
+@CrossOrigin(origins = "*")
 public class CaseController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private CaseService caseService;
+
     @GetMapping(value = "/get-example-case", produces = "application/json")
     public ResponseEntity<ExampleCase> getExampleCase() {
         return ok(new ExampleCase(1, "ABC12345", "Case Title",
@@ -29,4 +50,79 @@ public class CaseController {
         );
         return ok(cases);
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/cases", produces = "application/json", consumes = "application/json")
+    public ResponseEntity<CaseSummary> createCase(@RequestBody CreateCaseRequest request) {
+        try {
+            if (request == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            CaseSummary created = caseService.createCase(request.getCaseNumber(), request.getTitle(),
+                                                         request.getDescription(), request.getStatus());
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/cases", produces = "application/json")
+    public ResponseEntity<List<CaseSummary>> getCases(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            return ok(caseService.getCases(page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/cases/{caseNumber}/tasks", produces = "application/json")
+    public ResponseEntity<List<Task>> getCaseTasks(@PathVariable String caseNumber) {
+        try {
+            Optional<List<Task>> tasks = caseService.getCaseTasks(caseNumber);
+            return tasks.map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PutMapping(value = "/cases/{caseNumber}/tasks/{taskId}", produces = "application/json")
+    public ResponseEntity<Task> addTaskToCase(@PathVariable String caseNumber, @PathVariable Long taskId) {
+        try {
+            Optional<Task> task = caseService.addTaskToCase(caseNumber, taskId);
+            return task.map(ResponseEntity::ok)
+                       .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Reject quickly when the workload class is saturated instead of waiting on the pool
+     */
+    private <T> ResponseEntity<T> serviceUnavailable(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+            .build();
+    }
+}
@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.models.FlightRecording;
+import uk.gov.hmcts.reform.dev.models.FlightRecordingProfile;
+import uk.gov.hmcts.reform.dev.reports.ReportFile;
+import uk.gov.hmcts.reform.dev.reports.ZeroCopyFileTransfer;
+import uk.gov.hmcts.reform.dev.services.FlightRecordingService;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * On-demand Java Flight Recorder recordings: start one with a preset profile, let it run for
+ * its duration (or stop it early), then download the .jfr file for JDK Mission Control or
+ * {@code jfr print}. Callers must send the configured access token (FlightRecordingAccessFilter);
+ * no CORS is allowed, so a page in a browser cannot drive these endpoints.
+ */
+@RestController
+@RequestMapping("/admin/flight-recordings")
+@ConditionalOnProperty(prefix = "task-management.flight-recorder", name = "enabled", havingValue = "true")
+public class FlightRecordingController {
+
+    @Autowired
+    private FlightRecordingService flightRecordingService;
+
+    /**
+     * @param duration e.g. 90s, 5m or PT5M; the configured default when omitted
+     */
+    @PostMapping(produces = "application/json")
+    public ResponseEntity<FlightRecording> startRecording(
+            @RequestParam(required = false) FlightRecordingProfile profile,
+            @RequestParam(required = false) String duration) {
+        try {
+            Duration length = duration != null ? DurationStyle.detectAndParse(duration) : null;
+            FlightRecording recording = flightRecordingService.start(profile, length);
+            return ResponseEntity.created(URI.create("/admin/flight-recordings/" + recording.getId()))
+                .body(recording);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<List<FlightRecording>> getRecordings() {
+        try {
+            return ResponseEntity.ok(flightRecordingService.getRecordings());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<FlightRecording> getRecording(@PathVariable long id) {
+        try {
+            return flightRecordingService.getRecording(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Stop a recording before its duration is up and write it out for download
+     */
+    @PostMapping(value = "/{id}/stop", produces = "application/json")
+    public ResponseEntity<FlightRecording> stopRecording(@PathVariable long id) {
+        try {
+            return flightRecordingService.stop(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/{id}/download")
+    public ResponseEntity<StreamingResponseBody> downloadRecording(@PathVariable long id,
+                                                                   HttpServletRequest request) {
+        try {
+            Optional<ReportFile> found = flightRecordingService.getRecordingFile(id);
+            if (found.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            ReportFile file = found.get();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .contentLength(file.length())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.fileName()).build().toString());
+            if (file.length() == 0 || ZeroCopyFileTransfer.trySendfile(request, file.path(), 0, file.length())) {
+                return response.build();
+            }
+            return response.body(out -> ZeroCopyFileTransfer.transfer(file.path(), 0, file.length(), out));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRecording(@PathVariable long id) {
+        try {
+            return flightRecordingService.delete(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
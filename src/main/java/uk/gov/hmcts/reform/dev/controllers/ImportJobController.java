@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.imports.ImportTooLargeException;
+import uk.gov.hmcts.reform.dev.models.ImportFormat;
+import uk.gov.hmcts.reform.dev.models.ImportJob;
+import uk.gov.hmcts.reform.dev.models.ImportRowError;
+import uk.gov.hmcts.reform.dev.services.TaskImportService;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bulk task imports: upload a CSV or NDJSON body, then poll the import and page through its
+ * rejected rows
+ */
+@RestController
+@RequestMapping("/api/imports")
+@CrossOrigin(origins = "*")
+public class ImportJobController {
+
+    private static final int MAX_ERROR_PAGE_SIZE = 500;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    /**
+     * The body is read as a stream, never bound to an object. The format is taken from the
+     * {@code format} parameter or, failing that, the Content-Type.
+     */
+    @PostMapping(produces = "application/json")
+    public ResponseEntity<ImportJob> startImport(
+            @RequestParam(required = false) ImportFormat format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        try {
+            ImportFormat importFormat = format != null ? format : ImportFormat.fromContentType(contentType);
+            if (importFormat == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            ImportJob job = taskImportService.startImport(importFormat, body);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/imports/" + job.getId()))
+                .body(job);
+        } catch (ImportTooLargeException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<ImportJob> getImport(@PathVariable String id) {
+        try {
+            Optional<ImportJob> job = taskImportService.getImport(id);
+            return job.map(ResponseEntity::ok)
+                      .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Rejected rows in row order, a page at a time
+     */
+    @GetMapping(value = "/{id}/errors", produces = "application/json")
+    public ResponseEntity<List<ImportRowError>> getErrors(@PathVariable String id,
+                                                          @RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "100") int size) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_ERROR_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            Optional<List<ImportRowError>> errors = taskImportService.getErrors(id, PageRequest.of(page, size));
+            return errors.map(ResponseEntity::ok)
+                         .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
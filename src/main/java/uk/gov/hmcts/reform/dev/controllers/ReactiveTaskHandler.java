@@ -0,0 +1,215 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
+import uk.gov.hmcts.reform.dev.models.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskLookupRequest;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.UpdateTaskStatusRequest;
+import uk.gov.hmcts.reform.dev.services.ReactiveTaskService;
+import uk.gov.hmcts.reform.dev.services.TaskBoardService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * WebFlux handlers for /api/v2/tasks: the TaskController operations with the same status codes,
+ * served without blocking a thread per request. GET /api/v2/tasks streams its rows, as a JSON
+ * array or as NDJSON, with backpressure from the client connection down to the R2DBC result.
+ */
+@Slf4j
+public class ReactiveTaskHandler {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ReactiveTaskService taskService;
+    private final TaskBoardService taskBoardService;
+
+    public ReactiveTaskHandler(ReactiveTaskService taskService, TaskBoardService taskBoardService) {
+        this.taskService = taskService;
+        this.taskBoardService = taskBoardService;
+    }
+
+    /**
+     * Routes relative to the servlet mapping (/api/v2)
+     */
+    public RouterFunction<ServerResponse> routes() {
+        return route()
+            .GET("/tasks", accept(MediaType.APPLICATION_NDJSON), this::streamTasks)
+            .GET("/tasks", this::getTasks)
+            .POST("/tasks", this::createTask)
+            .POST("/tasks/lookup", this::lookupTasks)
+            .GET("/tasks/due", this::getTasksDueBetween)
+            .GET("/tasks/due/calendar", this::getDueDateCalendar)
+            .GET("/tasks/board", this::getTaskBoard)
+            .GET("/tasks/{id}", this::getTaskById)
+            .PUT("/tasks/{id}/status", this::updateTaskStatus)
+            .PATCH("/tasks/{id}", this::patchTask)
+            .DELETE("/tasks/{id}", this::deleteTask)
+            .build();
+    }
+
+    public Mono<ServerResponse> createTask(ServerRequest request) {
+        return handled(request.bodyToMono(CreateTaskRequest.class)
+            .flatMap(body -> taskService.createTask(
+                body.getTitle(),
+                body.getDescription(),
+                body.getStatus() != null ? body.getStatus() : TaskStatus.PENDING,
+                body.getDueDate()))
+            .flatMap(task -> ServerResponse.status(HttpStatus.CREATED).bodyValue(task))
+            .switchIfEmpty(ServerResponse.badRequest().build()));
+    }
+
+    public Mono<ServerResponse> getTaskById(ServerRequest request) {
+        return handled(Mono.fromCallable(() -> pathId(request))
+            .flatMap(taskService::getTaskById)
+            .flatMap(task -> ServerResponse.ok().bodyValue(task))
+            .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+
+    public Mono<ServerResponse> lookupTasks(ServerRequest request) {
+        return handled(request.bodyToMono(TaskLookupRequest.class)
+            .filter(body -> body.getIds() != null)
+            .flatMap(body -> taskService.lookupTasks(body.getIds()))
+            .flatMap(results -> ServerResponse.ok().bodyValue(results))
+            .switchIfEmpty(ServerResponse.badRequest().build()));
+    }
+
+    public Mono<ServerResponse> getTasks(ServerRequest request) {
+        return handled(Mono.fromCallable(() -> statusParam(request))
+            .flatMap(status -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(taskService.getTasks(status.orElse(null)), Task.class)));
+    }
+
+    public Mono<ServerResponse> streamTasks(ServerRequest request) {
+        return handled(Mono.fromCallable(() -> statusParam(request))
+            .flatMap(status -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(taskService.getTasks(status.orElse(null)), Task.class)));
+    }
+
+    public Mono<ServerResponse> getTasksDueBetween(ServerRequest request) {
+        return handled(Mono.fromCallable(() -> {
+            int page = intParam(request, "page", 0);
+            int size = intParam(request, "size", 50);
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Invalid page or size");
+            }
+            return PageRequest.of(page, size, Sort.by("dueDate", "id"));
+        }).flatMap(pageRequest -> taskService.getTasksDueBetween(
+                requiredParam(request, "from", LocalDateTime::parse),
+                requiredParam(request, "to", LocalDateTime::parse),
+                pageRequest))
+            .flatMap(page -> ServerResponse.ok().bodyValue(new PagedModel<>(page))));
+    }
+
+    public Mono<ServerResponse> getDueDateCalendar(ServerRequest request) {
+        return handled(Mono.fromCallable(() -> request.queryParam("granularity")
+                .map(CalendarGranularity::valueOf)
+                .orElse(CalendarGranularity.DAY))
+            .flatMap(granularity -> taskService.getDueDateCalendar(
+                requiredParam(request, "from", LocalDate::parse),
+                requiredParam(request, "to", LocalDate::parse),
+                granularity))
+            .flatMap(buckets -> ServerResponse.ok().bodyValue(buckets)));
+    }
+
+    public Mono<ServerResponse> getTaskBoard(ServerRequest request) {
+        return handled(Mono.fromCallable(() -> intParam(request, "limit", 50))
+            .flatMap(limit -> {
+                if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                    return ServerResponse.badRequest().build();
+                }
+                if (!taskBoardService.isReady()) {
+                    return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build();
+                }
+                return ServerResponse.ok().bodyValue(taskBoardService.getBoard(limit));
+            }));
+    }
+
+    public Mono<ServerResponse> updateTaskStatus(ServerRequest request) {
+        return handled(request.bodyToMono(UpdateTaskStatusRequest.class)
+            .filter(body -> body.getStatus() != null)
+            .flatMap(body -> taskService.updateTaskStatus(pathId(request), body.getStatus())
+                .flatMap(task -> ServerResponse.ok().bodyValue(task))
+                .switchIfEmpty(ServerResponse.notFound().build()))
+            .switchIfEmpty(ServerResponse.badRequest().build()));
+    }
+
+    public Mono<ServerResponse> patchTask(ServerRequest request) {
+        return handled(request.bodyToMono(TaskPatch.class)
+            .switchIfEmpty(Mono.error(new IllegalArgumentException("Task patch cannot be null")))
+            .flatMap(patch -> taskService.patchTask(pathId(request), patch))
+            .flatMap(task -> ServerResponse.ok().bodyValue(task))
+            .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+
+    public Mono<ServerResponse> deleteTask(ServerRequest request) {
+        return handled(Mono.fromCallable(() -> pathId(request))
+            .flatMap(taskService::deleteTask)
+            .flatMap(deleted -> deleted
+                ? ServerResponse.noContent().build()
+                : ServerResponse.notFound().build()));
+    }
+
+    /**
+     * Same error mapping as the servlet controllers: bad input is 400, anything else 500
+     */
+    private Mono<ServerResponse> handled(Mono<ServerResponse> response) {
+        return response
+            .onErrorResume(this::isBadRequest, e -> ServerResponse.badRequest().build())
+            .onErrorResume(e -> {
+                log.error("Request to /api/v2/tasks failed: {}", e.getMessage(), e);
+                return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            });
+    }
+
+    private boolean isBadRequest(Throwable e) {
+        return e instanceof IllegalArgumentException
+            || e instanceof ServerWebInputException
+            || e instanceof DecodingException
+            || e instanceof DateTimeParseException;
+    }
+
+    private static Long pathId(ServerRequest request) {
+        return Long.valueOf(request.pathVariable("id"));
+    }
+
+    private static Optional<TaskStatus> statusParam(ServerRequest request) {
+        return request.queryParam("status").map(TaskStatus::valueOf);
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        return request.queryParam(name).map(Integer::parseInt).orElse(defaultValue);
+    }
+
+    private static <T> T requiredParam(ServerRequest request, String name,
+                                       Function<String, T> parser) {
+        return request.queryParam(name)
+            .map(parser)
+            .orElseThrow(() -> new IllegalArgumentException("Missing parameter " + name));
+    }
+}
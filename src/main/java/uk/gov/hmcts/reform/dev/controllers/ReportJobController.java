@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.models.CreateReportRequest;
+import uk.gov.hmcts.reform.dev.models.ReportJob;
+import uk.gov.hmcts.reform.dev.reports.ReportFile;
+import uk.gov.hmcts.reform.dev.reports.ZeroCopyFileTransfer;
+import uk.gov.hmcts.reform.dev.services.ReportJobService;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Asynchronous task extracts: create a job, poll it, then download the file (with Range support)
+ */
+@RestController
+@RequestMapping("/api/reports")
+@CrossOrigin(origins = "*")
+public class ReportJobController {
+
+    private static final long RETRY_AFTER_SECONDS = 30;
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @PostMapping(produces = "application/json", consumes = "application/json")
+    public ResponseEntity<ReportJob> createReport(@RequestBody CreateReportRequest request) {
+        try {
+            ReportJob job = reportJobService.createReport(request);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/reports/" + job.getId()))
+                .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS))
+                .build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<ReportJob> getReport(@PathVariable String id) {
+        try {
+            Optional<ReportJob> job = reportJobService.getReport(id);
+            return job.map(ResponseEntity::ok)
+                      .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Download a completed report. A single byte range is honoured with 206 so interrupted
+     * downloads can resume; several ranges, or a malformed header, get the whole file.
+     */
+    @GetMapping("/{id}/download")
+    public ResponseEntity<StreamingResponseBody> downloadReport(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            HttpServletRequest request) {
+        try {
+            Optional<ReportFile> found = reportJobService.getReportFile(id);
+            if (found.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            ReportFile file = found.get();
+            long length = file.length();
+
+            long start = 0;
+            long count = length;
+            HttpStatus status = HttpStatus.OK;
+            HttpRange range = singleRange(rangeHeader);
+            if (range != null && length > 0) {
+                try {
+                    start = range.getRangeStart(length);
+                    count = range.getRangeEnd(length) - start + 1;
+                    status = HttpStatus.PARTIAL_CONTENT;
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                        .build();
+                }
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(status)
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .contentLength(count)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.fileName()).build().toString());
+            if (status == HttpStatus.PARTIAL_CONTENT) {
+                response.header(HttpHeaders.CONTENT_RANGE,
+                                "bytes " + start + "-" + (start + count - 1) + "/" + length);
+            }
+
+            if (count == 0 || ZeroCopyFileTransfer.trySendfile(request, file.path(), start, count)) {
+                return response.build();
+            }
+            long from = start;
+            long bytes = count;
+            return response.body(out -> ZeroCopyFileTransfer.transfer(file.path(), from, bytes, out));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private static HttpRange singleRange(String rangeHeader) {
+        if (rangeHeader == null) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.CalendarBucket;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
+import uk.gov.hmcts.reform.dev.models.StatusTimeStats;
+import uk.gov.hmcts.reform.dev.services.TaskAnalyticsService;
+import uk.gov.hmcts.reform.dev.workload.BulkheadFullException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Cycle-time analytics computed from the status transition log
+ */
+@RestController
+@RequestMapping("/api/tasks/analytics")
+@CrossOrigin(origins = "*")
+public class TaskAnalyticsController {
+
+    @Autowired
+    private TaskAnalyticsService taskAnalyticsService;
+
+    @GetMapping(value = "/time-in-status", produces = "application/json")
+    public ResponseEntity<List<StatusTimeStats>> getTimeInStatus(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(taskAnalyticsService.getTimeInStatus(from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/throughput", produces = "application/json")
+    public ResponseEntity<List<CalendarBucket>> getThroughput(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") CalendarGranularity granularity) {
+        try {
+            return ResponseEntity.ok(taskAnalyticsService.getThroughput(from, to, granularity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Reject quickly when the workload class is saturated instead of waiting on the pool
+     */
+    private <T> ResponseEntity<T> serviceUnavailable(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+            .build();
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskArchiveService;
+
+import java.util.Optional;
+
+/**
+ * Explicit access to archived (cold) tasks. Nothing under /api/tasks reads the archive.
+ */
+@RestController
+@ConditionalOnExpression("!${task-management.sharding.enabled:false} and !${task-management.log-store.enabled:false}")
+@RequestMapping("/api/tasks/archive")
+@CrossOrigin(origins = "*")
+public class TaskArchiveController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<PagedModel<Task>> getArchivedTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            PageRequest pageRequest = PageRequest.of(page, size, Sort.by("id"));
+            return ResponseEntity.ok(new PagedModel<>(taskArchiveService.findArchivedTasks(status, pageRequest)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<Task> getArchivedTask(@PathVariable Long id) {
+        try {
+            Optional<Task> task = taskArchiveService.getArchivedTask(id);
+            return task.map(ResponseEntity::ok)
+                      .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping(value = "/{id}/restore", produces = "application/json")
+    public ResponseEntity<Task> restoreTask(@PathVariable Long id) {
+        try {
+            Optional<Task> task = taskArchiveService.restoreTask(id);
+            return task.map(ResponseEntity::ok)
+                      .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.AssigneeTaskCounts;
+import uk.gov.hmcts.reform.dev.models.ReassignTasksRequest;
+import uk.gov.hmcts.reform.dev.models.ReassignTasksResult;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.services.TaskAssigneeCounts;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.workload.BulkheadFullException;
+
+import java.util.List;
+
+/**
+ * A caseworker's own queue: their tasks, their counts, and moving their tasks to someone else.
+ * Tasks are assigned with PATCH /api/tasks/{id} and {"assignee": "..."}.
+ */
+@RestController
+@RequestMapping("/api/tasks/assignees")
+@CrossOrigin(origins = "*")
+public class TaskAssigneeController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAssigneeCounts taskAssigneeCounts;
+
+    /**
+     * Counts for every assignee holding tasks, served from memory
+     */
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<List<AssigneeTaskCounts>> getAllCounts() {
+        try {
+            if (!taskAssigneeCounts.isReady()) {
+                return notReady();
+            }
+            return ResponseEntity.ok(taskAssigneeCounts.getAllCounts());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/{assignee}/counts", produces = "application/json")
+    public ResponseEntity<AssigneeTaskCounts> getCounts(@PathVariable String assignee) {
+        try {
+            if (!taskAssigneeCounts.isReady()) {
+                return notReady();
+            }
+            return ResponseEntity.ok(taskAssigneeCounts.getCounts(assignee));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/{assignee}/tasks", produces = "application/json")
+    public ResponseEntity<PagedModel<Task>> getAssignedTasks(
+            @PathVariable String assignee,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            // Ordered by the query itself, so the index supplies the order
+            PageRequest pageRequest = PageRequest.of(page, size);
+            return ResponseEntity.ok(new PagedModel<>(taskService.getAssignedTasks(assignee, status, pageRequest)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Move this assignee's open tasks (or those with the requested statuses) to another
+     * assignee in one statement, or unassign them when {@code to} is null
+     */
+    @PostMapping(value = "/{assignee}/reassign", produces = "application/json", consumes = "application/json")
+    public ResponseEntity<ReassignTasksResult> reassignTasks(@PathVariable String assignee,
+                                                            @RequestBody ReassignTasksRequest request) {
+        try {
+            if (request == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            int reassigned = taskService.reassignTasks(assignee, request.getTo(), request.getStatuses());
+            return ResponseEntity.ok(new ReassignTasksResult(assignee.trim(),
+                                                             request.getTo() != null ? request.getTo().trim() : null,
+                                                             reassigned));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private <T> ResponseEntity<T> notReady() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .build();
+    }
+
+    /**
+     * Reject quickly when the workload class is saturated instead of waiting on the pool
+     */
+    private <T> ResponseEntity<T> serviceUnavailable(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+            .build();
+    }
+}
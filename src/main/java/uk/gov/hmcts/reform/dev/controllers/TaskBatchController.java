@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.TaskBatchRequest;
+import uk.gov.hmcts.reform.dev.models.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.services.TaskBatchService;
+import uk.gov.hmcts.reform.dev.workload.BulkheadFullException;
+
+/**
+ * Many task changes in one request and one transaction, instead of a round trip and a transaction each
+ */
+@RestController
+@RequestMapping("/api/tasks/batch")
+@CrossOrigin(origins = "*")
+@ConditionalOnExpression("!${task-management.sharding.enabled:false} and !${task-management.log-store.enabled:false}")
+public class TaskBatchController {
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    /**
+     * 200 with a result per operation when the batch committed; 409 with the same body when an
+     * all-or-nothing batch had a failed operation and nothing was written
+     */
+    @PostMapping(produces = "application/json", consumes = "application/json")
+    public ResponseEntity<TaskBatchResult> runBatch(@RequestBody TaskBatchRequest request) {
+        try {
+            TaskBatchResult result = taskBatchService.execute(request);
+            return result.isCommitted()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Reject quickly when the workload class is saturated instead of waiting on the pool
+     */
+    private <T> ResponseEntity<T> serviceUnavailable(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+            .build();
+    }
+}
@@ -1,24 +1,44 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.models.CalendarBucket;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
 import uk.gov.hmcts.reform.dev.models.CreateTaskRequest;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskBoardColumn;
+import uk.gov.hmcts.reform.dev.models.TaskLookupRequest;
+import uk.gov.hmcts.reform.dev.models.TaskLookupResult;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
 import uk.gov.hmcts.reform.dev.models.UpdateTaskStatusRequest;
+import uk.gov.hmcts.reform.dev.services.TaskBoardService;
+import uk.gov.hmcts.reform.dev.services.TaskClaimService;
 import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.workload.BulkheadFullException;
 
-import jakarta.annotation.PostConstruct;  
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -26,16 +46,16 @@ import java.util.Optional;
 @CrossOrigin(origins = "*") 
 public class TaskController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private TaskService taskService;
 
-    @PostConstruct
-    public void init() {
-        // Only initialize sample data if not in test profile
-        if (!isTestProfile()) {
-            taskService.initializeSampleData();
-        }
-    }
+    @Autowired
+    private TaskBoardService taskBoardService;
+
+    @Autowired
+    private TaskClaimService taskClaimService;
 
     @PostMapping(produces = "application/json", consumes = "application/json")
     public ResponseEntity<Task> createTask(@RequestBody CreateTaskRequest request) {
@@ -52,12 +72,14 @@ public class TaskController {
             Task task = taskService.createTask(
                 request.getTitle().trim(),
                 request.getDescription() != null ? request.getDescription().trim() : null,
-                request.getStatus() != null ? request.getStatus() : uk.gov.hmcts.reform.dev.models.TaskStatus.PENDING,
+                request.getStatus() != null ? request.getStatus() : TaskStatus.PENDING,
                 request.getDueDate()
             );
             return ResponseEntity.status(HttpStatus.CREATED).body(task);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -71,6 +93,24 @@ public class TaskController {
                       .orElse(ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping(value = "/lookup", produces = "application/json", consumes = "application/json")
+    public ResponseEntity<List<TaskLookupResult>> lookupTasks(@RequestBody TaskLookupRequest request) {
+        try {
+            if (request == null || request.getIds() == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(taskService.lookupTasks(request.getIds()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -81,6 +121,87 @@ public class TaskController {
         try {
             List<Task> tasks = taskService.getAllTasks();
             return ResponseEntity.ok(tasks);
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/due", produces = "application/json")
+    public ResponseEntity<PagedModel<Task>> getTasksDueBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            PageRequest pageRequest = PageRequest.of(page, size, Sort.by("dueDate", "id"));
+            return ResponseEntity.ok(new PagedModel<>(taskService.getTasksDueBetween(from, to, pageRequest)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/due/calendar", produces = "application/json")
+    public ResponseEntity<List<CalendarBucket>> getDueDateCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") CalendarGranularity granularity) {
+        try {
+            return ResponseEntity.ok(taskService.getDueDateCalendar(from, to, granularity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping(value = "/board", produces = "application/json")
+    public ResponseEntity<Map<TaskStatus, TaskBoardColumn>> getTaskBoard(
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                return ResponseEntity.badRequest().build();
+            }
+            if (!taskBoardService.isReady()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+            }
+            return ResponseEntity.ok(taskBoardService.getBoard(limit));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Give the caller the earliest-due pending task, moved to IN_PROGRESS and assigned to them.
+     * 204 when there is nothing to claim.
+     */
+    @PostMapping(value = "/claim", produces = "application/json")
+    public ResponseEntity<Task> claimNextTask(@RequestParam String assignee) {
+        try {
+            if (!taskClaimService.isReady()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+            }
+            Optional<Task> claimed = taskClaimService.claimNext(assignee);
+            return claimed.map(ResponseEntity::ok)
+                          .orElse(ResponseEntity.noContent().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -100,6 +221,30 @@ public class TaskController {
                              .orElse(ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            // Deleted by another request between being read and saved
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PatchMapping(value = "/{id}", produces = "application/json",
+                  consumes = {"application/merge-patch+json", "application/json"})
+    public ResponseEntity<Task> patchTask(@PathVariable Long id, @RequestBody TaskPatch patch) {
+        try {
+            Optional<Task> patchedTask = taskService.patchTask(id, patch);
+            return patchedTask.map(ResponseEntity::ok)
+                             .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            // Deleted by another request between being read and saved
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -113,16 +258,19 @@ public class TaskController {
                           : ResponseEntity.notFound().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (BulkheadFullException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
     /**
-     * Helper method
+     * Reject quickly when the workload class is saturated instead of waiting on the pool
      */
-    private boolean isTestProfile() {
-        String activeProfiles = System.getProperty("spring.profiles.active");
-        return activeProfiles != null && activeProfiles.contains("test");
+    private <T> ResponseEntity<T> serviceUnavailable(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+            .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.streaming.TaskJsonStreamWriter;
+import uk.gov.hmcts.reform.dev.workload.Bulkhead;
+import uk.gov.hmcts.reform.dev.workload.BulkheadFullException;
+import uk.gov.hmcts.reform.dev.workload.WorkloadBulkheads;
+import uk.gov.hmcts.reform.dev.workload.WorkloadClass;
+
+/**
+ * Large task lists written row by row from JDBC to the response, without building the list in memory
+ */
+@RestController
+@RequestMapping("/api/tasks/stream")
+@CrossOrigin(origins = "*")
+@ConditionalOnExpression("!${task-management.sharding.enabled:false} and !${task-management.log-store.enabled:false}")
+public class TaskStreamController {
+
+    @Autowired
+    private TaskJsonStreamWriter taskJsonStreamWriter;
+
+    @Autowired
+    private WorkloadBulkheads workloadBulkheads;
+
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<StreamingResponseBody> streamTasks(@RequestParam(required = false) TaskStatus status) {
+        Bulkhead bulkhead = workloadBulkheads.get(WorkloadClass.REPORTING);
+        try {
+            bulkhead.acquire();
+        } catch (BulkheadFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())))
+                .build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                taskJsonStreamWriter.writeTasks(status, out);
+            } finally {
+                bulkhead.release();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cold copy of a closed task. Rows are moved here in bulk by TaskArchiveService
+ * and keep the ID they had in the tasks table.
+ */
+@Entity
+@Table(name = "tasks_archive", indexes = {
+    @Index(name = "idx_tasks_archive_status", columnList = "status"),
+    @Index(name = "idx_tasks_archive_archived_date", columnList = "archived_date")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+public class ArchivedTaskEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+
+    @Column(name = "case_id")
+    private Long caseId;
+
+    @Column(length = 100)
+    private String assignee;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A case that tasks can be filed against. Cases are looked up by their case number.
+ */
+@Entity
+@Table(name = "cases", indexes = {
+    @Index(name = "idx_cases_case_number", columnList = "case_number", unique = true)
+})
+@NoArgsConstructor
+@Getter
+@Setter
+public class CaseEntity {
+
+    /**
+     * Upper bound on how many cases' tasks are loaded by one query when a list of cases is
+     * walked, so listing a page of cases costs one query for the cases and one for their tasks
+     */
+    public static final int TASK_BATCH_SIZE = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "case_number", nullable = false, length = 50)
+    private String caseNumber;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @OneToMany(mappedBy = "caseEntity")
+    @BatchSize(size = TASK_BATCH_SIZE)
+    private List<TaskEntity> tasks = new ArrayList<>();
+
+    public CaseEntity(String caseNumber, String title, String description, String status) {
+        this.caseNumber = caseNumber;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.createdDate = LocalDateTime.now();
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdDate == null) {
+            createdDate = LocalDateTime.now();
+        }
+    }
+}
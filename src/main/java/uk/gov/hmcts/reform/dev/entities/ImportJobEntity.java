@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.ImportFormat;
+import uk.gov.hmcts.reform.dev.models.ImportJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A bulk import and how far it has got. {@code rowsProcessed} is updated in the same transaction
+ * as each batch of tasks, so it is where a restarted import picks up.
+ */
+@Entity
+@Table(name = "task_imports")
+@NoArgsConstructor
+@Getter
+@Setter
+public class ImportJobEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImportFormat format;
+
+    /**
+     * The spooled upload
+     */
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Column(name = "rows_processed", nullable = false)
+    private long rowsProcessed;
+
+    @Column(nullable = false)
+    private long imported;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(name = "created_date", nullable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "updated_date", nullable = false)
+    private LocalDateTime updatedDate;
+
+    @Column(name = "completed_date")
+    private LocalDateTime completedDate;
+
+    @Column(length = 1000)
+    private String error;
+
+    public ImportJobEntity(String id, ImportFormat format, String filePath) {
+        this.id = id;
+        this.format = format;
+        this.filePath = filePath;
+        this.status = ImportJobStatus.QUEUED;
+        this.createdDate = LocalDateTime.now();
+        this.updatedDate = this.createdDate;
+    }
+}
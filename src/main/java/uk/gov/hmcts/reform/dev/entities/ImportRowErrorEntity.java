@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.dev.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A row a bulk import rejected, with the reason
+ */
+@Entity
+@Table(name = "task_import_errors", indexes = {
+    @Index(name = "idx_task_import_errors_import", columnList = "import_id, source_row")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+public class ImportRowErrorEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "import_id", nullable = false, length = 36)
+    private String importId;
+
+    @Column(name = "source_row", nullable = false)
+    private long rowNumber;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    public ImportRowErrorEntity(String importId, long rowNumber, String message) {
+        this.importId = importId;
+        this.rowNumber = rowNumber;
+        this.message = message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
@@ -4,9 +4,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -15,13 +19,21 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate  // UPDATE only the columns that changed, not the 1000-char description every time
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_status_updated_date", columnList = "status, updated_date"),
+    @Index(name = "idx_tasks_due_date", columnList = "due_date"),
+    @Index(name = "idx_tasks_case_id", columnList = "case_id"),
+    // A caseworker's queue, filtered by status and in due-date order, is an index range scan
+    @Index(name = "idx_tasks_assignee_status_due_date", columnList = "assignee, status, due_date")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -53,6 +65,13 @@ public class TaskEntity {
     @Column(name = "updated_date", nullable = false)
     private LocalDateTime updatedDate;
     
+    @Column(length = 100)
+    private String assignee;
+    
+    @ManyToOne(fetch = FetchType.LAZY)  // Task lists never need the case; load it only when asked
+    @JoinColumn(name = "case_id")
+    private CaseEntity caseEntity;
+    
     public TaskEntity(String title, String description, TaskStatus status, LocalDateTime dueDate) {
         this.title = title;
         this.description = description;
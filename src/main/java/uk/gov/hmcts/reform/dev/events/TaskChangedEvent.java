@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+/**
+ * Published by TaskService inside the writing transaction. Listeners that maintain
+ * derived views should use @TransactionalEventListener so they only see committed changes.
+ */
+@Getter
+public class TaskChangedEvent {
+
+    private final Long taskId;
+    /**
+     * State after the change, or null when the task was deleted
+     */
+    private final Task task;
+    /**
+     * Status before the change, or null when the task was just created
+     */
+    private final TaskStatus previousStatus;
+    /**
+     * When the change was made, in epoch milliseconds
+     */
+    private final long changedAt;
+
+    private TaskChangedEvent(Long taskId, Task task, TaskStatus previousStatus) {
+        this.taskId = taskId;
+        this.task = task;
+        this.previousStatus = previousStatus;
+        this.changedAt = System.currentTimeMillis();
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(task.getId(), task, null);
+    }
+
+    /**
+     * A change that left the status as it was
+     */
+    public static TaskChangedEvent saved(Task task) {
+        return new TaskChangedEvent(task.getId(), task, task.getStatus());
+    }
+
+    public static TaskChangedEvent saved(Task task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(task.getId(), task, previousStatus);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(taskId, null, null);
+    }
+
+    public boolean isDeleted() {
+        return task == null;
+    }
+
+    /**
+     * Whether the task was created or moved to a different status
+     */
+    public boolean isStatusChanged() {
+        return task != null && previousStatus != task.getStatus();
+    }
+}
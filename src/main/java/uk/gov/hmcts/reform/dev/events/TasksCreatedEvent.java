@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.util.List;
+
+/**
+ * Published once per batch when many tasks are created together (e.g. a bulk import),
+ * instead of one TaskChangedEvent per task
+ */
+@Getter
+public class TasksCreatedEvent {
+
+    private final List<Task> tasks;
+    /**
+     * When the batch was written, in epoch milliseconds
+     */
+    private final long changedAt;
+
+    public TasksCreatedEvent(List<Task> tasks) {
+        this.tasks = tasks;
+        this.changedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.util.Set;
+
+/**
+ * Published when one assignee's tasks are moved to another in one statement, instead of one
+ * TaskChangedEvent per task
+ */
+@Getter
+@AllArgsConstructor
+public class TasksReassignedEvent {
+
+    private final String fromAssignee;
+    /**
+     * The new assignee, or null when the tasks were unassigned
+     */
+    private final String toAssignee;
+    /**
+     * Only tasks with these statuses were moved
+     */
+    private final Set<TaskStatus> statuses;
+    private final int count;
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published when many tasks leave the live table in one statement (e.g. archiving)
+ */
+@Getter
+@AllArgsConstructor
+public class TasksRemovedEvent {
+
+    private final List<Long> taskIds;
+}
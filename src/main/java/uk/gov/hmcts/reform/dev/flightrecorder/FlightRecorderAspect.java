@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.flightrecorder;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+/**
+ * Emits a {@link TaskOperationEvent} for each public TaskService call and a
+ * {@link RepositoryQueryEvent} for each repository call, so a flight recording shows them next
+ * to GC, lock and I/O events. Ordered ahead of the read cache, coalescing and bulkhead aspects,
+ * so a service event covers the whole call as the controller saw it.
+ *
+ * <p>While no recording has the events enabled, {@link jdk.jfr.Event#isEnabled()} is false and
+ * the call goes straight through; the JIT removes the unused event allocation.</p>
+ */
+@Aspect
+@Order(FlightRecorderAspect.ORDER)
+public class FlightRecorderAspect {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 400;
+
+    /**
+     * Repository name by proxy class. Inherited methods such as findById are declared on
+     * CrudRepository, so the name comes from the repository interface the proxy implements.
+     */
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            if (Proxy.isProxyClass(type)) {
+                for (Class<?> implemented : type.getInterfaces()) {
+                    if (Repository.class.isAssignableFrom(implemented) && implemented != Repository.class) {
+                        return implemented.getSimpleName();
+                    }
+                }
+            }
+            return ClassUtils.getUserClass(type).getSimpleName();
+        }
+    };
+
+    @Around("execution(public * uk.gov.hmcts.reform.dev.services.TaskService.*(..))")
+    public Object recordTaskOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new TaskOperationEvent(), joinPoint, false);
+    }
+
+    /**
+     * Spring Data repositories and the other TaskStore implementations. Matched on the Repository
+     * marker, since inherited methods such as findById run on SimpleJpaRepository, not on
+     * a type declared in this application. One expression, so a JPA TaskRepository call that
+     * matches both records one event.
+     */
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..)) "
+        + "|| execution(public * uk.gov.hmcts.reform.dev.repositories.TaskStore+.*(..))")
+    public Object recordRepositoryQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(new RepositoryQueryEvent(), joinPoint, true);
+    }
+
+    private static Object record(OperationEvent event, ProceedingJoinPoint joinPoint, boolean repository)
+            throws Throwable {
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Object result = null;
+        event.begin();
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            // Only name the operation and count rows for events over the recording's threshold
+            if (event.shouldCommit()) {
+                String type = repository
+                    ? REPOSITORY_NAMES.get(joinPoint.getThis().getClass())
+                    : joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.operation = type + "." + joinPoint.getSignature().getName();
+                event.rows = event.failed ? 0 : rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        } else if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        } else if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        } else if (result instanceof Map<?, ?> map) {
+            return map.size();
+        } else if (result instanceof Number number) {
+            return number.longValue();
+        } else if (result instanceof Boolean found) {
+            return found ? 1 : 0;
+        } else if (result instanceof BaseStream<?, ?> || result instanceof Iterator<?>) {
+            return -1;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.flightrecorder;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards /admin/flight-recordings with a shared bearer token. A recording holds the JVM's
+ * arguments, system properties and environment, which can include credentials, so only
+ * callers presenting the configured token may start, list or download them.
+ */
+public class FlightRecordingAccessFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final byte[] accessToken;
+
+    public FlightRecordingAccessFilter(String accessToken) {
+        this.accessToken = accessToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!authorized(request.getHeader(HttpHeaders.AUTHORIZATION))) {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean authorized(String header) {
+        if (header == null || !header.startsWith(BEARER)) {
+            return false;
+        }
+        // Constant-time comparison, so response times do not reveal how much of a guess matched
+        byte[] presented = header.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(presented, accessToken);
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.flightrecorder;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields shared by the task management flight recorder events. The duration is the event's own,
+ * from {@link #begin()} to {@link #end()}.
+ */
+@StackTrace(false)
+public abstract class OperationEvent extends Event {
+
+    /**
+     * Class and method, e.g. TaskService.getTaskById
+     */
+    @Label("Operation")
+    String operation;
+
+    /**
+     * Rows returned or changed; -1 when not known up front, e.g. for a stream
+     */
+    @Label("Rows")
+    long rows;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A call to a repository method, usually one query against the task store
+ */
+@Name("uk.gov.hmcts.reform.dev.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Task Management"})
+@Description("A call to a task management repository method")
+@Threshold("10 ms")
+public final class RepositoryQueryEvent extends OperationEvent {
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.flightrecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A call to a public TaskService method, including any wait for a bulkhead permit
+ */
+@Name("uk.gov.hmcts.reform.dev.TaskOperation")
+@Label("Task Operation")
+@Category({"Task Management"})
+@Description("A call to a TaskService method")
+@Threshold("10 ms")
+public final class TaskOperationEvent extends OperationEvent {
+}
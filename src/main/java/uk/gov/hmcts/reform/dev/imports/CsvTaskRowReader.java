@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.dev.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns. {@code title} is required; {@code description},
+ * {@code status} and {@code dueDate} are optional and any other column is ignored, so a CSV report
+ * can be imported again. Empty fields read as null.
+ *
+ * <p>A record longer than {@code maxRecordLength} characters, typically one with an unbalanced quote
+ * that would otherwise swallow the rest of the file, is not buffered: it is reported as unreadable
+ * and reading resumes after the next line break.</p>
+ */
+class CsvTaskRowReader implements TaskRowReader {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private final int titleColumn;
+    private final int descriptionColumn;
+    private final int statusColumn;
+    private final int dueDateColumn;
+
+    private long number;
+    private boolean unterminated;
+    private boolean overlong;
+    private boolean endOfInput;
+
+    CsvTaskRowReader(Reader reader, int maxRecordLength) throws IOException {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+        List<String> header = readRecord();
+        if (header == null || unterminated) {
+            throw new IllegalArgumentException("CSV upload has no header row");
+        }
+        if (overlong) {
+            throw new IllegalArgumentException("CSV header row is longer than " + maxRecordLength + " characters");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (name != null) {
+                if (i == 0 && !name.isEmpty() && name.charAt(0) == BOM) {
+                    name = name.substring(1);
+                }
+                columns.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header has no title column");
+        }
+        this.titleColumn = columns.get("title");
+        this.descriptionColumn = columns.getOrDefault("description", -1);
+        this.statusColumn = columns.getOrDefault("status", -1);
+        this.dueDateColumn = columns.getOrDefault("duedate", -1);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> fields = readRecord();
+        if (fields == null) {
+            return null;
+        }
+        number++;
+        if (overlong) {
+            return ImportRow.unreadable(number, "Record is longer than " + maxRecordLength + " characters");
+        }
+        if (unterminated) {
+            return ImportRow.unreadable(number, "Unterminated quoted field");
+        }
+        return new ImportRow(number, field(fields, titleColumn), field(fields, descriptionColumn),
+                             field(fields, statusColumn), field(fields, dueDateColumn), null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : null;
+    }
+
+    /**
+     * The fields of the next non-blank record, or null at the end of the input. A quoted field may
+     * span lines; a quote left open at the end of the input sets {@code unterminated}, and a record
+     * over the length limit sets {@code overlong} and returns no fields.
+     */
+    private List<String> readRecord() throws IOException {
+        while (!endOfInput) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean inQuotes = false;
+            boolean any = false;
+            int length = 0;
+            unterminated = false;
+            overlong = false;
+            while (true) {
+                int c = reader.read();
+                if (c == -1) {
+                    endOfInput = true;
+                    unterminated = inQuotes;
+                    break;
+                }
+                any = true;
+                if (++length > maxRecordLength) {
+                    overlong = true;
+                    skipLine();
+                    return List.of();
+                }
+                if (inQuotes) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            inQuotes = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    inQuotes = true;
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(value(field, quoted));
+                    field.setLength(0);
+                    quoted = false;
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            if (fields.isEmpty() && field.isEmpty() && !quoted) {
+                continue;
+            }
+            fields.add(value(field, quoted));
+            return fields;
+        }
+        return null;
+    }
+
+    /**
+     * Discard input up to and including the next line break, quoted or not
+     */
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = reader.read();
+        } while (c != -1 && c != '\n');
+        endOfInput = c == -1;
+    }
+
+    private static String value(StringBuilder field, boolean quoted) {
+        return field.isEmpty() && !quoted ? null : field.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.imports;
+
+/**
+ * One record of an upload, as text. {@code number} counts records from 1, not counting a CSV
+ * header; {@code error} is set instead of the fields when the record could not be read.
+ */
+public record ImportRow(long number, String title, String description, String status, String dueDate,
+                        String error) {
+
+    public static ImportRow unreadable(long number, String error) {
+        return new ImportRow(number, null, null, null, null, error);
+    }
+}
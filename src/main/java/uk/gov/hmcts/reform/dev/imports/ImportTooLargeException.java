@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.imports;
+
+/**
+ * Thrown when an upload exceeds the configured maximum import size
+ */
+public class ImportTooLargeException extends RuntimeException {
+
+    public ImportTooLargeException(String message) {
+        super(message);
+    }
+}
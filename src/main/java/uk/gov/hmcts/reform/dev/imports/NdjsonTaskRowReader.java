@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.dev.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One JSON object per line with the same field names as the task API; other fields, such as
+ * those of an NDJSON report, are ignored. Blank lines are skipped. A line longer than
+ * {@code maxRecordLength} characters is not buffered: it is reported as unreadable and skipped.
+ */
+class NdjsonTaskRowReader implements TaskRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordLength;
+    private final StringBuilder line = new StringBuilder();
+
+    private long number;
+    private boolean overlong;
+
+    NdjsonTaskRowReader(BufferedReader reader, ObjectMapper objectMapper, int maxRecordLength) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        do {
+            text = readLine();
+            if (text == null) {
+                return null;
+            }
+        } while (!overlong && text.isBlank());
+        number++;
+        if (overlong) {
+            return ImportRow.unreadable(number, "Line is longer than " + maxRecordLength + " characters");
+        }
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return ImportRow.unreadable(number, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return ImportRow.unreadable(number, "Line is not a JSON object");
+        }
+        return new ImportRow(number, text(node, "title"), text(node, "description"), text(node, "status"),
+                             text(node, "dueDate"), null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * The next line without its terminator, or null at the end of the input. A line over the
+     * length limit is read to its end but not kept: it sets {@code overlong} and returns "".
+     */
+    private String readLine() throws IOException {
+        line.setLength(0);
+        overlong = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() < maxRecordLength) {
+                line.append((char) c);
+            } else if (c != '\r') {
+                overlong = true;
+            }
+            c = reader.read();
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return overlong ? "" : line.toString();
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import uk.gov.hmcts.reform.dev.models.ImportFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads an upload one record at a time, so memory use does not grow with the file
+ */
+public interface TaskRowReader extends Closeable {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The next record, or null at the end of the upload
+     */
+    ImportRow next() throws IOException;
+
+    /**
+     * @param maxRecordLength longest record, in characters, that is read into memory; longer ones
+     *                        are returned as unreadable rows and skipped up to the next line break
+     * @throws IllegalArgumentException if a CSV upload has no usable header row
+     */
+    static TaskRowReader open(ImportFormat format, InputStream in, ObjectMapper objectMapper,
+                              int maxRecordLength) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            return switch (format) {
+                case CSV -> new CsvTaskRowReader(reader, maxRecordLength);
+                case NDJSON -> new NdjsonTaskRowReader(reader, objectMapper, maxRecordLength);
+            };
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package uk.gov.hmcts.reform.dev.logstore;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable task storage without a database: an append-only log of task records split into
+ * memory-mapped segments, plus an in-memory index from task ID to the record's location.
+ *
+ * <p>Every write appends a record to the active segment and repoints the index; when the
+ * active segment is full a new one is started. A snapshot of the index is written
+ * periodically together with the log position it covers, so recovery loads the snapshot and
+ * replays only the records after it. Compaction copies the live records out of sealed
+ * segments that are mostly superseded, snapshots, then deletes those segments.</p>
+ *
+ * <p>Writes are serialised by one lock; reads go straight to the index and the mapping and
+ * never block.</p>
+ */
+@Slf4j
+public class LogStructuredTaskStore implements Closeable {
+
+    static final String SNAPSHOT_FILE = "index.snapshot";
+
+    private static final long SNAPSHOT_MAGIC = 0x5441534b534e4150L;
+    private static final int SNAPSHOT_HEADER_SIZE = Long.BYTES * 2 + Integer.BYTES * 3;
+    private static final int SNAPSHOT_ENTRY_SIZE = Long.BYTES + Integer.BYTES * 3;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnWrite;
+    private final double compactionThreshold;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ConcurrentNavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Map<Long, Location> index = new ConcurrentHashMap<>();
+
+    private Segment active;
+    private long nextId = 1;
+    private int snapshotSegment = -1;
+    private int snapshotOffset = -1;
+    private volatile boolean open;
+
+    /**
+     * @param segmentSize         bytes per segment file; also the largest record that can be stored
+     * @param forceOnWrite        flush each record to the device before returning, rather than
+     *                            leaving it to the OS page cache (which survives a process crash
+     *                            but not a power loss)
+     * @param compactionThreshold compact a sealed segment once less than this fraction of it is live
+     */
+    public LogStructuredTaskStore(Path directory, int segmentSize, boolean forceOnWrite, double compactionThreshold) {
+        if (segmentSize < 4096) {
+            throw new IllegalArgumentException("Segment size must be at least 4KB");
+        }
+        if (compactionThreshold < 0 || compactionThreshold >= 1) {
+            throw new IllegalArgumentException("Compaction threshold must be at least 0 and below 1");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceOnWrite = forceOnWrite;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Where a task's latest record lives
+     */
+    record Location(int segment, int offset, int length) {
+    }
+
+    /**
+     * Recover the store from disk: load the last snapshot, replay the log after it and cut
+     * off a torn record at the tail left by a crash mid-write
+     */
+    public void open() {
+        writeLock.lock();
+        try {
+            Files.createDirectories(directory);
+            List<Integer> segmentIds;
+            try (Stream<Path> files = Files.list(directory)) {
+                segmentIds = files
+                    .filter(file -> file.getFileName().toString().startsWith(Segment.PREFIX))
+                    .map(Segment::idOf)
+                    .sorted()
+                    .toList();
+            }
+
+            int replaySegment = 0;
+            int replayOffset = 0;
+            Path snapshot = directory.resolve(SNAPSHOT_FILE);
+            if (Files.exists(snapshot)) {
+                int[] position = loadSnapshot(snapshot);
+                replaySegment = position[0];
+                replayOffset = position[1];
+            }
+
+            Set<Integer> referenced = index.values().stream().map(Location::segment).collect(Collectors.toSet());
+            for (int id : segmentIds) {
+                if (id < replaySegment && !referenced.contains(id)) {
+                    // Compacted away, but the process stopped before the file was deleted
+                    Files.deleteIfExists(directory.resolve(Segment.fileName(id)));
+                    continue;
+                }
+                segments.put(id, Segment.open(directory, id, segmentSize));
+            }
+            for (Location location : index.values()) {
+                if (!segments.containsKey(location.segment())) {
+                    throw new IllegalStateException("Snapshot refers to missing log segment " + location.segment());
+                }
+            }
+            if (Files.exists(snapshot) && !segments.containsKey(replaySegment)) {
+                throw new IllegalStateException("Snapshot replays from missing log segment " + replaySegment);
+            }
+
+            long replayed = 0;
+            for (Segment segment : segments.tailMap(replaySegment).values()) {
+                int start = segment.id() == replaySegment ? replayOffset : 0;
+                replayed += replay(segment, start, segment.id() == segments.lastKey());
+            }
+
+            if (segments.isEmpty()) {
+                segments.put(0, Segment.open(directory, 0, segmentSize));
+            }
+            active = segments.lastEntry().getValue();
+            index.values().forEach(location -> segments.get(location.segment()).addLiveBytes(location.length()));
+            open = true;
+            log.info("Task log store opened at {}: {} tasks, {} segments, {} records replayed",
+                     directory, index.size(), segments.size(), replayed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open task log store at " + directory, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public TaskEntity get(long id) {
+        while (true) {
+            Location location = index.get(id);
+            if (location == null) {
+                return null;
+            }
+            TaskEntity task = read(location);
+            if (task != null) {
+                return task;
+            }
+            if (location.equals(index.get(id))) {
+                throw new IllegalStateException("Task log index points at missing segment " + location.segment());
+            }
+            // The segment was compacted away between the index lookup and the read; look again
+        }
+    }
+
+    public boolean contains(long id) {
+        return index.containsKey(id);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Live view of the stored task IDs, in no particular order
+     */
+    public Set<Long> ids() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * Visit every stored task. Tasks written or deleted during the visit may or may not be seen.
+     */
+    public void forEach(Consumer<TaskEntity> action) {
+        for (Long id : index.keySet()) {
+            TaskEntity task = get(id);
+            if (task != null) {
+                action.accept(task);
+            }
+        }
+    }
+
+    /**
+     * Store a task, assigning the next ID if it has none
+     */
+    public TaskEntity put(TaskEntity task) {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if (task.getId() == null) {
+                task.setId(nextId);
+            }
+            byte[] record = TaskRecordCodec.encodePut(task);
+            nextId = Math.max(nextId, task.getId() + 1);
+            index(task.getId(), append(record));
+            return task;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Apply a change to a stored task atomically with respect to other writes
+     *
+     * @param change returns the task to store, or null to leave it unchanged
+     * @return the stored task, or null if it does not exist or was left unchanged
+     */
+    public TaskEntity update(long id, UnaryOperator<TaskEntity> change) {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            TaskEntity current = get(id);
+            if (current == null) {
+                return null;
+            }
+            TaskEntity changed = change.apply(current);
+            return changed != null ? put(changed) : null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return whether the task existed
+     */
+    public boolean delete(long id) {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if (!index.containsKey(id)) {
+                return false;
+            }
+            append(TaskRecordCodec.encodeDelete(id));
+            Location removed = index.remove(id);
+            segments.get(removed.segment()).addLiveBytes(-removed.length());
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Snapshot if anything was written since the last snapshot, so recovery replays at most
+     * one maintenance interval of the log, and compact segments that are mostly garbage
+     */
+    public void maintain() {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if (compact() == 0 && isDirty()) {
+                snapshot();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Write the index and the log position it covers to the snapshot file, atomically
+     */
+    public void snapshot() {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            // The snapshot must never point at records that are not on disk yet
+            active.force();
+
+            List<Map.Entry<Long, Location>> entries = new ArrayList<>(index.entrySet());
+            ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE + entries.size() * SNAPSHOT_ENTRY_SIZE
+                                                        + Integer.BYTES);
+            buffer.putLong(SNAPSHOT_MAGIC).putLong(nextId)
+                .putInt(active.id()).putInt(active.writePosition()).putInt(entries.size());
+            for (Map.Entry<Long, Location> entry : entries) {
+                Location location = entry.getValue();
+                buffer.putLong(entry.getKey())
+                    .putInt(location.segment()).putInt(location.offset()).putInt(location.length());
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.array(), 0, buffer.position());
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+
+            Path snapshot = directory.resolve(SNAPSHOT_FILE);
+            Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING,
+                                                        StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            snapshotSegment = active.id();
+            snapshotOffset = active.writePosition();
+            log.debug("Task log snapshot written: {} tasks at segment {} offset {}",
+                      entries.size(), snapshotSegment, snapshotOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write task log snapshot", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Rewrite the live records of sealed segments below the compaction threshold into the
+     * active segment, then delete those segments
+     *
+     * @return the number of segments deleted
+     */
+    public int compact() {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            List<Segment> candidates = segments.headMap(active.id()).values().stream()
+                .filter(segment -> segment.liveBytes() < segment.capacity() * compactionThreshold)
+                .toList();
+            if (candidates.isEmpty()) {
+                return 0;
+            }
+
+            List<Integer> candidateIds = candidates.stream().map(Segment::id).toList();
+            long moved = 0;
+            for (Map.Entry<Long, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (candidateIds.contains(location.segment())) {
+                    byte[] record = new byte[location.length()];
+                    segments.get(location.segment()).view().get(location.offset(), record);
+                    index(entry.getKey(), append(record));
+                    moved++;
+                }
+            }
+
+            // Once the snapshot no longer refers to them, recovery does not need the old segments
+            snapshot();
+            for (Segment segment : candidates) {
+                segments.remove(segment.id());
+                segment.delete();
+            }
+            log.info("Compacted {} task log segments, moving {} live records", candidates.size(), moved);
+            return candidates.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (!open) {
+                return;
+            }
+            snapshot();
+            open = false;
+            segments.values().forEach(Segment::close);
+            log.info("Task log store closed at {}", directory);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private long replay(Segment segment, int start, boolean last) {
+        ByteBuffer view = segment.view();
+        int position = start;
+        long replayed = 0;
+        while (true) {
+            TaskRecordCodec.Record record = TaskRecordCodec.decode(view, position);
+            if (record == null) {
+                break;
+            }
+            if (record.type() == TaskRecordCodec.PUT) {
+                index.put(record.id(), new Location(segment.id(), position, record.length()));
+                nextId = Math.max(nextId, record.id() + 1);
+            } else {
+                index.remove(record.id());
+            }
+            position += record.length();
+            replayed++;
+        }
+
+        boolean cleanEnd = position + TaskRecordCodec.HEADER_SIZE > segment.capacity() || view.getInt(position) == 0;
+        if (last) {
+            if (!cleanEnd) {
+                log.warn("Discarding torn record at segment {} offset {}", segment.id(), position);
+            }
+            segment.resumeAt(position);
+        } else if (!cleanEnd) {
+            throw new IllegalStateException(String.format(
+                "Corrupt record in sealed log segment %d at offset %d", segment.id(), position));
+        }
+        return replayed;
+    }
+
+    private int[] loadSnapshot(Path snapshot) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+        int crcOffset = buffer.limit() - Integer.BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, Math.max(0, crcOffset));
+        if (crcOffset < SNAPSHOT_HEADER_SIZE || buffer.getLong(0) != SNAPSHOT_MAGIC
+            || buffer.getInt(crcOffset) != (int) crc.getValue()) {
+            // Snapshots are replaced atomically, so this is corruption rather than a crash
+            throw new IllegalStateException("Task log snapshot " + snapshot + " is corrupt");
+        }
+
+        buffer.position(Long.BYTES);
+        nextId = buffer.getLong();
+        int replaySegment = buffer.getInt();
+        int replayOffset = buffer.getInt();
+        int entries = buffer.getInt();
+        for (int i = 0; i < entries; i++) {
+            index.put(buffer.getLong(), new Location(buffer.getInt(), buffer.getInt(), buffer.getInt()));
+        }
+        snapshotSegment = replaySegment;
+        snapshotOffset = replayOffset;
+        return new int[] {replaySegment, replayOffset};
+    }
+
+    private TaskEntity read(Location location) {
+        Segment segment = segments.get(location.segment());
+        if (segment == null) {
+            return null;
+        }
+        TaskRecordCodec.Record record = TaskRecordCodec.decode(segment.view(), location.offset());
+        if (record == null || record.task() == null) {
+            throw new IllegalStateException("Task log index points at an unreadable record in segment "
+                                                + location.segment() + " at offset " + location.offset());
+        }
+        return record.task();
+    }
+
+    private Location append(byte[] record) {
+        if (record.length > segmentSize) {
+            throw new IllegalArgumentException("Task record of " + record.length + " bytes exceeds the segment size");
+        }
+        int offset = active.append(record, forceOnWrite);
+        if (offset < 0) {
+            active.force();
+            active = Segment.open(directory, active.id() + 1, segmentSize);
+            segments.put(active.id(), active);
+            offset = active.append(record, forceOnWrite);
+        }
+        return new Location(active.id(), offset, record.length);
+    }
+
+    private void index(long id, Location location) {
+        Location previous = index.put(id, location);
+        if (previous != null) {
+            segments.get(previous.segment()).addLiveBytes(-previous.length());
+        }
+        active.addLiveBytes(location.length());
+    }
+
+    private boolean isDirty() {
+        return active.id() != snapshotSegment || active.writePosition() != snapshotOffset;
+    }
+
+    private void ensureOpen() {
+        if (!open) {
+            throw new IllegalStateException("Task log store is not open");
+        }
+    }
+}
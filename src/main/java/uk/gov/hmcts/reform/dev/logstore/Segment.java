@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.dev.logstore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One fixed-size, memory-mapped log file. Only the store's writer appends; readers take
+ * absolute slices of the mapping, which never move the shared buffer position.
+ */
+final class Segment {
+
+    static final String PREFIX = "segment-";
+    static final String SUFFIX = ".log";
+
+    private final int id;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer readView;
+
+    private int writePosition;
+    private volatile long liveBytes;
+
+    private Segment(int id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.readView = buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Map a segment file, creating and pre-sizing it if it does not exist
+     */
+    static Segment open(Path directory, int id, int size) {
+        Path path = directory.resolve(fileName(id));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                   StandardOpenOption.WRITE);
+            int mappedSize = (int) Math.max(size, channel.size());
+            return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open log segment " + path, e);
+        }
+    }
+
+    static String fileName(int id) {
+        return String.format("%s%08d%s", PREFIX, id, SUFFIX);
+    }
+
+    static int idOf(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    int id() {
+        return id;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    void addLiveBytes(long delta) {
+        liveBytes += delta;
+    }
+
+    /**
+     * Read-only view of the whole mapping for decoding records. Shared between threads, so
+     * callers must only use absolute gets and slices.
+     */
+    ByteBuffer view() {
+        return readView;
+    }
+
+    /**
+     * Copy a record into the segment
+     *
+     * @return the record's offset, or -1 if it does not fit
+     */
+    int append(byte[] record, boolean force) {
+        if (writePosition + record.length > buffer.capacity()) {
+            return -1;
+        }
+        int offset = writePosition;
+        buffer.put(offset, record);
+        writePosition += record.length;
+        if (force) {
+            buffer.force(offset, record.length);
+        }
+        return offset;
+    }
+
+    /**
+     * Continue appending at {@code position} after recovery, wiping anything torn beyond it
+     */
+    void resumeAt(int position) {
+        writePosition = position;
+        byte[] zeros = new byte[8192];
+        for (int offset = position; offset < buffer.capacity(); offset += zeros.length) {
+            int length = Math.min(zeros.length, buffer.capacity() - offset);
+            if (!isZero(offset, length)) {
+                buffer.put(offset, zeros, 0, length);
+            }
+        }
+        buffer.force();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close log segment " + path, e);
+        }
+    }
+
+    /**
+     * Close and remove the file. The mapping stays readable until it is garbage collected,
+     * so a reader that looked up an old location just before compaction still completes.
+     */
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete log segment " + path, e);
+        }
+    }
+
+    private boolean isZero(int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
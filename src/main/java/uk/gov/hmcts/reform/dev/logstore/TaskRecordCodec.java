@@ -0,0 +1,164 @@
+package uk.gov.hmcts.reform.dev.logstore;
+
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of one log record:
+ * <pre>
+ *   int    length   whole record, header included
+ *   int    checksum CRC32C of everything after this field
+ *   byte   type     PUT or DELETE
+ *   long   id
+ *   PUT only:
+ *   byte   status
+ *   byte   flags    HAS_DUE_DATE | HAS_DESCRIPTION
+ *   long+int created, updated, [due]   epoch seconds (UTC) and nanos
+ *   short+bytes title, [description]   UTF-8
+ * </pre>
+ * A zero length marks the end of the written part of a segment; a record whose length or
+ * checksum does not match is a torn write.
+ */
+final class TaskRecordCodec {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    static final int HEADER_SIZE = 8;
+
+    /**
+     * Persisted status codes, by position. Append new statuses; never reorder.
+     */
+    private static final List<TaskStatus> STATUS_CODES = List.of(
+        TaskStatus.PENDING, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private static final int HAS_DUE_DATE = 1;
+    private static final int HAS_DESCRIPTION = 2;
+    private static final int TIMESTAMP_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private TaskRecordCodec() {
+    }
+
+    /**
+     * A decoded record: a task for PUT, only the ID for DELETE
+     */
+    record Record(byte type, long id, int length, TaskEntity task) {
+    }
+
+    static byte[] encodePut(TaskEntity task) {
+        byte[] title = task.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] description = task.getDescription() != null
+            ? task.getDescription().getBytes(StandardCharsets.UTF_8) : null;
+        if (title.length > MAX_STRING_BYTES || description != null && description.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Task title and description must each be under 64KB");
+        }
+        int flags = (task.getDueDate() != null ? HAS_DUE_DATE : 0) | (description != null ? HAS_DESCRIPTION : 0);
+
+        int length = HEADER_SIZE + 1 + Long.BYTES + 2
+            + TIMESTAMP_SIZE * (task.getDueDate() != null ? 3 : 2)
+            + Short.BYTES + title.length
+            + (description != null ? Short.BYTES + description.length : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(length).putInt(0);
+        buffer.put(PUT).putLong(task.getId());
+        buffer.put((byte) STATUS_CODES.indexOf(task.getStatus())).put((byte) flags);
+        putTimestamp(buffer, task.getCreatedDate());
+        putTimestamp(buffer, task.getUpdatedDate());
+        if (task.getDueDate() != null) {
+            putTimestamp(buffer, task.getDueDate());
+        }
+        putString(buffer, title);
+        if (description != null) {
+            putString(buffer, description);
+        }
+        return seal(buffer);
+    }
+
+    static byte[] encodeDelete(long id) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 1 + Long.BYTES);
+        buffer.putInt(buffer.capacity()).putInt(0);
+        buffer.put(DELETE).putLong(id);
+        return seal(buffer);
+    }
+
+    /**
+     * Decode the record at {@code offset}
+     *
+     * @return the record, or null at the end of the written data or at a torn record
+     */
+    static Record decode(ByteBuffer segment, int offset) {
+        if (offset + HEADER_SIZE > segment.limit()) {
+            return null;
+        }
+        int length = segment.getInt(offset);
+        if (length < HEADER_SIZE + 1 + Long.BYTES || offset + length > segment.limit()) {
+            return null;
+        }
+        ByteBuffer record = segment.slice(offset, length);
+        if (record.getInt(4) != checksum(record, length)) {
+            return null;
+        }
+
+        record.position(HEADER_SIZE);
+        byte type = record.get();
+        long id = record.getLong();
+        if (type == DELETE) {
+            return new Record(type, id, length, null);
+        }
+        if (type != PUT) {
+            return null;
+        }
+
+        TaskEntity task = new TaskEntity();
+        task.setId(id);
+        task.setStatus(STATUS_CODES.get(record.get()));
+        int flags = record.get();
+        task.setCreatedDate(getTimestamp(record));
+        task.setUpdatedDate(getTimestamp(record));
+        if ((flags & HAS_DUE_DATE) != 0) {
+            task.setDueDate(getTimestamp(record));
+        }
+        task.setTitle(getString(record));
+        if ((flags & HAS_DESCRIPTION) != 0) {
+            task.setDescription(getString(record));
+        }
+        return new Record(type, id, length, task);
+    }
+
+    private static byte[] seal(ByteBuffer buffer) {
+        buffer.putInt(4, checksum(buffer, buffer.capacity()));
+        return buffer.array();
+    }
+
+    private static int checksum(ByteBuffer record, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.slice(HEADER_SIZE, length - HEADER_SIZE));
+        return (int) crc.getValue();
+    }
+
+    private static void putTimestamp(ByteBuffer buffer, LocalDateTime value) {
+        buffer.putLong(value.toEpochSecond(ZoneOffset.UTC)).putInt(value.getNano());
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        buffer.putShort((short) value.length).put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] value = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.dev.mappers;
 
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.entities.ArchivedTaskEntity;
 import uk.gov.hmcts.reform.dev.entities.TaskEntity;
 import uk.gov.hmcts.reform.dev.models.Task;
 
@@ -23,6 +24,28 @@ public class TaskMapper {
         task.setDueDate(entity.getDueDate());
         task.setCreatedDate(entity.getCreatedDate());
         task.setUpdatedDate(entity.getUpdatedDate());
+        task.setAssignee(entity.getAssignee());
+        
+        return task;
+    }
+    
+    /**
+     * Convert ArchivedTaskEntity to Task model
+     */
+    public Task fromArchive(ArchivedTaskEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        
+        Task task = new Task();
+        task.setId(entity.getId());
+        task.setTitle(entity.getTitle());
+        task.setDescription(entity.getDescription());
+        task.setStatus(entity.getStatus());
+        task.setDueDate(entity.getDueDate());
+        task.setCreatedDate(entity.getCreatedDate());
+        task.setUpdatedDate(entity.getUpdatedDate());
+        task.setAssignee(entity.getAssignee());
         
         return task;
     }
@@ -43,6 +66,7 @@ public class TaskMapper {
         entity.setDueDate(task.getDueDate());
         entity.setCreatedDate(task.getCreatedDate());
         entity.setUpdatedDate(task.getUpdatedDate());
+        entity.setAssignee(task.getAssignee());
         
         return entity;
     }
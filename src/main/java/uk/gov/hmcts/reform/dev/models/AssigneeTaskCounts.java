@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * How many tasks one assignee holds, in total and per status
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class AssigneeTaskCounts {
+    private String assignee;
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+}
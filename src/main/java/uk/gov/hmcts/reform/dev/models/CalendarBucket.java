@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Number of tasks due in one calendar bucket (a day, ISO week starting Monday, or month)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CalendarBucket {
+    private LocalDate start;
+    private long total;
+    private Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+
+    public CalendarBucket(LocalDate start) {
+        this.start = start;
+    }
+
+    public void add(TaskStatus status, long count) {
+        byStatus.merge(status, count, Long::sum);
+        total += count;
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A case with the tasks filed against it, in due date order
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CaseSummary {
+    private String caseNumber;
+    private String title;
+    private String description;
+    private String status;
+    private LocalDateTime createdDate;
+    private int taskCount;
+    private List<Task> tasks;
+}
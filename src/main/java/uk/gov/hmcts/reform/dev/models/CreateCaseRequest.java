@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CreateCaseRequest {
+    private String caseNumber;
+    private String title;
+    private String description;
+    private String status;
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Request for a task extract. Format defaults to CSV; status, if given, limits the extract to that status.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CreateReportRequest {
+    private ReportFormat format;
+    private boolean gzip;
+    private TaskStatus status;
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jdk.jfr.RecordingState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * State of an on-demand flight recording. While it is RUNNING, {@code stoppedDate} is when it will
+ * stop; once STOPPED the file can be downloaded.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class FlightRecording {
+    private long id;
+    private FlightRecordingProfile profile;
+    private RecordingState state;
+    private Duration duration;
+    private long sizeBytes;
+    private LocalDateTime startedDate;
+    private LocalDateTime stoppedDate;
+}
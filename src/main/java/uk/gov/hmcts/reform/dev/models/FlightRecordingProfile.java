@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.time.Duration;
+
+/**
+ * Preset settings for an on-demand flight recording
+ */
+public enum FlightRecordingProfile {
+    /**
+     * The JDK's "default" settings, safe to leave running in production, with task operations
+     * and repository queries taking 10 ms or more
+     */
+    DEFAULT("default", Duration.ofMillis(10)),
+
+    /**
+     * The JDK's "profile" settings, with more frequent method sampling and allocation events,
+     * and every task operation and repository query. For short recordings while investigating.
+     */
+    PROFILE("profile", Duration.ZERO);
+
+    private final String configuration;
+    private final Duration eventThreshold;
+
+    FlightRecordingProfile(String configuration, Duration eventThreshold) {
+        this.configuration = configuration;
+        this.eventThreshold = eventThreshold;
+    }
+
+    /**
+     * Name of the JDK .jfc configuration the recording starts from
+     */
+    public String getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Shortest task operation or repository query recorded
+     */
+    public Duration getEventThreshold() {
+        return eventThreshold;
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Upload formats accepted by the bulk task import
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * The format implied by a request Content-Type, or null if it implies none
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                return CSV;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType("application/x-ndjson"))) {
+                return NDJSON;
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk task import. {@code rowsProcessed} counts rows in committed batches,
+ * both imported and rejected; the rejected rows are listed under the import's errors.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ImportJob {
+    private String id;
+    private ImportJobStatus status;
+    private ImportFormat format;
+    private long rowsProcessed;
+    private long imported;
+    private long failed;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+    private LocalDateTime completedDate;
+    private String error;
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A row rejected by a bulk import. Rows are numbered from 1, not counting a CSV header or blank lines.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ImportRowError {
+    private long row;
+    private String message;
+}
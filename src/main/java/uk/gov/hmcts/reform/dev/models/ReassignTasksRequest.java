@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ReassignTasksRequest {
+    /**
+     * The new assignee, or null to unassign the tasks
+     */
+    private String to;
+    /**
+     * Only move tasks with these statuses; PENDING and IN_PROGRESS when absent
+     */
+    private List<TaskStatus> statuses;
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * State of an asynchronous task extract. Once COMPLETED the file can be downloaded until {@code expiresAt}.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ReportJob {
+    private String id;
+    private ReportJobStatus status;
+    private ReportFormat format;
+    private boolean gzip;
+    private TaskStatus taskStatus;
+    private long rows;
+    private long sizeBytes;
+    private LocalDateTime createdDate;
+    private LocalDateTime completedDate;
+    private LocalDateTime expiresAt;
+    private String error;
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * How long tasks stayed in one status before moving on, over the transitions in a date range.
+ * The mean is exact; percentiles come from a log-scaled histogram and are within about 9%.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class StatusTimeStats {
+    private TaskStatus status;
+    private long transitions;
+    private double meanSeconds;
+    private double p50Seconds;
+    private double p90Seconds;
+    private double p99Seconds;
+}
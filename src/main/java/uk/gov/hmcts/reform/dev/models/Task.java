@@ -19,6 +19,7 @@ public class Task {
     private LocalDateTime dueDate;
     private LocalDateTime createdDate;
     private LocalDateTime updatedDate;
+    private String assignee;
     
     public Task(String title, String description, TaskStatus status, LocalDateTime dueDate) {
         this.title = title;
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.models;
+
+/**
+ * What a batch does when one of its operations fails
+ */
+public enum TaskBatchMode {
+    /**
+     * Stop at the first failed operation and write nothing
+     */
+    ALL_OR_NOTHING,
+    /**
+     * Skip failed operations and commit the rest
+     */
+    CONTINUE_ON_ERROR
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One entry of a batch request. Only the members its operation type uses are read.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchOperation {
+    private TaskBatchOperationType op;
+    /**
+     * The existing task to update or delete
+     */
+    private Long id;
+    /**
+     * Instead of {@code id}, the index of an earlier CREATE operation in the same batch whose
+     * task to update or delete
+     */
+    private Integer ref;
+    private CreateTaskRequest task;
+    private TaskPatch patch;
+    private TaskStatus status;
+}
@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The outcome of one batch operation, in the position of the operation. {@code code} is the HTTP
+ * status the equivalent single-task call would have returned; 424 marks an operation that was
+ * valid but not committed because another one failed.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchOperationResult {
+    public static final int NOT_COMMITTED = 424;
+
+    private TaskBatchOperationType op;
+    private Long id;
+    private int code;
+    /**
+     * The task after the operation; null for deletes and failures
+     */
+    private Task task;
+    private String error;
+
+    public static TaskBatchOperationResult succeeded(TaskBatchOperationType op, Long id, int code, Task task) {
+        return new TaskBatchOperationResult(op, id, code, task, null);
+    }
+
+    public static TaskBatchOperationResult failed(TaskBatchOperationType op, Long id, int code, String error) {
+        return new TaskBatchOperationResult(op, id, code, null, error);
+    }
+
+    public boolean isSucceeded() {
+        return code < 400;
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.models;
+
+/**
+ * What one entry of a batch request does, mirroring the single-task endpoints
+ */
+public enum TaskBatchOperationType {
+    /**
+     * POST /api/tasks, with the fields in {@code task}
+     */
+    CREATE,
+    /**
+     * PATCH /api/tasks/{id}, with the merge patch in {@code patch}
+     */
+    UPDATE,
+    /**
+     * PUT /api/tasks/{id}/status, with the new {@code status}
+     */
+    UPDATE_STATUS,
+    /**
+     * DELETE /api/tasks/{id}
+     */
+    DELETE
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchRequest {
+    private TaskBatchMode mode = TaskBatchMode.ALL_OR_NOTHING;
+    /**
+     * Applied in order, in one transaction
+     */
+    private List<TaskBatchOperation> operations;
+}
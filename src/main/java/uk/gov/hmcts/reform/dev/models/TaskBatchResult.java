@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchResult {
+    /**
+     * False when an all-or-nothing batch had a failed operation, in which case nothing was written
+     */
+    private boolean committed;
+    private List<TaskBatchOperationResult> results;
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * One status column of the task board: the first tasks by due date and the column size
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBoardColumn {
+    private long total;
+    private List<TaskSummary> tasks;
+}
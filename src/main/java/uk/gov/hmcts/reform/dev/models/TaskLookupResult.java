@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One entry of a batch lookup, in the position of the requested ID. Missing tasks have found=false.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskLookupResult {
+    private Long id;
+    private boolean found;
+    private Task task;
+
+    public static TaskLookupResult found(Task task) {
+        return new TaskLookupResult(task.getId(), true, task);
+    }
+
+    public static TaskLookupResult missing(Long id) {
+        return new TaskLookupResult(id, false, null);
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON Merge Patch (RFC 7396) for a task. Jackson only calls a setter for members present
+ * in the document, so a member that is absent is left unchanged and an explicit null clears it.
+ */
+public class TaskPatch {
+    @Getter
+    private String title;
+    @Getter
+    private String description;
+    @Getter
+    private TaskStatus status;
+    @Getter
+    private LocalDateTime dueDate;
+    @Getter
+    private String assignee;
+
+    private boolean titlePresent;
+    private boolean descriptionPresent;
+    private boolean statusPresent;
+    private boolean dueDatePresent;
+    private boolean assigneePresent;
+
+    public void setTitle(String title) {
+        this.title = title;
+        this.titlePresent = true;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionPresent = true;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        this.statusPresent = true;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+        this.dueDatePresent = true;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+        this.assigneePresent = true;
+    }
+
+    public boolean hasTitle() {
+        return titlePresent;
+    }
+
+    public boolean hasDescription() {
+        return descriptionPresent;
+    }
+
+    public boolean hasStatus() {
+        return statusPresent;
+    }
+
+    public boolean hasDueDate() {
+        return dueDatePresent;
+    }
+
+    public boolean hasAssignee() {
+        return assigneePresent;
+    }
+}
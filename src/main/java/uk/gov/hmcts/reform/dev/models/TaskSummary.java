@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight card shown on the task board
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSummary {
+    private final Long id;
+    private final String title;
+    private final TaskStatus status;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime updatedDate;
+
+    public static TaskSummary of(Task task) {
+        return new TaskSummary(task.getId(), task.getTitle(), task.getStatus(), task.getDueDate(),
+                               task.getUpdatedDate());
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Reports how old the data in a response is when it came through the read cache: {@code Age} in
+ * seconds, and an RFC 9211 {@code Cache-Status} such as {@code task-cache; hit; ttl=3} or
+ * {@code task-cache; hit; ttl=-40; detail=fallback}. A negative ttl means the data is past its
+ * time to live.
+ */
+@ControllerAdvice
+public class CacheStatusResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String CACHE_STATUS = "Cache-Status";
+
+    private static final String CACHE_NAME = "task-cache";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+            && attributes.getAttribute(ReadCacheAspect.RESULT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof CachedResult result) {
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(result.ageMillis() / 1000));
+            response.getHeaders().set(CACHE_STATUS, cacheStatus(result));
+        }
+        return body;
+    }
+
+    static String cacheStatus(CachedResult result) {
+        long ttlSeconds = Math.floorDiv(result.ttlMillis(), 1000);
+        return switch (result.status()) {
+            case FRESH -> CACHE_NAME + "; hit; ttl=" + ttlSeconds;
+            case STALE -> CACHE_NAME + "; hit; ttl=" + ttlSeconds + "; detail=revalidating";
+            case FALLBACK -> CACHE_NAME + "; hit; ttl=" + ttlSeconds + "; detail=fallback";
+            case MISS -> CACHE_NAME + "; fwd=miss";
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose result may be served from the stale-while-revalidate
+ * read cache, keyed by method and arguments. The cached result is shared, so callers must not
+ * modify it.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedRead {
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+/**
+ * A read cache answer with how old the data is. {@code ttlMillis} is the time left before the
+ * result goes stale, negative once it has.
+ */
+public record CachedResult(Object value, ReadCacheStatus status, long ageMillis, long ttlMillis) {
+}
@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+/**
+ * Count-based circuit breaker over the last {@code windowSize} database calls. A call is bad if
+ * it failed or took longer than the slow call threshold. Once at least {@code minimumCalls} have
+ * been seen and the bad share reaches {@code failureRateThreshold} the circuit opens and callers
+ * are answered from the cache. After {@code openNanos} one probe call is let through: if it is
+ * good the circuit closes, otherwise it opens again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int bad;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long slowCallNanos,
+                          long openNanos) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Circuit breaker needs 1 <= minimum-calls <= window-size");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.openNanos = openNanos;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * Whether a database call may be made now. In the half-open state only one caller, the
+     * probe, gets true; it must report its outcome.
+     */
+    public synchronized boolean tryAcquire(long nowNanos) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nowNanos - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+                return true;
+            default:
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess(long durationNanos, long nowNanos) {
+        record(durationNanos > slowCallNanos, nowNanos);
+    }
+
+    public synchronized void onFailure(long nowNanos) {
+        record(true, nowNanos);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean isBad, long nowNanos) {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+            if (isBad) {
+                open(nowNanos);
+            } else {
+                state = State.CLOSED;
+                reset();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // A call admitted before the circuit opened
+            return;
+        }
+
+        if (recorded == windowSize) {
+            if (outcomes[next]) {
+                bad--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = isBad;
+        if (isBad) {
+            bad++;
+        }
+        next = (next + 1) % windowSize;
+
+        if (recorded >= minimumCalls && (double) bad / recorded >= failureRateThreshold) {
+            open(nowNanos);
+        }
+    }
+
+    private void open(long nowNanos) {
+        state = State.OPEN;
+        openedAt = nowNanos;
+        reset();
+    }
+
+    private void reset() {
+        next = 0;
+        recorded = 0;
+        bad = 0;
+    }
+}
@@ -0,0 +1,219 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Stale-while-revalidate cache of read results. A result younger than {@code ttl} is served as
+ * is; one up to {@code ttl + staleWindow} old is served while a single background refresh
+ * replaces it; anything older, or invalidated by a write, is loaded before answering.
+ *
+ * <p>Database calls go through a {@link CircuitBreaker}. While it is open, or when a load
+ * fails, the last known result for the key is served whatever its age. With no result to fall
+ * back on the call goes to the database as usual.</p>
+ *
+ * <p>A load is current only if no write committed after it began. Loads run through request
+ * coalescing, which starts a new flight after each write for the same reason, so a load never
+ * returns a query that began before the write.</p>
+ */
+@Slf4j
+public class ReadCache {
+
+    @FunctionalInterface
+    public interface Loader {
+        Object load() throws Throwable;
+    }
+
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final int maxEntries;
+    private final CircuitBreaker circuitBreaker;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Bumped by every invalidation. An entry is current only while its load's generation is still
+     * the latest, so a load that started before a write is never served as current.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<ReadCacheStatus, Counter> counters = new EnumMap<>(ReadCacheStatus.class);
+
+    public ReadCache(Duration ttl, Duration staleWindow, int maxEntries, CircuitBreaker circuitBreaker,
+                     Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this(ttl, staleWindow, maxEntries, circuitBreaker, refreshExecutor, meterRegistry, System::nanoTime);
+    }
+
+    ReadCache(Duration ttl, Duration staleWindow, int maxEntries, CircuitBreaker circuitBreaker,
+              Executor refreshExecutor, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleWindow.toNanos();
+        this.maxEntries = maxEntries;
+        this.circuitBreaker = circuitBreaker;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+
+        for (ReadCacheStatus status : ReadCacheStatus.values()) {
+            counters.put(status, Counter.builder("task.read.cache.requests")
+                .tag("status", status.name().toLowerCase())
+                .description("Cached reads by how they were answered")
+                .register(meterRegistry));
+        }
+        Gauge.builder("task.read.cache.entries", entries, Map::size)
+            .description("Results held in the read cache")
+            .register(meterRegistry);
+        Gauge.builder("task.read.cache.circuit.open", circuitBreaker,
+                      breaker -> breaker.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+            .description("1 while the database circuit breaker is open or probing")
+            .register(meterRegistry);
+    }
+
+    public CachedResult get(String operation, List<Object> arguments, Loader loader) throws Throwable {
+        Key key = new Key(operation, arguments);
+        Entry entry = entries.get(key);
+        long now = nanoClock.getAsLong();
+
+        if (entry != null && isCurrent(entry)) {
+            long age = now - entry.loadedAt;
+            if (age < ttlNanos) {
+                return answer(entry, ReadCacheStatus.FRESH, now);
+            }
+            if (age < ttlNanos + staleNanos) {
+                refreshInBackground(key, entry, loader);
+                return answer(entry, ReadCacheStatus.STALE, now);
+            }
+        }
+
+        if (!circuitBreaker.tryAcquire(now)) {
+            if (entry != null) {
+                return answer(entry, ReadCacheStatus.FALLBACK, now);
+            }
+            // Nothing to fall back on: ask the database anyway
+            counters.get(ReadCacheStatus.MISS).increment();
+            return new CachedResult(loader.load(), ReadCacheStatus.MISS, 0, ttlNanos / 1_000_000);
+        }
+
+        try {
+            Entry loaded = load(key, loader);
+            return answer(loaded, ReadCacheStatus.MISS, loaded.loadedAt);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Throwable t) {
+            if (entry != null) {
+                log.warn("Serving last known {} after a failed read: {}", operation, t.getMessage());
+                return answer(entry, ReadCacheStatus.FALLBACK, nanoClock.getAsLong());
+            }
+            throw t;
+        }
+    }
+
+    /**
+     * Mark every result out of date after a write. They are kept to fall back on, but the next
+     * read of each goes to the database.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Call the database through the circuit breaker and cache the result, unless a load that
+     * started after a later write has already cached a newer one. The caller must have been
+     * admitted by {@link CircuitBreaker#tryAcquire}.
+     */
+    private Entry load(Key key, Loader loader) throws Throwable {
+        long startGeneration = generation.get();
+        long start = nanoClock.getAsLong();
+        Object value;
+        try {
+            value = loader.load();
+        } catch (IllegalArgumentException e) {
+            // The caller's mistake says nothing about the database
+            circuitBreaker.onSuccess(0, nanoClock.getAsLong());
+            throw e;
+        } catch (Throwable t) {
+            circuitBreaker.onFailure(nanoClock.getAsLong());
+            throw t;
+        }
+        long end = nanoClock.getAsLong();
+        circuitBreaker.onSuccess(end - start, end);
+
+        Entry loaded = new Entry(value, end, startGeneration);
+        entries.compute(key, (k, existing) -> {
+            if (existing == null) {
+                return entries.size() < maxEntries ? loaded : null;
+            }
+            return existing.generation > loaded.generation ? existing : loaded;
+        });
+        return loaded;
+    }
+
+    private boolean isCurrent(Entry entry) {
+        return entry.generation == generation.get();
+    }
+
+    private void refreshInBackground(Key key, Entry entry, Loader loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    if (circuitBreaker.tryAcquire(nanoClock.getAsLong())) {
+                        load(key, loader);
+                    }
+                } catch (Throwable t) {
+                    log.warn("Background refresh of {} failed: {}", key.operation(), t.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private CachedResult answer(Entry entry, ReadCacheStatus status, long now) {
+        counters.get(status).increment();
+        long age = Math.max(0, now - entry.loadedAt);
+        return new CachedResult(entry.value, status, TimeUnit.NANOSECONDS.toMillis(age),
+                                TimeUnit.NANOSECONDS.toMillis(ttlNanos - age));
+    }
+
+    private record Key(String operation, List<Object> arguments) {
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long loadedAt;
+        /**
+         * The cache generation when the load started
+         */
+        private final long generation;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Object value, long loadedAt, long generation) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Arrays;
+
+/**
+ * Answers {@link CachedRead} methods from the {@link ReadCache}. Ordered ahead of coalescing, so
+ * a cache hit takes no coalescing slot, bulkhead permit or connection. Calls inside an existing
+ * transaction bypass the cache, like coalescing, since they may need their own writes.
+ *
+ * <p>Within a web request the oldest answer is kept as a request attribute for the
+ * {@link CacheStatusResponseAdvice} to report.</p>
+ */
+@Aspect
+@Order(ReadCacheAspect.ORDER)
+public class ReadCacheAspect {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 300;
+
+    static final String RESULT_ATTRIBUTE = ReadCacheAspect.class.getName() + ".result";
+
+    private final ReadCache readCache;
+
+    public ReadCacheAspect(ReadCache readCache) {
+        this.readCache = readCache;
+    }
+
+    @Around("@annotation(uk.gov.hmcts.reform.dev.readcache.CachedRead)")
+    public Object read(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+            + "." + joinPoint.getSignature().getName();
+        CachedResult result = readCache.get(operation, Arrays.asList(joinPoint.getArgs()), joinPoint::proceed);
+        remember(result);
+        return result.value();
+    }
+
+    private static void remember(CachedResult result) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Object previous = attributes.getAttribute(RESULT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (previous instanceof CachedResult earlier && earlier.ageMillis() >= result.ageMillis()) {
+            return;
+        }
+        attributes.setAttribute(RESULT_ATTRIBUTE, result, RequestAttributes.SCOPE_REQUEST);
+    }
+}
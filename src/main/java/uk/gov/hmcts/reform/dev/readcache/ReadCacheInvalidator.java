@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksReassignedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+
+/**
+ * Invalidates the read cache once a write commits, so a client reads its own writes. The time to
+ * live then only bounds how stale reads can be relative to writes made by other instances.
+ */
+public class ReadCacheInvalidator {
+
+    private final ReadCache readCache;
+
+    public ReadCacheInvalidator(ReadCache readCache) {
+        this.readCache = readCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        readCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksRemoved(TasksRemovedEvent event) {
+        readCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksCreated(TasksCreatedEvent event) {
+        readCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        readCache.invalidateAll();
+    }
+}
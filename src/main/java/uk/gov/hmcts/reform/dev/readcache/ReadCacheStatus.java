@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+/**
+ * How a cached read was answered
+ */
+public enum ReadCacheStatus {
+    /**
+     * From the cache, within its time to live
+     */
+    FRESH,
+    /**
+     * From the cache past its time to live, while one background refresh runs
+     */
+    STALE,
+    /**
+     * From the database, then cached
+     */
+    MISS,
+    /**
+     * The last known result, because the circuit is open or the database call failed
+     */
+    FALLBACK
+}
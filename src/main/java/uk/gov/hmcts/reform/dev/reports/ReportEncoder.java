@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.dev.reports;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.ReportFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Encodes chunks of tasks as report rows. CSV follows RFC 4180 with a header line; NDJSON has
+ * one object per line with the same fields and date format as the JSON API. Thread-safe, so
+ * chunks can be encoded in parallel and concatenated in order.
+ */
+public class ReportEncoder {
+
+    static final String CSV_HEADER = "id,title,description,status,dueDate,createdDate,updatedDate\r\n";
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final ReportFormat format;
+    private final JsonFactory jsonFactory;
+
+    public ReportEncoder(ReportFormat format, JsonFactory jsonFactory) {
+        this.format = format;
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Bytes written once at the start of the file
+     */
+    public byte[] header() {
+        return format == ReportFormat.CSV ? CSV_HEADER.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    public byte[] encode(List<TaskEntity> tasks) throws IOException {
+        return format == ReportFormat.CSV ? encodeCsv(tasks) : encodeNdjson(tasks);
+    }
+
+    private static byte[] encodeCsv(List<TaskEntity> tasks) {
+        StringBuilder csv = new StringBuilder(tasks.size() * 160);
+        for (TaskEntity task : tasks) {
+            csv.append(task.getId()).append(',');
+            appendCsvField(csv, task.getTitle());
+            csv.append(',');
+            appendCsvField(csv, task.getDescription());
+            csv.append(',').append(task.getStatus().name()).append(',');
+            appendDateTime(csv, task.getDueDate());
+            csv.append(',');
+            appendDateTime(csv, task.getCreatedDate());
+            csv.append(',');
+            appendDateTime(csv, task.getUpdatedDate());
+            csv.append("\r\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] encodeNdjson(List<TaskEntity> tasks) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(tasks.size() * 200);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);  // the newline is written explicitly after each object
+            for (TaskEntity task : tasks) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", task.getId());
+                generator.writeStringField("title", task.getTitle());
+                generator.writeStringField("description", task.getDescription());
+                generator.writeStringField("status", task.getStatus().name());
+                generator.writeStringField("dueDate", format(task.getDueDate()));
+                generator.writeStringField("createdDate", format(task.getCreatedDate()));
+                generator.writeStringField("updatedDate", format(task.getUpdatedDate()));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void appendCsvField(StringBuilder csv, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            csv.append(value);
+            return;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+
+    private static void appendDateTime(StringBuilder csv, LocalDateTime value) {
+        if (value != null) {
+            DATE_TIME.formatTo(value, csv);
+        }
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? DATE_TIME.format(value) : null;
+    }
+}
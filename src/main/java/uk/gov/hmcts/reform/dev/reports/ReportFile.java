@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.reports;
+
+import java.nio.file.Path;
+
+/**
+ * A finished report file ready to be downloaded
+ */
+public record ReportFile(Path path, long length, String contentType, String fileName) {
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.reports;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sends a region of a file to the client without copying it through the heap. Under Tomcat's
+ * NIO connector the region is handed to the connector as a sendfile request, and Tomcat writes it
+ * to the socket with {@link FileChannel#transferTo} once the handler returns. Where sendfile is not
+ * available (another container, MockMvc) the region is transferred from the file channel to the
+ * response stream instead.
+ */
+public final class ZeroCopyFileTransfer {
+
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private ZeroCopyFileTransfer() {
+    }
+
+    /**
+     * Ask the container to send bytes [start, start + count) of the file after the handler returns.
+     * The caller must still set Content-Length and leave the response body empty.
+     *
+     * @return whether the container accepted; if not, use {@link #transfer}
+     */
+    public static boolean trySendfile(HttpServletRequest request, Path file, long start, long count) {
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED)) || !"GET".equals(request.getMethod())) {
+            return false;
+        }
+        request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+        request.setAttribute(SENDFILE_START, start);
+        request.setAttribute(SENDFILE_END, start + count);
+        return true;
+    }
+
+    /**
+     * Copy bytes [start, start + count) of the file to the stream
+     */
+    public static void transfer(Path file, long start, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new EOFException("File " + file + " ended before byte " + (start + count));
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.entities.ArchivedTaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTaskEntity, Long> {
+
+    /**
+     * Find archived tasks with a specific status
+     */
+    Page<ArchivedTaskEntity> findByStatus(TaskStatus status, Pageable pageable);
+
+    /**
+     * Copy live tasks into the archive in one statement
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tasks_archive "
+        + "(id, title, description, status, due_date, created_date, updated_date, case_id, assignee, archived_date) "
+        + "SELECT id, title, description, status, due_date, created_date, updated_date, case_id, assignee, "
+        + ":archivedDate "
+        + "FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromTasks(List<Long> ids, LocalDateTime archivedDate);
+
+    /**
+     * Copy an archived task back into the live table, marking it as updated now
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tasks "
+        + "(id, title, description, status, due_date, created_date, updated_date, case_id, assignee) "
+        + "SELECT id, title, description, status, due_date, created_date, :restoredDate, case_id, assignee "
+        + "FROM tasks_archive WHERE id = :id", nativeQuery = true)
+    int copyToTasks(Long id, LocalDateTime restoredDate);
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.entities.CaseEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CaseRepository extends JpaRepository<CaseEntity, Long> {
+
+    /**
+     * Find a case by its case number
+     */
+    Optional<CaseEntity> findByCaseNumber(String caseNumber);
+
+    /**
+     * Check whether a case number is already taken
+     */
+    boolean existsByCaseNumber(String caseNumber);
+
+    /**
+     * Find a case together with all of its tasks in a single join query
+     */
+    @Query("SELECT c FROM CaseEntity c LEFT JOIN FETCH c.tasks WHERE c.caseNumber = :caseNumber")
+    Optional<CaseEntity> findWithTasksByCaseNumber(String caseNumber);
+
+    /**
+     * One page of cases by case number, without a count query. Their tasks are
+     * batch-fetched on first access rather than joined, so the page limit stays in SQL.
+     */
+    List<CaseEntity> findAllByOrderByCaseNumberAsc(Pageable pageable);
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of one day/status row from the due date aggregate query
+ */
+public interface DueDateCount {
+    LocalDate getDay();
+
+    TaskStatus getStatus();
+
+    Long getTotal();
+
+    /**
+     * A row counted outside the database
+     */
+    record Row(LocalDate day, TaskStatus status, Long total) implements DueDateCount {
+
+        @Override
+        public LocalDate getDay() {
+            return day;
+        }
+
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public Long getTotal() {
+            return total;
+        }
+    }
+}
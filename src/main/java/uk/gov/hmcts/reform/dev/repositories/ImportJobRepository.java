@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.entities.ImportJobEntity;
+import uk.gov.hmcts.reform.dev.models.ImportJobStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJobEntity, String> {
+
+    /**
+     * Find imports in any of the statuses, oldest first
+     */
+    List<ImportJobEntity> findByStatusInOrderByCreatedDateAsc(Collection<ImportJobStatus> statuses);
+}
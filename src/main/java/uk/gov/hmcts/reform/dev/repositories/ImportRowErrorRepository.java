@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.entities.ImportRowErrorEntity;
+
+import java.util.List;
+
+@Repository
+public interface ImportRowErrorRepository extends JpaRepository<ImportRowErrorEntity, Long> {
+
+    /**
+     * A page of an import's rejected rows in row order
+     */
+    List<ImportRowErrorEntity> findByImportIdOrderByRowNumberAsc(String importId, Pageable pageable);
+}
@@ -0,0 +1,270 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.logstore.LogStructuredTaskStore;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * TaskStore over the log-structured store. Point operations go through the store's
+ * index; list and count queries scan the live tasks in memory, which is what the store keeps
+ * anyway, and sort on due date like the JPA queries.
+ */
+public class LogStructuredTaskRepository implements TaskStore {
+
+    private final LogStructuredTaskStore store;
+
+    public LogStructuredTaskRepository(LogStructuredTaskStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public <S extends TaskEntity> S save(S entity) {
+        if (entity.getCaseEntity() != null) {
+            // Cases live in the main database, which the log store knows nothing about
+            throw new IllegalArgumentException("Tasks cannot be linked to cases when the log store is enabled");
+        }
+        if (entity.getAssignee() != null) {
+            // The record format has no assignee field
+            throw new IllegalArgumentException("Tasks cannot be assigned when the log store is enabled");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (entity.getCreatedDate() == null) {
+            entity.setCreatedDate(now);
+        }
+        if (entity.getId() == null) {
+            entity.setUpdatedDate(entity.getUpdatedDate() != null ? entity.getUpdatedDate() : now);
+        } else {
+            entity.setUpdatedDate(now);
+        }
+        store.put(entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends TaskEntity> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<TaskEntity> findById(Long id) {
+        return Optional.ofNullable(store.get(requireId(id)));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return store.contains(requireId(id));
+    }
+
+    @Override
+    public List<TaskEntity> findAllById(Iterable<Long> ids) {
+        List<TaskEntity> found = new ArrayList<>();
+        for (Long id : ids) {
+            TaskEntity task = store.get(requireId(id));
+            if (task != null) {
+                found.add(task);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        store.delete(requireId(id));
+    }
+
+    @Override
+    public int claimIfPending(Long id, String assignee, LocalDateTime now) {
+        TaskEntity claimed = store.update(requireId(id), task -> {
+            if (task.getStatus() != TaskStatus.PENDING) {
+                return null;
+            }
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setAssignee(assignee);
+            task.setUpdatedDate(now);
+            return task;
+        });
+        return claimed != null ? 1 : 0;
+    }
+
+    @Override
+    public long count() {
+        return store.size();
+    }
+
+    @Override
+    public long countByStatus(TaskStatus status) {
+        long[] count = new long[1];
+        store.forEach(task -> {
+            if (task.getStatus() == status) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Override
+    public List<TaskEntity> findAll() {
+        return findAllByOrderByDueDateAsc();
+    }
+
+    @Override
+    public List<TaskEntity> findAllByOrderByDueDateAsc() {
+        return scan(task -> true);
+    }
+
+    @Override
+    public List<TaskEntity> findByStatusOrderByDueDateAsc(TaskStatus status) {
+        return scan(task -> task.getStatus() == status);
+    }
+
+    @Override
+    public List<TaskEntity> findOverdueTasks(LocalDateTime currentDate, List<TaskStatus> excludedStatuses) {
+        return scan(task -> task.getDueDate() != null && task.getDueDate().isBefore(currentDate)
+            && !excludedStatuses.contains(task.getStatus()));
+    }
+
+    @Override
+    public Page<TaskEntity> findByDueDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        List<TaskEntity> matching = scan(dueBetween(startDate, endDate));
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matching, pageable, matching.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), matching.size());
+        int to = Math.min(from + pageable.getPageSize(), matching.size());
+        return new PageImpl<>(new ArrayList<>(matching.subList(from, to)), pageable, matching.size());
+    }
+
+    @Override
+    public List<DueDateCount> countByDueDay(LocalDateTime from, LocalDateTime to) {
+        Map<DueDateCount, Long> totals = new TreeMap<>(ShardedTaskRepository.DUE_DAY_ORDER);
+        store.forEach(task -> {
+            LocalDateTime due = task.getDueDate();
+            if (due != null && !due.isBefore(from) && due.isBefore(to)) {
+                totals.merge(new DueDateCount.Row(due.toLocalDate(), task.getStatus(), 0L), 1L, Long::sum);
+            }
+        });
+        List<DueDateCount> counts = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> counts.add(new DueDateCount.Row(key.getDay(), key.getStatus(), total)));
+        return counts;
+    }
+
+    @Override
+    public List<TaskEntity> findByTitleOrDescriptionContainingIgnoreCase(String searchTerm) {
+        String term = searchTerm.toLowerCase();
+        return scan(task -> task.getTitle().toLowerCase().contains(term)
+            || task.getDescription() != null && task.getDescription().toLowerCase().contains(term));
+    }
+
+    @Override
+    public List<TaskColumnRow> findColumnsAfter(Long afterId, Pageable pageable) {
+        // Select the page on IDs alone, so only the page's records are decoded
+        int size = pageable.getPageSize();
+        PriorityQueue<Long> lowest = new PriorityQueue<>(size + 1, Comparator.reverseOrder());
+        for (Long id : store.ids()) {
+            if (id > afterId && (lowest.size() < size || id < lowest.peek())) {
+                lowest.add(id);
+                if (lowest.size() > size) {
+                    lowest.poll();
+                }
+            }
+        }
+        List<Long> ids = new ArrayList<>(lowest);
+        ids.sort(Comparator.naturalOrder());
+
+        List<TaskColumnRow> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TaskEntity task = store.get(id);
+            if (task != null) {
+                rows.add(new TaskColumnRow.Row(id, task.getStatus(), task.getDueDate()));
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public Page<TaskEntity> findByAssigneeAndStatusOrderByDueDateAscIdAsc(String assignee, TaskStatus status,
+                                                                          Pageable pageable) {
+        // save() rejects assignees, so no task belongs to anyone
+        return Page.empty(pageable);
+    }
+
+    @Override
+    public Page<TaskEntity> findByAssigneeOrderByDueDateAscIdAsc(String assignee, Pageable pageable) {
+        return Page.empty(pageable);
+    }
+
+    @Override
+    public List<TaskAssignmentRow> findAssignmentsAfter(Long afterId, Pageable pageable) {
+        // save() rejects assignees, so there are none to find
+        return List.of();
+    }
+
+    @Override
+    public int reassign(String from, String to, Collection<TaskStatus> statuses, LocalDateTime now) {
+        return 0;
+    }
+
+    @Override
+    public TaskIdRange findIdRange() {
+        Long minId = null;
+        Long maxId = null;
+        for (Long id : store.ids()) {
+            minId = minId == null ? id : Math.min(minId, id);
+            maxId = maxId == null ? id : Math.max(maxId, id);
+        }
+        return new TaskIdRange.Range(minId, maxId);
+    }
+
+    @Override
+    public List<TaskEntity> findByIdRange(Long fromId, Long toId, TaskStatus status) {
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (long id = fromId; id <= toId; id++) {
+            TaskEntity task = store.get(id);
+            if (task != null && (status == null || task.getStatus() == status)) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    private List<TaskEntity> scan(Predicate<TaskEntity> filter) {
+        List<TaskEntity> matching = new ArrayList<>();
+        store.forEach(task -> {
+            if (filter.test(task)) {
+                matching.add(task);
+            }
+        });
+        matching.sort(ShardedTaskRepository.DUE_DATE_ORDER);
+        return matching;
+    }
+
+    private static Predicate<TaskEntity> dueBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return task -> task.getDueDate() != null
+            && !task.getDueDate().isBefore(startDate) && !task.getDueDate().isAfter(endDate);
+    }
+
+    private static long requireId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+        return id;
+    }
+}
@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Non-blocking access to the tasks table over R2DBC, for the /api/v2 stack.
+ * Same table and columns as the JPA mapping; rows are streamed as the database produces them.
+ */
+public class ReactiveTaskRepository {
+
+    private static final String SELECT = "SELECT " + TaskEntityRowMapper.COLUMNS + " FROM tasks ";
+
+    private final DatabaseClient client;
+
+    public ReactiveTaskRepository(DatabaseClient client) {
+        this.client = client;
+    }
+
+    public Mono<TaskEntity> findById(long id) {
+        return client.sql(SELECT + "WHERE id = :id")
+            .bind("id", id)
+            .map(ReactiveTaskRepository::toEntity)
+            .one();
+    }
+
+    public Flux<TaskEntity> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return client.sql(SELECT + "WHERE id IN (:ids)")
+            .bind("ids", ids)
+            .map(ReactiveTaskRepository::toEntity)
+            .all();
+    }
+
+    public Flux<TaskEntity> findAllOrderByDueDate() {
+        return client.sql(SELECT + "ORDER BY due_date, id")
+            .map(ReactiveTaskRepository::toEntity)
+            .all();
+    }
+
+    public Flux<TaskEntity> findByStatusOrderByDueDate(TaskStatus status) {
+        return client.sql(SELECT + "WHERE status = :status ORDER BY due_date, id")
+            .bind("status", status.name())
+            .map(ReactiveTaskRepository::toEntity)
+            .all();
+    }
+
+    public Flux<TaskEntity> findByDueDateBetween(LocalDateTime from, LocalDateTime to, long offset, int limit) {
+        return client.sql(SELECT + "WHERE due_date BETWEEN :from AND :to ORDER BY due_date, id "
+                              + "LIMIT :limit OFFSET :offset")
+            .bind("from", from)
+            .bind("to", to)
+            .bind("limit", limit)
+            .bind("offset", offset)
+            .map(ReactiveTaskRepository::toEntity)
+            .all();
+    }
+
+    public Mono<Long> countByDueDateBetween(LocalDateTime from, LocalDateTime to) {
+        return client.sql("SELECT COUNT(*) FROM tasks WHERE due_date BETWEEN :from AND :to")
+            .bind("from", from)
+            .bind("to", to)
+            .map(row -> row.get(0, Long.class))
+            .one();
+    }
+
+    /**
+     * Tasks due per day and status in [from, to), like TaskRepository.countByDueDay
+     */
+    public Flux<DueDayCount> countByDueDay(LocalDateTime from, LocalDateTime to) {
+        return client.sql("SELECT CAST(due_date AS DATE) AS due_day, status, COUNT(*) AS total FROM tasks "
+                              + "WHERE due_date >= :from AND due_date < :to "
+                              + "GROUP BY CAST(due_date AS DATE), status ORDER BY due_day")
+            .bind("from", from)
+            .bind("to", to)
+            .map(row -> new DueDayCount(row.get("due_day", LocalDate.class),
+                                        TaskStatus.valueOf(row.get("status", String.class)),
+                                        row.get("total", Long.class)))
+            .all();
+    }
+
+    /**
+     * Insert a new task and return it with its generated ID
+     */
+    public Mono<TaskEntity> insert(TaskEntity entity) {
+        DatabaseClient.GenericExecuteSpec spec = client.sql(
+                "INSERT INTO tasks (title, description, status, due_date, assignee, created_date, updated_date) "
+                    + "VALUES (:title, :description, :status, :dueDate, :assignee, :createdDate, :updatedDate)")
+            .filter(statement -> statement.returnGeneratedValues("id"));
+        return bindColumns(spec, entity)
+            .bind("createdDate", entity.getCreatedDate())
+            .map(row -> row.get("id", Long.class))
+            .one()
+            .map(id -> {
+                entity.setId(id);
+                return entity;
+            });
+    }
+
+    /**
+     * Write every mutable column of an existing task
+     *
+     * @return whether a row was updated
+     */
+    public Mono<Boolean> update(TaskEntity entity) {
+        DatabaseClient.GenericExecuteSpec spec = client.sql(
+            "UPDATE tasks SET title = :title, description = :description, status = :status, "
+                + "due_date = :dueDate, assignee = :assignee, updated_date = :updatedDate WHERE id = :id");
+        return bindColumns(spec, entity)
+            .bind("id", entity.getId())
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    public Mono<Boolean> deleteById(long id) {
+        return client.sql("DELETE FROM tasks WHERE id = :id")
+            .bind("id", id)
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec,
+                                                                 TaskEntity entity) {
+        spec = spec.bind("title", entity.getTitle())
+            .bind("status", entity.getStatus().name())
+            .bind("updatedDate", entity.getUpdatedDate());
+        spec = entity.getDescription() != null
+            ? spec.bind("description", entity.getDescription())
+            : spec.bindNull("description", String.class);
+        spec = entity.getAssignee() != null
+            ? spec.bind("assignee", entity.getAssignee())
+            : spec.bindNull("assignee", String.class);
+        return entity.getDueDate() != null
+            ? spec.bind("dueDate", entity.getDueDate())
+            : spec.bindNull("dueDate", LocalDateTime.class);
+    }
+
+    private static TaskEntity toEntity(Readable row) {
+        TaskEntity entity = new TaskEntity();
+        entity.setId(row.get("id", Long.class));
+        entity.setTitle(row.get("title", String.class));
+        entity.setDescription(row.get("description", String.class));
+        entity.setStatus(TaskStatus.valueOf(row.get("status", String.class)));
+        entity.setDueDate(row.get("due_date", LocalDateTime.class));
+        entity.setCreatedDate(row.get("created_date", LocalDateTime.class));
+        entity.setUpdatedDate(row.get("updated_date", LocalDateTime.class));
+        entity.setAssignee(row.get("assignee", String.class));
+        return entity;
+    }
+
+    /**
+     * One row of the due-day aggregate
+     */
+    public record DueDayCount(LocalDate day, TaskStatus status, long total) {
+    }
+}
@@ -0,0 +1,628 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Partitions tasks across N databases by ID.
+ *
+ * <p>Each shard's identity column starts at {@code shardIndex + 1} and increments by N, so IDs are
+ * globally unique without coordination and {@code (id - 1) % N} names the owning shard. Point lookups
+ * and writes go to one shard; list and count queries run on every shard in parallel and the
+ * results are k-way merged on due date or summed.</p>
+ *
+ * <p>Inside a caller's transaction, point reads and writes on a shard share one connection with
+ * auto-commit off, committed just before the caller commits and rolled back with it. Point reads
+ * there lock the row, so a read-modify-write of a task is atomic. Scatter-gather reads run on
+ * other threads and see committed data only.</p>
+ */
+@Slf4j
+public class ShardedTaskRepository implements TaskStore {
+
+    static final Comparator<TaskEntity> DUE_DATE_ORDER = Comparator
+        .comparing(TaskEntity::getDueDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(TaskEntity::getId);
+
+    static final Comparator<DueDateCount> DUE_DAY_ORDER = Comparator
+        .comparing(DueDateCount::getDay)
+        .thenComparing(DueDateCount::getStatus);
+
+    private static final String SELECT = "SELECT " + TaskEntityRowMapper.COLUMNS + " FROM tasks";
+    private static final String ORDER_BY_DUE_DATE = " ORDER BY due_date ASC NULLS FIRST, id ASC";
+
+    private final List<DataSource> dataSources;
+    private final List<NamedParameterJdbcTemplate> shards;
+    private final ExecutorService scatterGatherExecutor;
+    private final AtomicLong nextInsertShard = new AtomicLong();
+
+    public ShardedTaskRepository(List<DataSource> shardDataSources, ExecutorService scatterGatherExecutor) {
+        if (shardDataSources.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.dataSources = List.copyOf(shardDataSources);
+        this.shards = dataSources.stream().map(NamedParameterJdbcTemplate::new).toList();
+        this.scatterGatherExecutor = scatterGatherExecutor;
+    }
+
+    /**
+     * Create the tasks table on every shard and check the shard layout has not changed
+     */
+    public void initialiseSchema() {
+        int shardCount = shards.size();
+        for (int i = 0; i < shardCount; i++) {
+            JdbcTemplate jdbc = shards.get(i).getJdbcTemplate();
+            jdbc.execute("CREATE TABLE IF NOT EXISTS task_shard (shard_index INT NOT NULL, shard_count INT NOT NULL)");
+            List<int[]> layout = jdbc.query("SELECT shard_index, shard_count FROM task_shard",
+                                            (rs, rowNum) -> new int[] {rs.getInt(1), rs.getInt(2)});
+            if (layout.isEmpty()) {
+                jdbc.update("INSERT INTO task_shard (shard_index, shard_count) VALUES (?, ?)", i, shardCount);
+            } else if (layout.get(0)[0] != i || layout.get(0)[1] != shardCount) {
+                throw new IllegalStateException(String.format(
+                    "Shard %d was created as shard %d of %d; re-sharding is not supported",
+                    i, layout.get(0)[0], layout.get(0)[1]));
+            }
+
+            jdbc.execute("CREATE TABLE IF NOT EXISTS tasks ("
+                             + "id BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH " + (i + 1)
+                             + " INCREMENT BY " + shardCount + ") PRIMARY KEY, "
+                             + "title VARCHAR(255) NOT NULL, "
+                             + "description VARCHAR(1000), "
+                             + "status VARCHAR(20) NOT NULL, "
+                             + "due_date TIMESTAMP, "
+                             + "created_date TIMESTAMP NOT NULL, "
+                             + "updated_date TIMESTAMP NOT NULL, "
+                             + "assignee VARCHAR(100))");
+            // Shards created before tasks had an assignee
+            jdbc.execute("ALTER TABLE tasks ADD COLUMN IF NOT EXISTS assignee VARCHAR(100)");
+            jdbc.execute("CREATE INDEX IF NOT EXISTS idx_tasks_due_date ON tasks (due_date)");
+            jdbc.execute("CREATE INDEX IF NOT EXISTS idx_tasks_status_due_date ON tasks (status, due_date)");
+            jdbc.execute("CREATE INDEX IF NOT EXISTS idx_tasks_assignee_status_due_date "
+                             + "ON tasks (assignee, status, due_date)");
+        }
+        log.info("Sharded task storage ready with {} shards", shardCount);
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * The shard that owns a task ID
+     */
+    public int shardFor(long id) {
+        return (int) Math.floorMod(id - 1, (long) shards.size());
+    }
+
+    @Override
+    public <S extends TaskEntity> S save(S entity) {
+        if (entity.getCaseEntity() != null) {
+            // Cases live in the main database; shard rows have no case column to point at them
+            throw new IllegalArgumentException("Tasks cannot be linked to cases when sharded storage is enabled");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (entity.getCreatedDate() == null) {
+            entity.setCreatedDate(now);
+        }
+        if (entity.getId() == null) {
+            entity.setUpdatedDate(entity.getUpdatedDate() != null ? entity.getUpdatedDate() : now);
+            insert(entity);
+            return entity;
+        }
+
+        entity.setUpdatedDate(now);
+        int updated = shard(entity.getId()).update(
+            "UPDATE tasks SET title = :title, description = :description, status = :status, "
+                + "due_date = :dueDate, updated_date = :updatedDate, assignee = :assignee WHERE id = :id",
+            parameters(entity));
+        if (updated == 0) {
+            // Deleted since it was read; inserting it again would bring it back
+            throw new OptimisticLockingFailureException("Task " + entity.getId() + " no longer exists");
+        }
+        return entity;
+    }
+
+    @Override
+    public <S extends TaskEntity> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        for (S entity : entities) {
+            saved.add(save(entity));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<TaskEntity> findById(Long id) {
+        // Lock the row for the rest of a read-write transaction, which is about to save it
+        String lock = TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? " FOR UPDATE" : "";
+        List<TaskEntity> found = shard(id).query(SELECT + " WHERE id = :id" + lock,
+                                                 new MapSqlParameterSource("id", id),
+                                                 TaskEntityRowMapper.INSTANCE);
+        return found.stream().findFirst();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Integer count = shard(id).queryForObject("SELECT COUNT(*) FROM tasks WHERE id = :id",
+                                                 new MapSqlParameterSource("id", id), Integer.class);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<TaskEntity> findAllById(Iterable<Long> ids) {
+        Map<Integer, List<Long>> idsByShard = new HashMap<>();
+        for (Long id : ids) {
+            idsByShard.computeIfAbsent(shardFor(id), k -> new ArrayList<>()).add(id);
+        }
+
+        List<CompletableFuture<List<TaskEntity>>> futures = new ArrayList<>();
+        idsByShard.forEach((shardIndex, shardIds) -> futures.add(CompletableFuture.supplyAsync(
+            () -> shards.get(shardIndex).query(SELECT + " WHERE id IN (:ids)",
+                                               new MapSqlParameterSource("ids", shardIds),
+                                               TaskEntityRowMapper.INSTANCE),
+            scatterGatherExecutor)));
+        List<TaskEntity> found = new ArrayList<>();
+        for (List<TaskEntity> shardResult : join(futures)) {
+            found.addAll(shardResult);
+        }
+        return found;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        shard(id).update("DELETE FROM tasks WHERE id = :id", new MapSqlParameterSource("id", id));
+    }
+
+    @Override
+    public int claimIfPending(Long id, String assignee, LocalDateTime now) {
+        return shard(id).update(
+            "UPDATE tasks SET status = :claimed, assignee = :assignee, updated_date = :now "
+                + "WHERE id = :id AND status = :pending",
+            new MapSqlParameterSource("id", id)
+                .addValue("assignee", assignee)
+                .addValue("now", now)
+                .addValue("claimed", TaskStatus.IN_PROGRESS.name())
+                .addValue("pending", TaskStatus.PENDING.name()));
+    }
+
+    @Override
+    public long count() {
+        return sum(shard -> shard.queryForObject("SELECT COUNT(*) FROM tasks", new MapSqlParameterSource(),
+                                                 Long.class));
+    }
+
+    @Override
+    public long countByStatus(TaskStatus status) {
+        return sum(shard -> shard.queryForObject("SELECT COUNT(*) FROM tasks WHERE status = :status",
+                                                 new MapSqlParameterSource("status", status.name()),
+                                                 Long.class));
+    }
+
+    @Override
+    public List<TaskEntity> findAll() {
+        return findAllByOrderByDueDateAsc();
+    }
+
+    @Override
+    public List<TaskEntity> findAllByOrderByDueDateAsc() {
+        return mergeByDueDate(scatter(SELECT + ORDER_BY_DUE_DATE, new MapSqlParameterSource()));
+    }
+
+    @Override
+    public List<TaskEntity> findByStatusOrderByDueDateAsc(TaskStatus status) {
+        return mergeByDueDate(scatter(SELECT + " WHERE status = :status" + ORDER_BY_DUE_DATE,
+                                      new MapSqlParameterSource("status", status.name())));
+    }
+
+    @Override
+    public List<TaskEntity> findOverdueTasks(LocalDateTime currentDate, List<TaskStatus> excludedStatuses) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("currentDate", Timestamp.valueOf(currentDate))
+            .addValue("excluded", excludedStatuses.stream().map(TaskStatus::name).toList());
+        return mergeByDueDate(scatter(SELECT + " WHERE due_date < :currentDate AND status NOT IN (:excluded)"
+                                          + ORDER_BY_DUE_DATE, params));
+    }
+
+    @Override
+    public Page<TaskEntity> findByDueDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("startDate", Timestamp.valueOf(startDate))
+            .addValue("endDate", Timestamp.valueOf(endDate));
+        return page(" WHERE due_date BETWEEN :startDate AND :endDate", params, pageable);
+    }
+
+    @Override
+    public List<DueDateCount> countByDueDay(LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("from", Timestamp.valueOf(from))
+            .addValue("to", Timestamp.valueOf(to));
+        List<CompletableFuture<List<DueDateCount>>> futures = new ArrayList<>(shards.size());
+        for (NamedParameterJdbcTemplate shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shard.query(
+                "SELECT CAST(due_date AS DATE) AS due_day, status, COUNT(*) AS total FROM tasks "
+                    + "WHERE due_date >= :from AND due_date < :to GROUP BY CAST(due_date AS DATE), status", params,
+                (rs, rowNum) -> new DueDateCount.Row(rs.getDate("due_day").toLocalDate(),
+                                                     TaskStatus.valueOf(rs.getString("status")),
+                                                     rs.getLong("total"))),
+                scatterGatherExecutor));
+        }
+        // The same day and status can be counted on every shard
+        Map<DueDateCount, Long> totals = new TreeMap<>(DUE_DAY_ORDER);
+        for (List<DueDateCount> shardCounts : join(futures)) {
+            shardCounts.forEach(count -> totals.merge(count, count.getTotal(), Long::sum));
+        }
+        List<DueDateCount> counts = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> counts.add(new DueDateCount.Row(key.getDay(), key.getStatus(), total)));
+        return counts;
+    }
+
+    @Override
+    public List<TaskEntity> findByTitleOrDescriptionContainingIgnoreCase(String searchTerm) {
+        MapSqlParameterSource params = new MapSqlParameterSource("term", "%" + searchTerm.toLowerCase() + "%");
+        return mergeByDueDate(scatter(SELECT + " WHERE LOWER(title) LIKE :term OR LOWER(description) LIKE :term"
+                                          + ORDER_BY_DUE_DATE, params));
+    }
+
+    @Override
+    public Page<TaskEntity> findByAssigneeAndStatusOrderByDueDateAscIdAsc(String assignee, TaskStatus status,
+                                                                          Pageable pageable) {
+        return page(" WHERE assignee = :assignee AND status = :status",
+                    new MapSqlParameterSource("assignee", assignee).addValue("status", status.name()), pageable);
+    }
+
+    @Override
+    public Page<TaskEntity> findByAssigneeOrderByDueDateAscIdAsc(String assignee, Pageable pageable) {
+        return page(" WHERE assignee = :assignee", new MapSqlParameterSource("assignee", assignee), pageable);
+    }
+
+    @Override
+    public List<TaskColumnRow> findColumnsAfter(Long afterId, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("afterId", afterId)
+            .addValue("limit", pageable.getPageSize());
+        List<CompletableFuture<List<TaskColumnRow>>> futures = new ArrayList<>(shards.size());
+        for (NamedParameterJdbcTemplate shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shard.query(
+                "SELECT id, status, due_date FROM tasks WHERE id > :afterId ORDER BY id LIMIT :limit", params,
+                (rs, rowNum) -> new TaskColumnRow.Row(
+                    rs.getLong("id"), TaskStatus.valueOf(rs.getString("status")),
+                    rs.getTimestamp("due_date") != null ? rs.getTimestamp("due_date").toLocalDateTime() : null)),
+                scatterGatherExecutor));
+        }
+        // Each shard returned its first page; the first page overall is the lowest IDs among them
+        List<TaskColumnRow> rows = new ArrayList<>();
+        join(futures).forEach(rows::addAll);
+        rows.sort(Comparator.comparing(TaskColumnRow::getId));
+        return rows.size() > pageable.getPageSize() ? rows.subList(0, pageable.getPageSize()) : rows;
+    }
+
+    @Override
+    public List<TaskAssignmentRow> findAssignmentsAfter(Long afterId, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("afterId", afterId)
+            .addValue("limit", pageable.getPageSize());
+        List<CompletableFuture<List<TaskAssignmentRow>>> futures = new ArrayList<>(shards.size());
+        for (NamedParameterJdbcTemplate shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shard.query(
+                "SELECT id, assignee, status FROM tasks WHERE assignee IS NOT NULL AND id > :afterId "
+                    + "ORDER BY id LIMIT :limit", params,
+                (rs, rowNum) -> new TaskAssignmentRow.Row(
+                    rs.getLong("id"), rs.getString("assignee"), TaskStatus.valueOf(rs.getString("status")))),
+                scatterGatherExecutor));
+        }
+        List<TaskAssignmentRow> rows = new ArrayList<>();
+        join(futures).forEach(rows::addAll);
+        rows.sort(Comparator.comparing(TaskAssignmentRow::getId));
+        return rows.size() > pageable.getPageSize() ? rows.subList(0, pageable.getPageSize()) : rows;
+    }
+
+    @Override
+    public int reassign(String from, String to, Collection<TaskStatus> statuses, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource("from", from)
+            .addValue("to", to)
+            .addValue("statuses", statuses.stream().map(TaskStatus::name).toList())
+            .addValue("now", Timestamp.valueOf(now));
+        // One UPDATE per shard, on this thread so each joins the caller's transaction
+        int moved = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            moved += enlist(i).update("UPDATE tasks SET assignee = :to, updated_date = :now "
+                                          + "WHERE assignee = :from AND status IN (:statuses)", params);
+        }
+        return moved;
+    }
+
+    @Override
+    public TaskIdRange findIdRange() {
+        List<CompletableFuture<TaskIdRange>> futures = new ArrayList<>(shards.size());
+        for (NamedParameterJdbcTemplate shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shard.queryForObject(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM tasks", new MapSqlParameterSource(),
+                (rs, rowNum) -> new TaskIdRange.Range(rs.getObject("min_id", Long.class),
+                                                      rs.getObject("max_id", Long.class))),
+                scatterGatherExecutor));
+        }
+        Long minId = null;
+        Long maxId = null;
+        for (TaskIdRange range : join(futures)) {
+            if (range.getMinId() != null) {
+                minId = minId == null ? range.getMinId() : Math.min(minId, range.getMinId());
+                maxId = maxId == null ? range.getMaxId() : Math.max(maxId, range.getMaxId());
+            }
+        }
+        return new TaskIdRange.Range(minId, maxId);
+    }
+
+    @Override
+    public List<TaskEntity> findByIdRange(Long fromId, Long toId, TaskStatus status) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("fromId", fromId)
+            .addValue("toId", toId);
+        String sql = SELECT + " WHERE id BETWEEN :fromId AND :toId";
+        if (status != null) {
+            sql += " AND status = :status";
+            params.addValue("status", status.name());
+        }
+        List<TaskEntity> tasks = new ArrayList<>();
+        scatter(sql, params).forEach(tasks::addAll);
+        tasks.sort(Comparator.comparing(TaskEntity::getId));
+        return tasks;
+    }
+
+    /**
+     * Merge per-shard lists that are each already sorted by due date
+     */
+    static List<TaskEntity> mergeByDueDate(List<List<TaskEntity>> sortedRuns) {
+        int total = 0;
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(
+            Math.max(1, sortedRuns.size()), (a, b) -> DUE_DATE_ORDER.compare(a.current(), b.current()));
+        for (List<TaskEntity> run : sortedRuns) {
+            total += run.size();
+            if (!run.isEmpty()) {
+                heads.add(new Cursor(run));
+            }
+        }
+
+        List<TaskEntity> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Cursor head = heads.poll();
+            merged.add(head.current());
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private void insert(TaskEntity entity) {
+        int shardIndex = (int) Math.floorMod(nextInsertShard.getAndIncrement(), (long) shards.size());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        enlist(shardIndex).getJdbcTemplate().update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO tasks (title, description, status, due_date, created_date, updated_date, assignee) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)", new String[] {"id"});
+            ps.setString(1, entity.getTitle());
+            ps.setString(2, entity.getDescription());
+            ps.setString(3, entity.getStatus().name());
+            ps.setTimestamp(4, entity.getDueDate() != null ? Timestamp.valueOf(entity.getDueDate()) : null);
+            ps.setTimestamp(5, Timestamp.valueOf(entity.getCreatedDate()));
+            ps.setTimestamp(6, Timestamp.valueOf(entity.getUpdatedDate()));
+            ps.setString(7, entity.getAssignee());
+            return ps;
+        }, keyHolder);
+        entity.setId(keyHolder.getKey().longValue());
+    }
+
+    private NamedParameterJdbcTemplate shard(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+        return enlist(shardFor(id));
+    }
+
+    /**
+     * A shard's template, with the shard joined to the caller's transaction if there is one
+     */
+    private NamedParameterJdbcTemplate enlist(int shardIndex) {
+        DataSource dataSource = dataSources.get(shardIndex);
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+            && !TransactionSynchronizationManager.hasResource(dataSource)) {
+            ShardTransaction transaction = ShardTransaction.begin(dataSource);
+            TransactionSynchronizationManager.bindResource(dataSource, transaction.holder);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        return shards.get(shardIndex);
+    }
+
+    private List<List<TaskEntity>> scatter(String sql, MapSqlParameterSource params) {
+        List<CompletableFuture<List<TaskEntity>>> futures = new ArrayList<>(shards.size());
+        for (NamedParameterJdbcTemplate shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(
+                () -> shard.query(sql, params, TaskEntityRowMapper.INSTANCE), scatterGatherExecutor));
+        }
+        return join(futures);
+    }
+
+    /**
+     * One page in due date order. Each shard returns its first offset + size rows, since any of them
+     * could land on the page, and the merged runs are sliced; the total is summed from per-shard counts.
+     */
+    private Page<TaskEntity> page(String where, MapSqlParameterSource params, Pageable pageable) {
+        String sql = SELECT + where + ORDER_BY_DUE_DATE;
+        if (pageable.isPaged()) {
+            sql += " LIMIT :limit";
+            params.addValue("limit", pageable.getOffset() + pageable.getPageSize());
+        }
+        List<TaskEntity> merged = mergeByDueDate(scatter(sql, params));
+        long total = sum(shard -> shard.queryForObject("SELECT COUNT(*) FROM tasks" + where, params, Long.class));
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(merged, pageable, total);
+        }
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable, total);
+    }
+
+    private long sum(Function<NamedParameterJdbcTemplate, Long> query) {
+        List<CompletableFuture<Long>> futures = new ArrayList<>(shards.size());
+        for (NamedParameterJdbcTemplate shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> query.apply(shard), scatterGatherExecutor));
+        }
+        long total = 0;
+        for (Long count : join(futures)) {
+            total += count != null ? count : 0L;
+        }
+        return total;
+    }
+
+    private static <T> List<T> join(List<CompletableFuture<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private static MapSqlParameterSource parameters(TaskEntity entity) {
+        return new MapSqlParameterSource()
+            .addValue("id", entity.getId())
+            .addValue("title", entity.getTitle())
+            .addValue("description", entity.getDescription())
+            .addValue("status", entity.getStatus().name())
+            .addValue("dueDate", entity.getDueDate() != null ? Timestamp.valueOf(entity.getDueDate()) : null)
+            .addValue("createdDate", Timestamp.valueOf(entity.getCreatedDate()))
+            .addValue("updatedDate", Timestamp.valueOf(entity.getUpdatedDate()))
+            .addValue("assignee", entity.getAssignee());
+    }
+
+    /**
+     * One shard's connection for the length of a caller's transaction. JdbcTemplate finds it bound to
+     * the thread, so every statement on the shard uses it. Shards commit one at a time before the
+     * caller; if one fails the caller and any shards not yet committed roll back.
+     */
+    private static final class ShardTransaction implements TransactionSynchronization {
+        private final DataSource dataSource;
+        private final ConnectionHolder holder;
+
+        private ShardTransaction(DataSource dataSource, Connection connection) {
+            this.dataSource = dataSource;
+            this.holder = new ConnectionHolder(connection);
+            this.holder.setSynchronizedWithTransaction(true);
+        }
+
+        private static ShardTransaction begin(DataSource dataSource) {
+            Connection connection = null;
+            try {
+                connection = dataSource.getConnection();
+                connection.setAutoCommit(false);
+                return new ShardTransaction(dataSource, connection);
+            } catch (SQLException e) {
+                close(connection);
+                throw new CannotCreateTransactionException("Could not begin a shard transaction", e);
+            }
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(dataSource, holder);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                holder.getConnection().commit();
+            } catch (SQLException e) {
+                throw new TransactionSystemException("Could not commit a shard transaction", e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+            Connection connection = holder.getConnection();
+            try {
+                // After a successful beforeCommit there is nothing left to roll back
+                if (status != STATUS_COMMITTED) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("Could not roll back a shard transaction", e);
+            } finally {
+                close(connection);
+            }
+        }
+
+        private static void close(Connection connection) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Could not close a shard connection", e);
+                }
+            }
+        }
+    }
+
+    private static final class Cursor {
+        private final List<TaskEntity> run;
+        private int index;
+
+        private Cursor(List<TaskEntity> run) {
+            this.run = run;
+        }
+
+        private TaskEntity current() {
+            return run.get(index);
+        }
+
+        private boolean advance() {
+            return ++index < run.size();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+/**
+ * Projection of who a task is assigned to and its status, for the per-assignee counts
+ */
+public interface TaskAssignmentRow {
+    Long getId();
+
+    String getAssignee();
+
+    TaskStatus getStatus();
+
+    /**
+     * A row read without JPA
+     */
+    record Row(Long id, String assignee, TaskStatus status) implements TaskAssignmentRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getAssignee() {
+            return assignee;
+        }
+
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+    }
+}
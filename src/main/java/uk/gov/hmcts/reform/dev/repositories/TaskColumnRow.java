@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the columns the analytical snapshot keeps for each task
+ */
+public interface TaskColumnRow {
+    Long getId();
+
+    TaskStatus getStatus();
+
+    LocalDateTime getDueDate();
+
+    /**
+     * A row read without JPA
+     */
+    record Row(Long id, TaskStatus status, LocalDateTime dueDate) implements TaskColumnRow {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public LocalDateTime getDueDate() {
+            return dueDate;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.jdbc.core.RowMapper;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Maps a row of the tasks table to a TaskEntity for the JDBC-based stores
+ */
+public class TaskEntityRowMapper implements RowMapper<TaskEntity> {
+
+    public static final TaskEntityRowMapper INSTANCE = new TaskEntityRowMapper();
+
+    public static final String COLUMNS =
+        "id, title, description, status, due_date, created_date, updated_date, assignee";
+
+    @Override
+    public TaskEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
+        TaskEntity entity = new TaskEntity();
+        entity.setId(rs.getLong("id"));
+        entity.setTitle(rs.getString("title"));
+        entity.setDescription(rs.getString("description"));
+        entity.setStatus(TaskStatus.valueOf(rs.getString("status")));
+        entity.setDueDate(rs.getObject("due_date", LocalDateTime.class));
+        entity.setCreatedDate(rs.getObject("created_date", LocalDateTime.class));
+        entity.setUpdatedDate(rs.getObject("updated_date", LocalDateTime.class));
+        entity.setAssignee(rs.getString("assignee"));
+        return entity;
+    }
+}
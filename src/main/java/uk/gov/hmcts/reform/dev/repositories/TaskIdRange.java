@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+/**
+ * Projection of the lowest and highest task IDs; both null when there are no tasks
+ */
+public interface TaskIdRange {
+    Long getMinId();
+
+    Long getMaxId();
+
+    /**
+     * A range computed outside the database
+     */
+    record Range(Long minId, Long maxId) implements TaskIdRange {
+
+        @Override
+        public Long getMinId() {
+            return minId;
+        }
+
+        @Override
+        public Long getMaxId() {
+            return maxId;
+        }
+    }
+}
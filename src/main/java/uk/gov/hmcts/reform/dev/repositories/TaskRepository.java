@@ -1,51 +1,126 @@
 package uk.gov.hmcts.reform.dev.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.entities.TaskEntity;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * JPA task storage. The queries shared with the other backends are declared on TaskStore; the
+ * ones redeclared here carry their JPQL.
+ */
 @Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
-    
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, TaskStore {
+
+    // Declared by both CrudRepository and TaskStore with different erasures; redeclared so calls
+    // through TaskRepository are not ambiguous. Spring Data still routes them to SimpleJpaRepository.
+
+    <S extends TaskEntity> S save(S entity);
+
+    Optional<TaskEntity> findById(Long id);
+
+    boolean existsById(Long id);
+
+    void deleteById(Long id);
+
     /**
      * Find all tasks with a specific status
      */
     List<TaskEntity> findByStatus(TaskStatus status);
     
-    /**
-     * Find all tasks ordered by due date
-     */
-    List<TaskEntity> findAllByOrderByDueDateAsc();
-    
     /**
      * Find overdue tasks (due date is before current date and status is not COMPLETED or CANCELLED)
      */
     @Query("SELECT t FROM TaskEntity t WHERE t.dueDate < :currentDate AND t.status NOT IN (:excludedStatuses)")
     List<TaskEntity> findOverdueTasks(LocalDateTime currentDate, List<TaskStatus> excludedStatuses);
     
-    /**
-     * Find tasks by status ordered by due date
-     */
-    List<TaskEntity> findByStatusOrderByDueDateAsc(TaskStatus status);
-    
     /**
      * Find tasks due between two dates
      */
     List<TaskEntity> findByDueDateBetween(LocalDateTime startDate, LocalDateTime endDate);
-    
+
     /**
-     * Count tasks by status
+     * Count tasks per due day and status in [from, to), without loading any entities
      */
-    long countByStatus(TaskStatus status);
+    @Query("SELECT CAST(t.dueDate AS LocalDate) AS day, t.status AS status, COUNT(t) AS total FROM TaskEntity t "
+        + "WHERE t.dueDate >= :from AND t.dueDate < :to "
+        + "GROUP BY CAST(t.dueDate AS LocalDate), t.status ORDER BY CAST(t.dueDate AS LocalDate)")
+    List<DueDateCount> countByDueDay(LocalDateTime from, LocalDateTime to);
     
+    /**
+     * Read the next page of task assignments after a task ID, in ID order, without loading entities
+     */
+    @Query("SELECT t.id AS id, t.assignee AS assignee, t.status AS status FROM TaskEntity t "
+        + "WHERE t.assignee IS NOT NULL AND t.id > :afterId ORDER BY t.id")
+    List<TaskAssignmentRow> findAssignmentsAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Move one assignee's tasks with the given statuses to another assignee, or unassign them
+     * when {@code to} is null, in one statement
+     *
+     * @return the number of tasks moved
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.assignee = :to, t.updatedDate = :now "
+        + "WHERE t.assignee = :from AND t.status IN (:statuses)")
+    int reassign(String from, String to, Collection<TaskStatus> statuses, LocalDateTime now);
+
     /**
      * Find tasks containing title or description (case-insensitive)
      */
     @Query("SELECT t FROM TaskEntity t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<TaskEntity> findByTitleOrDescriptionContainingIgnoreCase(String searchTerm);
+
+    /**
+     * Read the next page of analytical snapshot columns after a task ID, in ID order,
+     * without loading entities
+     */
+    @Query("SELECT t.id AS id, t.status AS status, t.dueDate AS dueDate FROM TaskEntity t "
+        + "WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskColumnRow> findColumnsAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Lowest and highest task IDs, or nulls when there are no tasks
+     */
+    @Query("SELECT MIN(t.id) AS minId, MAX(t.id) AS maxId FROM TaskEntity t")
+    TaskIdRange findIdRange();
+
+    /**
+     * Find tasks with IDs in [fromId, toId], optionally only those with a status, in ID order
+     */
+    @Query("SELECT t FROM TaskEntity t WHERE t.id BETWEEN :fromId AND :toId "
+        + "AND (:status IS NULL OR t.status = :status) ORDER BY t.id")
+    List<TaskEntity> findByIdRange(Long fromId, Long toId, TaskStatus status);
+
+    /**
+     * Find IDs of closed tasks last updated before the cutoff, oldest IDs first
+     */
+    @Query("SELECT t.id FROM TaskEntity t WHERE t.status IN (:statuses) AND t.updatedDate < :cutoff ORDER BY t.id")
+    List<Long> findArchivableIds(List<TaskStatus> statuses, LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Delete tasks by ID in one statement
+     */
+    @Modifying
+    @Query("DELETE FROM TaskEntity t WHERE t.id IN (:ids)")
+    int deleteAllByIdIn(List<Long> ids);
+
+    /**
+     * Move a task from PENDING to IN_PROGRESS and assign it to the claimer, only if it is still PENDING
+     *
+     * @return 1 if this call claimed the task, 0 if it was no longer pending
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.status = uk.gov.hmcts.reform.dev.models.TaskStatus.IN_PROGRESS, "
+        + "t.assignee = :assignee, t.updatedDate = :now "
+        + "WHERE t.id = :id AND t.status = uk.gov.hmcts.reform.dev.models.TaskStatus.PENDING")
+    int claimIfPending(Long id, String assignee, LocalDateTime now);
 }
\ No newline at end of file
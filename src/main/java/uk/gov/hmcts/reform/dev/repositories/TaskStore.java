@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The task operations every storage backend supports: the JPA TaskRepository, sharded storage
+ * and the log-structured store. Services that run whichever backend is enabled depend on this;
+ * features that need JPA (the archive, batches, /api/v2) use TaskRepository and are only created
+ * on the JPA store.
+ */
+public interface TaskStore {
+
+    /**
+     * Insert a task when it has no ID, otherwise update it
+     */
+    <S extends TaskEntity> S save(S entity);
+
+    /**
+     * Save tasks in order
+     */
+    <S extends TaskEntity> List<S> saveAll(Iterable<S> entities);
+
+    /**
+     * Find a task by ID
+     */
+    Optional<TaskEntity> findById(Long id);
+
+    /**
+     * Whether a task with the ID exists
+     */
+    boolean existsById(Long id);
+
+    /**
+     * Find the tasks with the given IDs that exist, in no particular order
+     */
+    List<TaskEntity> findAllById(Iterable<Long> ids);
+
+    /**
+     * Find all tasks
+     */
+    List<TaskEntity> findAll();
+
+    /**
+     * Delete a task by ID; nothing happens if it does not exist
+     */
+    void deleteById(Long id);
+
+    /**
+     * Count all tasks
+     */
+    long count();
+
+    /**
+     * Count tasks by status
+     */
+    long countByStatus(TaskStatus status);
+
+    /**
+     * Find all tasks ordered by due date
+     */
+    List<TaskEntity> findAllByOrderByDueDateAsc();
+
+    /**
+     * Find tasks by status ordered by due date
+     */
+    List<TaskEntity> findByStatusOrderByDueDateAsc(TaskStatus status);
+
+    /**
+     * Find tasks due before the date whose status is not excluded
+     */
+    List<TaskEntity> findOverdueTasks(LocalDateTime currentDate, List<TaskStatus> excludedStatuses);
+
+    /**
+     * Find a page of tasks due between two dates (inclusive)
+     */
+    Page<TaskEntity> findByDueDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    /**
+     * Count tasks per due day and status in [from, to), ordered by day
+     */
+    List<DueDateCount> countByDueDay(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Find tasks containing the term in their title or description (case-insensitive)
+     */
+    List<TaskEntity> findByTitleOrDescriptionContainingIgnoreCase(String searchTerm);
+
+    /**
+     * Find a page of one assignee's tasks with a status, in due-date order
+     */
+    Page<TaskEntity> findByAssigneeAndStatusOrderByDueDateAscIdAsc(String assignee, TaskStatus status,
+                                                                   Pageable pageable);
+
+    /**
+     * Find a page of all of one assignee's tasks in due-date order
+     */
+    Page<TaskEntity> findByAssigneeOrderByDueDateAscIdAsc(String assignee, Pageable pageable);
+
+    /**
+     * Read the next page of task assignments after a task ID, in ID order
+     */
+    List<TaskAssignmentRow> findAssignmentsAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Move one assignee's tasks with the given statuses to another assignee, or unassign them
+     * when {@code to} is null
+     *
+     * @return the number of tasks moved
+     */
+    int reassign(String from, String to, Collection<TaskStatus> statuses, LocalDateTime now);
+
+    /**
+     * Read the next page of analytical snapshot columns after a task ID, in ID order
+     */
+    List<TaskColumnRow> findColumnsAfter(Long afterId, Pageable pageable);
+
+    /**
+     * Lowest and highest task IDs, or nulls when there are no tasks
+     */
+    TaskIdRange findIdRange();
+
+    /**
+     * Find tasks with IDs in [fromId, toId], optionally only those with a status, in ID order
+     */
+    List<TaskEntity> findByIdRange(Long fromId, Long toId, TaskStatus status);
+
+    /**
+     * Move a task from PENDING to IN_PROGRESS and assign it to the claimer, only if it is still PENDING
+     *
+     * @return 1 if this call claimed the task, 0 if it was no longer pending
+     */
+    int claimIfPending(Long id, String assignee, LocalDateTime now);
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+/**
+ * One row of the transition log: a task moving from one status to another.
+ * {@code fromStatus} is null for the transition that created the task.
+ */
+public record TaskTransition(long taskId, TaskStatus fromStatus, TaskStatus toStatus, long atMillis) {
+}
@@ -0,0 +1,207 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only status transition log plus the rollup tables it feeds. Log rows are four numbers:
+ * task ID, from/to status codes and an epoch-millisecond timestamp. Nothing is ever updated or
+ * deleted in the log; reads for analytics only touch the much smaller rollup tables.
+ */
+@Slf4j
+public class TaskTransitionRepository {
+
+    /**
+     * Persisted status codes, by position. Append new statuses; never reorder.
+     */
+    static final List<TaskStatus> STATUS_CODES = List.of(
+        TaskStatus.PENDING, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public TaskTransitionRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Create the log and rollup tables if they do not exist yet
+     */
+    public void initialiseSchema() {
+        JdbcTemplate ddl = jdbc.getJdbcTemplate();
+        ddl.execute("CREATE TABLE IF NOT EXISTS task_transitions ("
+                        + "task_id BIGINT NOT NULL, "
+                        + "from_status TINYINT, "
+                        + "to_status TINYINT NOT NULL, "
+                        + "at_millis BIGINT NOT NULL)");
+        ddl.execute("CREATE INDEX IF NOT EXISTS idx_task_transitions_task ON task_transitions (task_id, at_millis)");
+        ddl.execute("CREATE TABLE IF NOT EXISTS task_status_time_rollup ("
+                        + "event_day DATE NOT NULL, "
+                        + "status TINYINT NOT NULL, "
+                        + "duration_bucket SMALLINT NOT NULL, "
+                        + "transitions BIGINT NOT NULL, "
+                        + "total_millis BIGINT NOT NULL, "
+                        + "PRIMARY KEY (event_day, status, duration_bucket))");
+        ddl.execute("CREATE TABLE IF NOT EXISTS task_throughput_rollup ("
+                        + "event_day DATE NOT NULL, "
+                        + "status TINYINT NOT NULL, "
+                        + "transitions BIGINT NOT NULL, "
+                        + "PRIMARY KEY (event_day, status))");
+        log.info("Task transition log ready");
+    }
+
+    /**
+     * Append transitions to the log in one JDBC batch
+     */
+    public void append(List<TaskTransition> transitions) {
+        SqlParameterSource[] rows = transitions.stream()
+            .map(transition -> new MapSqlParameterSource()
+                .addValue("taskId", transition.taskId())
+                .addValue("fromStatus", code(transition.fromStatus()), Types.TINYINT)
+                .addValue("toStatus", code(transition.toStatus()), Types.TINYINT)
+                .addValue("atMillis", transition.atMillis()))
+            .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("INSERT INTO task_transitions (task_id, from_status, to_status, at_millis) "
+                             + "VALUES (:taskId, :fromStatus, :toStatus, :atMillis)", rows);
+    }
+
+    /**
+     * Time of the latest logged transition of each task, i.e. when it entered its current status.
+     * Tasks with no logged transitions are absent from the result.
+     */
+    public Map<Long, Long> findLastTransitionTimes(Collection<Long> taskIds) {
+        Map<Long, Long> lastTimes = new HashMap<>();
+        List<Long> ids = new ArrayList<>(taskIds);
+        for (int start = 0; start < ids.size(); start += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(start + LOOKUP_CHUNK_SIZE, ids.size()));
+            jdbc.query("SELECT task_id, MAX(at_millis) FROM task_transitions WHERE task_id IN (:ids) GROUP BY task_id",
+                       new MapSqlParameterSource("ids", chunk),
+                       rs -> {
+                           lastTimes.put(rs.getLong(1), rs.getLong(2));
+                       });
+        }
+        return lastTimes;
+    }
+
+    /**
+     * Logged transitions of one task, oldest first
+     */
+    public List<TaskTransition> findByTaskId(long taskId) {
+        return jdbc.query("SELECT task_id, from_status, to_status, at_millis FROM task_transitions "
+                              + "WHERE task_id = :taskId ORDER BY at_millis",
+                          new MapSqlParameterSource("taskId", taskId),
+                          (rs, rowNum) -> new TaskTransition(
+                              rs.getLong(1),
+                              status((Number) rs.getObject(2)),
+                              status((Number) rs.getObject(3)),
+                              rs.getLong(4)));
+    }
+
+    /**
+     * Add increments to the time-in-status rollup, creating rows as needed
+     */
+    public void addTimeInStatus(Collection<TimeInStatusRollup> increments) {
+        List<MapSqlParameterSource> rows = increments.stream()
+            .map(increment -> new MapSqlParameterSource()
+                .addValue("day", Date.valueOf(increment.day()))
+                .addValue("status", code(increment.status()), Types.TINYINT)
+                .addValue("bucket", increment.bucket())
+                .addValue("transitions", increment.transitions())
+                .addValue("totalMillis", increment.totalMillis()))
+            .toList();
+        upsert("UPDATE task_status_time_rollup SET transitions = transitions + :transitions, "
+                   + "total_millis = total_millis + :totalMillis "
+                   + "WHERE event_day = :day AND status = :status AND duration_bucket = :bucket",
+               "INSERT INTO task_status_time_rollup (event_day, status, duration_bucket, transitions, total_millis) "
+                   + "VALUES (:day, :status, :bucket, :transitions, :totalMillis)",
+               rows);
+    }
+
+    /**
+     * Add increments to the throughput rollup, creating rows as needed
+     */
+    public void addThroughput(Collection<ThroughputRollup> increments) {
+        List<MapSqlParameterSource> rows = increments.stream()
+            .map(increment -> new MapSqlParameterSource()
+                .addValue("day", Date.valueOf(increment.day()))
+                .addValue("status", code(increment.status()), Types.TINYINT)
+                .addValue("transitions", increment.transitions()))
+            .toList();
+        upsert("UPDATE task_throughput_rollup SET transitions = transitions + :transitions "
+                   + "WHERE event_day = :day AND status = :status",
+               "INSERT INTO task_throughput_rollup (event_day, status, transitions) "
+                   + "VALUES (:day, :status, :transitions)",
+               rows);
+    }
+
+    /**
+     * Time-in-status totals per status and duration bucket for the days in [from, to]
+     */
+    public List<TimeInStatusRollup> sumTimeInStatus(LocalDate from, LocalDate to) {
+        return jdbc.query("SELECT status, duration_bucket, SUM(transitions), SUM(total_millis) "
+                              + "FROM task_status_time_rollup WHERE event_day BETWEEN :from AND :to "
+                              + "GROUP BY status, duration_bucket ORDER BY status, duration_bucket",
+                          range(from, to),
+                          (rs, rowNum) -> new TimeInStatusRollup(
+                              null, status(rs.getInt(1)), rs.getInt(2), rs.getLong(3), rs.getLong(4)));
+    }
+
+    /**
+     * Throughput per day and target status for the days in [from, to], by day
+     */
+    public List<ThroughputRollup> findThroughput(LocalDate from, LocalDate to) {
+        return jdbc.query("SELECT event_day, status, transitions FROM task_throughput_rollup "
+                              + "WHERE event_day BETWEEN :from AND :to ORDER BY event_day, status",
+                          range(from, to),
+                          (rs, rowNum) -> new ThroughputRollup(
+                              rs.getDate(1).toLocalDate(), status(rs.getInt(2)), rs.getLong(3)));
+    }
+
+    /**
+     * Increment existing rows in one batch, then insert the rows that were not there.
+     * Callers write rollups from a single flushing thread, so no row is inserted twice.
+     */
+    private void upsert(String updateSql, String insertSql, List<MapSqlParameterSource> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int[] updated = jdbc.batchUpdate(updateSql, rows.toArray(SqlParameterSource[]::new));
+        List<MapSqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(rows.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbc.batchUpdate(insertSql, missing.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    private static MapSqlParameterSource range(LocalDate from, LocalDate to) {
+        return new MapSqlParameterSource()
+            .addValue("from", Date.valueOf(from))
+            .addValue("to", Date.valueOf(to));
+    }
+
+    private static Integer code(TaskStatus status) {
+        return status != null ? STATUS_CODES.indexOf(status) : null;
+    }
+
+    private static TaskStatus status(Number code) {
+        return code != null ? STATUS_CODES.get(code.intValue()) : null;
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * How many tasks moved into {@code status} on {@code day}. Written as increments, read as totals.
+ */
+public record ThroughputRollup(LocalDate day, TaskStatus status, long transitions) {
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * How many times tasks left {@code status} on {@code day} after spending a duration that falls
+ * in {@code bucket}, and the sum of those durations. Written as increments, read as totals.
+ */
+public record TimeInStatusRollup(LocalDate day, TaskStatus status, int bucket, long transitions, long totalMillis) {
+}
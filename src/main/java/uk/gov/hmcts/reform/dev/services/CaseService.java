@@ -0,0 +1,164 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.entities.CaseEntity;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+import uk.gov.hmcts.reform.dev.workload.Workload;
+import uk.gov.hmcts.reform.dev.workload.WorkloadClass;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cases and the tasks filed against them. Every read here runs a fixed number of queries
+ * however many cases and tasks are involved: one join query for a single case, and one query
+ * for a page of cases plus one batch query for all of their tasks.
+ */
+@Service
+@Transactional
+@Slf4j
+public class CaseService {
+
+    static final int MAX_PAGE_SIZE = CaseEntity.TASK_BATCH_SIZE;
+    static final String DEFAULT_STATUS = "Open";
+    static final int MAX_CASE_NUMBER_LENGTH = 50;
+    static final int MAX_TITLE_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 1000;
+    static final int MAX_STATUS_LENGTH = 50;
+
+    static final Comparator<Task> TASK_ORDER = Comparator
+        .comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Task::getId);
+
+    private final CaseRepository caseRepository;
+    private final TaskStore taskStore;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CaseService(CaseRepository caseRepository, TaskStore taskStore, TaskMapper taskMapper,
+                       ApplicationEventPublisher eventPublisher) {
+        this.caseRepository = caseRepository;
+        this.taskStore = taskStore;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create a new case
+     */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = TaskService.OLTP_TIMEOUT)
+    public CaseSummary createCase(String caseNumber, String title, String description, String status) {
+        if (caseNumber == null || caseNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Case number cannot be null or empty");
+        }
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Case title cannot be null or empty");
+        }
+        String number = checkLength("number", caseNumber.trim(), MAX_CASE_NUMBER_LENGTH);
+        String trimmedTitle = checkLength("title", title.trim(), MAX_TITLE_LENGTH);
+        String trimmedDescription = description != null
+            ? checkLength("description", description.trim(), MAX_DESCRIPTION_LENGTH) : null;
+        String trimmedStatus = status != null && !status.trim().isEmpty()
+            ? checkLength("status", status.trim(), MAX_STATUS_LENGTH) : DEFAULT_STATUS;
+        if (caseRepository.existsByCaseNumber(number)) {
+            throw new IllegalArgumentException("Case " + number + " already exists");
+        }
+
+        CaseEntity saved = caseRepository.save(new CaseEntity(number, trimmedTitle, trimmedDescription, trimmedStatus));
+        log.info("Case {} created with ID {}", saved.getCaseNumber(), saved.getId());
+        return toSummary(saved, List.of());
+    }
+
+    /**
+     * One page of cases, by case number, each with its tasks and task count
+     */
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = TaskService.REPORTING_TIMEOUT)
+    public List<CaseSummary> getCases(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        // The first getTasks() initialises the tasks of every case on the page in one IN query
+        return caseRepository.findAllByOrderByCaseNumberAsc(PageRequest.of(page, size)).stream()
+            .map(entity -> toSummary(entity, entity.getTasks()))
+            .toList();
+    }
+
+    /**
+     * All tasks filed against a case, in due date order
+     *
+     * @return the tasks, or empty when the case does not exist
+     */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(readOnly = true, timeoutString = TaskService.OLTP_TIMEOUT)
+    public Optional<List<Task>> getCaseTasks(String caseNumber) {
+        if (caseNumber == null || caseNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Case number cannot be null or empty");
+        }
+        return caseRepository.findWithTasksByCaseNumber(caseNumber.trim())
+            .map(entity -> toTasks(entity.getTasks()));
+    }
+
+    /**
+     * File an existing task against a case, replacing any case it was filed against before
+     *
+     * @return the task, or empty when the case or the task does not exist
+     */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = TaskService.OLTP_TIMEOUT)
+    public Optional<Task> addTaskToCase(String caseNumber, Long taskId) {
+        if (caseNumber == null || caseNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Case number cannot be null or empty");
+        }
+        if (taskId == null) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+
+        Optional<CaseEntity> caseEntity = caseRepository.findByCaseNumber(caseNumber.trim());
+        if (caseEntity.isEmpty()) {
+            return Optional.empty();
+        }
+        return taskStore.findById(taskId).map(entity -> {
+            entity.setCaseEntity(caseEntity.get());
+            Task task = taskMapper.toModel(taskStore.save(entity));
+            log.info("Task {} filed against case {}", taskId, caseEntity.get().getCaseNumber());
+            eventPublisher.publishEvent(TaskChangedEvent.saved(task));
+            return task;
+        });
+    }
+
+    private CaseSummary toSummary(CaseEntity entity, List<TaskEntity> tasks) {
+        return new CaseSummary(entity.getCaseNumber(), entity.getTitle(), entity.getDescription(),
+                               entity.getStatus(), entity.getCreatedDate(), tasks.size(), toTasks(tasks));
+    }
+
+    private List<Task> toTasks(List<TaskEntity> tasks) {
+        return tasks.stream()
+            .map(taskMapper::toModel)
+            .sorted(TASK_ORDER)
+            .toList();
+    }
+
+    /**
+     * Reject a value longer than its column, which would otherwise fail the INSERT with a 500
+     */
+    private static String checkLength(String field, String value, int maxLength) {
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(
+                "Case " + field + " cannot be longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+}
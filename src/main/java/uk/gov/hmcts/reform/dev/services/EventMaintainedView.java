@@ -0,0 +1,156 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksReassignedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An in-memory view of the tasks (the board, claim queue, assignee counts and column snapshot).
+ * It is loaded when the application is ready, then kept up to date by applying committed task
+ * events, so reading it needs no database work.
+ *
+ * <p>Between loads the events are the source of truth. The scheduled rebuild is only a safety net
+ * that reconciles with the database in case an event was lost, e.g. a write made outside
+ * TaskService, so its interval can be long. Events committed while a rebuild is loading are
+ * applied to the current state as usual and replayed on top of the loaded state before it
+ * replaces the current one.</p>
+ *
+ * @param <S> the view's state; changed only while holding the view's lock, read without it
+ */
+@Slf4j
+public abstract class EventMaintainedView<S> {
+
+    private final String name;
+    protected final TransactionTemplate readTransaction;
+
+    private final Object lock = new Object();
+    private volatile S state;
+    private volatile boolean ready;
+    private boolean rebuilding;
+    private final List<Object> changedDuringRebuild = new ArrayList<>();
+
+    protected EventMaintainedView(String name, S empty, PlatformTransactionManager transactionManager) {
+        this.name = name;
+        this.state = empty;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Load a new state from the database. Runs without the view's lock.
+     */
+    protected abstract S load();
+
+    /**
+     * Apply a committed task event to a state; events the view does not track are ignored
+     */
+    protected abstract void apply(S target, Object event);
+
+    /**
+     * What a freshly loaded state holds, for the rebuild log line
+     */
+    protected abstract String describe(S loaded);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Safety-net reconciliation with the database. Subclasses schedule it with their own
+     * {@code rebuild-interval}.
+     */
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Rebuilding {} failed: {}", name, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reload the view from the database, replaying changes committed while loading
+     */
+    public void rebuild() {
+        log.info("Rebuilding {}", name);
+        synchronized (lock) {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        }
+        try {
+            S fresh = load();
+            synchronized (lock) {
+                changedDuringRebuild.forEach(event -> apply(fresh, event));
+                state = fresh;
+                ready = true;
+                log.info("Rebuilt {} with {}", name, describe(fresh));
+            }
+        } finally {
+            synchronized (lock) {
+                rebuilding = false;
+                changedDuringRebuild.clear();
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksRemoved(TasksRemovedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksCreated(TasksCreatedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        record(event);
+    }
+
+    /**
+     * The current state, for reading
+     */
+    protected S state() {
+        return state;
+    }
+
+    /**
+     * Change the current state under the view's lock, for changes that are not task events
+     */
+    protected void update(Consumer<S> change) {
+        synchronized (lock) {
+            change.accept(state);
+        }
+    }
+
+    private void record(Object event) {
+        synchronized (lock) {
+            apply(state, event);
+            if (rebuilding) {
+                changedDuringRebuild.add(event);
+            }
+        }
+    }
+}
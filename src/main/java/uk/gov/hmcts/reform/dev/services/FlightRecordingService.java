@@ -0,0 +1,221 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.config.FlightRecorderProperties;
+import uk.gov.hmcts.reform.dev.flightrecorder.RepositoryQueryEvent;
+import uk.gov.hmcts.reform.dev.flightrecorder.TaskOperationEvent;
+import uk.gov.hmcts.reform.dev.models.FlightRecording;
+import uk.gov.hmcts.reform.dev.models.FlightRecordingProfile;
+import uk.gov.hmcts.reform.dev.reports.ReportFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Starts Java Flight Recorder recordings on a running instance, so a latency spike can be
+ * profiled without a restart. Only one recording runs at a time; it stops by itself after its
+ * duration and is then written to {@code directory} for download. Recordings are tracked in
+ * memory, so list and download them on the instance that started them.
+ */
+@Service
+@ConditionalOnProperty(prefix = "task-management.flight-recorder", name = "enabled", havingValue = "true")
+@Slf4j
+public class FlightRecordingService {
+
+    static final String CONTENT_TYPE = "application/octet-stream";
+
+    private final FlightRecorderProperties properties;
+    private final Path directory;
+    private final Map<Long, Tracked> recordings = new LinkedHashMap<>();
+
+    public FlightRecordingService(FlightRecorderProperties properties) {
+        this.properties = properties;
+        this.directory = Paths.get(properties.getDirectory());
+    }
+
+    /**
+     * Start a recording with a preset profile
+     *
+     * @param duration null for {@code default-duration}
+     * @throws IllegalStateException when a recording is already running
+     */
+    public synchronized FlightRecording start(FlightRecordingProfile profile, Duration duration)
+            throws IOException, ParseException {
+        FlightRecordingProfile chosen = profile != null ? profile : FlightRecordingProfile.DEFAULT;
+        Duration length = duration != null ? duration : properties.getDefaultDuration();
+        if (length.isNegative() || length.isZero() || length.compareTo(properties.getMaxDuration()) > 0) {
+            throw new IllegalArgumentException("Duration must be positive and at most " + properties.getMaxDuration());
+        }
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("Flight Recorder is not available in this JVM");
+        }
+        if (recordings.values().stream().anyMatch(tracked -> isRunning(tracked.recording()))) {
+            throw new IllegalStateException("A flight recording is already running");
+        }
+        removeOldest();
+
+        Files.createDirectories(directory);
+        Recording recording = new Recording(Configuration.getConfiguration(chosen.getConfiguration()));
+        try {
+            recording.setName("task-management-" + chosen.name().toLowerCase());
+            recording.enable(TaskOperationEvent.class).withThreshold(chosen.getEventThreshold());
+            recording.enable(RepositoryQueryEvent.class).withThreshold(chosen.getEventThreshold());
+            recording.setToDisk(true);
+            recording.setMaxSize(properties.getMaxSize().toBytes());
+            recording.setDuration(length);
+            Path file = directory.resolve("task-management-" + recording.getId() + ".jfr");
+            recording.setDestination(file);
+            recording.start();
+
+            Tracked tracked = new Tracked(recording, chosen, file);
+            recordings.put(recording.getId(), tracked);
+            log.info("Started {} flight recording {} for {}", chosen, recording.getId(), length);
+            return toModel(tracked);
+        } catch (IOException | RuntimeException e) {
+            recording.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Stop a running recording early and write it out; a stopped recording is returned as is
+     */
+    public synchronized Optional<FlightRecording> stop(long id) {
+        Tracked tracked = recordings.get(id);
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        if (tracked.recording().getState() == RecordingState.RUNNING) {
+            tracked.recording().stop();
+            log.info("Stopped flight recording {}", id);
+        }
+        return Optional.of(toModel(tracked));
+    }
+
+    public synchronized Optional<FlightRecording> getRecording(long id) {
+        return Optional.ofNullable(recordings.get(id)).map(FlightRecordingService::toModel);
+    }
+
+    /**
+     * Recordings from oldest to newest
+     */
+    public synchronized List<FlightRecording> getRecordings() {
+        List<FlightRecording> all = new ArrayList<>(recordings.size());
+        recordings.values().forEach(tracked -> all.add(toModel(tracked)));
+        return all;
+    }
+
+    /**
+     * The written recording, empty if unknown
+     *
+     * @throws IllegalStateException while the recording is still running
+     */
+    public synchronized Optional<ReportFile> getRecordingFile(long id) throws IOException {
+        Tracked tracked = recordings.get(id);
+        if (tracked == null) {
+            return Optional.empty();
+        }
+        if (isRunning(tracked.recording())) {
+            throw new IllegalStateException("Flight recording " + id + " is still running");
+        }
+        if (!Files.exists(tracked.file())) {
+            return Optional.empty();
+        }
+        return Optional.of(new ReportFile(tracked.file(), Files.size(tracked.file()), CONTENT_TYPE,
+                                          tracked.file().getFileName().toString()));
+    }
+
+    /**
+     * Discard a recording, stopping it first if it is running, and delete its file
+     */
+    public synchronized boolean delete(long id) throws IOException {
+        Tracked tracked = recordings.remove(id);
+        if (tracked == null) {
+            return false;
+        }
+        tracked.recording().close();
+        Files.deleteIfExists(tracked.file());
+        return true;
+    }
+
+    /**
+     * Write out a recording still running at shutdown, so it is not lost
+     */
+    @PreDestroy
+    public synchronized void close() {
+        for (Tracked tracked : recordings.values()) {
+            try {
+                if (tracked.recording().getState() == RecordingState.RUNNING) {
+                    tracked.recording().stop();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not write flight recording {}: {}", tracked.recording().getId(), e.getMessage());
+            } finally {
+                tracked.recording().close();
+            }
+        }
+    }
+
+    /**
+     * Make room for another recording by deleting the oldest finished ones
+     */
+    private void removeOldest() throws IOException {
+        List<Long> finished = recordings.entrySet().stream()
+            .filter(entry -> !isRunning(entry.getValue().recording()))
+            .map(Map.Entry::getKey)
+            .toList();
+        int excess = recordings.size() - Math.max(0, properties.getRetained() - 1);
+        for (int i = 0; i < excess && i < finished.size(); i++) {
+            delete(finished.get(i));
+        }
+    }
+
+    private static boolean isRunning(Recording recording) {
+        RecordingState state = recording.getState();
+        return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+    }
+
+    private static FlightRecording toModel(Tracked tracked) {
+        Recording recording = tracked.recording();
+        RecordingState state = recording.getState();
+        long size = recording.getSize();
+        // A recording with a destination is closed once it has been written out
+        if (state == RecordingState.STOPPED || state == RecordingState.CLOSED) {
+            state = RecordingState.STOPPED;
+            try {
+                size = Files.size(tracked.file());
+            } catch (IOException e) {
+                size = 0;
+            }
+        }
+        return new FlightRecording(recording.getId(), tracked.profile(), state,
+                                   recording.getDuration(), size, toLocal(recording.getStartTime()),
+                                   toLocal(recording.getStopTime()));
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.systemDefault()) : null;
+    }
+
+    private record Tracked(Recording recording, FlightRecordingProfile profile, Path file) {
+    }
+}
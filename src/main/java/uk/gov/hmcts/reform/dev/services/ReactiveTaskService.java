@@ -0,0 +1,246 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.config.WorkloadProperties;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.CalendarBucket;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskLookupResult;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.ReactiveTaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Non-blocking counterpart of TaskService behind /api/v2/tasks. Validation, ordering and
+ * events match TaskService; no thread is held while a statement runs, so the R2DBC pool
+ * rather than the workload bulkheads bounds concurrency. Statement timeouts are applied
+ * per workload class as reactive timeouts.
+ */
+@Slf4j
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration oltpTimeout;
+    private final Duration reportingTimeout;
+
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository, TaskMapper taskMapper,
+                               ApplicationEventPublisher eventPublisher, WorkloadProperties workloadProperties) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.oltpTimeout = Duration.ofSeconds(workloadProperties.getOltp().getStatementTimeoutSeconds());
+        this.reportingTimeout = Duration.ofSeconds(workloadProperties.getReporting().getStatementTimeoutSeconds());
+    }
+
+    /**
+     * Create a new task
+     */
+    public Mono<Task> createTask(String title, String description, TaskStatus status, LocalDateTime dueDate) {
+        TaskEntity entity;
+        try {
+            entity = taskMapper.createEntity(TaskService.validateTitle(title),
+                                             TaskService.validateDescription(description),
+                                             status != null ? status : TaskStatus.PENDING,
+                                             dueDate);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return taskRepository.insert(entity)
+            .timeout(oltpTimeout)
+            .map(saved -> {
+                Task task = taskMapper.toModel(saved);
+                eventPublisher.publishEvent(TaskChangedEvent.created(task));
+                return task;
+            })
+            .doOnNext(task -> log.info("Task created successfully with ID: {}", task.getId()));
+    }
+
+    /**
+     * Get task by ID; empty when it does not exist
+     */
+    public Mono<Task> getTaskById(Long id) {
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("Task ID cannot be null"));
+        }
+        return taskRepository.findById(id)
+            .timeout(oltpTimeout)
+            .map(taskMapper::toModel);
+    }
+
+    /**
+     * Look up many tasks by ID, in the order requested, one IN query per chunk
+     */
+    public Mono<List<TaskLookupResult>> lookupTasks(List<Long> ids) {
+        if (ids == null) {
+            return Mono.error(new IllegalArgumentException("Task IDs cannot be null"));
+        }
+        if (ids.size() > TaskService.MAX_LOOKUP_IDS) {
+            return Mono.error(new IllegalArgumentException(
+                "Cannot look up more than " + TaskService.MAX_LOOKUP_IDS + " tasks at once"));
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            return Mono.error(new IllegalArgumentException("Task ID cannot be null"));
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        return Flux.fromIterable(distinctIds)
+            .buffer(TaskService.LOOKUP_CHUNK_SIZE)
+            .concatMap(taskRepository::findAllById)
+            .collect(HashMap<Long, Task>::new, (found, entity) -> found.put(entity.getId(), taskMapper.toModel(entity)))
+            .timeout(reportingTimeout)
+            .map(found -> {
+                List<TaskLookupResult> results = new ArrayList<>(ids.size());
+                for (Long id : ids) {
+                    Task task = found.get(id);
+                    results.add(task != null ? TaskLookupResult.found(task) : TaskLookupResult.missing(id));
+                }
+                return results;
+            });
+    }
+
+    /**
+     * All tasks, or those with the status, ordered by due date. Rows are emitted as they
+     * are read, at the pace the subscriber requests them.
+     */
+    public Flux<Task> getTasks(TaskStatus status) {
+        Flux<TaskEntity> rows = status != null
+            ? taskRepository.findByStatusOrderByDueDate(status)
+            : taskRepository.findAllOrderByDueDate();
+        return rows.map(taskMapper::toModel);
+    }
+
+    /**
+     * Get a page of tasks due between two dates (inclusive)
+     */
+    public Mono<Page<Task>> getTasksDueBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (from == null || to == null) {
+            return Mono.error(new IllegalArgumentException("Date range cannot be null"));
+        }
+        if (to.isBefore(from)) {
+            return Mono.error(new IllegalArgumentException("Date range end must not be before its start"));
+        }
+        Mono<List<Task>> content = taskRepository
+            .findByDueDateBetween(from, to, pageable.getOffset(), pageable.getPageSize())
+            .map(taskMapper::toModel)
+            .collectList();
+        return Mono.zip(content, taskRepository.countByDueDateBetween(from, to))
+            .timeout(reportingTimeout)
+            .map(pair -> new PageImpl<>(pair.getT1(), pageable, pair.getT2()));
+    }
+
+    /**
+     * Count tasks due per calendar bucket and status, as TaskService.getDueDateCalendar
+     */
+    public Mono<List<CalendarBucket>> getDueDateCalendar(LocalDate from, LocalDate to,
+                                                         CalendarGranularity granularity) {
+        if (from == null || to == null || granularity == null) {
+            return Mono.error(new IllegalArgumentException("Date range and granularity cannot be null"));
+        }
+        if (to.isBefore(from)) {
+            return Mono.error(new IllegalArgumentException("Date range end must not be before its start"));
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= TaskService.MAX_CALENDAR_DAYS) {
+            return Mono.error(new IllegalArgumentException(
+                "Date range cannot exceed " + TaskService.MAX_CALENDAR_DAYS + " days"));
+        }
+        return taskRepository.countByDueDay(from.atStartOfDay(), to.plusDays(1).atStartOfDay())
+            .collect(LinkedHashMap<LocalDate, CalendarBucket>::new,
+                     (buckets, row) -> buckets.computeIfAbsent(granularity.bucketStart(row.day()), CalendarBucket::new)
+                         .add(row.status(), row.total()))
+            .timeout(reportingTimeout)
+            .map(buckets -> new ArrayList<>(buckets.values()));
+    }
+
+    /**
+     * Update task status; empty when the task does not exist
+     */
+    public Mono<Task> updateTaskStatus(Long id, TaskStatus status) {
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("Task ID cannot be null"));
+        }
+        if (status == null) {
+            return Mono.error(new IllegalArgumentException("Task status cannot be null"));
+        }
+        return taskRepository.findById(id)
+            .flatMap(entity -> {
+                TaskStatus previousStatus = entity.getStatus();
+                entity.setStatus(status);
+                return save(entity, previousStatus);
+            })
+            .timeout(oltpTimeout);
+    }
+
+    /**
+     * Apply a merge patch; a patch that changes nothing issues no UPDATE and no event
+     */
+    public Mono<Task> patchTask(Long id, TaskPatch patch) {
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("Task ID cannot be null"));
+        }
+        try {
+            TaskService.validatePatch(patch);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return taskRepository.findById(id)
+            .flatMap(entity -> {
+                TaskStatus previousStatus = entity.getStatus();
+                return TaskService.applyPatch(patch, entity)
+                    ? save(entity, previousStatus)
+                    : Mono.just(taskMapper.toModel(entity));
+            })
+            .timeout(oltpTimeout);
+    }
+
+    /**
+     * Delete task
+     *
+     * @return whether the task existed
+     */
+    public Mono<Boolean> deleteTask(Long id) {
+        if (id == null) {
+            return Mono.error(new IllegalArgumentException("Task ID cannot be null"));
+        }
+        return taskRepository.deleteById(id)
+            .timeout(oltpTimeout)
+            .doOnNext(deleted -> {
+                if (deleted) {
+                    eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
+                    log.info("Task {} deleted successfully", id);
+                }
+            });
+    }
+
+    private Mono<Task> save(TaskEntity entity, TaskStatus previousStatus) {
+        entity.setUpdatedDate(LocalDateTime.now());
+        return taskRepository.update(entity)
+            .filter(Boolean::booleanValue)
+            .map(updated -> {
+                Task task = taskMapper.toModel(entity);
+                eventPublisher.publishEvent(TaskChangedEvent.saved(task, previousStatus));
+                return task;
+            });
+    }
+}
@@ -0,0 +1,392 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.ReportProperties;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.CreateReportRequest;
+import uk.gov.hmcts.reform.dev.models.ReportFormat;
+import uk.gov.hmcts.reform.dev.models.ReportJob;
+import uk.gov.hmcts.reform.dev.models.ReportJobStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.reports.ReportEncoder;
+import uk.gov.hmcts.reform.dev.reports.ReportFile;
+import uk.gov.hmcts.reform.dev.repositories.TaskIdRange;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Produces large task extracts in the background so no request thread or connection is held
+ * for the length of the export. Each report walks the task ID range in chunks; chunks are read,
+ * each in its own short read-only transaction, and encoded in parallel, then appended to the
+ * file in ID order. Tasks created after a report starts are not included.
+ *
+ * <p>Jobs are tracked in memory, so a client must poll the instance that accepted the job.
+ * Finished files are deleted once {@code retention} has passed, along with any file left over
+ * from before a restart.</p>
+ */
+@Service
+@Slf4j
+public class ReportJobService {
+
+    static final String PART_SUFFIX = ".part";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TaskStore taskStore;
+    private final TransactionTemplate readTransaction;
+    private final ReportProperties properties;
+    private final JsonFactory jsonFactory;
+    private final Path directory;
+
+    private final ThreadPoolExecutor jobExecutor;
+    private final ExecutorService chunkExecutor;
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Timer jobTimer;
+
+    public ReportJobService(TaskStore taskStore, PlatformTransactionManager transactionManager,
+                            ReportProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.taskStore = taskStore;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.jsonFactory = objectMapper.getFactory();
+        this.directory = Paths.get(properties.getDirectory());
+
+        this.jobExecutor = new ThreadPoolExecutor(
+            properties.getWorkers(), properties.getWorkers(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, properties.getMaxQueued())),
+            new CustomizableThreadFactory("task-report-"), new ThreadPoolExecutor.AbortPolicy());
+        this.chunkExecutor = Executors.newFixedThreadPool(properties.getChunkParallelism(),
+                                                          new CustomizableThreadFactory("task-report-chunk-"));
+
+        this.completedCounter = Counter.builder("task.reports.jobs")
+            .tag("outcome", "completed")
+            .description("Report jobs finished")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("task.reports.jobs")
+            .tag("outcome", "failed")
+            .description("Report jobs finished")
+            .register(meterRegistry);
+        this.jobTimer = Timer.builder("task.reports.duration")
+            .description("Time to write one report file")
+            .register(meterRegistry);
+        Gauge.builder("task.reports.queued", jobExecutor, executor -> executor.getQueue().size())
+            .description("Report jobs waiting for a worker")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue a report
+     *
+     * @throws RejectedExecutionException when max-queued reports are already waiting
+     */
+    public ReportJob createReport(CreateReportRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Report request cannot be null");
+        }
+        ReportFormat format = request.getFormat() != null ? request.getFormat() : ReportFormat.CSV;
+        String id = UUID.randomUUID().toString();
+        String fileName = "tasks-" + id + "." + format.getExtension() + (request.isGzip() ? ".gz" : "");
+        JobState job = new JobState(id, format, request.isGzip(), request.getStatus(),
+                                    directory.resolve(fileName), LocalDateTime.now());
+
+        jobs.put(id, job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw e;
+        }
+        log.info("Queued {} report {} for status {}", format, id, request.getStatus());
+        return job.toModel();
+    }
+
+    public Optional<ReportJob> getReport(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(JobState::toModel);
+    }
+
+    /**
+     * The file of a completed report, or empty if the report is unknown or has expired
+     *
+     * @throws IllegalStateException if the report has not completed
+     */
+    public Optional<ReportFile> getReportFile(String id) {
+        JobState job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        ReportJob report = job.toModel();
+        if (report.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new IllegalStateException("Report " + id + " is " + report.getStatus());
+        }
+        if (report.getExpiresAt().isBefore(LocalDateTime.now()) || !Files.exists(job.file)) {
+            return Optional.empty();
+        }
+        String contentType = job.gzip ? "application/gzip" : job.format.getContentType();
+        return Optional.of(new ReportFile(job.file, report.getSizeBytes(), contentType,
+                                          job.file.getFileName().toString()));
+    }
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(initialDelayString = "${task-management.reports.cleanup-interval:PT15M}",
+               fixedDelayString = "${task-management.reports.cleanup-interval:PT15M}")
+    public void runScheduledExpiry() {
+        try {
+            expireReports(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("Report expiry run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Forget finished reports whose retention has passed and delete their files, together with
+     * files no job refers to (e.g. from before a restart) that are older than the retention
+     *
+     * @return the number of reports expired
+     */
+    public int expireReports(LocalDateTime now) {
+        int expired = 0;
+        for (JobState job : jobs.values()) {
+            ReportJob report = job.toModel();
+            if (report.getExpiresAt() != null && report.getExpiresAt().isBefore(now)) {
+                jobs.remove(job.id);
+                deleteQuietly(job.file);
+                expired++;
+            }
+        }
+
+        if (Files.isDirectory(directory)) {
+            Set<Path> inUse = new HashSet<>();
+            jobs.values().forEach(job -> {
+                inUse.add(job.file);
+                inUse.add(partFile(job.file));
+            });
+            FileTime cutoff = FileTime.from(now.minus(properties.getRetention())
+                                                .atZone(ZoneId.systemDefault()).toInstant());
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> !inUse.contains(file) && isOlderThan(file, cutoff))
+                    .forEach(ReportJobService::deleteQuietly);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (expired > 0) {
+            log.info("Expired {} reports", expired);
+        }
+        return expired;
+    }
+
+    @PreDestroy
+    public void close() {
+        jobExecutor.shutdownNow();
+        chunkExecutor.shutdownNow();
+    }
+
+    private void run(JobState job) {
+        job.running();
+        long start = System.nanoTime();
+        Path part = partFile(job.file);
+        try {
+            Files.createDirectories(directory);
+            long rows = write(job, part);
+            Files.move(part, job.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            long size = Files.size(job.file);
+            job.completed(rows, size, LocalDateTime.now(), properties.getRetention());
+            completedCounter.increment();
+            log.info("Report {} completed: {} tasks, {} bytes", job.id, rows, size);
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("Report {} failed: {}", job.id, cause.getMessage(), cause);
+            deleteQuietly(part);
+            job.failed(String.valueOf(cause.getMessage()), LocalDateTime.now(), properties.getRetention());
+            failedCounter.increment();
+        } finally {
+            jobTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Read chunks of IDs ahead of the writer, at most chunk-parallelism per report, and append
+     * them to the file in order
+     */
+    private long write(JobState job, Path part) throws IOException {
+        TaskIdRange range = readTransaction.execute(status -> taskStore.findIdRange());
+        ReportEncoder encoder = new ReportEncoder(job.format, jsonFactory);
+        long chunkSize = properties.getChunkSize();
+
+        try (OutputStream out = open(part, job.gzip)) {
+            out.write(encoder.header());
+            if (range == null || range.getMinId() == null) {
+                return 0;
+            }
+            long maxId = range.getMaxId();
+            long nextFrom = range.getMinId();
+            long rows = 0;
+            Deque<CompletableFuture<EncodedChunk>> inFlight = new ArrayDeque<>();
+            try {
+                while (nextFrom <= maxId || !inFlight.isEmpty()) {
+                    while (nextFrom <= maxId && inFlight.size() < properties.getChunkParallelism()) {
+                        long from = nextFrom;
+                        long to = maxId - from < chunkSize ? maxId : from + chunkSize - 1;
+                        inFlight.add(CompletableFuture.supplyAsync(
+                            () -> readChunk(from, to, job.taskStatus, encoder), chunkExecutor));
+                        nextFrom = to + 1;
+                    }
+                    EncodedChunk chunk = inFlight.poll().join();
+                    out.write(chunk.bytes());
+                    rows += chunk.rows();
+                    job.progress(rows);
+                }
+            } finally {
+                inFlight.forEach(future -> future.cancel(false));
+            }
+            return rows;
+        }
+    }
+
+    private EncodedChunk readChunk(long fromId, long toId, TaskStatus status, ReportEncoder encoder) {
+        List<TaskEntity> tasks = readTransaction.execute(tx -> taskStore.findByIdRange(fromId, toId, status));
+        if (tasks == null || tasks.isEmpty()) {
+            return new EncodedChunk(new byte[0], 0);
+        }
+        try {
+            return new EncodedChunk(encoder.encode(tasks), tasks.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static OutputStream open(Path part, boolean gzip) throws IOException {
+        OutputStream file = new BufferedOutputStream(Files.newOutputStream(part), BUFFER_SIZE);
+        return gzip ? new GZIPOutputStream(file, BUFFER_SIZE) : file;
+    }
+
+    private static Path partFile(Path file) {
+        return file.resolveSibling(file.getFileName() + PART_SUFFIX);
+    }
+
+    private static boolean isOlderThan(Path file, FileTime cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record EncodedChunk(byte[] bytes, int rows) {
+    }
+
+    /**
+     * Mutable state of one job, updated by its worker and read by pollers
+     */
+    private static final class JobState {
+
+        private final String id;
+        private final ReportFormat format;
+        private final boolean gzip;
+        private final TaskStatus taskStatus;
+        private final Path file;
+        private final LocalDateTime createdDate;
+
+        private ReportJobStatus status = ReportJobStatus.QUEUED;
+        private long rows;
+        private long sizeBytes;
+        private LocalDateTime completedDate;
+        private LocalDateTime expiresAt;
+        private String error;
+
+        private JobState(String id, ReportFormat format, boolean gzip, TaskStatus taskStatus, Path file,
+                         LocalDateTime createdDate) {
+            this.id = id;
+            this.format = format;
+            this.gzip = gzip;
+            this.taskStatus = taskStatus;
+            this.file = file;
+            this.createdDate = createdDate;
+        }
+
+        private synchronized void running() {
+            status = ReportJobStatus.RUNNING;
+        }
+
+        private synchronized void progress(long rowsWritten) {
+            rows = rowsWritten;
+        }
+
+        private synchronized void completed(long rowsWritten, long size, LocalDateTime now, Duration retention) {
+            status = ReportJobStatus.COMPLETED;
+            rows = rowsWritten;
+            sizeBytes = size;
+            completedDate = now;
+            expiresAt = now.plus(retention);
+        }
+
+        private synchronized void failed(String message, LocalDateTime now, Duration retention) {
+            status = ReportJobStatus.FAILED;
+            error = message;
+            completedDate = now;
+            expiresAt = now.plus(retention);
+        }
+
+        private synchronized ReportJob toModel() {
+            return new ReportJob(id, status, format, gzip, taskStatus, rows, sizeBytes, createdDate,
+                                 completedDate, expiresAt, error);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the sample tasks once the application is ready, on a background thread,
+ * so an empty database does not hold up start-up or the first request.
+ */
+@Component
+@ConditionalOnProperty(prefix = "task-management.sample-data", name = "enabled", havingValue = "true")
+@Slf4j
+public class SampleDataInitializer {
+
+    private final TaskService taskService;
+
+    public SampleDataInitializer(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        log.debug("Scheduling sample data initialization off the start-up path");
+        Thread.ofPlatform()
+            .name("sample-data-init")
+            .daemon()
+            .start(taskService::initializeSampleData);
+    }
+}
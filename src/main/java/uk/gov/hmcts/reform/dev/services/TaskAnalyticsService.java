@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.models.CalendarBucket;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
+import uk.gov.hmcts.reform.dev.models.StatusTimeStats;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskTransitionRepository;
+import uk.gov.hmcts.reform.dev.repositories.ThroughputRollup;
+import uk.gov.hmcts.reform.dev.repositories.TimeInStatusRollup;
+import uk.gov.hmcts.reform.dev.workload.Workload;
+import uk.gov.hmcts.reform.dev.workload.WorkloadClass;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cycle-time analytics over the transition log. Everything is read from the daily rollups,
+ * whose size depends on the date range and not on how many transitions were logged.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class TaskAnalyticsService {
+
+    private final TaskTransitionRepository transitionRepository;
+
+    public TaskAnalyticsService(TaskTransitionRepository transitionRepository) {
+        this.transitionRepository = transitionRepository;
+    }
+
+    /**
+     * Mean and percentile time spent in each status, for transitions out of it between
+     * {@code from} and {@code to} inclusive. Statuses nothing left in the range are omitted.
+     */
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = TaskService.REPORTING_TIMEOUT)
+    public List<StatusTimeStats> getTimeInStatus(LocalDate from, LocalDate to) {
+        log.debug("Calculating time in status from {} to {}", from, to);
+        validateRange(from, to);
+
+        Map<TaskStatus, List<TimeInStatusRollup>> histograms = new EnumMap<>(TaskStatus.class);
+        for (TimeInStatusRollup row : transitionRepository.sumTimeInStatus(from, to)) {
+            histograms.computeIfAbsent(row.status(), status -> new ArrayList<>()).add(row);
+        }
+
+        List<StatusTimeStats> stats = new ArrayList<>();
+        histograms.forEach((status, buckets) -> {
+            long transitions = buckets.stream().mapToLong(TimeInStatusRollup::transitions).sum();
+            long totalMillis = buckets.stream().mapToLong(TimeInStatusRollup::totalMillis).sum();
+            stats.add(new StatusTimeStats(status, transitions, totalMillis / 1000.0 / transitions,
+                                          percentileSeconds(buckets, transitions, 0.50),
+                                          percentileSeconds(buckets, transitions, 0.90),
+                                          percentileSeconds(buckets, transitions, 0.99)));
+        });
+        return stats;
+    }
+
+    /**
+     * How many tasks moved into each status per day, week or month between {@code from}
+     * and {@code to} inclusive. Buckets with no transitions are omitted.
+     */
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = TaskService.REPORTING_TIMEOUT)
+    public List<CalendarBucket> getThroughput(LocalDate from, LocalDate to, CalendarGranularity granularity) {
+        log.debug("Calculating {} throughput from {} to {}", granularity, from, to);
+        validateRange(from, to);
+        if (granularity == null) {
+            throw new IllegalArgumentException("Granularity is required");
+        }
+
+        Map<LocalDate, CalendarBucket> buckets = new LinkedHashMap<>();
+        for (ThroughputRollup row : transitionRepository.findThroughput(from, to)) {
+            buckets.computeIfAbsent(granularity.bucketStart(row.day()), CalendarBucket::new)
+                .add(row.status(), row.transitions());
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    /**
+     * The representative duration of the bucket holding the requested rank
+     *
+     * @param buckets histogram rows of one status, in ascending bucket order
+     */
+    static double percentileSeconds(List<TimeInStatusRollup> buckets, long transitions, double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * transitions));
+        long seen = 0;
+        for (TimeInStatusRollup bucket : buckets) {
+            seen += bucket.transitions();
+            if (seen >= rank) {
+                return TaskTransitionLog.bucketMillis(bucket.bucket()) / 1000.0;
+            }
+        }
+        return TaskTransitionLog.bucketMillis(buckets.get(buckets.size() - 1).bucket()) / 1000.0;
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= TaskService.MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + TaskService.MAX_CALENDAR_DAYS + " days");
+        }
+    }
+}
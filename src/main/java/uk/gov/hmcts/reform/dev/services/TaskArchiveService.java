@@ -0,0 +1,212 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.ArchiveProperties;
+import uk.gov.hmcts.reform.dev.entities.ArchivedTaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.ArchivedTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves closed tasks from the live tasks table into tasks_archive in small batches,
+ * and gives explicit access to archived tasks. Only available on the JPA task store: sharded
+ * and log-structured storage have no tasks_archive table to move rows into.
+ */
+@Service
+@ConditionalOnExpression("!${task-management.sharding.enabled:false} and !${task-management.log-store.enabled:false}")
+@Slf4j
+public class TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskMapper taskMapper;
+    private final ArchiveProperties properties;
+    private final TransactionTemplate batchTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong liveRows = new AtomicLong();
+    private final AtomicLong archivedRows = new AtomicLong();
+
+    public TaskArchiveService(TaskRepository taskRepository,
+                              ArchivedTaskRepository archivedTaskRepository,
+                              TaskMapper taskMapper,
+                              ArchiveProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskMapper = taskMapper;
+        this.properties = properties;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+
+        this.archivedCounter = Counter.builder("task.archive.archived")
+            .description("Tasks moved to the archive table")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("task.archive.batch")
+            .description("Time to move one batch of tasks to the archive table")
+            .register(meterRegistry);
+        Gauge.builder("task.archive.table.rows", liveRows, AtomicLong::get)
+            .tag("table", "tasks")
+            .description("Rows in the table as of the last archive run")
+            .register(meterRegistry);
+        Gauge.builder("task.archive.table.rows", archivedRows, AtomicLong::get)
+            .tag("table", "tasks_archive")
+            .description("Rows in the table as of the last archive run")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled entry point
+     */
+    @Scheduled(initialDelayString = "${task-management.archive.interval:PT10M}",
+               fixedDelayString = "${task-management.archive.interval:PT10M}")
+    public void runScheduledArchive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            archiveClosedTasks(LocalDateTime.now().minus(properties.getClosedAge()));
+        } catch (Exception e) {
+            log.error("Task archive run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Archive closed tasks last updated before the cutoff
+     *
+     * @return the number of tasks moved
+     */
+    public long archiveClosedTasks(LocalDateTime cutoff) {
+        log.info("Archiving {} tasks last updated before {}", properties.getStatuses(), cutoff);
+
+        long moved = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            long start = System.nanoTime();
+            Integer batchMoved = batchTransaction.execute(status -> moveBatch(cutoff));
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            int count = batchMoved != null ? batchMoved : 0;
+            moved += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+            pauseBetweenBatches();
+        }
+
+        refreshTableSizes();
+        log.info("Archived {} tasks", moved);
+        return moved;
+    }
+
+    /**
+     * Find archived tasks, optionally filtered by status
+     */
+    @Transactional(readOnly = true)
+    public Page<Task> findArchivedTasks(TaskStatus status, Pageable pageable) {
+        Page<ArchivedTaskEntity> page = status != null
+            ? archivedTaskRepository.findByStatus(status, pageable)
+            : archivedTaskRepository.findAll(pageable);
+        return page.map(taskMapper::fromArchive);
+    }
+
+    /**
+     * Get an archived task by ID
+     */
+    @Transactional(readOnly = true)
+    public Optional<Task> getArchivedTask(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+        return archivedTaskRepository.findById(id).map(taskMapper::fromArchive);
+    }
+
+    /**
+     * Move an archived task back into the live table
+     */
+    @Transactional
+    public Optional<Task> restoreTask(Long id) {
+        log.info("Restoring archived task {}", id);
+
+        if (id == null) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+        if (!archivedTaskRepository.existsById(id)) {
+            log.warn("Archived task with ID {} not found for restore", id);
+            return Optional.empty();
+        }
+
+        archivedTaskRepository.copyToTasks(id, LocalDateTime.now());
+        archivedTaskRepository.deleteById(id);
+        archivedTaskRepository.flush();
+
+        log.info("Task {} restored from the archive", id);
+        Optional<Task> restored = taskRepository.findById(id).map(taskMapper::toModel);
+        restored.ifPresent(task -> eventPublisher.publishEvent(TaskChangedEvent.saved(task)));
+        return restored;
+    }
+
+    public long getLiveRowCount() {
+        return liveRows.get();
+    }
+
+    public long getArchivedRowCount() {
+        return archivedRows.get();
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Long> ids = taskRepository.findArchivableIds(properties.getStatuses(), cutoff,
+                                                          PageRequest.of(0, properties.getBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        taskRepository.deleteAllByIdIn(ids);
+        eventPublisher.publishEvent(new TasksRemovedEvent(ids));
+        archivedCounter.increment(ids.size());
+        return ids.size();
+    }
+
+    private void refreshTableSizes() {
+        liveRows.set(taskRepository.count());
+        archivedRows.set(archivedTaskRepository.count());
+    }
+
+    private void pauseBetweenBatches() {
+        long pauseMillis = properties.getBatchPause().toMillis();
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksReassignedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.models.AssigneeTaskCounts;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskAssignmentRow;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-assignee task counts by status, held in memory. Loaded once when the application is ready,
+ * then kept up to date from committed task changes like the task board, so a caseworker's counts
+ * cost no database work and a reassignment only touches the tasks of the assignee it moves.
+ */
+@Service
+public class TaskAssigneeCounts extends EventMaintainedView<TaskAssigneeCounts.Assignments> {
+
+    static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final TaskStore taskStore;
+
+    public TaskAssigneeCounts(TaskStore taskStore, PlatformTransactionManager transactionManager) {
+        super("assignee counts", new Assignments(), transactionManager);
+        this.taskStore = taskStore;
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${task-management.assignees.rebuild-interval:PT1H}",
+               fixedDelayString = "${task-management.assignees.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        super.scheduledRebuild();
+    }
+
+    /**
+     * One assignee's counts; all zero for an assignee with no tasks
+     */
+    public AssigneeTaskCounts getCounts(String assignee) {
+        Queue queue = state().byAssignee.get(assignee);
+        return queue != null ? queue.toCounts(assignee) : new Queue().toCounts(assignee);
+    }
+
+    /**
+     * Counts for every assignee holding at least one task, by name
+     */
+    public List<AssigneeTaskCounts> getAllCounts() {
+        return state().byAssignee.entrySet().stream()
+            .map(entry -> entry.getValue().toCounts(entry.getKey()))
+            .filter(counts -> counts.getTotal() > 0)
+            .sorted(Comparator.comparing(AssigneeTaskCounts::getAssignee))
+            .toList();
+    }
+
+    /**
+     * Read the assigned tasks a page at a time
+     */
+    @Override
+    protected Assignments load() {
+        Assignments fresh = new Assignments();
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<TaskAssignmentRow> page = readTransaction.execute(status -> taskStore
+                .findAssignmentsAfter(from, PageRequest.of(0, LOAD_PAGE_SIZE)));
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            page.forEach(row -> fresh.upsert(row.getId(), row.getAssignee(), row.getStatus()));
+            if (page.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        return fresh;
+    }
+
+    @Override
+    protected void apply(Assignments target, Object event) {
+        target.apply(event);
+    }
+
+    @Override
+    protected String describe(Assignments loaded) {
+        return loaded.byId.size() + " assigned tasks";
+    }
+
+    private record Assignment(String assignee, TaskStatus status) {
+    }
+
+    /**
+     * One assignee's tasks and their counts. Mutated under the view lock; counts are read
+     * without locking.
+     */
+    private static final class Queue {
+
+        private final Map<Long, TaskStatus> tasks = new HashMap<>();
+        private final Map<TaskStatus, AtomicLong> counts = new EnumMap<>(TaskStatus.class);
+
+        private Queue() {
+            for (TaskStatus status : TaskStatus.values()) {
+                counts.put(status, new AtomicLong());
+            }
+        }
+
+        private AssigneeTaskCounts toCounts(String assignee) {
+            Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+            long total = 0;
+            for (TaskStatus status : TaskStatus.values()) {
+                long count = counts.get(status).get();
+                byStatus.put(status, count);
+                total += count;
+            }
+            return new AssigneeTaskCounts(assignee, total, byStatus);
+        }
+    }
+
+    /**
+     * Who holds each assigned task. Mutated only while holding the view lock.
+     */
+    static final class Assignments {
+
+        private final Map<Long, Assignment> byId = new HashMap<>();
+        private final Map<String, Queue> byAssignee = new ConcurrentHashMap<>();
+
+        private void apply(Object event) {
+            if (event instanceof TaskChangedEvent changed) {
+                if (changed.isDeleted()) {
+                    remove(changed.getTaskId());
+                } else {
+                    Task task = changed.getTask();
+                    upsert(task.getId(), task.getAssignee(), task.getStatus());
+                }
+            } else if (event instanceof TasksRemovedEvent removed) {
+                removed.getTaskIds().forEach(this::remove);
+            } else if (event instanceof TasksCreatedEvent created) {
+                created.getTasks().forEach(task -> upsert(task.getId(), task.getAssignee(), task.getStatus()));
+            } else if (event instanceof TasksReassignedEvent reassigned) {
+                reassign(reassigned.getFromAssignee(), reassigned.getToAssignee(), reassigned.getStatuses());
+            }
+        }
+
+        private void upsert(Long id, String assignee, TaskStatus status) {
+            remove(id);
+            if (assignee == null) {
+                return;
+            }
+            byId.put(id, new Assignment(assignee, status));
+            Queue queue = byAssignee.computeIfAbsent(assignee, name -> new Queue());
+            queue.tasks.put(id, status);
+            queue.counts.get(status).incrementAndGet();
+        }
+
+        private void remove(Long id) {
+            Assignment previous = byId.remove(id);
+            if (previous == null) {
+                return;
+            }
+            Queue queue = byAssignee.get(previous.assignee());
+            if (queue != null && queue.tasks.remove(id) != null) {
+                queue.counts.get(previous.status()).decrementAndGet();
+                if (queue.tasks.isEmpty()) {
+                    byAssignee.remove(previous.assignee());
+                }
+            }
+        }
+
+        /**
+         * Move the from-assignee's tasks with the given statuses, visiting only that assignee's tasks
+         */
+        private void reassign(String from, String to, Set<TaskStatus> statuses) {
+            Queue queue = byAssignee.get(from);
+            if (queue == null) {
+                return;
+            }
+            List<Long> moving = queue.tasks.entrySet().stream()
+                .filter(entry -> statuses.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+            for (Long id : moving) {
+                upsert(id, to, byId.get(id).status());
+            }
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.WorkloadProperties;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskBatchMode;
+import uk.gov.hmcts.reform.dev.models.TaskBatchOperation;
+import uk.gov.hmcts.reform.dev.models.TaskBatchOperationResult;
+import uk.gov.hmcts.reform.dev.models.TaskBatchOperationType;
+import uk.gov.hmcts.reform.dev.models.TaskBatchRequest;
+import uk.gov.hmcts.reform.dev.models.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskEntityRowMapper;
+import uk.gov.hmcts.reform.dev.workload.Workload;
+import uk.gov.hmcts.reform.dev.workload.WorkloadClass;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.sql.DataSource;
+
+/**
+ * Runs an ordered list of create, update, status and delete operations in one transaction.
+ * The tasks the operations refer to are read and locked up front with a few IN queries, the
+ * operations are applied to them in memory, and the end result is written with one JDBC batch
+ * per statement, so a hundred operations cost a handful of round trips rather than a hundred
+ * requests and transactions.
+ *
+ * <p>An update or delete can refer to a task created earlier in the same batch by that create's
+ * operation index ({@code ref}) rather than an ID. The change is applied to the new task in memory,
+ * so it is inserted in its final state; one that is then deleted is inserted and deleted again so
+ * that its create still reports the ID it was given.</p>
+ *
+ * <p>It writes the tasks table of the main datasource directly, so like the streaming list it
+ * is not available when tasks are stored in shards or the log store.</p>
+ */
+@Service
+@ConditionalOnExpression("!${task-management.sharding.enabled:false} and !${task-management.log-store.enabled:false}")
+@Slf4j
+public class TaskBatchService {
+
+    static final int MAX_OPERATIONS = 1000;
+    static final int JDBC_BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO tasks (title, description, status, due_date, "
+        + "created_date, updated_date, assignee) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE tasks SET title = ?, description = ?, status = ?, "
+        + "due_date = ?, updated_date = ?, assignee = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM tasks WHERE id = ?";
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskBatchService(TaskService taskService, TaskMapper taskMapper, DataSource dataSource,
+                            PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                            WorkloadProperties workloadProperties) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setTimeout(workloadProperties.getOltp().getStatementTimeoutSeconds());
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Apply the operations in order. Each gets a result in its position; an operation that fails
+     * validation or refers to a missing task does not stop a CONTINUE_ON_ERROR batch, but stops an
+     * ALL_OR_NOTHING batch before anything is written.
+     */
+    @Workload(WorkloadClass.OLTP)
+    public TaskBatchResult execute(TaskBatchRequest request) {
+        if (request == null || request.getOperations() == null || request.getOperations().isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one operation");
+        }
+        List<TaskBatchOperation> operations = request.getOperations();
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_OPERATIONS + " operations");
+        }
+        TaskBatchMode mode = request.getMode() != null ? request.getMode() : TaskBatchMode.ALL_OR_NOTHING;
+        log.info("Running batch of {} task operations ({})", operations.size(), mode);
+
+        TaskBatchResult result = batchTransaction.execute(status -> run(operations, mode, status));
+        log.info("Batch of {} task operations {}", operations.size(),
+                 result != null && result.isCommitted() ? "committed" : "not committed");
+        return result;
+    }
+
+    private TaskBatchResult run(List<TaskBatchOperation> operations, TaskBatchMode mode, TransactionStatus status) {
+        Map<Long, TaskEntity> rows = lockRows(operations);
+        Changes changes = new Changes();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Step> steps = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            Step step = apply(index, operations, steps, rows, changes, now);
+            steps.add(step);
+            if (step.error != null && mode == TaskBatchMode.ALL_OR_NOTHING) {
+                // Nothing has been written yet; only the row locks are given up
+                status.setRollbackOnly();
+                return notCommitted(operations, steps);
+            }
+        }
+
+        insert(changes.created);
+        update(changes.updated.values());
+        changes.createdThenDeleted.forEach(entity -> changes.deleted.add(entity.getId()));
+        delete(changes.deleted);
+
+        List<TaskBatchOperationResult> results = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            TaskBatchOperationResult result = step.toResult();
+            results.add(result);
+            step.publish(eventPublisher, result.getTask());
+        }
+        return new TaskBatchResult(true, results);
+    }
+
+    /**
+     * Read and lock every task the batch refers to, in ID order so that two batches touching the
+     * same tasks cannot deadlock
+     */
+    private Map<Long, TaskEntity> lockRows(List<TaskBatchOperation> operations) {
+        List<Long> ids = operations.stream()
+            .filter(operation -> operation != null && operation.getOp() != TaskBatchOperationType.CREATE)
+            .map(TaskBatchOperation::getId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .toList();
+
+        Map<Long, TaskEntity> rows = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += TaskService.LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + TaskService.LOOKUP_CHUNK_SIZE, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("SELECT " + TaskEntityRowMapper.COLUMNS + " FROM tasks WHERE id IN ("
+                                   + placeholders + ") FOR UPDATE",
+                               TaskEntityRowMapper.INSTANCE, chunk.toArray())
+                .forEach(row -> rows.put(row.getId(), row));
+        }
+        return rows;
+    }
+
+    private Step apply(int index, List<TaskBatchOperation> operations, List<Step> steps, Map<Long, TaskEntity> rows,
+                       Changes changes, LocalDateTime now) {
+        TaskBatchOperation operation = operations.get(index);
+        if (operation == null || operation.getOp() == null) {
+            return Step.failed(null, null, 400, "Batch operation type cannot be null");
+        }
+        TaskBatchOperationType op = operation.getOp();
+        Long id = operation.getId();
+        Integer ref = operation.getRef();
+        try {
+            if (op == TaskBatchOperationType.CREATE) {
+                CreateTaskRequest task = operation.getTask();
+                if (task == null) {
+                    throw new IllegalArgumentException("Task to create cannot be null");
+                }
+                TaskEntity entity = taskService.newTaskEntity(task.getTitle(), task.getDescription(),
+                                                              task.getStatus(), task.getDueDate());
+                changes.created.add(entity);
+                changes.createdByOperation.put(index, entity);
+                return Step.created(entity, taskMapper.toModel(entity));
+            }
+
+            if (ref != null) {
+                validateRef(ref, index, operations, id);
+            } else if (id == null) {
+                throw new IllegalArgumentException("Task ID cannot be null");
+            }
+            TaskPatch patch = null;
+            if (op == TaskBatchOperationType.UPDATE) {
+                patch = operation.getPatch();
+                TaskService.validatePatch(patch);
+            } else if (op == TaskBatchOperationType.UPDATE_STATUS) {
+                patch = statusPatch(operation);
+            }
+            if (ref != null && steps.get(ref).error != null) {
+                return Step.failed(op, null, TaskBatchOperationResult.NOT_COMMITTED,
+                                   "Not run because operation " + ref + " failed");
+            }
+            TaskEntity row = ref != null ? changes.createdByOperation.get(ref) : rows.get(id);
+            if (row == null) {
+                return Step.failed(op, id, 404, ref != null
+                    ? "Task created by operation " + ref + " not found" : "Task " + id + " not found");
+            }
+            // A task created by this batch has no ID until it is inserted
+            TaskEntity created = ref != null ? row : null;
+
+            if (op == TaskBatchOperationType.DELETE) {
+                if (created != null) {
+                    changes.createdByOperation.remove(ref);
+                    changes.createdThenDeleted.add(created);
+                    return Step.deleted(null, created);
+                }
+                rows.remove(id);
+                changes.updated.remove(id);
+                changes.deleted.add(id);
+                return Step.deleted(id, null);
+            }
+
+            TaskStatus previousStatus = row.getStatus();
+            boolean changed = TaskService.applyPatch(patch, row);
+            if (changed) {
+                row.setUpdatedDate(now);
+                if (created == null) {
+                    // A created task is inserted with its final values instead
+                    changes.updated.put(id, row);
+                }
+            }
+            return Step.saved(op, taskMapper.toModel(row), created, previousStatus, changed);
+        } catch (IllegalArgumentException e) {
+            return Step.failed(op, id, 400, e.getMessage());
+        }
+    }
+
+    /**
+     * A ref must name an earlier CREATE operation, and replaces the ID rather than adding to it
+     */
+    private static void validateRef(int ref, int index, List<TaskBatchOperation> operations, Long id) {
+        if (id != null) {
+            throw new IllegalArgumentException("Task ID and ref cannot both be set");
+        }
+        if (ref < 0 || ref >= index) {
+            throw new IllegalArgumentException("ref must be the index of an earlier operation");
+        }
+        TaskBatchOperation referenced = operations.get(ref);
+        if (referenced == null || referenced.getOp() != TaskBatchOperationType.CREATE) {
+            throw new IllegalArgumentException("Operation " + ref + " is not a CREATE");
+        }
+    }
+
+    private static TaskPatch statusPatch(TaskBatchOperation operation) {
+        if (operation.getStatus() == null) {
+            throw new IllegalArgumentException("Task status cannot be null");
+        }
+        TaskPatch patch = new TaskPatch();
+        patch.setStatus(operation.getStatus());
+        return patch;
+    }
+
+    /**
+     * Results for an all-or-nothing batch that stopped at its last step
+     */
+    private static TaskBatchResult notCommitted(List<TaskBatchOperation> operations, List<Step> steps) {
+        int failedAt = steps.size() - 1;
+        List<TaskBatchOperationResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            if (i == failedAt) {
+                results.add(steps.get(i).toResult());
+                continue;
+            }
+            TaskBatchOperation operation = operations.get(i);
+            results.add(TaskBatchOperationResult.failed(
+                operation != null ? operation.getOp() : null, operation != null ? operation.getId() : null,
+                TaskBatchOperationResult.NOT_COMMITTED,
+                (i < failedAt ? "Not committed" : "Not run") + " because operation " + failedAt + " failed"));
+        }
+        return new TaskBatchResult(false, results);
+    }
+
+    private void insert(List<TaskEntity> created) {
+        for (int from = 0; from < created.size(); from += JDBC_BATCH_SIZE) {
+            List<TaskEntity> chunk = created.subList(from, Math.min(from + JDBC_BATCH_SIZE, created.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                                     new BatchPreparedStatementSetter() {
+                                         @Override
+                                         public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                             TaskEntity entity = chunk.get(i);
+                                             bindFields(ps, entity);
+                                             ps.setTimestamp(5, Timestamp.valueOf(entity.getCreatedDate()));
+                                             ps.setTimestamp(6, Timestamp.valueOf(entity.getUpdatedDate()));
+                                             ps.setString(7, entity.getAssignee());
+                                         }
+
+                                         @Override
+                                         public int getBatchSize() {
+                                             return chunk.size();
+                                         }
+                                     }, keyHolder);
+            List<Map<String, Object>> keys = keyHolder.getKeyList();
+            for (int i = 0; i < chunk.size(); i++) {
+                chunk.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            }
+        }
+    }
+
+    private void update(Collection<TaskEntity> updated) {
+        if (updated.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updated, JDBC_BATCH_SIZE, (ps, entity) -> {
+            bindFields(ps, entity);
+            ps.setTimestamp(5, Timestamp.valueOf(entity.getUpdatedDate()));
+            ps.setString(6, entity.getAssignee());
+            ps.setLong(7, entity.getId());
+        });
+    }
+
+    private void delete(Collection<Long> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, deleted, JDBC_BATCH_SIZE, (ps, id) -> ps.setLong(1, id));
+    }
+
+    private static void bindFields(PreparedStatement ps, TaskEntity entity) throws SQLException {
+        ps.setString(1, entity.getTitle());
+        ps.setString(2, entity.getDescription());
+        ps.setString(3, entity.getStatus().name());
+        ps.setTimestamp(4, entity.getDueDate() != null ? Timestamp.valueOf(entity.getDueDate()) : null);
+    }
+
+    /**
+     * What the batch will write once every operation has been applied. A task updated several
+     * times is written once, and one that is deleted is not updated at all.
+     */
+    private static final class Changes {
+        private final List<TaskEntity> created = new ArrayList<>();
+        /**
+         * Created tasks that later operations can still refer to, by the index of their create
+         */
+        private final Map<Integer, TaskEntity> createdByOperation = new HashMap<>();
+        private final List<TaskEntity> createdThenDeleted = new ArrayList<>();
+        private final Map<Long, TaskEntity> updated = new LinkedHashMap<>();
+        private final Set<Long> deleted = new LinkedHashSet<>();
+    }
+
+    /**
+     * One operation after it has been applied in memory
+     */
+    private static final class Step {
+        private final TaskBatchOperationType op;
+        private final Long id;
+        private final int code;
+        private final String error;
+        /**
+         * The task created by this batch that the step applies to, whose ID is known once it has
+         * been inserted; null for existing tasks
+         */
+        private final TaskEntity created;
+        private final Task task;
+        private final TaskStatus previousStatus;
+        private final boolean changed;
+
+        private Step(TaskBatchOperationType op, Long id, int code, String error, TaskEntity created, Task task,
+                     TaskStatus previousStatus, boolean changed) {
+            this.op = op;
+            this.id = id;
+            this.code = code;
+            this.error = error;
+            this.created = created;
+            this.task = task;
+            this.previousStatus = previousStatus;
+            this.changed = changed;
+        }
+
+        private static Step created(TaskEntity entity, Task task) {
+            return new Step(TaskBatchOperationType.CREATE, null, 201, null, entity, task, null, true);
+        }
+
+        private static Step saved(TaskBatchOperationType op, Task task, TaskEntity created, TaskStatus previousStatus,
+                                  boolean changed) {
+            return new Step(op, task.getId(), 200, null, created, task, previousStatus, changed);
+        }
+
+        private static Step deleted(Long id, TaskEntity created) {
+            return new Step(TaskBatchOperationType.DELETE, id, 204, null, created, null, null, true);
+        }
+
+        private static Step failed(TaskBatchOperationType op, Long id, int code, String error) {
+            return new Step(op, id, code, error, null, null, null, false);
+        }
+
+        private TaskBatchOperationResult toResult() {
+            if (error != null) {
+                return TaskBatchOperationResult.failed(op, id, code, error);
+            }
+            if (created != null && task != null) {
+                task.setId(created.getId());
+            }
+            return TaskBatchOperationResult.succeeded(op, id(), code, task);
+        }
+
+        private Long id() {
+            return created != null ? created.getId() : id;
+        }
+
+        /**
+         * Tell the derived views about the change; they only see it once the batch commits
+         */
+        private void publish(ApplicationEventPublisher eventPublisher, Task result) {
+            if (error != null || !changed) {
+                return;
+            }
+            if (op == TaskBatchOperationType.CREATE) {
+                eventPublisher.publishEvent(TaskChangedEvent.created(result));
+            } else if (op == TaskBatchOperationType.DELETE) {
+                eventPublisher.publishEvent(TaskChangedEvent.deleted(id()));
+            } else {
+                eventPublisher.publishEvent(TaskChangedEvent.saved(result, previousStatus));
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.TaskBoardColumn;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskSummary;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory kanban board: one due-date ordered column of task summaries per status.
+ * Kept up to date from committed TaskService writes, so serving the board needs no
+ * database work.
+ */
+@Service
+public class TaskBoardService extends EventMaintainedView<TaskBoardService.Board> {
+
+    static final Comparator<TaskSummary> BOARD_ORDER = Comparator
+        .comparing(TaskSummary::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(TaskSummary::getId);
+
+    private final TaskStore taskStore;
+    private final TaskMapper taskMapper;
+
+    public TaskBoardService(TaskStore taskStore, TaskMapper taskMapper,
+                            PlatformTransactionManager transactionManager) {
+        super("task board", new Board(), transactionManager);
+        this.taskStore = taskStore;
+        this.taskMapper = taskMapper;
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${task-management.board.rebuild-interval:PT1H}",
+               fixedDelayString = "${task-management.board.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        super.scheduledRebuild();
+    }
+
+    /**
+     * The first {@code limit} tasks of each status column, with the column sizes
+     */
+    public Map<TaskStatus, TaskBoardColumn> getBoard(int limit) {
+        Board current = state();
+        Map<TaskStatus, TaskBoardColumn> columns = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            List<TaskSummary> tasks = current.columns.get(status).stream().limit(limit).toList();
+            columns.put(status, new TaskBoardColumn(current.sizes.get(status).get(), tasks));
+        }
+        return columns;
+    }
+
+    @Override
+    protected Board load() {
+        List<TaskSummary> loaded = readTransaction.execute(status -> taskStore.findAll().stream()
+            .map(taskMapper::toModel)
+            .map(TaskSummary::of)
+            .toList());
+        Board fresh = new Board();
+        if (loaded != null) {
+            loaded.forEach(fresh::upsert);
+        }
+        return fresh;
+    }
+
+    @Override
+    protected void apply(Board target, Object event) {
+        target.apply(event);
+    }
+
+    @Override
+    protected String describe(Board loaded) {
+        return loaded.byId.size() + " tasks";
+    }
+
+    /**
+     * Board contents. Mutated only while holding the view lock; read without locking.
+     */
+    static final class Board {
+
+        private final Map<Long, TaskSummary> byId = new ConcurrentHashMap<>();
+        private final Map<TaskStatus, NavigableSet<TaskSummary>> columns = new EnumMap<>(TaskStatus.class);
+        private final Map<TaskStatus, AtomicInteger> sizes = new EnumMap<>(TaskStatus.class);
+
+        private Board() {
+            for (TaskStatus status : TaskStatus.values()) {
+                columns.put(status, new ConcurrentSkipListSet<>(BOARD_ORDER));
+                sizes.put(status, new AtomicInteger());
+            }
+        }
+
+        private void apply(Object event) {
+            if (event instanceof TaskChangedEvent changed) {
+                if (changed.isDeleted()) {
+                    remove(changed.getTaskId());
+                } else {
+                    upsert(TaskSummary.of(changed.getTask()));
+                }
+            } else if (event instanceof TasksRemovedEvent removed) {
+                removed.getTaskIds().forEach(this::remove);
+            } else if (event instanceof TasksCreatedEvent created) {
+                created.getTasks().forEach(task -> upsert(TaskSummary.of(task)));
+            }
+        }
+
+        private void upsert(TaskSummary summary) {
+            TaskSummary previous = byId.get(summary.getId());
+            if (previous != null && isNewer(previous.getUpdatedDate(), summary.getUpdatedDate())) {
+                return;
+            }
+            remove(summary.getId());
+            byId.put(summary.getId(), summary);
+            columns.get(summary.getStatus()).add(summary);
+            sizes.get(summary.getStatus()).incrementAndGet();
+        }
+
+        private void remove(Long id) {
+            TaskSummary previous = byId.remove(id);
+            if (previous != null && columns.get(previous.getStatus()).remove(previous)) {
+                sizes.get(previous.getStatus()).decrementAndGet();
+            }
+        }
+
+        private static boolean isNewer(LocalDateTime existing, LocalDateTime incoming) {
+            return existing != null && incoming != null && existing.isAfter(incoming);
+        }
+    }
+}
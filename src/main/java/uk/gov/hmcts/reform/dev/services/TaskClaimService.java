@@ -0,0 +1,219 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+import uk.gov.hmcts.reform.dev.workload.Workload;
+import uk.gov.hmcts.reform.dev.workload.WorkloadClass;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * "Claim the next task" queue. PENDING tasks are held in memory in due-date order; a claimer
+ * takes the head of the queue with a lock-free poll, so concurrent claimers never hold the same
+ * candidate, and then moves it to IN_PROGRESS and assigns it to themselves with a conditional
+ * UPDATE on that one row. The
+ * UPDATE only matches nothing when the queue was stale (the task changed without an event, or
+ * another instance claimed it), in which case the claimer moves on to the next candidate.
+ * Kept up to date from committed task changes, like the task board.
+ */
+@Service
+@Slf4j
+public class TaskClaimService extends EventMaintainedView<TaskClaimService.ClaimQueue> {
+
+    static final Comparator<Candidate> CLAIM_ORDER = Comparator
+        .comparing(Candidate::dueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Candidate::id);
+
+    private final TaskStore taskStore;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate claimTransaction;
+
+    private final Counter claimedCounter;
+    private final Counter staleCounter;
+
+    public TaskClaimService(TaskStore taskStore, TaskMapper taskMapper,
+                            PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        super("claim queue", new ClaimQueue(), transactionManager);
+        this.taskStore = taskStore;
+        this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+
+        this.claimedCounter = Counter.builder("task.claim.claimed")
+            .description("Tasks claimed through the work queue")
+            .register(meterRegistry);
+        this.staleCounter = Counter.builder("task.claim.stale")
+            .description("Queued candidates that were no longer pending when claimed")
+            .register(meterRegistry);
+        Gauge.builder("task.claim.queue.size", this, service -> service.state().size())
+            .description("Pending tasks waiting in the claim queue")
+            .register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${task-management.claim.rebuild-interval:PT10M}",
+               fixedDelayString = "${task-management.claim.rebuild-interval:PT10M}")
+    public void scheduledRebuild() {
+        super.scheduledRebuild();
+    }
+
+    /**
+     * Claim the earliest-due pending task for the caller
+     *
+     * @param assignee who is claiming; the claimed task is assigned to them
+     * @return the task, now IN_PROGRESS, or empty when nothing is pending
+     */
+    @Workload(WorkloadClass.OLTP)
+    public Optional<Task> claimNext(String assignee) {
+        String claimer = TaskService.validateAssignee(assignee);
+        while (true) {
+            Candidate candidate = state().poll();
+            if (candidate == null) {
+                return Optional.empty();
+            }
+            Optional<Task> claimed;
+            try {
+                claimed = claimTransaction.execute(status -> claim(candidate.id(), claimer));
+            } catch (RuntimeException e) {
+                // The task is still PENDING in the database; put it back rather than lose it
+                // until the next rebuild
+                update(queue -> queue.requeue(candidate));
+                throw e;
+            }
+            if (claimed != null && claimed.isPresent()) {
+                claimedCounter.increment();
+                log.info("Task {} claimed by {}", candidate.id(), claimer);
+                return claimed;
+            }
+            staleCounter.increment();
+            log.debug("Claim candidate {} was no longer pending, trying the next one", candidate.id());
+        }
+    }
+
+    public int getQueueSize() {
+        return state().size();
+    }
+
+    @Override
+    protected ClaimQueue load() {
+        List<Candidate> loaded = readTransaction.execute(status -> taskStore
+            .findByStatusOrderByDueDateAsc(TaskStatus.PENDING).stream()
+            .map(entity -> new Candidate(entity.getId(), entity.getDueDate()))
+            .toList());
+        ClaimQueue fresh = new ClaimQueue();
+        if (loaded != null) {
+            loaded.forEach(fresh::add);
+        }
+        return fresh;
+    }
+
+    @Override
+    protected void apply(ClaimQueue target, Object event) {
+        target.apply(event);
+    }
+
+    @Override
+    protected String describe(ClaimQueue loaded) {
+        return loaded.size() + " pending tasks";
+    }
+
+    private Optional<Task> claim(Long id, String assignee) {
+        if (taskStore.claimIfPending(id, assignee, LocalDateTime.now()) == 0) {
+            return Optional.empty();
+        }
+        Optional<Task> task = taskStore.findById(id).map(taskMapper::toModel);
+        task.ifPresent(claimed -> eventPublisher.publishEvent(TaskChangedEvent.saved(claimed, TaskStatus.PENDING)));
+        return task;
+    }
+
+    record Candidate(Long id, LocalDateTime dueDate) {
+    }
+
+    /**
+     * Pending tasks in claim order. Events mutate it under the view lock; claimers
+     * only poll, which needs no lock.
+     */
+    static final class ClaimQueue {
+
+        private final ConcurrentSkipListSet<Candidate> order = new ConcurrentSkipListSet<>(CLAIM_ORDER);
+        private final Map<Long, Candidate> byId = new ConcurrentHashMap<>();
+
+        private Candidate poll() {
+            Candidate head = order.pollFirst();
+            if (head != null) {
+                byId.remove(head.id(), head);
+            }
+            return head;
+        }
+
+        private void apply(Object event) {
+            if (event instanceof TaskChangedEvent changed) {
+                if (changed.isDeleted()) {
+                    remove(changed.getTaskId());
+                } else if (changed.getTask().getStatus() == TaskStatus.PENDING) {
+                    add(new Candidate(changed.getTask().getId(), changed.getTask().getDueDate()));
+                } else {
+                    remove(changed.getTask().getId());
+                }
+            } else if (event instanceof TasksRemovedEvent removed) {
+                removed.getTaskIds().forEach(this::remove);
+            } else if (event instanceof TasksCreatedEvent created) {
+                for (Task task : created.getTasks()) {
+                    if (task.getStatus() == TaskStatus.PENDING) {
+                        add(new Candidate(task.getId(), task.getDueDate()));
+                    }
+                }
+            }
+        }
+
+        private void add(Candidate candidate) {
+            Candidate previous = byId.put(candidate.id(), candidate);
+            if (previous != null) {
+                order.remove(previous);
+            }
+            order.add(candidate);
+        }
+
+        /**
+         * Return a polled candidate unless an event has queued the task again meanwhile
+         */
+        private void requeue(Candidate candidate) {
+            if (!byId.containsKey(candidate.id())) {
+                add(candidate);
+            }
+        }
+
+        private void remove(Long id) {
+            Candidate previous = byId.remove(id);
+            if (previous != null) {
+                order.remove(previous);
+            }
+        }
+
+        private int size() {
+            return byId.size();
+        }
+    }
+}
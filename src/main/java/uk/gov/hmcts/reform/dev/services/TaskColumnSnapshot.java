@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.columnar.TaskColumns;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.DueDateCount;
+import uk.gov.hmcts.reform.dev.repositories.TaskColumnRow;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory columnar copy of every task's status and due date, which statistics and
+ * due date calendar queries scan instead of loading entities or grouping in the database.
+ * Loaded at startup in ID-ordered pages of projected columns, then kept up to date from
+ * committed task changes, like the claim queue. Scans share a read lock; changes take the
+ * write lock for the few array writes they need.
+ */
+@Service
+public class TaskColumnSnapshot extends EventMaintainedView<TaskColumns> {
+
+    static final int REBUILD_PAGE_SIZE = 10_000;
+
+    private final TaskStore taskStore;
+
+    private final ReadWriteLock columnsLock = new ReentrantReadWriteLock();
+
+    public TaskColumnSnapshot(TaskStore taskStore, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        super("columnar task snapshot", new TaskColumns(0), transactionManager);
+        this.taskStore = taskStore;
+
+        Gauge.builder("task.columns.rows", this, snapshot -> snapshot.state().size())
+            .description("Tasks held in the columnar analytics snapshot")
+            .register(meterRegistry);
+        Gauge.builder("task.columns.bytes", this, snapshot -> snapshot.state().allocatedBytes())
+            .description("Heap allocated to the columnar analytics snapshot")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${task-management.columns.rebuild-interval:PT1H}",
+               fixedDelayString = "${task-management.columns.rebuild-interval:PT1H}")
+    public void scheduledRebuild() {
+        super.scheduledRebuild();
+    }
+
+    public Map<TaskStatus, Long> countByStatus() {
+        return read(() -> state().countByStatus());
+    }
+
+    public long countOverdue(LocalDateTime now, Collection<TaskStatus> excludedStatuses) {
+        return read(() -> state().countOverdue(now, excludedStatuses));
+    }
+
+    /**
+     * Count tasks per due day and status for the days {@code from}..{@code to} inclusive
+     */
+    public List<DueDateCount> countByDueDay(LocalDate from, LocalDate to) {
+        return read(() -> state().countByDueDay(from, to));
+    }
+
+    /**
+     * Read the columns page by page
+     */
+    @Override
+    protected TaskColumns load() {
+        TaskColumns fresh = new TaskColumns((int) Math.min(taskStore.count(), Integer.MAX_VALUE - 8));
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            List<TaskColumnRow> page = readTransaction.execute(
+                status -> taskStore.findColumnsAfter(after, PageRequest.of(0, REBUILD_PAGE_SIZE)));
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (TaskColumnRow row : page) {
+                fresh.put(row.getId(), row.getStatus(), row.getDueDate());
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        return fresh;
+    }
+
+    /**
+     * Scans may be running over the columns, so changes take the write lock
+     */
+    @Override
+    protected void apply(TaskColumns target, Object event) {
+        columnsLock.writeLock().lock();
+        try {
+            if (event instanceof TaskChangedEvent changed) {
+                if (changed.isDeleted()) {
+                    target.remove(changed.getTaskId());
+                } else {
+                    target.put(changed.getTask().getId(), changed.getTask().getStatus(),
+                               changed.getTask().getDueDate());
+                }
+            } else if (event instanceof TasksRemovedEvent removed) {
+                removed.getTaskIds().forEach(target::remove);
+            } else if (event instanceof TasksCreatedEvent created) {
+                created.getTasks().forEach(task -> target.put(task.getId(), task.getStatus(), task.getDueDate()));
+            }
+        } finally {
+            columnsLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    protected String describe(TaskColumns loaded) {
+        return loaded.size() + " tasks in " + loaded.allocatedBytes() + " bytes";
+    }
+
+    private <T> T read(Supplier<T> scan) {
+        columnsLock.readLock().lock();
+        try {
+            return scan.get();
+        } finally {
+            columnsLock.readLock().unlock();
+        }
+    }
+}
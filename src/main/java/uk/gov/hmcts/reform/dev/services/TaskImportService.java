@@ -0,0 +1,377 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.config.ImportProperties;
+import uk.gov.hmcts.reform.dev.entities.ImportJobEntity;
+import uk.gov.hmcts.reform.dev.entities.ImportRowErrorEntity;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.imports.ImportRow;
+import uk.gov.hmcts.reform.dev.imports.ImportTooLargeException;
+import uk.gov.hmcts.reform.dev.imports.TaskRowReader;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.ImportFormat;
+import uk.gov.hmcts.reform.dev.models.ImportJob;
+import uk.gov.hmcts.reform.dev.models.ImportJobStatus;
+import uk.gov.hmcts.reform.dev.models.ImportRowError;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.ImportJobRepository;
+import uk.gov.hmcts.reform.dev.repositories.ImportRowErrorRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk task creation from CSV or NDJSON uploads. The upload is copied to disk as it arrives and
+ * then read back one row at a time, so neither step holds the file in memory. Rows get the same
+ * validation as a single create and are inserted in batches, each in one transaction together
+ * with its rejected rows and the import's progress. An import interrupted by a restart carries on
+ * after its last committed batch.
+ *
+ * <p>Against the JPA store a batch and its progress commit atomically, so every row is imported
+ * once. The sharded and log-structured stores write outside that transaction, so a batch that was
+ * being written when the process died may be imported again.</p>
+ */
+@Service
+@Slf4j
+public class TaskImportService {
+
+    static final List<ImportJobStatus> UNFINISHED_STATUSES = List.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TaskService taskService;
+    private final TaskStore taskStore;
+    private final ImportJobRepository importJobRepository;
+    private final ImportRowErrorRepository importRowErrorRepository;
+    private final TaskMapper taskMapper;
+    private final ImportProperties properties;
+    private final TransactionTemplate batchTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    private final ExecutorService executor;
+    private final Set<String> submitted = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+
+    public TaskImportService(TaskService taskService, TaskStore taskStore,
+                             ImportJobRepository importJobRepository,
+                             ImportRowErrorRepository importRowErrorRepository, TaskMapper taskMapper,
+                             ImportProperties properties, PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.taskStore = taskStore;
+        this.importJobRepository = importJobRepository;
+        this.importRowErrorRepository = importRowErrorRepository;
+        this.taskMapper = taskMapper;
+        this.properties = properties;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(properties.getDirectory());
+        this.executor = Executors.newFixedThreadPool(properties.getWorkers(),
+                                                     new CustomizableThreadFactory("task-import-"));
+
+        this.importedCounter = Counter.builder("task.imports.rows")
+            .tag("outcome", "imported")
+            .description("Rows processed by bulk imports")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("task.imports.rows")
+            .tag("outcome", "rejected")
+            .description("Rows processed by bulk imports")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Spool an upload to disk and queue its import
+     *
+     * @throws ImportTooLargeException if the upload is larger than max-upload-size
+     */
+    public ImportJob startImport(ImportFormat format, InputStream body) throws IOException {
+        if (format == null) {
+            throw new IllegalArgumentException("Import format cannot be null");
+        }
+        if (body == null) {
+            throw new IllegalArgumentException("Import body cannot be null");
+        }
+        String id = UUID.randomUUID().toString();
+        Path file = directory.resolve("import-" + id + "." + format.name().toLowerCase(Locale.ROOT));
+        Files.createDirectories(directory);
+        try {
+            long size = spool(body, file);
+            log.info("Spooled {} bytes of {} for import {}", size, format, id);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+
+        ImportJobEntity job = importJobRepository.save(new ImportJobEntity(id, format, file.toString()));
+        submit(id);
+        return toModel(job);
+    }
+
+    public Optional<ImportJob> getImport(String id) {
+        return importJobRepository.findById(id).map(TaskImportService::toModel);
+    }
+
+    /**
+     * A page of an import's rejected rows, or empty if the import is unknown
+     */
+    public Optional<List<ImportRowError>> getErrors(String id, Pageable pageable) {
+        if (!importJobRepository.existsById(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(importRowErrorRepository.findByImportIdOrderByRowNumberAsc(id, pageable).stream()
+                               .map(error -> new ImportRowError(error.getRowNumber(), error.getMessage()))
+                               .toList());
+    }
+
+    /**
+     * Pick up imports that were queued or running when the application last stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeImports() {
+        List<ImportJobEntity> unfinished = importJobRepository.findByStatusInOrderByCreatedDateAsc(UNFINISHED_STATUSES);
+        for (ImportJobEntity job : unfinished) {
+            log.info("Resuming import {} after row {}", job.getId(), job.getRowsProcessed());
+            submit(job.getId());
+        }
+    }
+
+    /**
+     * Stop each running import after its current batch. Imports left unfinished stay RUNNING
+     * and resume on the next start.
+     */
+    @PreDestroy
+    public void close() {
+        stopping = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(String id) {
+        if (submitted.add(id)) {
+            executor.execute(() -> {
+                try {
+                    run(id);
+                } finally {
+                    submitted.remove(id);
+                }
+            });
+        }
+    }
+
+    private void run(String id) {
+        ImportJobEntity job = importJobRepository.findById(id).orElse(null);
+        if (job == null || !UNFINISHED_STATUSES.contains(job.getStatus())) {
+            return;
+        }
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setUpdatedDate(LocalDateTime.now());
+        job = importJobRepository.save(job);
+
+        Path file = Paths.get(job.getFilePath());
+        int maxRecordLength = (int) Math.min(properties.getMaxRecordSize().toBytes(), Integer.MAX_VALUE);
+        try (TaskRowReader reader = TaskRowReader.open(job.getFormat(), Files.newInputStream(file), objectMapper,
+                                                       maxRecordLength)) {
+            // Rows up to rowsProcessed were committed before a restart
+            long skipped = 0;
+            while (skipped < job.getRowsProcessed() && reader.next() != null) {
+                skipped++;
+            }
+
+            List<ImportRow> batch = new ArrayList<>(properties.getBatchSize());
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() >= properties.getBatchSize()) {
+                    job = commitBatch(job, batch);
+                    batch.clear();
+                    if (stopping || !pause()) {
+                        log.info("Import {} stopped after row {}", id, job.getRowsProcessed());
+                        return;
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                job = commitBatch(job, batch);
+            }
+            finish(id, ImportJobStatus.COMPLETED, null);
+            deleteQuietly(file);
+            log.info("Import {} completed: {} imported, {} rejected", id, job.getImported(), job.getFailed());
+        } catch (Exception e) {
+            if (stopping) {
+                log.info("Import {} interrupted by shutdown: {}", id, e.getMessage());
+                return;
+            }
+            log.error("Import {} failed: {}", id, e.getMessage(), e);
+            finish(id, ImportJobStatus.FAILED, String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * Insert a batch's valid rows, record its rejected ones and advance the import's progress,
+     * all in one transaction
+     */
+    private ImportJobEntity commitBatch(ImportJobEntity job, List<ImportRow> rows) {
+        long importedBefore = job.getImported();
+        long failedBefore = job.getFailed();
+        ImportJobEntity committed = batchTransaction.execute(status -> {
+            List<TaskEntity> tasks = new ArrayList<>(rows.size());
+            List<ImportRowErrorEntity> errors = new ArrayList<>();
+            long rejected = 0;
+            for (ImportRow row : rows) {
+                try {
+                    tasks.add(toEntity(row));
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    if (job.getFailed() + rejected <= properties.getMaxErrors()) {
+                        errors.add(new ImportRowErrorEntity(job.getId(), row.number(), String.valueOf(e.getMessage())));
+                    }
+                }
+            }
+
+            List<TaskEntity> saved = tasks.isEmpty() ? List.of() : taskStore.saveAll(tasks);
+            if (!errors.isEmpty()) {
+                importRowErrorRepository.saveAll(errors);
+            }
+            job.setRowsProcessed(job.getRowsProcessed() + rows.size());
+            job.setImported(job.getImported() + saved.size());
+            job.setFailed(job.getFailed() + rejected);
+            job.setUpdatedDate(LocalDateTime.now());
+            ImportJobEntity updated = importJobRepository.save(job);
+
+            if (!saved.isEmpty()) {
+                eventPublisher.publishEvent(new TasksCreatedEvent(saved.stream().map(taskMapper::toModel).toList()));
+            }
+            return updated;
+        });
+        importedCounter.increment(committed.getImported() - importedBefore);
+        rejectedCounter.increment(committed.getFailed() - failedBefore);
+        return committed;
+    }
+
+    private TaskEntity toEntity(ImportRow row) {
+        if (row.error() != null) {
+            throw new IllegalArgumentException(row.error());
+        }
+        TaskStatus status = null;
+        if (row.status() != null && !row.status().isBlank()) {
+            try {
+                status = TaskStatus.valueOf(row.status().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown status: " + row.status());
+            }
+        }
+        LocalDateTime dueDate = null;
+        if (row.dueDate() != null && !row.dueDate().isBlank()) {
+            try {
+                dueDate = LocalDateTime.parse(row.dueDate().trim());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid due date: " + row.dueDate());
+            }
+        }
+        return taskService.newTaskEntity(row.title(), row.description(), status, dueDate);
+    }
+
+    private void finish(String id, ImportJobStatus status, String error) {
+        importJobRepository.findById(id).ifPresent(job -> {
+            job.setStatus(status);
+            job.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            job.setUpdatedDate(LocalDateTime.now());
+            job.setCompletedDate(job.getUpdatedDate());
+            importJobRepository.save(job);
+        });
+    }
+
+    /**
+     * Sleep for batch-pause between batches
+     *
+     * @return false if interrupted
+     */
+    private boolean pause() {
+        if (properties.getBatchPause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getBatchPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long spool(InputStream body, Path file) throws IOException {
+        long limit = properties.getMaxUploadSize().toBytes();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > limit) {
+                    throw new ImportTooLargeException("Import is larger than " + properties.getMaxUploadSize());
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    private static ImportJob toModel(ImportJobEntity job) {
+        return new ImportJob(job.getId(), job.getStatus(), job.getFormat(), job.getRowsProcessed(),
+                             job.getImported(), job.getFailed(), job.getCreatedDate(), job.getUpdatedDate(),
+                             job.getCompletedDate(), job.getError());
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -2,61 +2,112 @@ package uk.gov.hmcts.reform.dev.services;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.coalescing.Coalesced;
 import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksReassignedEvent;
 import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.CalendarBucket;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskLookupResult;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
-import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.readcache.CachedRead;
+import uk.gov.hmcts.reform.dev.repositories.DueDateCount;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+import uk.gov.hmcts.reform.dev.workload.Workload;
+import uk.gov.hmcts.reform.dev.workload.WorkloadClass;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @Slf4j
 public class TaskService {
+
+    static final String OLTP_TIMEOUT = "${task-management.workload.oltp.statement-timeout-seconds:5}";
+    static final String REPORTING_TIMEOUT = "${task-management.workload.reporting.statement-timeout-seconds:30}";
+    static final long MAX_CALENDAR_DAYS = 5 * 366;
+    static final int MAX_LOOKUP_IDS = 5000;
+    static final int LOOKUP_CHUNK_SIZE = 500;
+    static final int MAX_TITLE_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 1000;
+    static final int MAX_ASSIGNEE_LENGTH = 100;
+    static final List<TaskStatus> OVERDUE_EXCLUDED_STATUSES = List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+    static final List<TaskStatus> REASSIGNED_BY_DEFAULT = List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
     
-    private final TaskRepository taskRepository;
+    private final TaskStore taskStore;
     private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskColumnSnapshot columnSnapshot;
 
+    /**
+     * @param columnSnapshot answers counts from memory once loaded; null to always query the repository
+     */
     @Autowired
-    public TaskService(TaskRepository taskRepository, TaskMapper taskMapper) {
-        this.taskRepository = taskRepository;
+    public TaskService(TaskStore taskStore, TaskMapper taskMapper,
+                       ApplicationEventPublisher eventPublisher, TaskColumnSnapshot columnSnapshot) {
+        this.taskStore = taskStore;
         this.taskMapper = taskMapper;
+        this.eventPublisher = eventPublisher;
+        this.columnSnapshot = columnSnapshot;
     }
 
     /**
      * Create a new task
      */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = OLTP_TIMEOUT)
     public Task createTask(String title, String description, TaskStatus status, LocalDateTime dueDate) {
         log.info("Creating new task with title: {}", title);
         
-        if (title == null || title.trim().isEmpty()) {
-            throw new IllegalArgumentException("Task title cannot be null or empty");
-        }
+        TaskEntity entity = newTaskEntity(title, description, status, dueDate);
+        TaskEntity savedEntity = taskStore.save(entity);
+        
+        log.info("Task created successfully with ID: {}", savedEntity.getId());
+        Task task = taskMapper.toModel(savedEntity);
+        eventPublisher.publishEvent(TaskChangedEvent.created(task));
+        return task;
+    }
+
+    /**
+     * Validate and normalise a new task's fields, for every path that creates tasks
+     */
+    public TaskEntity newTaskEntity(String title, String description, TaskStatus status, LocalDateTime dueDate) {
+        String finalTitle = validateTitle(title);
+        String finalDescription = validateDescription(description);
         
         // Ensure status is not null
         TaskStatus finalStatus = status != null ? status : TaskStatus.PENDING;
         
-        TaskEntity entity = taskMapper.createEntity(title.trim(), 
-                                                   description != null ? description.trim() : null, 
-                                                   finalStatus, 
-                                                   dueDate);
-        TaskEntity savedEntity = taskRepository.save(entity);
-        
-        log.info("Task created successfully with ID: {}", savedEntity.getId());
-        return taskMapper.toModel(savedEntity);
+        return taskMapper.createEntity(finalTitle, finalDescription, finalStatus, dueDate);
     }
 
     /**
      * Get task by ID
      */
-    @Transactional(readOnly = true)
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(readOnly = true, timeoutString = OLTP_TIMEOUT)
     public Optional<Task> getTaskById(Long id) {
         log.debug("Fetching task with ID: {}", id);
         
@@ -64,18 +115,57 @@ public class TaskService {
             throw new IllegalArgumentException("Task ID cannot be null");
         }
         
-        Optional<TaskEntity> entity = taskRepository.findById(id);
+        Optional<TaskEntity> entity = taskStore.findById(id);
         return entity.map(taskMapper::toModel);
     }
 
+    /**
+     * Look up many tasks by ID with a few chunked IN queries. Results follow the
+     * order of the requested IDs, with a missing marker for IDs that do not exist.
+     */
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
+    public List<TaskLookupResult> lookupTasks(List<Long> ids) {
+        log.debug("Looking up {} tasks by ID", ids != null ? ids.size() : 0);
+
+        if (ids == null) {
+            throw new IllegalArgumentException("Task IDs cannot be null");
+        }
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("Cannot look up more than " + MAX_LOOKUP_IDS + " tasks at once");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, Task> found = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, distinctIds.size()));
+            for (TaskEntity entity : taskStore.findAllById(chunk)) {
+                found.put(entity.getId(), taskMapper.toModel(entity));
+            }
+        }
+
+        List<TaskLookupResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = found.get(id);
+            results.add(task != null ? TaskLookupResult.found(task) : TaskLookupResult.missing(id));
+        }
+        return results;
+    }
+
     /**
      * Get all tasks
      */
-    @Transactional(readOnly = true)
+    @CachedRead
+    @Coalesced
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
     public List<Task> getAllTasks() {
         log.debug("Fetching all tasks");
         
-        List<TaskEntity> entities = taskRepository.findAllByOrderByDueDateAsc();
+        List<TaskEntity> entities = taskStore.findAllByOrderByDueDateAsc();
         return entities.stream()
                 .map(taskMapper::toModel)
                 .collect(Collectors.toList());
@@ -84,7 +174,10 @@ public class TaskService {
     /**
      * Get tasks by status
      */
-    @Transactional(readOnly = true)
+    @CachedRead
+    @Coalesced
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
     public List<Task> getTasksByStatus(TaskStatus status) {
         log.debug("Fetching tasks with status: {}", status);
         
@@ -92,15 +185,112 @@ public class TaskService {
             throw new IllegalArgumentException("Task status cannot be null");
         }
         
-        List<TaskEntity> entities = taskRepository.findByStatusOrderByDueDateAsc(status);
+        List<TaskEntity> entities = taskStore.findByStatusOrderByDueDateAsc(status);
         return entities.stream()
                 .map(taskMapper::toModel)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get a page of tasks due between two dates (inclusive)
+     */
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
+    public Page<Task> getTasksDueBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        log.debug("Fetching tasks due between {} and {}", from, to);
+
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Date range cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Date range end must not be before its start");
+        }
+
+        return taskStore.findByDueDateBetween(from, to, pageable).map(taskMapper::toModel);
+    }
+
+    /**
+     * Get a page of one assignee's tasks in due-date order, optionally only those with a status.
+     * Reads only that assignee's index entries, however many tasks others hold.
+     */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(readOnly = true, timeoutString = OLTP_TIMEOUT)
+    public Page<Task> getAssignedTasks(String assignee, TaskStatus status, Pageable pageable) {
+        log.debug("Fetching tasks assigned to {} with status {}", assignee, status);
+
+        String name = validateAssignee(assignee);
+        Page<TaskEntity> page = status != null
+            ? taskStore.findByAssigneeAndStatusOrderByDueDateAscIdAsc(name, status, pageable)
+            : taskStore.findByAssigneeOrderByDueDateAscIdAsc(name, pageable);
+        return page.map(taskMapper::toModel);
+    }
+
+    /**
+     * Move an assignee's tasks with the given statuses to another assignee, or unassign them when
+     * {@code to} is null, with a single UPDATE
+     *
+     * @param statuses the statuses to move; open tasks (PENDING and IN_PROGRESS) when null or empty
+     * @return the number of tasks moved
+     */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = OLTP_TIMEOUT)
+    public int reassignTasks(String from, String to, Collection<TaskStatus> statuses) {
+        log.info("Reassigning tasks from {} to {}", from, to);
+
+        String fromName = validateAssignee(from);
+        String toName = to != null ? validateAssignee(to) : null;
+        if (fromName.equals(toName)) {
+            throw new IllegalArgumentException("Tasks cannot be reassigned to their current assignee");
+        }
+        Set<TaskStatus> moved = statuses == null || statuses.isEmpty()
+            ? EnumSet.copyOf(REASSIGNED_BY_DEFAULT)
+            : EnumSet.copyOf(statuses);
+
+        int count = taskStore.reassign(fromName, toName, moved, LocalDateTime.now());
+        if (count > 0) {
+            eventPublisher.publishEvent(new TasksReassignedEvent(fromName, toName, moved, count));
+        }
+        log.info("Reassigned {} tasks from {} to {}", count, fromName, toName);
+        return count;
+    }
+
+    /**
+     * Count tasks due per calendar bucket and status for the days from..to (inclusive).
+     * One scan of the columnar snapshot, or one grouped query until it is loaded; days are
+     * folded into weeks or months here. Buckets with no tasks are omitted.
+     */
+    @Coalesced
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
+    public List<CalendarBucket> getDueDateCalendar(LocalDate from, LocalDate to, CalendarGranularity granularity) {
+        log.debug("Calculating {} due date calendar from {} to {}", granularity, from, to);
+
+        if (from == null || to == null || granularity == null) {
+            throw new IllegalArgumentException("Date range and granularity cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Date range end must not be before its start");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+
+        List<DueDateCount> rows = isColumnSnapshotReady()
+            ? columnSnapshot.countByDueDay(from, to)
+            : taskStore.countByDueDay(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        Map<LocalDate, CalendarBucket> buckets = new LinkedHashMap<>();
+        for (DueDateCount row : rows) {
+            LocalDate start = granularity.bucketStart(row.getDay());
+            buckets.computeIfAbsent(start, CalendarBucket::new).add(row.getStatus(), row.getTotal());
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
     /**
      * Update task status
      */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = OLTP_TIMEOUT)
     public Optional<Task> updateTaskStatus(Long id, TaskStatus status) {
         log.info("Updating task {} status to: {}", id, status);
         
@@ -111,13 +301,14 @@ public class TaskService {
             throw new IllegalArgumentException("Task status cannot be null");
         }
         
-        Optional<TaskEntity> entityOpt = taskRepository.findById(id);
+        Optional<TaskEntity> entityOpt = taskStore.findById(id);
         if (entityOpt.isPresent()) {
             TaskEntity entity = entityOpt.get();
+            TaskStatus previousStatus = entity.getStatus();
             entity.setStatus(status);
-            TaskEntity savedEntity = taskRepository.save(entity);
+            TaskEntity savedEntity = taskStore.save(entity);
             log.info("Task {} status updated successfully", id);
-            return Optional.of(taskMapper.toModel(savedEntity));
+            return Optional.of(published(taskMapper.toModel(savedEntity), previousStatus));
         }
         
         log.warn("Task with ID {} not found for status update", id);
@@ -127,6 +318,8 @@ public class TaskService {
     /**
      * Update entire task
      */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = OLTP_TIMEOUT)
     public Optional<Task> updateTask(Long id, String title, String description, 
                                    TaskStatus status, LocalDateTime dueDate) {
         log.info("Updating task with ID: {}", id);
@@ -134,32 +327,66 @@ public class TaskService {
         if (id == null) {
             throw new IllegalArgumentException("Task ID cannot be null");
         }
-        if (title == null || title.trim().isEmpty()) {
-            throw new IllegalArgumentException("Task title cannot be null or empty");
-        }
+        String finalTitle = validateTitle(title);
+        String finalDescription = validateDescription(description);
         
-        Optional<TaskEntity> entityOpt = taskRepository.findById(id);
+        Optional<TaskEntity> entityOpt = taskStore.findById(id);
         if (entityOpt.isPresent()) {
             TaskEntity entity = entityOpt.get();
-            entity.setTitle(title.trim());
-            entity.setDescription(description != null ? description.trim() : null);
+            TaskStatus previousStatus = entity.getStatus();
+            entity.setTitle(finalTitle);
+            entity.setDescription(finalDescription);
             if (status != null) {
                 entity.setStatus(status);
             }
             entity.setDueDate(dueDate);
             
-            TaskEntity savedEntity = taskRepository.save(entity);
+            TaskEntity savedEntity = taskStore.save(entity);
             log.info("Task {} updated successfully", id);
-            return Optional.of(taskMapper.toModel(savedEntity));
+            return Optional.of(published(taskMapper.toModel(savedEntity), previousStatus));
         }
         
         log.warn("Task with ID {} not found for update", id);
         return Optional.empty();
     }
 
+    /**
+     * Apply a merge patch to a task. Only changed columns are written; if the patch
+     * changes nothing, no UPDATE is issued at all.
+     */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = OLTP_TIMEOUT)
+    public Optional<Task> patchTask(Long id, TaskPatch patch) {
+        log.info("Patching task with ID: {}", id);
+
+        if (id == null) {
+            throw new IllegalArgumentException("Task ID cannot be null");
+        }
+        validatePatch(patch);
+
+        Optional<TaskEntity> entityOpt = taskStore.findById(id);
+        if (entityOpt.isEmpty()) {
+            log.warn("Task with ID {} not found for patch", id);
+            return Optional.empty();
+        }
+
+        TaskEntity entity = entityOpt.get();
+        TaskStatus previousStatus = entity.getStatus();
+        if (!applyPatch(patch, entity)) {
+            log.debug("Patch for task {} changes nothing, skipping update", id);
+            return Optional.of(taskMapper.toModel(entity));
+        }
+
+        TaskEntity savedEntity = taskStore.save(entity);
+        log.info("Task {} patched successfully", id);
+        return Optional.of(published(taskMapper.toModel(savedEntity), previousStatus));
+    }
+
     /**
      * Delete task
      */
+    @Workload(WorkloadClass.OLTP)
+    @Transactional(timeoutString = OLTP_TIMEOUT)
     public boolean deleteTask(Long id) {
         log.info("Deleting task with ID: {}", id);
         
@@ -167,8 +394,9 @@ public class TaskService {
             throw new IllegalArgumentException("Task ID cannot be null");
         }
         
-        if (taskRepository.existsById(id)) {
-            taskRepository.deleteById(id);
+        if (taskStore.existsById(id)) {
+            taskStore.deleteById(id);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
             log.info("Task {} deleted successfully", id);
             return true;
         }
@@ -180,31 +408,46 @@ public class TaskService {
     /**
      * Get overdue tasks
      */
-    @Transactional(readOnly = true)
+    @CachedRead
+    @Coalesced
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
     public List<Task> getOverdueTasks() {
         log.debug("Fetching overdue tasks");
         
         LocalDateTime now = LocalDateTime.now();
-        List<TaskStatus> excludedStatuses = Arrays.asList(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
         
-        List<TaskEntity> entities = taskRepository.findOverdueTasks(now, excludedStatuses);
+        List<TaskEntity> entities = taskStore.findOverdueTasks(now, OVERDUE_EXCLUDED_STATUSES);
         return entities.stream()
                 .map(taskMapper::toModel)
                 .collect(Collectors.toList());
     }
 
     /**
-     * Get task statistics
+     * Get task statistics. Once the columnar snapshot is loaded they come from one pass over
+     * it, reflecting committed changes a moment after they commit.
      */
-    @Transactional(readOnly = true)
+    @CachedRead
+    @Coalesced
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
     public TaskStatistics getTaskStatistics() {
         log.debug("Calculating task statistics");
+
+        if (isColumnSnapshotReady()) {
+            Map<TaskStatus, Long> byStatus = columnSnapshot.countByStatus();
+            long overdue = columnSnapshot.countOverdue(LocalDateTime.now(), OVERDUE_EXCLUDED_STATUSES);
+            return new TaskStatistics(byStatus.values().stream().mapToLong(Long::longValue).sum(),
+                                      byStatus.get(TaskStatus.PENDING), byStatus.get(TaskStatus.IN_PROGRESS),
+                                      byStatus.get(TaskStatus.COMPLETED), byStatus.get(TaskStatus.CANCELLED),
+                                      overdue);
+        }
         
-        long totalTasks = taskRepository.count();
-        long pendingTasks = taskRepository.countByStatus(TaskStatus.PENDING);
-        long inProgressTasks = taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
-        long completedTasks = taskRepository.countByStatus(TaskStatus.COMPLETED);
-        long cancelledTasks = taskRepository.countByStatus(TaskStatus.CANCELLED);
+        long totalTasks = taskStore.count();
+        long pendingTasks = taskStore.countByStatus(TaskStatus.PENDING);
+        long inProgressTasks = taskStore.countByStatus(TaskStatus.IN_PROGRESS);
+        long completedTasks = taskStore.countByStatus(TaskStatus.COMPLETED);
+        long cancelledTasks = taskStore.countByStatus(TaskStatus.CANCELLED);
         long overdueTasks = getOverdueTasks().size();
         
         return new TaskStatistics(totalTasks, pendingTasks, inProgressTasks, 
@@ -214,7 +457,9 @@ public class TaskService {
     /**
      * Search tasks by title or description
      */
-    @Transactional(readOnly = true)
+    @Coalesced
+    @Workload(WorkloadClass.REPORTING)
+    @Transactional(readOnly = true, timeoutString = REPORTING_TIMEOUT)
     public List<Task> searchTasks(String searchTerm) {
         log.debug("Searching tasks with term: {}", searchTerm);
         
@@ -222,7 +467,7 @@ public class TaskService {
             return getAllTasks();
         }
         
-        List<TaskEntity> entities = taskRepository.findByTitleOrDescriptionContainingIgnoreCase(searchTerm.trim());
+        List<TaskEntity> entities = taskStore.findByTitleOrDescriptionContainingIgnoreCase(searchTerm.trim());
         return entities.stream()
                 .map(taskMapper::toModel)
                 .collect(Collectors.toList());
@@ -237,7 +482,7 @@ public class TaskService {
         try {
             log.info("Checking if sample data initialization is needed");
             
-            long existingTaskCount = taskRepository.count();
+            long existingTaskCount = taskStore.count();
             if (existingTaskCount == 0) {
                 log.info("Initializing sample data");
                 
@@ -271,6 +516,117 @@ public class TaskService {
         }
     }
 
+    private boolean isColumnSnapshotReady() {
+        return columnSnapshot != null && columnSnapshot.isReady();
+    }
+
+    private Task published(Task task, TaskStatus previousStatus) {
+        eventPublisher.publishEvent(TaskChangedEvent.saved(task, previousStatus));
+        return task;
+    }
+
+    /**
+     * Validate a merge patch before it is applied
+     */
+    static void validatePatch(TaskPatch patch) {
+        if (patch == null) {
+            throw new IllegalArgumentException("Task patch cannot be null");
+        }
+        if (patch.hasTitle()) {
+            validateTitle(patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            validateDescription(patch.getDescription());
+        }
+        if (patch.hasStatus() && patch.getStatus() == null) {
+            throw new IllegalArgumentException("Task status cannot be null");
+        }
+        if (patch.hasAssignee() && patch.getAssignee() != null) {
+            validateAssignee(patch.getAssignee());
+        }
+    }
+
+    /**
+     * Check a title and return it trimmed. Lengths are checked here rather than left to the
+     * database, where an over-long value in a JDBC batch would fail every row in it.
+     */
+    static String validateTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Task title cannot be null or empty");
+        }
+        String trimmed = title.trim();
+        if (trimmed.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Task title cannot be longer than " + MAX_TITLE_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
+    /**
+     * Check a description and return it trimmed; null means no description
+     */
+    static String validateDescription(String description) {
+        if (description == null) {
+            return null;
+        }
+        String trimmed = description.trim();
+        if (trimmed.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException(
+                "Task description cannot be longer than " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
+    /**
+     * Check an assignee name and return it trimmed. Unassigning is done with null, not a blank name.
+     */
+    static String validateAssignee(String assignee) {
+        if (assignee == null || assignee.trim().isEmpty()) {
+            throw new IllegalArgumentException("Task assignee cannot be empty");
+        }
+        String trimmed = assignee.trim();
+        if (trimmed.length() > MAX_ASSIGNEE_LENGTH) {
+            throw new IllegalArgumentException(
+                "Task assignee cannot be longer than " + MAX_ASSIGNEE_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
+    /**
+     * Copy the fields present in the patch onto the entity
+     *
+     * @return whether any field actually changed
+     */
+    static boolean applyPatch(TaskPatch patch, TaskEntity entity) {
+        boolean changed = false;
+        if (patch.hasTitle() && !patch.getTitle().trim().equals(entity.getTitle())) {
+            entity.setTitle(patch.getTitle().trim());
+            changed = true;
+        }
+        if (patch.hasDescription()) {
+            String description = patch.getDescription() != null ? patch.getDescription().trim() : null;
+            if (!Objects.equals(description, entity.getDescription())) {
+                entity.setDescription(description);
+                changed = true;
+            }
+        }
+        if (patch.hasStatus() && patch.getStatus() != entity.getStatus()) {
+            entity.setStatus(patch.getStatus());
+            changed = true;
+        }
+        if (patch.hasDueDate() && !Objects.equals(patch.getDueDate(), entity.getDueDate())) {
+            entity.setDueDate(patch.getDueDate());
+            changed = true;
+        }
+        if (patch.hasAssignee()) {
+            String assignee = patch.getAssignee() != null ? patch.getAssignee().trim() : null;
+            if (!Objects.equals(assignee, entity.getAssignee())) {
+                entity.setAssignee(assignee);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
     /**
      * Inner class for task statistics
      */
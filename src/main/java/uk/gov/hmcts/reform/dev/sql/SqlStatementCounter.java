@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook that sees every SQL statement before it is prepared and counts it in the
+ * calling thread's open {@link StatementCounts}. Statements run through JdbcTemplate (sharded
+ * store) or R2DBC (/api/v2) do not pass through Hibernate and are not counted, nor is work
+ * done on other threads.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<StatementCounts> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start counting on this thread until the returned scope is closed
+     */
+    public static StatementCounts open() {
+        StatementCounts counts = new StatementCounts(CURRENT.get());
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        StatementCounts counts = CURRENT.get();
+        if (counts != null) {
+            counts.record(sql);
+        }
+        return sql;
+    }
+
+    static void closed(StatementCounts counts, StatementCounts parent) {
+        if (CURRENT.get() == counts) {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
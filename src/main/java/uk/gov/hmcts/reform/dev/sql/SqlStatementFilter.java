@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements each request issues and records them per endpoint in
+ * {@code task.sql.statements}. A request that prepares the same statement repeated-statement-threshold
+ * times or more is logged as a likely N+1 and counted in {@code task.sql.repeated}. Only
+ * statements issued on the request thread are counted, so streamed and /api/v2 responses
+ * report what ran before the response went asynchronous.
+ */
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        StatementCounts counts = SqlStatementCounter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            counts.close();
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementCounts counts) {
+        String uri = uri(request);
+        DistributionSummary.builder("task.sql.statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .description("SQL statements issued per request")
+            .register(meterRegistry)
+            .record(counts.getTotal());
+        log.debug("{} {} issued {}", request.getMethod(), uri, counts);
+
+        Map.Entry<String, Integer> mostRepeated = counts.getMostRepeated();
+        if (mostRepeated != null && mostRepeated.getValue() >= repeatedStatementThreshold) {
+            Counter.builder("task.sql.repeated")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .description("Requests that issued the same statement repeatedly (likely N+1)")
+                .register(meterRegistry)
+                .increment();
+            log.warn("Possible N+1 in {} {}: statement issued {} times: {}", request.getMethod(), uri,
+                     mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+
+    /**
+     * The matched route template, so tags do not grow with path variables
+     */
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.dev.sql;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Statements Hibernate prepared on one thread while this scope was open. Scopes nest: a
+ * statement counts towards every open scope, so a test can count inside a request that the
+ * filter is already counting. Close the scope on the thread that opened it.
+ */
+public final class StatementCounts implements AutoCloseable {
+
+    /**
+     * Distinct statements remembered per scope; further ones are still counted in the totals
+     */
+    static final int MAX_DISTINCT_STATEMENTS = 100;
+
+    private final StatementCounts parent;
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int total;
+    private int selects;
+    private int inserts;
+    private int updates;
+    private int deletes;
+    private boolean closed;
+
+    StatementCounts(StatementCounts parent) {
+        this.parent = parent;
+    }
+
+    void record(String sql) {
+        total++;
+        switch (kind(sql)) {
+            case "select", "with" -> selects++;
+            case "insert" -> inserts++;
+            case "update" -> updates++;
+            case "delete" -> deletes++;
+            default -> {
+                // DDL, merge, call: only in the total
+            }
+        }
+        if (statements.containsKey(sql) || statements.size() < MAX_DISTINCT_STATEMENTS) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+        if (parent != null) {
+            parent.record(sql);
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public int getInserts() {
+        return inserts;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public int getDeletes() {
+        return deletes;
+    }
+
+    /**
+     * Each distinct statement with the number of times it was prepared, in first-seen order
+     */
+    public Map<String, Integer> getStatements() {
+        return Collections.unmodifiableMap(statements);
+    }
+
+    /**
+     * The statement prepared most often, the usual sign of an N+1 query, or null if none was
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        Map.Entry<String, Integer> most = null;
+        for (Map.Entry<String, Integer> entry : statements.entrySet()) {
+            if (most == null || entry.getValue() > most.getValue()) {
+                most = entry;
+            }
+        }
+        return most;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            SqlStatementCounter.closed(this, parent);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return total + " statements (" + selects + " select, " + inserts + " insert, " + updates + " update, "
+            + deletes + " delete)";
+    }
+
+    private static String kind(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.dev.streaming;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskEntityRowMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Writes task rows straight from the JDBC result set to the response as a JSON array, in the
+ * same shape Jackson produces for {@code List<Task>}. No TaskEntity, Task or list is built:
+ * field names and status values are pre-encoded, and dates are formatted into a reused buffer.
+ */
+public class TaskJsonStreamWriter {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializedString CREATED_DATE = new SerializedString("createdDate");
+    private static final SerializedString UPDATED_DATE = new SerializedString("updatedDate");
+    private static final SerializedString ASSIGNEE = new SerializedString("assignee");
+
+    private static final Map<TaskStatus, SerializedString> STATUS_VALUES = new EnumMap<>(TaskStatus.class);
+
+    static {
+        for (TaskStatus status : TaskStatus.values()) {
+            STATUS_VALUES.put(status, new SerializedString(status.name()));
+        }
+    }
+
+    /**
+     * Same format Jackson's LocalDateTimeSerializer uses by default
+     */
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private static final String SELECT = "SELECT " + TaskEntityRowMapper.COLUMNS + " FROM tasks";
+    private static final String ORDER_BY_DUE_DATE = " ORDER BY due_date ASC NULLS FIRST, id ASC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory;
+
+    public TaskJsonStreamWriter(JdbcTemplate jdbcTemplate, JsonFactory jsonFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Stream all tasks, or those with the given status, ordered by due date
+     */
+    public void writeTasks(TaskStatus status, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            RowWriter rowWriter = new RowWriter(generator);
+            try {
+                if (status != null) {
+                    jdbcTemplate.query(SELECT + " WHERE status = ?" + ORDER_BY_DUE_DATE, rowWriter, status.name());
+                } else {
+                    jdbcTemplate.query(SELECT + ORDER_BY_DUE_DATE, rowWriter);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes one JSON object per row. Holds the reusable date buffers, so one instance per response.
+     */
+    private static final class RowWriter implements RowCallbackHandler {
+
+        private final JsonGenerator generator;
+        private final StringBuilder dateBuffer = new StringBuilder(32);
+        private char[] dateChars = new char[32];
+
+        private RowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                generator.writeFieldName(ID);
+                generator.writeNumber(rs.getLong(1));
+                generator.writeFieldName(TITLE);
+                writeString(rs.getString(2));
+                generator.writeFieldName(DESCRIPTION);
+                writeString(rs.getString(3));
+                generator.writeFieldName(STATUS);
+                generator.writeString(STATUS_VALUES.get(TaskStatus.valueOf(rs.getString(4))));
+                generator.writeFieldName(DUE_DATE);
+                writeDateTime(rs.getObject(5, LocalDateTime.class));
+                generator.writeFieldName(CREATED_DATE);
+                writeDateTime(rs.getObject(6, LocalDateTime.class));
+                generator.writeFieldName(UPDATED_DATE);
+                writeDateTime(rs.getObject(7, LocalDateTime.class));
+                generator.writeFieldName(ASSIGNEE);
+                writeString(rs.getString(8));
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.writeString(value);
+            }
+        }
+
+        private void writeDateTime(LocalDateTime value) throws IOException {
+            if (value == null) {
+                generator.writeNull();
+                return;
+            }
+            dateBuffer.setLength(0);
+            DATE_TIME.formatTo(value, dateBuffer);
+            int length = dateBuffer.length();
+            if (length > dateChars.length) {
+                dateChars = new char[length];
+            }
+            dateBuffer.getChars(0, length, dateChars, 0);
+            generator.writeString(dateChars, 0, length);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.workload;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Permit-limited bulkhead with a bounded wait queue for one workload class
+ */
+public class Bulkhead {
+
+    private final WorkloadClass workloadClass;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Counter rejected;
+    private final Timer waitTimer;
+
+    public Bulkhead(WorkloadClass workloadClass, int maxConcurrent, int maxQueued, Duration maxWait,
+                    MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("Bulkhead maxConcurrent must be at least 1");
+        }
+        this.workloadClass = workloadClass;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = Math.max(0, maxQueued);
+        this.maxWait = maxWait != null ? maxWait : Duration.ZERO;
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        String tag = workloadClass.name().toLowerCase();
+        Gauge.builder("task.workload.active", this, Bulkhead::getActive)
+            .tag("class", tag)
+            .description("Operations currently holding a permit")
+            .register(meterRegistry);
+        Gauge.builder("task.workload.queued", this, Bulkhead::getQueued)
+            .tag("class", tag)
+            .description("Operations waiting for a permit")
+            .register(meterRegistry);
+        Gauge.builder("task.workload.saturation", this, Bulkhead::getSaturation)
+            .tag("class", tag)
+            .description("Fraction of permits in use")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("task.workload.rejected")
+            .tag("class", tag)
+            .description("Operations rejected because the bulkhead was full")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("task.workload.wait")
+            .tag("class", tag)
+            .description("Time spent waiting for a permit")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Take a permit, waiting up to maxWait if the queue has room
+     *
+     * @throws BulkheadFullException if no permit could be obtained
+     */
+    public void acquire() {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            reject();
+        }
+
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            reject();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public double getSaturation() {
+        return (double) getActive() / maxConcurrent;
+    }
+
+    public WorkloadClass getWorkloadClass() {
+        return workloadClass;
+    }
+
+    private void reject() {
+        rejected.increment();
+        Duration retryAfter = maxWait.isZero() ? Duration.ofSeconds(1) : maxWait;
+        throw new BulkheadFullException(workloadClass, retryAfter);
+    }
+}
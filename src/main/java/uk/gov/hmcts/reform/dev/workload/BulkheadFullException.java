@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.workload;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a workload class has no free permits and its queue is full or the wait timed out
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private final WorkloadClass workloadClass;
+    private final Duration retryAfter;
+
+    public BulkheadFullException(WorkloadClass workloadClass, Duration retryAfter) {
+        super("Too many concurrent " + workloadClass + " operations");
+        this.workloadClass = workloadClass;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.workload;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds a bulkhead permit for the duration of a {@link Workload} method. Ordered ahead
+ * of the transaction interceptor so callers queue here rather than in the Hikari pool.
+ */
+@Aspect
+@Component
+@Order(WorkloadBulkheadAspect.ORDER)
+public class WorkloadBulkheadAspect {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final WorkloadBulkheads bulkheads;
+
+    public WorkloadBulkheadAspect(WorkloadBulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Around("@annotation(workload)")
+    public Object limit(ProceedingJoinPoint joinPoint, Workload workload) throws Throwable {
+        Bulkhead bulkhead = bulkheads.get(workload.value());
+        bulkhead.acquire();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
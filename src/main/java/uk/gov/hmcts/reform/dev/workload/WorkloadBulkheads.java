@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.workload;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.config.WorkloadProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One bulkhead per workload class, sized from task-management.workload
+ */
+@Component
+public class WorkloadBulkheads {
+
+    private final Map<WorkloadClass, Bulkhead> bulkheads = new EnumMap<>(WorkloadClass.class);
+
+    public WorkloadBulkheads(WorkloadProperties properties, MeterRegistry meterRegistry) {
+        bulkheads.put(WorkloadClass.OLTP, create(WorkloadClass.OLTP, properties.getOltp(), meterRegistry));
+        bulkheads.put(WorkloadClass.REPORTING,
+                      create(WorkloadClass.REPORTING, properties.getReporting(), meterRegistry));
+    }
+
+    public Bulkhead get(WorkloadClass workloadClass) {
+        return bulkheads.get(workloadClass);
+    }
+
+    private static Bulkhead create(WorkloadClass workloadClass, WorkloadProperties.Limits limits,
+                                   MeterRegistry meterRegistry) {
+        return new Bulkhead(workloadClass, limits.getMaxConcurrent(), limits.getMaxQueued(),
+                            limits.getMaxWait(), meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.workload;
+
+/**
+ * Workload classes that get their own connection budget
+ */
+public enum WorkloadClass {
+    /**
+     * Short single-row reads and writes (create, update, delete, get by ID)
+     */
+    OLTP,
+    /**
+     * Long-running list, search, export and statistics queries
+     */
+    REPORTING
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimit Tests")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("Should grow additively while the limit is in use and requests are fast")
+    void shouldGrowWhileBusyAndFast() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, THRESHOLD, 0.5, 1.0);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThat(limit.tryAcquire(true)).isTrue();
+        }
+        assertThat(limit.tryAcquire(true)).isFalse();
+        limit.release(FAST, false);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should not grow when the limit is barely used")
+    void shouldNotGrowWhenIdle() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 20, THRESHOLD, 0.5, 1.0);
+
+        // When
+        limit.tryAcquire(false);
+        limit.release(FAST, false);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on slow or overloaded requests down to the minimum")
+    void shouldBackOffOnSlowRequests() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 3, 10, THRESHOLD, 0.5, 1.0);
+
+        // When & Then
+        limit.tryAcquire(true);
+        limit.release(SLOW, false);
+        assertThat(limit.getLimit()).isEqualTo(4);
+
+        limit.tryAcquire(true);
+        limit.release(FAST, true);
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the read share of the limit for reads and the rest for writes")
+    void shouldReserveHeadroomForWrites() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, THRESHOLD, 0.5, 0.5);
+
+        // When & Then
+        assertThat(limit.tryAcquire(false)).isTrue();
+        assertThat(limit.tryAcquire(false)).isTrue();
+        assertThat(limit.tryAcquire(false)).isFalse();
+        assertThat(limit.tryAcquire(true)).isTrue();
+        assertThat(limit.tryAcquire(true)).isTrue();
+        assertThat(limit.tryAcquire(true)).isFalse();
+    }
+}
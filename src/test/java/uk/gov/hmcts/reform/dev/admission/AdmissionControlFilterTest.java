@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdmissionControlFilter Tests")
+class AdmissionControlFilterTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimit concurrencyLimit;
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimit = new AdaptiveConcurrencyLimit(2, 2, 10, TimeUnit.SECONDS.toNanos(1), 0.5, 0.5);
+        filter = new AdmissionControlFilter(new ClientRateLimiter(1, 2, 100, clock.get()), concurrencyLimit,
+                                            List.of("/api/tasks/stream", "/api/v2/**"), meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should reject a client over its rate with 429 and Retry-After")
+    void shouldRejectClientOverItsRate() throws Exception {
+        // When
+        MockHttpServletResponse first = send("GET", "client-a", new MockFilterChain());
+        MockHttpServletResponse second = send("GET", "client-a", new MockFilterChain());
+        MockHttpServletResponse third = send("GET", "client-a", new MockFilterChain());
+        MockHttpServletResponse otherClient = send("GET", "client-b", new MockFilterChain());
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+
+        // And after a second one token has refilled
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(send("GET", "client-a", new MockFilterChain()).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("task.admission.rejected").tag("reason", "rate_limit").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not give a client a new bucket for a new X-Client-Id")
+    void shouldIgnoreClientSuppliedId() throws Exception {
+        // Given
+        send("GET", "10.0.0.1", new MockFilterChain());
+        send("GET", "10.0.0.1", new MockFilterChain());
+
+        // When
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Client-Id", "rotated-" + System.nanoTime());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should shed reads before writes at the concurrency limit")
+    void shouldShedReadsBeforeWrites() throws Exception {
+        // Given - while one write is in flight, reads (half of a limit of 2) have no room left
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[2];
+        FilterChain holdingChain = (request, response) -> {
+            nested[0] = send("GET", "client-b", new MockFilterChain());
+            nested[1] = send("POST", "client-c", new MockFilterChain());
+        };
+
+        // When
+        MockHttpServletResponse outer = send("POST", "client-a", holdingChain);
+
+        // Then
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested[0].getStatus()).isEqualTo(503);
+        assertThat(nested[0].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(nested[1].getStatus()).isEqualTo(200);
+        assertThat(concurrencyLimit.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not count bulk transfers against the concurrency limit")
+    void shouldNotCountBulkTransfersAgainstConcurrencyLimit() throws Exception {
+        // Given - a slow stream is in flight while the limit is full of writes
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[2];
+        FilterChain slowStream = (request, response) -> {
+            nested[0] = send("POST", "client-b", "/api/tasks", new MockFilterChain());
+            nested[1] = send("GET", "client-c", "/api/v2/tasks", new MockFilterChain());
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        };
+
+        // When
+        MockHttpServletResponse stream = send("GET", "client-a", "/api/tasks/stream", slowStream);
+
+        // Then
+        assertThat(stream.getStatus()).isEqualTo(200);
+        assertThat(nested).extracting(MockHttpServletResponse::getStatus).containsExactly(200, 200);
+        // Grew on the fast write and never backed off for the 30 second stream
+        assertThat(concurrencyLimit.getLimit()).isEqualTo(3);
+        assertThat(concurrencyLimit.getInFlight()).isZero();
+    }
+
+    private MockHttpServletResponse send(String method, String clientId, FilterChain chain) throws Exception {
+        return send(method, clientId, "/api/tasks", chain);
+    }
+
+    private MockHttpServletResponse send(String method, String clientId, String path, FilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(clientId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
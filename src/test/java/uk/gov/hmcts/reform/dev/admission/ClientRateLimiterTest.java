@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientRateLimiter Tests")
+class ClientRateLimiterTest {
+
+    private static final long START = TimeUnit.SECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("Should share one bucket between new clients once the table is full")
+    void shouldShareOverflowBucketWhenFull() {
+        // Given
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, START);
+        limiter.tryAcquire("10.0.0.1", START);
+        limiter.tryAcquire("10.0.0.2", START);
+
+        // When
+        long first = limiter.tryAcquire("10.0.0.3", START);
+        long second = limiter.tryAcquire("10.0.0.4", START);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isPositive();
+        assertThat(limiter.getTrackedClients()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop only idle clients when evicting")
+    void shouldEvictIdleClients() {
+        // Given
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 2, 10, START);
+        limiter.tryAcquire("idle", START);
+        long later = START + TimeUnit.SECONDS.toNanos(1);
+        limiter.tryAcquire("busy", later);
+
+        // When
+        int evicted = limiter.evictIdle(later);
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.getTrackedClients()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CoalescingAspect Tests")
+class CoalescingAspectTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private SlowReads target;
+    private SlowReads proxy;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(Duration.ZERO, meterRegistry);
+        target = new SlowReads();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CoalescingAspect(coalescer));
+        proxy = factory.getProxy();
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run one query for N concurrent identical callers and share the result")
+    void shouldRunOneQueryForConcurrentIdenticalCallers() throws Exception {
+        // Given
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> proxy.list("PENDING")));
+        }
+        awaitFollowers(CALLERS - 1);
+
+        // When
+        target.release.countDown();
+
+        // Then
+        List<String> first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<List<String>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(target.invocations.get()).isEqualTo(1);
+        assertThat(coalescer.getCoalescingRatio()).isEqualTo((double) (CALLERS - 1) / CALLERS);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not coalesce calls with different arguments")
+    void shouldNotCoalesceDifferentArguments() throws Exception {
+        // Given
+        target.release.countDown();
+
+        // When
+        proxy.list("PENDING");
+        proxy.list("COMPLETED");
+        proxy.list("PENDING");
+
+        // Then
+        assertThat(target.invocations.get()).isEqualTo(3);
+        assertThat(coalescer.getCoalescingRatio()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not join a call that started before a committed write")
+    void shouldNotJoinCallStartedBeforeWrite() throws Exception {
+        // Given
+        Future<List<String>> beforeWrite = executor.submit(() -> proxy.list("PENDING"));
+        awaitInvocations(1);
+
+        // When
+        target.version = "-v2";
+        coalescer.invalidate();
+        Future<List<String>> afterWrite = executor.submit(() -> proxy.list("PENDING"));
+        awaitInvocations(2);
+        target.release.countDown();
+
+        // Then
+        assertThat(beforeWrite.get(5, TimeUnit.SECONDS)).containsExactly("PENDING");
+        assertThat(afterWrite.get(5, TimeUnit.SECONDS)).containsExactly("PENDING-v2");
+        assertThat(coalescer.getCoalescingRatio()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's exception to followers")
+    void shouldPropagateExceptionToFollowers() throws Exception {
+        // Given
+        target.failure = new IllegalStateException("database unavailable");
+        List<Future<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> proxy.list("PENDING")));
+        }
+        awaitFollowers(2);
+
+        // When
+        target.release.countDown();
+
+        // Then
+        for (Future<List<String>> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isSameAs(target.failure);
+                continue;
+            }
+            throw new AssertionError("Expected the shared failure");
+        }
+        assertThat(target.invocations.get()).isEqualTo(1);
+    }
+
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Counter followers = meterRegistry.find("task.coalescing.calls").tag("role", "follower").counter();
+            if (followers != null && followers.count() >= expected) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Followers did not join the in-flight call");
+    }
+
+    private void awaitInvocations(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.invocations.get() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("The call did not start");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    static class SlowReads {
+
+        final AtomicInteger invocations = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile RuntimeException failure;
+        volatile String version = "";
+
+        @Coalesced
+        public List<String> list(String status) throws InterruptedException {
+            String seen = version;  // the data as it was when the query started
+            invocations.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            if (failure != null) {
+                throw failure;
+            }
+            return List.of(status + seen);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.dev.columnar;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.DueDateCount;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("TaskColumns Tests")
+class TaskColumnsTest {
+
+    private static final List<TaskStatus> CLOSED = List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private TaskColumns columns;
+    private LocalDateTime testDateTime;
+
+    @BeforeEach
+    void setUp() {
+        columns = new TaskColumns(0);
+        testDateTime = LocalDateTime.of(2024, 1, 15, 10, 0);
+    }
+
+    @Test
+    @DisplayName("Should count tasks by status, overdue and per due day")
+    void shouldCountByStatusOverdueAndDueDay() {
+        // Given
+        columns.put(1L, TaskStatus.PENDING, testDateTime.minusDays(1));
+        columns.put(2L, TaskStatus.COMPLETED, testDateTime.minusDays(1));
+        columns.put(3L, TaskStatus.IN_PROGRESS, testDateTime.plusDays(1));
+        columns.put(4L, TaskStatus.PENDING, null);
+        columns.put(5L, TaskStatus.PENDING, testDateTime.plusDays(1).withHour(23).withMinute(59));
+
+        // When
+        Map<TaskStatus, Long> byStatus = columns.countByStatus();
+        long overdue = columns.countOverdue(testDateTime, CLOSED);
+        List<DueDateCount> byDay = columns.countByDueDay(testDateTime.toLocalDate().minusDays(1),
+                                                         testDateTime.toLocalDate().plusDays(1));
+
+        // Then
+        assertThat(columns.size()).isEqualTo(5);
+        assertThat(byStatus).containsEntry(TaskStatus.PENDING, 3L)
+            .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+            .containsEntry(TaskStatus.COMPLETED, 1L)
+            .containsEntry(TaskStatus.CANCELLED, 0L);
+        assertThat(overdue).isEqualTo(1);
+        assertThat(byDay).extracting(DueDateCount::getDay, DueDateCount::getStatus, DueDateCount::getTotal)
+            .containsExactly(
+                tuple(LocalDate.of(2024, 1, 14), TaskStatus.PENDING, 1L),
+                tuple(LocalDate.of(2024, 1, 14), TaskStatus.COMPLETED, 1L),
+                tuple(LocalDate.of(2024, 1, 16), TaskStatus.PENDING, 1L),
+                tuple(LocalDate.of(2024, 1, 16), TaskStatus.IN_PROGRESS, 1L));
+    }
+
+    @Test
+    @DisplayName("Should update in place, insert out of ID order and skip removed tasks")
+    void shouldUpdateInsertOutOfOrderAndRemove() {
+        // Given
+        for (long id = 1; id <= 10; id += 2) {
+            columns.put(id, TaskStatus.PENDING, testDateTime);
+        }
+
+        // When
+        columns.put(4L, TaskStatus.IN_PROGRESS, testDateTime);
+        columns.put(3L, TaskStatus.COMPLETED, testDateTime);
+        boolean removed = columns.remove(5L);
+        boolean removedAgain = columns.remove(5L);
+        columns.put(5L, TaskStatus.CANCELLED, testDateTime);
+        columns.remove(7L);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(columns.remove(42L)).isFalse();
+        assertThat(columns.size()).isEqualTo(5);
+        assertThat(columns.countByStatus()).containsEntry(TaskStatus.PENDING, 2L)
+            .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+            .containsEntry(TaskStatus.COMPLETED, 1L)
+            .containsEntry(TaskStatus.CANCELLED, 1L);
+    }
+
+    @Test
+    @DisplayName("Should squeeze out tombstones once they reach a quarter of the rows")
+    void shouldCompactTombstones() {
+        // Given
+        for (long id = 1; id <= 100; id++) {
+            columns.put(id, TaskStatus.PENDING, testDateTime);
+        }
+
+        // When
+        for (long id = 1; id <= 40; id++) {
+            columns.remove(id);
+        }
+        columns.put(20L, TaskStatus.COMPLETED, testDateTime);
+
+        // Then
+        assertThat(columns.size()).isEqualTo(61);
+        assertThat(columns.countByStatus()).containsEntry(TaskStatus.PENDING, 60L)
+            .containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(columns.remove(41L)).isTrue();
+        assertThat(columns.remove(20L)).isTrue();
+        assertThat(columns.size()).isEqualTo(59);
+    }
+
+    @Test
+    @DisplayName("Should give the same counts from a parallel scan as from a sequential one")
+    void shouldScanInParallelAboveThreshold() {
+        // Given - enough rows to split the scan several times
+        int taskCount = TaskColumns.PARALLEL_THRESHOLD * 5 + 123;
+        TaskStatus[] statuses = TaskStatus.values();
+        long[] expectedByStatus = new long[statuses.length];
+        long expectedOverdue = 0;
+        long expectedFirstDay = 0;
+        for (int i = 1; i <= taskCount; i++) {
+            TaskStatus status = statuses[i % statuses.length];
+            LocalDateTime dueDate = testDateTime.plusMinutes(i % 2880 - 1440);
+            columns.put(i, status, dueDate);
+            expectedByStatus[status.ordinal()]++;
+            if (dueDate.isBefore(testDateTime) && !CLOSED.contains(status)) {
+                expectedOverdue++;
+            }
+            if (dueDate.toLocalDate().equals(testDateTime.toLocalDate().minusDays(1))) {
+                expectedFirstDay++;
+            }
+        }
+
+        // When
+        Map<TaskStatus, Long> byStatus = columns.countByStatus();
+        long overdue = columns.countOverdue(testDateTime, CLOSED);
+        List<DueDateCount> byDay = columns.countByDueDay(testDateTime.toLocalDate().minusDays(1),
+                                                         testDateTime.toLocalDate().plusDays(1));
+
+        // Then
+        for (TaskStatus status : statuses) {
+            assertThat(byStatus.get(status)).as(status.name()).isEqualTo(expectedByStatus[status.ordinal()]);
+        }
+        assertThat(overdue).isEqualTo(expectedOverdue);
+        assertThat(byDay.stream().mapToLong(DueDateCount::getTotal).sum()).isEqualTo(taskCount);
+        assertThat(byDay.stream()
+                       .filter(row -> row.getDay().equals(testDateTime.toLocalDate().minusDays(1)))
+                       .mapToLong(DueDateCount::getTotal)
+                       .sum()).isEqualTo(expectedFirstDay);
+        assertThat(columns.allocatedBytes()).isLessThan(taskCount * 30L);
+    }
+}
@@ -0,0 +1,136 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2Database("primary");
+        replica = h2Database("replica");
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica and writes to the primary")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        // Given
+        ReadWriteRoutingDataSource routing = routing(Duration.ZERO);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        // When & Then
+        assertThat(whereAmI(dataSource, true)).isEqualTo("replica");
+        assertThat(whereAmI(dataSource, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary within the sticky window after a write")
+    void shouldKeepReadsOnPrimaryAfterWrite() {
+        // Given
+        ReadWriteRoutingDataSource routing = routing(Duration.ofMinutes(1));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        assertThat(whereAmI(dataSource, true)).isEqualTo("replica");
+
+        // When
+        TransactionTemplate write = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        write.executeWithoutResult(status -> new JdbcTemplate(dataSource)
+            .update("UPDATE marker SET name = name"));
+
+        // Then
+        assertThat(whereAmI(dataSource, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep other clients' reads on the replica after one client writes")
+    void shouldKeepOtherClientsOnReplicaAfterWrite() throws Exception {
+        // Given
+        ReadWriteRoutingDataSource routing = routing(Duration.ofMinutes(1));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        AtomicLong stickyUntil = new AtomicLong();
+        routing.beginRequest(0, stickyUntil::set);
+
+        // When
+        TransactionTemplate write = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        write.executeWithoutResult(status -> new JdbcTemplate(dataSource)
+            .update("UPDATE marker SET name = name"));
+        routing.endRequest();
+
+        // Then
+        assertThat(stickyUntil.get()).isGreaterThan(System.currentTimeMillis());
+        ExecutorService otherClient = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(otherClient.submit(() -> whereAmI(dataSource, true)).get()).isEqualTo("replica");
+            // The writer's next request carries its window back
+            assertThat(otherClient.submit(() -> {
+                routing.beginRequest(stickyUntil.get(), until -> { });
+                try {
+                    return whereAmI(dataSource, true);
+                } finally {
+                    routing.endRequest();
+                }
+            }).get()).isEqualTo("primary");
+        } finally {
+            otherClient.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica is unhealthy")
+    void shouldFallBackToPrimaryWhenReplicaUnhealthy() {
+        // Given
+        DriverManagerDataSource broken = new DriverManagerDataSource("jdbc:h2:file:/nonexistent/dir/replica;IFEXISTS=TRUE");
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, broken, Duration.ZERO,
+                                                                            Duration.ofSeconds(1));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        // When
+        routing.refreshReplicaHealth();
+
+        // Then
+        assertThat(routing.isReplicaHealthy()).isFalse();
+        assertThat(whereAmI(dataSource, true)).isEqualTo("primary");
+    }
+
+    private ReadWriteRoutingDataSource routing(Duration stickyAfterWrite) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, stickyAfterWrite,
+                                                                            Duration.ofSeconds(1));
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private String whereAmI(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource)
+            .queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private DriverManagerDataSource h2Database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
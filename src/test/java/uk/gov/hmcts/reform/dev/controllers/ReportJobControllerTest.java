@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.models.CreateReportRequest;
+import uk.gov.hmcts.reform.dev.models.ReportFormat;
+import uk.gov.hmcts.reform.dev.models.ReportJob;
+import uk.gov.hmcts.reform.dev.models.ReportJobStatus;
+import uk.gov.hmcts.reform.dev.reports.ReportFile;
+import uk.gov.hmcts.reform.dev.services.ReportJobService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportJobController Unit Tests")
+class ReportJobControllerTest {
+
+    private static final String BODY = "id,title\r\n1,First\r\n2,Second\r\n";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ReportJobService reportJobService;
+
+    @InjectMocks
+    private ReportJobController reportJobController;
+
+    @TempDir
+    Path directory;
+
+    private ReportFile reportFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(reportJobController).build();
+        Path path = Files.writeString(directory.resolve("tasks-1.csv"), BODY);
+        reportFile = new ReportFile(path, Files.size(path), "text/csv", "tasks-1.csv");
+    }
+
+    @Test
+    @DisplayName("POST /api/reports - Should accept a report job and point at its status")
+    void shouldAcceptReportJob() throws Exception {
+        // Given
+        ReportJob job = new ReportJob();
+        job.setId("1");
+        job.setStatus(ReportJobStatus.QUEUED);
+        job.setFormat(ReportFormat.CSV);
+        when(reportJobService.createReport(any(CreateReportRequest.class))).thenReturn(job);
+
+        // When & Then
+        mockMvc.perform(post("/api/reports")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"format\":\"CSV\",\"gzip\":false}"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string(HttpHeaders.LOCATION, "/api/reports/1"))
+            .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/reports - Should return 503 with Retry-After when the queue is full")
+    void shouldRejectWhenQueueFull() throws Exception {
+        // Given
+        when(reportJobService.createReport(any(CreateReportRequest.class)))
+            .thenThrow(new RejectedExecutionException("full"));
+
+        // When & Then
+        mockMvc.perform(post("/api/reports")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/{id}/download - Should send the whole file")
+    void shouldDownloadWholeFile() throws Exception {
+        // Given
+        when(reportJobService.getReportFile("1")).thenReturn(Optional.of(reportFile));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reports/1/download"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(BODY.length())))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks-1.csv\""))
+            .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/{id}/download - Should send only the requested byte range")
+    void shouldDownloadByteRange() throws Exception {
+        // Given
+        when(reportJobService.getReportFile("1")).thenReturn(Optional.of(reportFile));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reports/1/download").header(HttpHeaders.RANGE, "bytes=10-"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                                       "bytes 10-" + (BODY.length() - 1) + "/" + BODY.length()))
+            .andExpect(content().string(BODY.substring(10)));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/{id}/download - Should return 416, 409 and 404 when it cannot send the file")
+    void shouldRefuseUnavailableDownloads() throws Exception {
+        // Given
+        when(reportJobService.getReportFile("1")).thenReturn(Optional.of(reportFile));
+        when(reportJobService.getReportFile("2")).thenThrow(new IllegalStateException("Report 2 is RUNNING"));
+        when(reportJobService.getReportFile("3")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/reports/1/download").header(HttpHeaders.RANGE, "bytes=500-600"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + BODY.length()));
+        mockMvc.perform(get("/api/reports/2/download"))
+            .andExpect(status().isConflict());
+        mockMvc.perform(get("/api/reports/3/download"))
+            .andExpect(status().isNotFound());
+    }
+}
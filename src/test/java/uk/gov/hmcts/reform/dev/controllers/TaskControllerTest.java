@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -14,15 +15,24 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import uk.gov.hmcts.reform.dev.models.CreateTaskRequest;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskBoardColumn;
+import uk.gov.hmcts.reform.dev.models.TaskLookupResult;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskSummary;
 import uk.gov.hmcts.reform.dev.models.UpdateTaskStatusRequest;
+import uk.gov.hmcts.reform.dev.services.TaskBoardService;
+import uk.gov.hmcts.reform.dev.services.TaskClaimService;
 import uk.gov.hmcts.reform.dev.services.TaskService;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -34,6 +44,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -49,6 +60,12 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskBoardService taskBoardService;
+
+    @Mock
+    private TaskClaimService taskClaimService;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -209,6 +226,46 @@ class TaskControllerTest {
         verify(taskService).updateTaskStatus(taskId, newStatus);
     }
 
+    @Test
+    @DisplayName("Should look up many tasks in one request")
+    void shouldLookUpManyTasks() throws Exception {
+        // Given
+        when(taskService.lookupTasks(Arrays.asList(1L, 42L)))
+                .thenReturn(Arrays.asList(TaskLookupResult.found(sampleTask), TaskLookupResult.missing(42L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 42]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].found", is(true)))
+                .andExpect(jsonPath("$[0].task.title", is("Sample Task")))
+                .andExpect(jsonPath("$[1].id", is(42)))
+                .andExpect(jsonPath("$[1].found", is(false)));
+    }
+
+    @Test
+    @DisplayName("Should apply a JSON merge patch")
+    void shouldApplyMergePatch() throws Exception {
+        // Given
+        when(taskService.patchTask(eq(1L), any(TaskPatch.class))).thenReturn(Optional.of(sampleTask));
+
+        // When & Then
+        mockMvc.perform(patch("/api/tasks/{id}", 1L)
+                .contentType("application/merge-patch+json")
+                .content("{\"status\": \"IN_PROGRESS\", \"description\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)));
+
+        ArgumentCaptor<TaskPatch> captor = ArgumentCaptor.forClass(TaskPatch.class);
+        verify(taskService).patchTask(eq(1L), captor.capture());
+        assertThat(captor.getValue().hasStatus()).isTrue();
+        assertThat(captor.getValue().hasDescription()).isTrue();
+        assertThat(captor.getValue().getDescription()).isNull();
+        assertThat(captor.getValue().hasTitle()).isFalse();
+    }
+
     @Test
     @DisplayName("Should delete task successfully")
     void shouldDeleteTaskSuccessfully() throws Exception {
@@ -222,4 +279,77 @@ class TaskControllerTest {
 
         verify(taskService).deleteTask(taskId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should serve the task board from the board service")
+    void shouldServeTaskBoard() throws Exception {
+        // Given
+        Map<TaskStatus, TaskBoardColumn> board = new EnumMap<>(TaskStatus.class);
+        board.put(TaskStatus.PENDING, new TaskBoardColumn(3, List.of(TaskSummary.of(sampleTask))));
+        when(taskBoardService.isReady()).thenReturn(true);
+        when(taskBoardService.getBoard(5)).thenReturn(board);
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/board").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.PENDING.total", is(3)))
+                .andExpect(jsonPath("$.PENDING.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.PENDING.tasks[0].title", is("Sample Task")));
+
+        verify(taskService, never()).getAllTasks();
+    }
+
+    @Test
+    @DisplayName("Should return 503 while the task board is still loading")
+    void shouldReturnServiceUnavailableWhileBoardLoads() throws Exception {
+        // Given
+        when(taskBoardService.isReady()).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/board"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("Should claim the next pending task")
+    void shouldClaimNextTask() throws Exception {
+        // Given
+        sampleTask.setStatus(TaskStatus.IN_PROGRESS);
+        sampleTask.setAssignee("caseworker-1");
+        when(taskClaimService.isReady()).thenReturn(true);
+        when(taskClaimService.claimNext("caseworker-1")).thenReturn(Optional.of(sampleTask));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/claim").param("assignee", "caseworker-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.status", is("IN_PROGRESS")))
+                .andExpect(jsonPath("$.assignee", is("caseworker-1")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when claiming without a valid assignee")
+    void shouldReturnBadRequestWhenClaimingWithoutAssignee() throws Exception {
+        // Given
+        when(taskClaimService.isReady()).thenReturn(true);
+        when(taskClaimService.claimNext(" ")).thenThrow(new IllegalArgumentException("Task assignee cannot be empty"));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/claim"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/tasks/claim").param("assignee", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 204 when there is no pending task to claim")
+    void shouldReturnNoContentWhenNothingToClaim() throws Exception {
+        // Given
+        when(taskClaimService.isReady()).thenReturn(true);
+        when(taskClaimService.claimNext("caseworker-1")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/claim").param("assignee", "caseworker-1"))
+                .andExpect(status().isNoContent());
+    }
+}
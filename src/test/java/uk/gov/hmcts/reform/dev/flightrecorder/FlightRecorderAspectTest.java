@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.dev.flightrecorder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FlightRecorderAspect Tests")
+class FlightRecorderAspectTest {
+
+    @TempDir
+    Path directory;
+
+    private TaskRepository taskRepository;
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        AspectJProxyFactory repositoryFactory = new AspectJProxyFactory(taskRepository);
+        repositoryFactory.setInterfaces(TaskRepository.class);
+        repositoryFactory.addAspect(new FlightRecorderAspect());
+        TaskRepository advisedRepository = repositoryFactory.getProxy();
+
+        AspectJProxyFactory serviceFactory = new AspectJProxyFactory(
+            new TaskService(advisedRepository, new TaskMapper(), event -> { }, null));
+        serviceFactory.setProxyTargetClass(true);
+        serviceFactory.addAspect(new FlightRecorderAspect());
+        taskService = serviceFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should record service and repository calls with their operation and row count")
+    void shouldRecordServiceAndRepositoryCalls() throws Exception {
+        // Given
+        TaskEntity task = new TaskEntity("Task", "Description", TaskStatus.PENDING, LocalDateTime.now());
+        task.setId(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findByStatusOrderByDueDateAsc(TaskStatus.PENDING)).thenReturn(List.of(task, task));
+        Path file = directory.resolve("recording.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(TaskOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(RepositoryQueryEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            taskService.getTaskById(1L);
+            taskService.getTasksByStatus(TaskStatus.PENDING);
+            assertThatThrownBy(() -> taskService.getTaskById(null)).isInstanceOf(IllegalArgumentException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("uk.gov.hmcts.reform.dev.TaskOperation"))
+            .extracting(event -> event.getString("operation"), event -> event.getLong("rows"),
+                        event -> event.getBoolean("failed"))
+            .containsExactlyInAnyOrder(tuple("TaskService.getTaskById", 1L, false),
+                                       tuple("TaskService.getTasksByStatus", 2L, false),
+                                       tuple("TaskService.getTaskById", 0L, true));
+        assertThat(events)
+            .filteredOn(event -> event.getEventType().getName().equals("uk.gov.hmcts.reform.dev.RepositoryQuery"))
+            .extracting(event -> event.getString("operation"), event -> event.getLong("rows"))
+            .containsExactlyInAnyOrder(tuple("TaskRepository.findById", 1L),
+                                       tuple("TaskRepository.findByStatusOrderByDueDateAsc", 2L));
+        assertThat(events).allSatisfy(event -> assertThat(event.getDuration()).isNotNegative());
+    }
+
+    @Test
+    @DisplayName("Should pass calls straight through while no recording has the events enabled")
+    void shouldPassCallsThroughWhenDisabled() {
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThat(new TaskOperationEvent().isEnabled()).isFalse();
+        assertThat(taskService.getTaskById(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count rows from collections, pages, optionals and numbers")
+    void shouldCountRows() {
+        assertThat(FlightRecorderAspect.rows(null)).isZero();
+        assertThat(FlightRecorderAspect.rows(List.of(1, 2, 3))).isEqualTo(3);
+        assertThat(FlightRecorderAspect.rows(new PageImpl<>(List.of(1, 2)))).isEqualTo(2);
+        assertThat(FlightRecorderAspect.rows(Optional.empty())).isZero();
+        assertThat(FlightRecorderAspect.rows(7)).isEqualTo(7);
+        assertThat(FlightRecorderAspect.rows(List.of(1).stream())).isEqualTo(-1);
+        assertThat(FlightRecorderAspect.rows(new Object())).isEqualTo(1);
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.dev.flightrecorder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FlightRecordingAccessFilter Tests")
+class FlightRecordingAccessFilterTest {
+
+    private final FlightRecordingAccessFilter filter = new FlightRecordingAccessFilter("s3cret-token");
+
+    @Test
+    @DisplayName("Should let a request with the access token through")
+    void shouldAllowConfiguredToken() throws Exception {
+        // When
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send("Bearer s3cret-token", chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reject requests without the access token with 401")
+    void shouldRejectMissingOrWrongToken() throws Exception {
+        // When
+        MockFilterChain missingChain = new MockFilterChain();
+        MockHttpServletResponse missing = send(null, missingChain);
+        MockFilterChain wrongChain = new MockFilterChain();
+        MockHttpServletResponse wrong = send("Bearer s3cret", wrongChain);
+
+        // Then
+        assertThat(missing.getStatus()).isEqualTo(401);
+        assertThat(missing.getHeader("WWW-Authenticate")).isEqualTo("Bearer");
+        assertThat(missingChain.getRequest()).isNull();
+        assertThat(wrong.getStatus()).isEqualTo(401);
+        assertThat(wrongChain.getRequest()).isNull();
+    }
+
+    private MockHttpServletResponse send(String authorization, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/flight-recordings");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,226 @@
+package uk.gov.hmcts.reform.dev.logstore;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogStructuredTaskStore Tests")
+class LogStructuredTaskStoreTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @TempDir
+    Path directory;
+
+    private final List<LogStructuredTaskStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(LogStructuredTaskStore::close);
+    }
+
+    @Test
+    @DisplayName("Should recover every acknowledged write after the process is killed mid-write")
+    void shouldRecoverAcknowledgedWritesAfterKill() throws Exception {
+        // Given - a child JVM writing, snapshotting and compacting until it is killed
+        Process writer = new ProcessBuilder(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", System.getProperty("java.class.path"),
+            KillTestWriter.class.getName(), directory.toString())
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+
+        List<Long> acknowledged = new ArrayList<>();
+        try (BufferedReader output = new BufferedReader(
+            new InputStreamReader(writer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (acknowledged.size() < 2000 && (line = output.readLine()) != null) {
+                if (line.matches("\\d+")) {  // skip anything logged to stdout
+                    acknowledged.add(Long.parseLong(line));
+                }
+            }
+
+            // When - SIGKILL: no shutdown hooks, no close, no final snapshot
+            writer.destroyForcibly();
+            assertThat(writer.waitFor(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // Then
+        assertThat(acknowledged).hasSize(2000);
+        LogStructuredTaskStore recovered = open(false);
+        for (Long id : acknowledged) {
+            TaskEntity task = recovered.get(id);
+            assertThat(task).as("task %d", id).isNotNull();
+            assertThat(task.getTitle()).isEqualTo("Task " + id);
+        }
+        assertThat(recovered.size()).isGreaterThanOrEqualTo(acknowledged.size());
+        assertThat(recovered.put(task("After recovery")).getId()).isGreaterThan(acknowledged.get(1999));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index by replaying the log when there is no snapshot")
+    void shouldReplayLogWithoutSnapshot() {
+        // Given
+        LogStructuredTaskStore store = open(true);
+        TaskEntity kept = store.put(task("Kept"));
+        TaskEntity updated = store.put(task("Updated"));
+        TaskEntity deleted = store.put(task("Deleted"));
+        updated.setStatus(TaskStatus.COMPLETED);
+        store.put(updated);
+        store.delete(deleted.getId());
+
+        // When - reopen without closing, as after a crash
+        LogStructuredTaskStore recovered = open(true);
+
+        // Then
+        assertThat(recovered.size()).isEqualTo(2);
+        assertThat(recovered.get(kept.getId()).getTitle()).isEqualTo("Kept");
+        assertThat(recovered.get(kept.getId()).getDueDate()).isEqualTo(kept.getDueDate());
+        assertThat(recovered.get(updated.getId()).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(recovered.get(deleted.getId())).isNull();
+        assertThat(recovered.put(task("Next")).getId()).isEqualTo(deleted.getId() + 1);
+    }
+
+    @Test
+    @DisplayName("Should load the snapshot and replay only the log written after it")
+    void shouldReplayAfterSnapshot() {
+        // Given
+        LogStructuredTaskStore store = open(true);
+        for (int i = 0; i < 5; i++) {
+            store.put(task("Before " + i));
+        }
+        store.snapshot();
+        store.put(task("After"));
+        store.delete(1L);
+
+        // When
+        LogStructuredTaskStore recovered = open(true);
+
+        // Then
+        assertThat(recovered.size()).isEqualTo(5);
+        assertThat(recovered.get(1L)).isNull();
+        assertThat(recovered.get(5L).getTitle()).isEqualTo("Before 4");
+        assertThat(recovered.get(6L).getTitle()).isEqualTo("After");
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the tail and keep appending after the last good one")
+    void shouldDiscardTornRecordAtTail() throws Exception {
+        // Given - three records, then half of a fourth as if the process died mid-write
+        LogStructuredTaskStore store = open(true);
+        int end = 0;
+        for (int i = 0; i < 3; i++) {
+            end += TaskRecordCodec.encodePut(store.put(task("Task " + i))).length;
+        }
+        TaskEntity torn = task("Torn");
+        torn.setId(4L);
+        byte[] record = TaskRecordCodec.encodePut(torn);
+        try (FileChannel segment = FileChannel.open(directory.resolve(Segment.fileName(0)), StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.wrap(Arrays.copyOf(record, record.length / 2)), end);
+        }
+
+        // When
+        LogStructuredTaskStore recovered = open(true);
+        recovered.put(task("Written after recovery"));
+        LogStructuredTaskStore reopened = open(true);
+
+        // Then
+        assertThat(recovered.size()).isEqualTo(4);
+        assertThat(reopened.size()).isEqualTo(4);
+        assertThat(reopened.get(4L).getTitle()).isEqualTo("Written after recovery");
+    }
+
+    @Test
+    @DisplayName("Should compact mostly superseded segments without losing the latest versions")
+    void shouldCompactSupersededSegments() throws Exception {
+        // Given - ten tasks rewritten until several segments are full of old versions
+        LogStructuredTaskStore store = open(true);
+        for (int i = 0; i < 10; i++) {
+            store.put(task("Task " + i));
+        }
+        for (int round = 0; round < 60; round++) {
+            for (long id = 1; id <= 10; id++) {
+                TaskEntity task = store.get(id);
+                task.setDescription("Revision " + round);
+                store.put(task);
+            }
+        }
+        int segmentsBefore = store.getSegmentCount();
+        assertThat(segmentsBefore).isGreaterThan(3);
+
+        // When
+        int compacted = store.compact();
+
+        // Then
+        assertThat(compacted).isGreaterThan(0);
+        assertThat(store.getSegmentCount()).isLessThan(segmentsBefore);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.filter(file -> file.getFileName().toString().startsWith(Segment.PREFIX)))
+                .hasSize(store.getSegmentCount());
+        }
+        for (long id = 1; id <= 10; id++) {
+            assertThat(store.get(id).getDescription()).isEqualTo("Revision 59");
+        }
+
+        LogStructuredTaskStore recovered = open(true);
+        assertThat(recovered.size()).isEqualTo(10);
+        assertThat(recovered.get(10L).getDescription()).isEqualTo("Revision 59");
+    }
+
+    private LogStructuredTaskStore open(boolean forceOnWrite) {
+        LogStructuredTaskStore store = new LogStructuredTaskStore(directory, SEGMENT_SIZE, forceOnWrite, 0.5);
+        store.open();
+        opened.add(store);
+        return store;
+    }
+
+    private static TaskEntity task(String title) {
+        TaskEntity task = new TaskEntity(title, "Description of " + title, TaskStatus.PENDING, BASE.plusDays(1));
+        task.setCreatedDate(BASE);
+        task.setUpdatedDate(BASE);
+        return task;
+    }
+
+    /**
+     * Child process for the kill test: writes tasks as fast as it can, printing each ID once
+     * put() has returned, and rewrites earlier tasks so snapshots and compaction run too
+     */
+    static final class KillTestWriter {
+
+        public static void main(String[] args) {
+            LogStructuredTaskStore store = new LogStructuredTaskStore(Path.of(args[0]), SEGMENT_SIZE, false, 0.5);
+            store.open();
+            for (int i = 0; ; i++) {
+                TaskEntity task = store.put(task("pending"));
+                task.setTitle("Task " + task.getId());
+                store.put(task);
+                System.out.println(task.getId());
+                System.out.flush();
+                if (i % 100 == 99) {
+                    store.maintain();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package uk.gov.hmcts.reform.dev.readcache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.coalescing.RequestCoalescer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReadCache Tests")
+class ReadCacheTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CircuitBreaker circuitBreaker;
+    private ReadCache readCache;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(4, 2, 0.5, 2 * SECOND, 30 * SECOND);
+        readCache = new ReadCache(Duration.ofSeconds(5), Duration.ofSeconds(60), 10, circuitBreaker,
+                                  refreshes::add, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached result within its time to live")
+    void shouldServeFreshResult() throws Throwable {
+        // Given
+        CachedResult first = readCache.get("getAllTasks", List.of(), this::load);
+
+        // When
+        clock.addAndGet(2 * SECOND);
+        CachedResult second = readCache.get("getAllTasks", List.of(), this::load);
+
+        // Then
+        assertThat(first.status()).isEqualTo(ReadCacheStatus.MISS);
+        assertThat(second.status()).isEqualTo(ReadCacheStatus.FRESH);
+        assertThat(second.value()).isEqualTo("result 1");
+        assertThat(second.ageMillis()).isEqualTo(2_000);
+        assertThat(second.ttlMillis()).isEqualTo(3_000);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should key results by operation and arguments")
+    void shouldKeyByOperationAndArguments() throws Throwable {
+        // When
+        readCache.get("getTasksByStatus", List.of("PENDING"), this::load);
+        CachedResult other = readCache.get("getTasksByStatus", List.of("COMPLETED"), this::load);
+
+        // Then
+        assertThat(other.status()).isEqualTo(ReadCacheStatus.MISS);
+        assertThat(readCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should serve a stale result while one background refresh replaces it")
+    void shouldRevalidateStaleResult() throws Throwable {
+        // Given
+        readCache.get("getAllTasks", List.of(), this::load);
+        clock.addAndGet(10 * SECOND);
+
+        // When
+        CachedResult stale = readCache.get("getAllTasks", List.of(), this::load);
+        readCache.get("getAllTasks", List.of(), this::load);
+        refreshes.forEach(Runnable::run);
+        CachedResult refreshed = readCache.get("getAllTasks", List.of(), this::load);
+
+        // Then
+        assertThat(stale.status()).isEqualTo(ReadCacheStatus.STALE);
+        assertThat(stale.value()).isEqualTo("result 1");
+        assertThat(stale.ttlMillis()).isEqualTo(-5_000);
+        assertThat(refreshes).hasSize(1);
+        assertThat(refreshed.status()).isEqualTo(ReadCacheStatus.FRESH);
+        assertThat(refreshed.value()).isEqualTo("result 2");
+    }
+
+    @Test
+    @DisplayName("Should load again after invalidation and not cache a load that raced a write")
+    void shouldLoadAgainAfterInvalidation() throws Throwable {
+        // Given
+        readCache.get("getAllTasks", List.of(), this::load);
+
+        // When
+        readCache.invalidateAll();
+        CachedResult afterWrite = readCache.get("getAllTasks", List.of(), this::load);
+        CachedResult raced = readCache.get("getOverdueTasks", List.of(), () -> {
+            readCache.invalidateAll();
+            return load();
+        });
+        CachedResult next = readCache.get("getOverdueTasks", List.of(), this::load);
+
+        // Then
+        assertThat(afterWrite.status()).isEqualTo(ReadCacheStatus.MISS);
+        assertThat(afterWrite.value()).isEqualTo("result 2");
+        assertThat(raced.status()).isEqualTo(ReadCacheStatus.MISS);
+        assertThat(next.status()).isEqualTo(ReadCacheStatus.MISS);
+    }
+
+    @Test
+    @DisplayName("Should not let a slow refresh replace a result loaded after a later write")
+    void shouldKeepNewerResultOverSlowRefresh() throws Throwable {
+        // Given
+        readCache.get("getAllTasks", List.of(), this::load);
+        clock.addAndGet(10 * SECOND);
+        readCache.get("getAllTasks", List.of(), () -> {
+            // A write and a fresh read land while the refresh is still running
+            readCache.invalidateAll();
+            readCache.get("getAllTasks", List.of(), this::load);
+            return "outdated";
+        });
+
+        // When
+        refreshes.forEach(Runnable::run);
+        CachedResult next = readCache.get("getAllTasks", List.of(), this::load);
+
+        // Then
+        assertThat(next.status()).isEqualTo(ReadCacheStatus.FRESH);
+        assertThat(next.value()).isEqualTo("result 2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should read a write made while an identical coalesced read was in flight")
+    void shouldReadOwnWriteOverCoalescedRead() throws Throwable {
+        // Given
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ZERO, new SimpleMeterRegistry());
+        AtomicInteger version = new AtomicInteger(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ReadCache.Loader query = () -> coalescer.execute("getAllTasks", List.of(), () -> {
+            int seen = version.get();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "version " + seen;
+        });
+        CompletableFuture<CachedResult> inFlight = CompletableFuture.supplyAsync(() -> {
+            try {
+                return readCache.get("getAllTasks", List.of(), query);
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: a write commits, then the writer reads
+        version.set(2);
+        readCache.invalidateAll();
+        coalescer.invalidate();
+        CompletableFuture<CachedResult> afterWrite = CompletableFuture.supplyAsync(() -> {
+            try {
+                return readCache.get("getAllTasks", List.of(), query);
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+        release.countDown();
+        CachedResult own = afterWrite.get(5, TimeUnit.SECONDS);
+        inFlight.get(5, TimeUnit.SECONDS);
+        CachedResult next = readCache.get("getAllTasks", List.of(), query);
+
+        // Then
+        assertThat(own.value()).isEqualTo("version 2");
+        assertThat(next.status()).isEqualTo(ReadCacheStatus.FRESH);
+        assertThat(next.value()).isEqualTo("version 2");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the last known result when the database fails")
+    void shouldFallBackWhenLoadFails() throws Throwable {
+        // Given
+        readCache.get("getAllTasks", List.of(), this::load);
+        readCache.invalidateAll();
+
+        // When
+        CachedResult fallback = readCache.get("getAllTasks", List.of(), () -> {
+            throw new IllegalStateException("pool exhausted");
+        });
+
+        // Then
+        assertThat(fallback.status()).isEqualTo(ReadCacheStatus.FALLBACK);
+        assertThat(fallback.value()).isEqualTo("result 1");
+        assertThatThrownBy(() -> readCache.get("getOverdueTasks", List.of(), () -> {
+            throw new IllegalStateException("pool exhausted");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should open the circuit on slow reads and serve the cache until a probe succeeds")
+    void shouldOpenCircuitOnSlowReads() throws Throwable {
+        // Given
+        readCache.get("getAllTasks", List.of(), this::load);
+        readCache.invalidateAll();
+        readCache.get("getAllTasks", List.of(), this::slowLoad);
+
+        // When
+        readCache.invalidateAll();
+        CachedResult whileOpen = readCache.get("getAllTasks", List.of(), this::load);
+        clock.addAndGet(31 * SECOND);
+        CachedResult probe = readCache.get("getAllTasks", List.of(), this::load);
+
+        // Then
+        assertThat(whileOpen.status()).isEqualTo(ReadCacheStatus.FALLBACK);
+        assertThat(whileOpen.value()).isEqualTo("result 2");
+        assertThat(loads).hasValue(2);
+        assertThat(probe.status()).isEqualTo(ReadCacheStatus.MISS);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should let one probe through a half-open circuit and reopen it if the probe fails")
+    void shouldReopenOnFailedProbe() {
+        // Given
+        long now = 0;
+        circuitBreaker.onFailure(now);
+        circuitBreaker.onFailure(now);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // When & Then
+        now += 31 * SECOND;
+        assertThat(circuitBreaker.tryAcquire(now)).isTrue();
+        assertThat(circuitBreaker.tryAcquire(now)).isFalse();
+        circuitBreaker.onFailure(now);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire(now + SECOND)).isFalse();
+    }
+
+    private Object load() {
+        return "result " + loads.incrementAndGet();
+    }
+
+    private Object slowLoad() {
+        clock.addAndGet(3 * SECOND);
+        return load();
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import uk.gov.hmcts.reform.dev.entities.CaseEntity;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.logstore.LogStructuredTaskStore;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("LogStructuredTaskRepository Tests")
+class LogStructuredTaskRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private LogStructuredTaskStore store;
+    private LogStructuredTaskRepository repository;
+    private LocalDateTime testDateTime;
+
+    @BeforeEach
+    void setUp() {
+        testDateTime = LocalDateTime.of(2024, 1, 15, 10, 0);
+        store = new LogStructuredTaskStore(directory, 64 * 1024, true, 0.5);
+        store.open();
+        repository = new LogStructuredTaskRepository(store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should answer list, search and count queries in due date order")
+    void shouldAnswerQueriesInDueDateOrder() {
+        // Given
+        repository.save(task("Third", TaskStatus.PENDING, testDateTime.plusDays(3)));
+        repository.save(task("First", TaskStatus.IN_PROGRESS, testDateTime.plusDays(1)));
+        repository.save(task("Undated", TaskStatus.PENDING, null));
+        repository.save(task("Second", TaskStatus.COMPLETED, testDateTime.plusDays(2)));
+
+        // When & Then
+        assertThat(repository.findAllByOrderByDueDateAsc()).extracting(TaskEntity::getTitle)
+            .containsExactly("Undated", "First", "Second", "Third");
+        assertThat(repository.findByStatusOrderByDueDateAsc(TaskStatus.PENDING)).extracting(TaskEntity::getTitle)
+            .containsExactly("Undated", "Third");
+        assertThat(repository.findOverdueTasks(testDateTime.plusDays(3), List.of(TaskStatus.COMPLETED)))
+            .extracting(TaskEntity::getTitle)
+            .containsExactly("First");
+        assertThat(repository.findByTitleOrDescriptionContainingIgnoreCase("SECOND")).hasSize(1);
+        assertThat(repository.count()).isEqualTo(4);
+        assertThat(repository.countByStatus(TaskStatus.PENDING)).isEqualTo(2);
+
+        Page<TaskEntity> page = repository.findByDueDateBetween(testDateTime, testDateTime.plusDays(3),
+                                                                PageRequest.of(1, 2));
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(TaskEntity::getTitle).containsExactly("Third");
+        assertThat(repository.countByDueDay(testDateTime, testDateTime.plusDays(3)))
+            .extracting(DueDateCount::getDay, DueDateCount::getStatus, DueDateCount::getTotal)
+            .containsExactly(
+                tuple(testDateTime.plusDays(1).toLocalDate(), TaskStatus.IN_PROGRESS, 1L),
+                tuple(testDateTime.plusDays(2).toLocalDate(), TaskStatus.COMPLETED, 1L));
+        assertThat(repository.findByAssigneeOrderByDueDateAscIdAsc("caseworker-1", PageRequest.of(0, 10)))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should claim a pending task only once")
+    void shouldClaimPendingTaskOnce() {
+        // Given
+        TaskEntity task = repository.save(task("Claim me", TaskStatus.PENDING, testDateTime));
+
+        // When
+        int first = repository.claimIfPending(task.getId(), "caseworker-1", testDateTime.plusHours(1));
+        int second = repository.claimIfPending(task.getId(), "caseworker-2", testDateTime.plusHours(2));
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        TaskEntity claimed = repository.findById(task.getId()).orElseThrow();
+        assertThat(claimed.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(claimed.getAssignee()).isEqualTo("caseworker-1");
+        assertThat(claimed.getUpdatedDate()).isEqualTo(testDateTime.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("Should update and delete by ID, and refuse case links")
+    void shouldUpdateAndDeleteById() {
+        // Given
+        TaskEntity task = repository.save(task("Original", TaskStatus.PENDING, testDateTime));
+
+        // When
+        task.setTitle("Renamed");
+        repository.save(task);
+        TaskEntity doomed = repository.save(task("Doomed", TaskStatus.PENDING, testDateTime));
+        repository.deleteById(doomed.getId());
+
+        // Then
+        assertThat(repository.findById(task.getId())).get().extracting(TaskEntity::getTitle).isEqualTo("Renamed");
+        assertThat(repository.existsById(doomed.getId())).isFalse();
+        assertThat(repository.count()).isEqualTo(1);
+
+        TaskEntity linked = task("Linked", TaskStatus.PENDING, testDateTime);
+        linked.setCaseEntity(new CaseEntity("CASE-1", "Case", null, "Open"));
+        assertThatThrownBy(() -> repository.save(linked)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TaskEntity task(String title, TaskStatus status, LocalDateTime dueDate) {
+        return new TaskEntity(title, "Description for " + title, status, dueDate);
+    }
+}
@@ -0,0 +1,253 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ShardedTaskRepository Tests")
+class ShardedTaskRepositoryTest {
+
+    private static final int SHARDS = 3;
+
+    private List<DataSource> dataSources;
+    private ExecutorService executor;
+    private ShardedTaskRepository repository;
+    private LocalDateTime testDateTime;
+
+    @BeforeEach
+    void setUp() {
+        testDateTime = LocalDateTime.of(2024, 1, 15, 10, 0);
+        String run = UUID.randomUUID().toString();
+        dataSources = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            dataSources.add(new DriverManagerDataSource(
+                "jdbc:h2:mem:shard" + i + "-" + run + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        executor = Executors.newFixedThreadPool(SHARDS);
+        repository = new ShardedTaskRepository(dataSources, executor);
+        repository.initialiseSchema();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should allocate unique IDs and store each task on the shard that owns its ID")
+    void shouldAllocateUniqueIdsAndRouteToOwningShard() {
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            ids.add(repository.save(task("Task " + i, TaskStatus.PENDING, testDateTime.plusDays(i))).getId());
+        }
+
+        // Then
+        assertThat(ids).doesNotHaveDuplicates();
+        for (Long id : ids) {
+            int owner = repository.shardFor(id);
+            for (int shard = 0; shard < SHARDS; shard++) {
+                Integer rows = new JdbcTemplate(dataSources.get(shard))
+                    .queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, id);
+                assertThat(rows).isEqualTo(shard == owner ? 1 : 0);
+            }
+            assertThat(repository.findById(id)).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("Should merge scatter-gather results in due date order")
+    void shouldMergeResultsInDueDateOrder() {
+        // Given
+        repository.save(task("Third", TaskStatus.PENDING, testDateTime.plusDays(3)));
+        repository.save(task("First", TaskStatus.IN_PROGRESS, testDateTime.plusDays(1)));
+        repository.save(task("Fifth", TaskStatus.PENDING, testDateTime.plusDays(5)));
+        repository.save(task("Second", TaskStatus.PENDING, testDateTime.plusDays(2)));
+        repository.save(task("Fourth", TaskStatus.COMPLETED, testDateTime.plusDays(4)));
+
+        // When
+        List<TaskEntity> all = repository.findAllByOrderByDueDateAsc();
+        List<TaskEntity> pending = repository.findByStatusOrderByDueDateAsc(TaskStatus.PENDING);
+
+        // Then
+        assertThat(all).extracting(TaskEntity::getTitle)
+                .containsExactly("First", "Second", "Third", "Fourth", "Fifth");
+        assertThat(pending).extracting(TaskEntity::getTitle)
+                .containsExactly("Second", "Third", "Fifth");
+    }
+
+    @Test
+    @DisplayName("Should page an assignee's tasks in due date order across shards")
+    void shouldPageAssigneeTasksAcrossShards() {
+        // Given
+        for (int i = 0; i < 7; i++) {
+            TaskEntity task = task("Task " + i, i == 3 ? TaskStatus.COMPLETED : TaskStatus.PENDING,
+                                   testDateTime.plusDays(7 - i));
+            task.setAssignee("caseworker-1");
+            repository.save(task);
+        }
+        repository.save(task("Unassigned", TaskStatus.PENDING, testDateTime));
+
+        // When
+        Page<TaskEntity> second = repository.findByAssigneeOrderByDueDateAscIdAsc("caseworker-1",
+                                                                                  PageRequest.of(1, 3));
+        Page<TaskEntity> pending = repository.findByAssigneeAndStatusOrderByDueDateAscIdAsc(
+            "caseworker-1", TaskStatus.PENDING, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(second.getTotalElements()).isEqualTo(7);
+        assertThat(second.getContent()).extracting(TaskEntity::getTitle)
+                .containsExactly("Task 3", "Task 2", "Task 1");
+        assertThat(pending.getContent()).extracting(TaskEntity::getTitle)
+                .containsExactly("Task 6", "Task 5", "Task 4", "Task 2", "Task 1", "Task 0");
+    }
+
+    @Test
+    @DisplayName("Should page due dates and count due days across shards")
+    void shouldPageDueDatesAndCountDueDaysAcrossShards() {
+        // Given
+        for (int i = 0; i < 6; i++) {
+            repository.save(task("Task " + i, i < 4 ? TaskStatus.PENDING : TaskStatus.COMPLETED,
+                                 testDateTime.plusDays(i / 2)));
+        }
+
+        // When
+        Page<TaskEntity> page = repository.findByDueDateBetween(testDateTime, testDateTime.plusDays(2),
+                                                                PageRequest.of(1, 4));
+        List<DueDateCount> counts = repository.countByDueDay(testDateTime, testDateTime.plusDays(2));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent()).extracting(TaskEntity::getTitle).containsExactly("Task 4", "Task 5");
+        assertThat(counts)
+                .extracting(DueDateCount::getDay, DueDateCount::getStatus, DueDateCount::getTotal)
+                .containsExactly(tuple(testDateTime.toLocalDate(), TaskStatus.PENDING, 2L),
+                                 tuple(testDateTime.plusDays(1).toLocalDate(), TaskStatus.PENDING, 2L));
+    }
+
+    @Test
+    @DisplayName("Should sum counts across shards")
+    void shouldSumCountsAcrossShards() {
+        // Given
+        for (int i = 0; i < 7; i++) {
+            repository.save(task("Task " + i, i % 2 == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED,
+                                 testDateTime.plusDays(i)));
+        }
+
+        // When & Then
+        assertThat(repository.count()).isEqualTo(7);
+        assertThat(repository.countByStatus(TaskStatus.PENDING)).isEqualTo(4);
+        assertThat(repository.countByStatus(TaskStatus.COMPLETED)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should find overdue tasks across shards")
+    void shouldFindOverdueTasksAcrossShards() {
+        // Given
+        repository.save(task("Overdue", TaskStatus.PENDING, testDateTime.minusDays(2)));
+        repository.save(task("Done", TaskStatus.COMPLETED, testDateTime.minusDays(1)));
+        repository.save(task("Future", TaskStatus.PENDING, testDateTime.plusDays(1)));
+
+        // When
+        List<TaskEntity> overdue = repository.findOverdueTasks(
+            testDateTime, Arrays.asList(TaskStatus.COMPLETED, TaskStatus.CANCELLED));
+
+        // Then
+        assertThat(overdue).extracting(TaskEntity::getTitle).containsExactly("Overdue");
+    }
+
+    @Test
+    @DisplayName("Should update and delete on the owning shard")
+    void shouldUpdateAndDeleteOnOwningShard() {
+        // Given
+        TaskEntity saved = repository.save(task("Task", TaskStatus.PENDING, testDateTime));
+
+        // When
+        saved.setStatus(TaskStatus.IN_PROGRESS);
+        repository.save(saved);
+
+        // Then
+        assertThat(repository.findById(saved.getId())).get()
+                .extracting(TaskEntity::getStatus).isEqualTo(TaskStatus.IN_PROGRESS);
+
+        repository.deleteById(saved.getId());
+        assertThat(repository.existsById(saved.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should roll back shard writes with the caller's transaction")
+    void shouldRollBackShardWritesWithCallerTransaction() {
+        // Given
+        TaskEntity saved = repository.save(task("Original", TaskStatus.PENDING, testDateTime));
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(
+            new DriverManagerDataSource("jdbc:h2:mem:primary-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "")));
+
+        // When
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+            TaskEntity task = repository.findById(saved.getId()).orElseThrow();
+            task.setTitle("Renamed");
+            repository.save(task);
+            repository.save(task("Added", TaskStatus.PENDING, testDateTime));
+            throw new IllegalStateException("Caller failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(repository.findById(saved.getId())).get()
+                .extracting(TaskEntity::getTitle).isEqualTo("Original");
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not recreate a task deleted before it was saved")
+    void shouldNotRecreateDeletedTaskOnSave() {
+        // Given
+        TaskEntity saved = repository.save(task("Task", TaskStatus.PENDING, testDateTime));
+        repository.deleteById(saved.getId());
+
+        // When
+        saved.setStatus(TaskStatus.COMPLETED);
+
+        // Then
+        assertThatThrownBy(() -> repository.save(saved)).isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(repository.existsById(saved.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refuse to start when the shard count changes")
+    void shouldRefuseToStartWhenShardCountChanges() {
+        // Given
+        ShardedTaskRepository resharded = new ShardedTaskRepository(dataSources.subList(0, 2), executor);
+
+        // When & Then
+        assertThatThrownBy(resharded::initialiseSchema)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("re-sharding is not supported");
+    }
+
+    private TaskEntity task(String title, TaskStatus status, LocalDateTime dueDate) {
+        return new TaskEntity(title, "Description", status, dueDate);
+    }
+}
@@ -6,10 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.TestPropertySource;
 import uk.gov.hmcts.reform.dev.entities.TaskEntity;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -169,6 +173,84 @@ class TaskRepositoryTest {
         assertThat(cancelledCount).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("Should page through tasks due in a date range")
+    void shouldPageThroughTasksDueInRange() {
+        // When
+        Page<TaskEntity> page = taskRepository.findByDueDateBetween(
+            testDateTime, testDateTime.plusDays(3), PageRequest.of(0, 2, Sort.by("dueDate", "id")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).containsExactly(inProgressTask, pendingTask);
+    }
+
+    @Test
+    @DisplayName("Should page through one assignee's tasks in due-date order")
+    void shouldFindTasksByAssignee() {
+        // Given
+        TaskEntity later = assigned("Later", "alice", TaskStatus.PENDING, testDateTime.plusDays(5));
+        TaskEntity sooner = assigned("Sooner", "alice", TaskStatus.PENDING, testDateTime.plusDays(1));
+        TaskEntity doing = assigned("Doing", "alice", TaskStatus.IN_PROGRESS, testDateTime);
+        assigned("Someone else's", "bob", TaskStatus.PENDING, testDateTime);
+
+        // When
+        Page<TaskEntity> pending = taskRepository.findByAssigneeAndStatusOrderByDueDateAscIdAsc(
+            "alice", TaskStatus.PENDING, PageRequest.of(0, 10));
+        Page<TaskEntity> all = taskRepository.findByAssigneeOrderByDueDateAscIdAsc("alice", PageRequest.of(0, 2));
+
+        // Then
+        assertThat(pending.getContent()).containsExactly(sooner, later);
+        assertThat(all.getTotalElements()).isEqualTo(3);
+        assertThat(all.getContent()).containsExactly(doing, sooner);
+    }
+
+    @Test
+    @DisplayName("Should reassign only the matching statuses in one statement")
+    void shouldReassignTasks() {
+        // Given
+        TaskEntity open = assigned("Open", "alice", TaskStatus.PENDING, testDateTime);
+        TaskEntity done = assigned("Done", "alice", TaskStatus.COMPLETED, testDateTime);
+        LocalDateTime now = testDateTime.plusDays(10);
+
+        // When
+        int moved = taskRepository.reassign("alice", "bob", List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS), now);
+
+        // Then
+        assertThat(moved).isEqualTo(1);
+        assertThat(taskRepository.findById(open.getId())).get()
+            .satisfies(task -> {
+                assertThat(task.getAssignee()).isEqualTo("bob");
+                assertThat(task.getUpdatedDate()).isEqualTo(now);
+            });
+        assertThat(taskRepository.findById(done.getId())).get()
+            .extracting(TaskEntity::getAssignee).isEqualTo("alice");
+        assertThat(taskRepository.findAssignmentsAfter(0L, PageRequest.of(0, 10)))
+            .extracting(TaskAssignmentRow::getAssignee).containsExactly("bob", "alice");
+    }
+
+    @Test
+    @DisplayName("Should count tasks per due day and status")
+    void shouldCountTasksPerDueDayAndStatus() {
+        // Given
+        entityManager.persist(new TaskEntity("Same Day", "Description 5", TaskStatus.PENDING,
+                                             testDateTime.plusDays(2).plusHours(5)));
+        entityManager.flush();
+
+        // When
+        List<DueDateCount> counts = taskRepository.countByDueDay(
+            testDateTime.toLocalDate().atStartOfDay(), testDateTime.toLocalDate().plusDays(3).atStartOfDay());
+
+        // Then
+        assertThat(counts).hasSize(2);
+        assertThat(counts.get(0).getDay()).isEqualTo(LocalDate.of(2024, 1, 16));
+        assertThat(counts.get(0).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(counts.get(0).getTotal()).isEqualTo(1L);
+        assertThat(counts.get(1).getDay()).isEqualTo(LocalDate.of(2024, 1, 17));
+        assertThat(counts.get(1).getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(counts.get(1).getTotal()).isEqualTo(2L);
+    }
+
     @Test
     @DisplayName("Should find tasks by title or description containing search term")
     void shouldFindTasksByTitleOrDescriptionContaining() {
@@ -228,4 +310,12 @@ class TaskRepositoryTest {
         assertThat(taskRepository.existsById(taskIdToDelete)).isFalse();
         assertThat(taskRepository.findById(taskIdToDelete)).isEmpty();
     }
-}
\ No newline at end of file
+
+    private TaskEntity assigned(String title, String assignee, TaskStatus status, LocalDateTime dueDate) {
+        TaskEntity entity = new TaskEntity(title, "Description", status, dueDate);
+        entity.setAssignee(assignee);
+        entityManager.persist(entity);
+        entityManager.flush();
+        return entity;
+    }
+}
@@ -0,0 +1,209 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+import uk.gov.hmcts.reform.dev.entities.CaseEntity;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.CaseRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("CaseService Tests")
+class CaseServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private CaseService caseService;
+    private Statistics statistics;
+    private List<Object> publishedEvents;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        publishedEvents = new ArrayList<>();
+        caseService = new CaseService(caseRepository, taskRepository, new TaskMapper(), publishedEvents::add);
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should list a page of cases with their tasks in two queries")
+    void shouldListCasesWithTasksInTwoQueries() {
+        // Given
+        persistCases(30, 4);
+
+        // When
+        statistics.clear();
+        List<CaseSummary> cases = caseService.getCases(0, 50);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(cases).hasSize(30);
+        assertThat(cases).allSatisfy(summary -> {
+            assertThat(summary.getTaskCount()).isEqualTo(4);
+            assertThat(summary.getTasks()).hasSize(4);
+        });
+        assertThat(cases.get(0).getCaseNumber()).isEqualTo("CASE-000");
+    }
+
+    @Test
+    @DisplayName("Should run the same number of queries whatever the page size")
+    void shouldKeepQueryCountConstantAsPageGrows() {
+        // Given
+        persistCases(CaseService.MAX_PAGE_SIZE, 2);
+
+        // When
+        statistics.clear();
+        caseService.getCases(0, 5);
+        long smallPage = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        statistics.clear();
+        caseService.getCases(0, CaseService.MAX_PAGE_SIZE);
+        long fullPage = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(fullPage).isEqualTo(smallPage);
+    }
+
+    @Test
+    @DisplayName("Should load one case's tasks in a single query, earliest due first")
+    void shouldLoadCaseTasksInOneQuery() {
+        // Given
+        CaseEntity caseEntity = entityManager.persist(new CaseEntity("ABC123", "Smith v Jones", null, "Open"));
+        persistTask(caseEntity, "Undated", null);
+        persistTask(caseEntity, "Later", now.plusDays(3));
+        persistTask(caseEntity, "Sooner", now.plusDays(1));
+        persistTask(null, "Unfiled", now);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        statistics.clear();
+        Optional<List<Task>> tasks = caseService.getCaseTasks("ABC123");
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(tasks).isPresent();
+        assertThat(tasks.get()).extracting(Task::getTitle).containsExactly("Sooner", "Later", "Undated");
+    }
+
+    @Test
+    @DisplayName("Should return empty for an unknown case")
+    void shouldReturnEmptyForUnknownCase() {
+        assertThat(caseService.getCaseTasks("NOPE")).isEmpty();
+        assertThat(caseService.addTaskToCase("NOPE", 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should file an existing task against a case")
+    void shouldAddTaskToCase() {
+        // Given
+        caseService.createCase("DEF456", "Hearing", null, null);
+        TaskEntity task = persistTask(null, "Schedule hearing", now.plusDays(5));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Optional<Task> filed = caseService.addTaskToCase("DEF456", task.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(filed).map(Task::getId).contains(task.getId());
+        assertThat(publishedEvents).singleElement().isInstanceOf(TaskChangedEvent.class);
+        assertThat(caseService.getCaseTasks("DEF456").orElseThrow())
+            .extracting(Task::getTitle).containsExactly("Schedule hearing");
+        assertThat(caseService.getCases(0, 10)).singleElement()
+            .satisfies(summary -> {
+                assertThat(summary.getStatus()).isEqualTo(CaseService.DEFAULT_STATUS);
+                assertThat(summary.getTaskCount()).isEqualTo(1);
+            });
+    }
+
+    @Test
+    @DisplayName("Should reject a blank or duplicate case number")
+    void shouldRejectInvalidCaseNumbers() {
+        caseService.createCase("GHI789", "Filing", null, "Open");
+
+        assertThatThrownBy(() -> caseService.createCase("GHI789", "Again", null, "Open"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> caseService.createCase(" ", "Blank", null, "Open"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> caseService.getCases(0, CaseService.MAX_PAGE_SIZE + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject fields longer than their columns without saving the case")
+    void shouldRejectOverLongFields() {
+        String longNumber = "C".repeat(CaseService.MAX_CASE_NUMBER_LENGTH + 1);
+        String longTitle = "x".repeat(CaseService.MAX_TITLE_LENGTH + 1);
+        String longDescription = "x".repeat(CaseService.MAX_DESCRIPTION_LENGTH + 1);
+        String longStatus = "x".repeat(CaseService.MAX_STATUS_LENGTH + 1);
+
+        assertThatThrownBy(() -> caseService.createCase(longNumber, "Title", null, "Open"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("number");
+        assertThatThrownBy(() -> caseService.createCase("JKL012", longTitle, null, "Open"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("title");
+        assertThatThrownBy(() -> caseService.createCase("JKL012", "Title", longDescription, "Open"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("description");
+        assertThatThrownBy(() -> caseService.createCase("JKL012", "Title", null, longStatus))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("status");
+        assertThat(caseService.getCaseTasks("JKL012")).isEmpty();
+    }
+
+    private void persistCases(int caseCount, int tasksPerCase) {
+        for (int i = 0; i < caseCount; i++) {
+            CaseEntity caseEntity = entityManager.persist(
+                new CaseEntity(String.format("CASE-%03d", i), "Case " + i, null, "Open"));
+            for (int j = 0; j < tasksPerCase; j++) {
+                persistTask(caseEntity, "Task " + i + "-" + j, now.plusDays(j));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private TaskEntity persistTask(CaseEntity caseEntity, String title, LocalDateTime dueDate) {
+        TaskEntity task = new TaskEntity(title, "Description", TaskStatus.PENDING, dueDate);
+        task.setCaseEntity(caseEntity);
+        return entityManager.persist(task);
+    }
+}
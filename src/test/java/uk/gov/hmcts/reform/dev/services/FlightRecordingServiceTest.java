@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.dev.config.FlightRecorderProperties;
+import uk.gov.hmcts.reform.dev.models.FlightRecording;
+import uk.gov.hmcts.reform.dev.models.FlightRecordingProfile;
+import uk.gov.hmcts.reform.dev.reports.ReportFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FlightRecordingService Tests")
+class FlightRecordingServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private FlightRecordingService flightRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setDirectory(directory.toString());
+        properties.setRetained(2);
+        flightRecordingService = new FlightRecordingService(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecordingService.close();
+    }
+
+    @Test
+    @DisplayName("Should run one recording at a time and write it out when stopped")
+    void shouldRecordAndWriteOutWhenStopped() throws Exception {
+        // Given
+        FlightRecording started = flightRecordingService.start(FlightRecordingProfile.DEFAULT, Duration.ofMinutes(1));
+
+        // When
+        assertThatThrownBy(() -> flightRecordingService.start(FlightRecordingProfile.PROFILE, null))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> flightRecordingService.getRecordingFile(started.getId()))
+            .isInstanceOf(IllegalStateException.class);
+        FlightRecording stopped = flightRecordingService.stop(started.getId()).orElseThrow();
+
+        // Then
+        assertThat(started.getState()).isEqualTo(RecordingState.RUNNING);
+        assertThat(stopped.getState()).isEqualTo(RecordingState.STOPPED);
+        assertThat(stopped.getSizeBytes()).isPositive();
+        ReportFile file = flightRecordingService.getRecordingFile(started.getId()).orElseThrow();
+        assertThat(file.path().getParent()).isEqualTo(directory);
+        assertThat(file.fileName()).endsWith(".jfr");
+        try (RecordingFile recording = new RecordingFile(file.path())) {
+            assertThat(recording.hasMoreEvents()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete the oldest finished recording beyond the retained count")
+    void shouldDeleteOldestRecordingBeyondRetained() throws Exception {
+        // Given
+        long first = startAndStop();
+        long second = startAndStop();
+        Path firstFile = flightRecordingService.getRecordingFile(first).orElseThrow().path();
+
+        // When
+        long third = startAndStop();
+
+        // Then
+        assertThat(flightRecordingService.getRecordings()).extracting(FlightRecording::getId)
+            .containsExactly(second, third);
+        assertThat(Files.exists(firstFile)).isFalse();
+        assertThat(flightRecordingService.delete(second)).isTrue();
+        assertThat(flightRecordingService.getRecording(second)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject durations that are not positive or exceed the maximum")
+    void shouldRejectInvalidDurations() {
+        assertThatThrownBy(() -> flightRecordingService.start(null, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> flightRecordingService.start(null, Duration.ofHours(2)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(flightRecordingService.getRecordings()).isEmpty();
+    }
+
+    private long startAndStop() throws Exception {
+        long id = flightRecordingService.start(FlightRecordingProfile.DEFAULT, Duration.ofMinutes(1)).getId();
+        flightRecordingService.stop(id);
+        return id;
+    }
+}
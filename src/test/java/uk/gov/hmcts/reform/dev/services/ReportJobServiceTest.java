@@ -0,0 +1,184 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.config.ReportProperties;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.models.CreateReportRequest;
+import uk.gov.hmcts.reform.dev.models.ReportFormat;
+import uk.gov.hmcts.reform.dev.models.ReportJob;
+import uk.gov.hmcts.reform.dev.models.ReportJobStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.reports.ReportFile;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // report chunks are read in their own transactions
+@DisplayName("ReportJobService Tests")
+class ReportJobServiceTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private ReportJobService reportJobService;
+    private SimpleMeterRegistry meterRegistry;
+    private LocalDateTime testDateTime;
+
+    @BeforeEach
+    void setUp() {
+        testDateTime = LocalDateTime.of(2024, 1, 15, 10, 0);
+        taskRepository.deleteAll();
+        meterRegistry = new SimpleMeterRegistry();
+
+        ReportProperties properties = new ReportProperties();
+        properties.setDirectory(directory.toString());
+        properties.setChunkSize(7);
+        properties.setChunkParallelism(3);
+        reportJobService = new ReportJobService(taskRepository, transactionManager, properties,
+                                                new ObjectMapper(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobService.close();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should write a CSV report across several chunks in ID order")
+    void shouldWriteCsvReportInIdOrder() throws Exception {
+        // Given - more tasks than fit in the chunks read ahead at once
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(new TaskEntity("Task " + i, i == 3 ? "Has \"quotes\", and a comma" : "Description",
+                                     i % 5 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING, testDateTime));
+        }
+        List<TaskEntity> saved = taskRepository.saveAll(tasks);
+
+        // When
+        ReportJob job = reportJobService.createReport(
+            new CreateReportRequest(ReportFormat.CSV, false, TaskStatus.PENDING));
+        ReportJob finished = awaitFinished(job.getId());
+
+        // Then
+        assertThat(finished.getStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(finished.getRows()).isEqualTo(40);
+        ReportFile file = reportJobService.getReportFile(job.getId()).orElseThrow();
+        assertThat(file.contentType()).isEqualTo("text/csv");
+        assertThat(file.length()).isEqualTo(Files.size(file.path())).isEqualTo(finished.getSizeBytes());
+
+        List<String> lines = Files.readAllLines(file.path(), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(41);
+        assertThat(lines.get(0)).isEqualTo("id,title,description,status,dueDate,createdDate,updatedDate");
+        assertThat(lines.get(1)).startsWith(saved.get(1).getId() + ",Task 1,Description,PENDING,2024-01-15T10:00:00,");
+        assertThat(lines.get(3))
+            .startsWith(saved.get(3).getId() + ",Task 3,\"Has \"\"quotes\"\", and a comma\",PENDING,");
+        assertThat(lines.get(40)).startsWith(saved.get(49).getId() + ",Task 49,");
+        assertThat(meterRegistry.get("task.reports.jobs").tag("outcome", "completed").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write a gzipped NDJSON report with nulls for missing fields")
+    void shouldWriteGzippedNdjsonReport() throws Exception {
+        // Given
+        taskRepository.save(new TaskEntity("First", "Description", TaskStatus.PENDING, testDateTime));
+        taskRepository.save(new TaskEntity("Second", null, TaskStatus.COMPLETED, null));
+
+        // When
+        ReportJob job = reportJobService.createReport(new CreateReportRequest(ReportFormat.NDJSON, true, null));
+        ReportJob finished = awaitFinished(job.getId());
+
+        // Then
+        assertThat(finished.getStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+        ReportFile file = reportJobService.getReportFile(job.getId()).orElseThrow();
+        assertThat(file.fileName()).endsWith(".ndjson.gz");
+        assertThat(file.contentType()).isEqualTo("application/gzip");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(file.path())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).get("title").asText()).isEqualTo("First");
+        assertThat(rows.get(0).get("dueDate").asText()).isEqualTo("2024-01-15T10:00:00");
+        assertThat(rows.get(1).get("description").isNull()).isTrue();
+        assertThat(rows.get(1).get("status").asText()).isEqualTo("COMPLETED");
+
+        assertThat(reportJobService.getReport("unknown")).isEmpty();
+        assertThatThrownBy(() -> reportJobService.createReport(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should delete expired reports and files left over from earlier runs")
+    void shouldExpireReports() throws Exception {
+        // Given
+        taskRepository.save(new TaskEntity("Task", "Description", TaskStatus.PENDING, testDateTime));
+        ReportJob job = reportJobService.createReport(new CreateReportRequest());
+        awaitFinished(job.getId());
+        Path reportPath = reportJobService.getReportFile(job.getId()).orElseThrow().path();
+        Path leftover = Files.writeString(directory.resolve("tasks-old.csv"), "id\r\n");
+        Files.setLastModifiedTime(leftover, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        // When
+        int keptNow = reportJobService.expireReports(LocalDateTime.now());
+        int expiredLater = reportJobService.expireReports(LocalDateTime.now().plusHours(25));
+
+        // Then
+        assertThat(keptNow).isZero();
+        assertThat(expiredLater).isEqualTo(1);
+        assertThat(reportJobService.getReport(job.getId())).isEmpty();
+        assertThat(reportPath).doesNotExist();
+        assertThat(leftover).doesNotExist();
+    }
+
+    private ReportJob awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (System.nanoTime() < deadline) {
+            ReportJob job = reportJobService.getReport(id).orElseThrow();
+            if (job.getStatus() == ReportJobStatus.COMPLETED || job.getStatus() == ReportJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Report " + id + " did not finish");
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.config.ArchiveProperties;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.ArchivedTaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("TaskArchiveService Tests")
+class TaskArchiveServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskArchiveService taskArchiveService;
+    private SimpleMeterRegistry meterRegistry;
+    private LocalDateTime now;
+    private List<Object> publishedEvents;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAll();
+
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setBatchSize(2);
+        properties.setBatchPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        publishedEvents = new ArrayList<>();
+        taskArchiveService = new TaskArchiveService(taskRepository, archivedTaskRepository, new TaskMapper(),
+                                                    properties, transactionManager, publishedEvents::add,
+                                                    meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should move only old closed tasks to the archive in batches")
+    void shouldMoveOnlyOldClosedTasks() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            persist("Old completed " + i, TaskStatus.COMPLETED, now.minusDays(60));
+        }
+        persist("Old cancelled", TaskStatus.CANCELLED, now.minusDays(45));
+        persist("Recent completed", TaskStatus.COMPLETED, now.minusDays(1));
+        persist("Old pending", TaskStatus.PENDING, now.minusDays(90));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        long moved = taskArchiveService.archiveClosedTasks(now.minusDays(30));
+
+        // Then
+        assertThat(moved).isEqualTo(6);
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle)
+                .containsExactlyInAnyOrder("Recent completed", "Old pending");
+        assertThat(archivedTaskRepository.count()).isEqualTo(6);
+        assertThat(taskArchiveService.getLiveRowCount()).isEqualTo(2);
+        assertThat(taskArchiveService.getArchivedRowCount()).isEqualTo(6);
+        assertThat(meterRegistry.get("task.archive.archived").counter().count()).isEqualTo(6.0);
+        assertThat(publishedEvents).hasOnlyElementsOfType(TasksRemovedEvent.class);
+        assertThat(publishedEvents.stream().mapToInt(event -> ((TasksRemovedEvent) event).getTaskIds().size()).sum())
+                .isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should query and restore an archived task with its original ID")
+    void shouldQueryAndRestoreArchivedTask() {
+        // Given
+        TaskEntity closed = persist("Closed", TaskStatus.COMPLETED, now.minusDays(60));
+        entityManager.flush();
+        entityManager.clear();
+        taskArchiveService.archiveClosedTasks(now.minusDays(30));
+
+        // When
+        Optional<Task> archived = taskArchiveService.getArchivedTask(closed.getId());
+        Optional<Task> restored = taskArchiveService.restoreTask(closed.getId());
+
+        // Then
+        assertThat(archived).isPresent();
+        assertThat(taskArchiveService.findArchivedTasks(TaskStatus.COMPLETED, PageRequest.of(0, 10))).isEmpty();
+        assertThat(restored).isPresent();
+        assertThat(restored.get().getId()).isEqualTo(closed.getId());
+        assertThat(restored.get().getTitle()).isEqualTo("Closed");
+        assertThat(restored.get().getUpdatedDate()).isAfter(now.minusMinutes(1));
+        assertThat(archivedTaskRepository.existsById(closed.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return empty when restoring a task that is not archived")
+    void shouldReturnEmptyWhenRestoringUnknownTask() {
+        assertThat(taskArchiveService.restoreTask(99999L)).isEmpty();
+    }
+
+    private TaskEntity persist(String title, TaskStatus status, LocalDateTime updatedDate) {
+        TaskEntity entity = new TaskEntity(title, "Description", status, updatedDate.plusDays(1));
+        entity.setCreatedDate(updatedDate);
+        entity.setUpdatedDate(updatedDate);
+        return entityManager.persist(entity);
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksReassignedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.models.AssigneeTaskCounts;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskAssignmentRow;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskAssigneeCounts Tests")
+class TaskAssigneeCountsTest {
+
+    @Mock
+    private TaskStore taskStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskAssigneeCounts taskAssigneeCounts;
+
+    @BeforeEach
+    void setUp() {
+        taskAssigneeCounts = new TaskAssigneeCounts(taskStore, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should count each assignee's tasks by status on rebuild")
+    void shouldCountOnRebuild() {
+        // Given
+        givenAssignments(
+            new TaskAssignmentRow.Row(1L, "alice", TaskStatus.PENDING),
+            new TaskAssignmentRow.Row(2L, "alice", TaskStatus.PENDING),
+            new TaskAssignmentRow.Row(3L, "alice", TaskStatus.COMPLETED),
+            new TaskAssignmentRow.Row(4L, "bob", TaskStatus.IN_PROGRESS));
+
+        // When
+        assertThat(taskAssigneeCounts.isReady()).isFalse();
+        taskAssigneeCounts.rebuild();
+
+        // Then
+        assertThat(taskAssigneeCounts.isReady()).isTrue();
+        AssigneeTaskCounts alice = taskAssigneeCounts.getCounts("alice");
+        assertThat(alice.getTotal()).isEqualTo(3);
+        assertThat(alice.getByStatus()).containsEntry(TaskStatus.PENDING, 2L)
+                .containsEntry(TaskStatus.COMPLETED, 1L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 0L);
+        assertThat(taskAssigneeCounts.getAllCounts()).extracting(AssigneeTaskCounts::getAssignee)
+                .containsExactly("alice", "bob");
+        assertThat(taskAssigneeCounts.getCounts("nobody").getTotal()).isZero();
+        verify(taskStore).findAssignmentsAfter(eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should follow assignment, status changes and removals without querying")
+    void shouldApplyChangesIncrementally() {
+        // Given
+        givenAssignments(
+            new TaskAssignmentRow.Row(1L, "alice", TaskStatus.PENDING),
+            new TaskAssignmentRow.Row(2L, "alice", TaskStatus.PENDING));
+        taskAssigneeCounts.rebuild();
+
+        // When
+        taskAssigneeCounts.onTaskChanged(TaskChangedEvent.saved(task(1L, "bob", TaskStatus.IN_PROGRESS)));
+        taskAssigneeCounts.onTaskChanged(TaskChangedEvent.saved(task(3L, "alice", TaskStatus.PENDING)));
+        taskAssigneeCounts.onTaskChanged(TaskChangedEvent.saved(task(4L, null, TaskStatus.PENDING)));
+        taskAssigneeCounts.onTasksRemoved(new TasksRemovedEvent(List.of(2L, 99L)));
+
+        // Then
+        assertThat(taskAssigneeCounts.getCounts("alice").getByStatus()).containsEntry(TaskStatus.PENDING, 1L);
+        assertThat(taskAssigneeCounts.getCounts("alice").getTotal()).isEqualTo(1);
+        assertThat(taskAssigneeCounts.getCounts("bob").getByStatus()).containsEntry(TaskStatus.IN_PROGRESS, 1L);
+        verify(taskStore).findAssignmentsAfter(eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should move only the reassigned statuses to the new assignee")
+    void shouldApplyReassignment() {
+        // Given
+        givenAssignments(
+            new TaskAssignmentRow.Row(1L, "alice", TaskStatus.PENDING),
+            new TaskAssignmentRow.Row(2L, "alice", TaskStatus.IN_PROGRESS),
+            new TaskAssignmentRow.Row(3L, "alice", TaskStatus.COMPLETED));
+        taskAssigneeCounts.rebuild();
+
+        // When
+        taskAssigneeCounts.onTasksReassigned(new TasksReassignedEvent(
+            "alice", "bob", EnumSet.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS), 2));
+
+        // Then
+        assertThat(taskAssigneeCounts.getCounts("alice").getTotal()).isEqualTo(1);
+        assertThat(taskAssigneeCounts.getCounts("alice").getByStatus()).containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(taskAssigneeCounts.getCounts("bob").getTotal()).isEqualTo(2);
+
+        // Unassigning drops the tasks from every count
+        taskAssigneeCounts.onTasksReassigned(new TasksReassignedEvent(
+            "bob", null, EnumSet.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS), 2));
+        assertThat(taskAssigneeCounts.getAllCounts()).extracting(AssigneeTaskCounts::getAssignee)
+                .containsExactly("alice");
+    }
+
+    private void givenAssignments(TaskAssignmentRow... rows) {
+        when(taskStore.findAssignmentsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(rows));
+    }
+
+    private Task task(Long id, String assignee, TaskStatus status) {
+        Task task = new Task("Task " + id, "Description", status, null);
+        task.setId(id);
+        task.setAssignee(assignee);
+        return task;
+    }
+}
@@ -0,0 +1,268 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.config.WorkloadProperties;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.TaskBatchMode;
+import uk.gov.hmcts.reform.dev.models.TaskBatchOperation;
+import uk.gov.hmcts.reform.dev.models.TaskBatchOperationResult;
+import uk.gov.hmcts.reform.dev.models.TaskBatchOperationType;
+import uk.gov.hmcts.reform.dev.models.TaskBatchRequest;
+import uk.gov.hmcts.reform.dev.models.TaskBatchResult;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // each batch commits in its own transaction
+@DisplayName("TaskBatchService Tests")
+class TaskBatchServiceTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskBatchService taskBatchService;
+    private List<Object> publishedEvents;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        publishedEvents = new CopyOnWriteArrayList<>();
+        TaskMapper taskMapper = new TaskMapper();
+        TaskService taskService = new TaskService(taskRepository, taskMapper, publishedEvents::add, null);
+        taskBatchService = new TaskBatchService(taskService, taskMapper, dataSource, transactionManager,
+                                                publishedEvents::add, new WorkloadProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should apply create, update, status and delete operations in order and commit them together")
+    void shouldApplyOperationsInOrder() {
+        // Given
+        Long renamed = persist("Rename me", TaskStatus.PENDING);
+        Long deleted = persist("Delete me", TaskStatus.PENDING);
+        TaskPatch patch = new TaskPatch();
+        patch.setTitle("Renamed");
+        patch.setAssignee("caseworker-1");
+
+        // When
+        TaskBatchResult result = taskBatchService.execute(new TaskBatchRequest(TaskBatchMode.ALL_OR_NOTHING, List.of(
+            create("Created"),
+            new TaskBatchOperation(TaskBatchOperationType.UPDATE, renamed, null, null, patch, null),
+            status(renamed, TaskStatus.IN_PROGRESS),
+            status(deleted, TaskStatus.COMPLETED),
+            delete(deleted))));
+
+        // Then
+        assertThat(result.isCommitted()).isTrue();
+        assertThat(result.getResults()).extracting(TaskBatchOperationResult::getCode)
+            .containsExactly(201, 200, 200, 200, 204);
+        Long created = result.getResults().get(0).getId();
+        assertThat(created).isNotNull();
+        assertThat(result.getResults().get(1).getTask().getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(result.getResults().get(2).getTask().getTitle()).isEqualTo("Renamed");
+
+        assertThat(taskRepository.findAll())
+            .extracting(TaskEntity::getId, TaskEntity::getTitle, TaskEntity::getStatus, TaskEntity::getAssignee)
+            .containsExactlyInAnyOrder(tuple(created, "Created", TaskStatus.PENDING, null),
+                                       tuple(renamed, "Renamed", TaskStatus.IN_PROGRESS, "caseworker-1"));
+        assertThat(publishedEvents).hasSize(5).hasOnlyElementsOfType(TaskChangedEvent.class);
+        assertThat(((TaskChangedEvent) publishedEvents.get(4)).isDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write nothing when an all-or-nothing batch has a failed operation")
+    void shouldWriteNothingWhenAllOrNothingBatchFails() {
+        // Given
+        Long existing = persist("Existing", TaskStatus.PENDING);
+
+        // When
+        TaskBatchResult result = taskBatchService.execute(new TaskBatchRequest(TaskBatchMode.ALL_OR_NOTHING, List.of(
+            create("Not kept"),
+            status(existing, TaskStatus.COMPLETED),
+            delete(existing + 1000),
+            delete(existing))));
+
+        // Then
+        assertThat(result.isCommitted()).isFalse();
+        assertThat(result.getResults()).extracting(TaskBatchOperationResult::getCode)
+            .containsExactly(424, 424, 404, 424);
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle, TaskEntity::getStatus)
+            .containsExactly(tuple("Existing", TaskStatus.PENDING));
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip failed operations and commit the rest when continuing on error")
+    void shouldContinueOnError() {
+        // Given
+        Long existing = persist("Existing", TaskStatus.PENDING);
+
+        // When
+        TaskBatchResult result = taskBatchService.execute(new TaskBatchRequest(TaskBatchMode.CONTINUE_ON_ERROR, List.of(
+            create(" "),
+            status(existing, null),
+            status(existing, TaskStatus.COMPLETED),
+            delete(existing + 1000),
+            create("Kept"))));
+
+        // Then
+        assertThat(result.isCommitted()).isTrue();
+        assertThat(result.getResults()).extracting(TaskBatchOperationResult::getCode)
+            .containsExactly(400, 400, 200, 404, 201);
+        assertThat(result.getResults().get(0).getError()).contains("title");
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle, TaskEntity::getStatus)
+            .containsExactlyInAnyOrder(tuple("Existing", TaskStatus.COMPLETED), tuple("Kept", TaskStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should reject an over-long update without failing the rest of the batch")
+    void shouldRejectOverLongUpdateWhenContinuingOnError() {
+        // Given
+        Long existing = persist("Existing", TaskStatus.PENDING);
+        TaskPatch longTitle = new TaskPatch();
+        longTitle.setTitle("x".repeat(TaskService.MAX_TITLE_LENGTH + 1));
+        TaskPatch longDescription = new TaskPatch();
+        longDescription.setDescription("x".repeat(TaskService.MAX_DESCRIPTION_LENGTH + 1));
+
+        // When
+        TaskBatchResult result = taskBatchService.execute(new TaskBatchRequest(TaskBatchMode.CONTINUE_ON_ERROR, List.of(
+            new TaskBatchOperation(TaskBatchOperationType.UPDATE, existing, null, null, longTitle, null),
+            new TaskBatchOperation(TaskBatchOperationType.UPDATE, existing, null, null, longDescription, null),
+            status(existing, TaskStatus.COMPLETED),
+            create("Kept"))));
+
+        // Then
+        assertThat(result.isCommitted()).isTrue();
+        assertThat(result.getResults()).extracting(TaskBatchOperationResult::getCode)
+            .containsExactly(400, 400, 200, 201);
+        assertThat(result.getResults().get(0).getError()).contains("title");
+        assertThat(result.getResults().get(1).getError()).contains("description");
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle, TaskEntity::getStatus)
+            .containsExactlyInAnyOrder(tuple("Existing", TaskStatus.COMPLETED), tuple("Kept", TaskStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should update and delete tasks created earlier in the same batch by reference")
+    void shouldApplyOperationsToTasksCreatedInBatch() {
+        // Given
+        TaskPatch patch = new TaskPatch();
+        patch.setAssignee("caseworker-1");
+
+        // When
+        TaskBatchResult result = taskBatchService.execute(new TaskBatchRequest(TaskBatchMode.ALL_OR_NOTHING, List.of(
+            create("Assigned"),
+            create("Discarded"),
+            new TaskBatchOperation(TaskBatchOperationType.UPDATE, null, 0, null, patch, null),
+            new TaskBatchOperation(TaskBatchOperationType.UPDATE_STATUS, null, 0, null, null, TaskStatus.IN_PROGRESS),
+            new TaskBatchOperation(TaskBatchOperationType.DELETE, null, 1, null, null, null))));
+
+        // Then
+        assertThat(result.isCommitted()).isTrue();
+        assertThat(result.getResults()).extracting(TaskBatchOperationResult::getCode)
+            .containsExactly(201, 201, 200, 200, 204);
+        Long assigned = result.getResults().get(0).getId();
+        Long discarded = result.getResults().get(1).getId();
+        assertThat(assigned).isNotNull();
+        assertThat(discarded).isNotNull();
+        assertThat(result.getResults().get(0).getTask().getAssignee()).isNull();
+        assertThat(result.getResults().subList(2, 4)).extracting(TaskBatchOperationResult::getId)
+            .containsOnly(assigned);
+        assertThat(result.getResults().get(3).getTask().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(result.getResults().get(4).getId()).isEqualTo(discarded);
+
+        assertThat(taskRepository.findAll())
+            .extracting(TaskEntity::getId, TaskEntity::getTitle, TaskEntity::getStatus, TaskEntity::getAssignee)
+            .containsExactly(tuple(assigned, "Assigned", TaskStatus.IN_PROGRESS, "caseworker-1"));
+        assertThat(publishedEvents).hasSize(5);
+        assertThat(((TaskChangedEvent) publishedEvents.get(4)).isDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject references to failed creates, later operations and non-creates")
+    void shouldRejectInvalidReferences() {
+        // Given
+        Long existing = persist("Existing", TaskStatus.PENDING);
+
+        // When
+        TaskBatchResult result = taskBatchService.execute(new TaskBatchRequest(TaskBatchMode.CONTINUE_ON_ERROR, List.of(
+            create(" "),
+            new TaskBatchOperation(TaskBatchOperationType.DELETE, null, 0, null, null, null),
+            new TaskBatchOperation(TaskBatchOperationType.DELETE, null, 3, null, null, null),
+            status(existing, TaskStatus.COMPLETED),
+            new TaskBatchOperation(TaskBatchOperationType.DELETE, null, 3, null, null, null),
+            new TaskBatchOperation(TaskBatchOperationType.DELETE, existing, 0, null, null, null))));
+
+        // Then
+        assertThat(result.isCommitted()).isTrue();
+        assertThat(result.getResults()).extracting(TaskBatchOperationResult::getCode)
+            .containsExactly(400, 424, 400, 200, 400, 400);
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Not run because operation 0 failed");
+        assertThat(result.getResults().get(4).getError()).isEqualTo("Operation 3 is not a CREATE");
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle, TaskEntity::getStatus)
+            .containsExactly(tuple("Existing", TaskStatus.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized batches")
+    void shouldRejectEmptyAndOversizedBatches() {
+        TaskBatchRequest tooMany = new TaskBatchRequest(TaskBatchMode.CONTINUE_ON_ERROR, new ArrayList<>(
+            Collections.nCopies(TaskBatchService.MAX_OPERATIONS + 1, create("Task"))));
+
+        assertThatThrownBy(() -> taskBatchService.execute(new TaskBatchRequest(null, List.of())))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskBatchService.execute(tooMany))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    private Long persist(String title, TaskStatus status) {
+        return taskRepository.save(new TaskEntity(title, "Description", status, LocalDateTime.now().plusDays(1)))
+            .getId();
+    }
+
+    private static TaskBatchOperation create(String title) {
+        return new TaskBatchOperation(TaskBatchOperationType.CREATE, null, null,
+                                      new CreateTaskRequest(title, null, null, null), null, null);
+    }
+
+    private static TaskBatchOperation status(Long id, TaskStatus status) {
+        return new TaskBatchOperation(TaskBatchOperationType.UPDATE_STATUS, id, null, null, null, status);
+    }
+
+    private static TaskBatchOperation delete(Long id) {
+        return new TaskBatchOperation(TaskBatchOperationType.DELETE, id, null, null, null, null);
+    }
+}
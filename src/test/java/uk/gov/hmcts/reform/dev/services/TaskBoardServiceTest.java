@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskBoardColumn;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskSummary;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskBoardService Tests")
+class TaskBoardServiceTest {
+
+    @Mock
+    private TaskStore taskStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskBoardService taskBoardService;
+    private LocalDateTime testDateTime;
+
+    @BeforeEach
+    void setUp() {
+        testDateTime = LocalDateTime.of(2024, 1, 15, 10, 0);
+        taskBoardService = new TaskBoardService(taskStore, new TaskMapper(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should rebuild columns ordered by due date with undated tasks last")
+    void shouldRebuildColumnsInDueDateOrder() {
+        // Given
+        when(taskStore.findAll()).thenReturn(Arrays.asList(
+            entity(1L, "Later", TaskStatus.PENDING, testDateTime.plusDays(3)),
+            entity(2L, "Undated", TaskStatus.PENDING, null),
+            entity(3L, "Sooner", TaskStatus.PENDING, testDateTime.plusDays(1)),
+            entity(4L, "Doing", TaskStatus.IN_PROGRESS, testDateTime)));
+
+        // When
+        assertThat(taskBoardService.isReady()).isFalse();
+        taskBoardService.rebuild();
+        Map<TaskStatus, TaskBoardColumn> board = taskBoardService.getBoard(2);
+
+        // Then
+        assertThat(taskBoardService.isReady()).isTrue();
+        assertThat(board).containsOnlyKeys(TaskStatus.values());
+        assertThat(board.get(TaskStatus.PENDING).getTotal()).isEqualTo(3);
+        assertThat(board.get(TaskStatus.PENDING).getTasks()).extracting(TaskSummary::getTitle)
+                .containsExactly("Sooner", "Later");
+        assertThat(board.get(TaskStatus.IN_PROGRESS).getTotal()).isEqualTo(1);
+        assertThat(board.get(TaskStatus.COMPLETED).getTasks()).isEmpty();
+        verify(taskStore).findAll();
+    }
+
+    @Test
+    @DisplayName("Should move, add and remove cards from committed changes without querying")
+    void shouldApplyChangesIncrementally() {
+        // Given
+        when(taskStore.findAll()).thenReturn(Arrays.asList(
+            entity(1L, "First", TaskStatus.PENDING, testDateTime.plusDays(1)),
+            entity(2L, "Second", TaskStatus.PENDING, testDateTime.plusDays(2)),
+            entity(3L, "Third", TaskStatus.PENDING, testDateTime.plusDays(3))));
+        taskBoardService.rebuild();
+
+        // When
+        taskBoardService.onTaskChanged(TaskChangedEvent.saved(task(1L, "First", TaskStatus.COMPLETED, testDateTime.plusDays(1))));
+        taskBoardService.onTaskChanged(TaskChangedEvent.saved(task(4L, "New", TaskStatus.PENDING, testDateTime)));
+        taskBoardService.onTaskChanged(TaskChangedEvent.deleted(2L));
+        taskBoardService.onTasksRemoved(new TasksRemovedEvent(List.of(99L)));
+        Map<TaskStatus, TaskBoardColumn> board = taskBoardService.getBoard(10);
+
+        // Then
+        assertThat(board.get(TaskStatus.PENDING).getTasks()).extracting(TaskSummary::getTitle)
+                .containsExactly("New", "Third");
+        assertThat(board.get(TaskStatus.PENDING).getTotal()).isEqualTo(2);
+        assertThat(board.get(TaskStatus.COMPLETED).getTasks()).extracting(TaskSummary::getId)
+                .containsExactly(1L);
+        verify(taskStore).findAll();
+    }
+
+    @Test
+    @DisplayName("Should drop archived tasks from the board")
+    void shouldDropArchivedTasks() {
+        // Given
+        when(taskStore.findAll()).thenReturn(Arrays.asList(
+            entity(1L, "Done", TaskStatus.COMPLETED, testDateTime),
+            entity(2L, "Cancelled", TaskStatus.CANCELLED, testDateTime)));
+        taskBoardService.rebuild();
+
+        // When
+        taskBoardService.onTasksRemoved(new TasksRemovedEvent(List.of(1L, 2L)));
+
+        // Then
+        Map<TaskStatus, TaskBoardColumn> board = taskBoardService.getBoard(10);
+        assertThat(board.get(TaskStatus.COMPLETED).getTotal()).isZero();
+        assertThat(board.get(TaskStatus.CANCELLED).getTotal()).isZero();
+    }
+
+    private TaskEntity entity(Long id, String title, TaskStatus status, LocalDateTime dueDate) {
+        TaskEntity entity = new TaskEntity(title, "Description", status, dueDate);
+        entity.setId(id);
+        entity.setCreatedDate(testDateTime);
+        entity.setUpdatedDate(testDateTime);
+        return entity;
+    }
+
+    private Task task(Long id, String title, TaskStatus status, LocalDateTime dueDate) {
+        Task task = new Task(title, "Description", status, dueDate);
+        task.setId(id);
+        return task;
+    }
+}
@@ -0,0 +1,279 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // claimers run in their own committed transactions
+@DisplayName("TaskClaimService Tests")
+class TaskClaimServiceTest {
+
+    private static final String CLAIMER = "caseworker-1";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskClaimService taskClaimService;
+    private SimpleMeterRegistry meterRegistry;
+    private Queue<Object> publishedEvents;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        taskRepository.deleteAll();
+        meterRegistry = new SimpleMeterRegistry();
+        publishedEvents = new ConcurrentLinkedQueue<>();
+        taskClaimService = new TaskClaimService(taskRepository, new TaskMapper(), transactionManager,
+                                                publishedEvents::add, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should claim the earliest-due pending task and move it to IN_PROGRESS")
+    void shouldClaimEarliestDuePendingTask() {
+        // Given
+        persist("Later", TaskStatus.PENDING, now.plusDays(3));
+        TaskEntity soonest = persist("Soonest", TaskStatus.PENDING, now.plusDays(1));
+        persist("Already started", TaskStatus.IN_PROGRESS, now);
+        persist("No due date", TaskStatus.PENDING, null);
+        taskClaimService.rebuild();
+
+        // When
+        Optional<Task> claimed = taskClaimService.claimNext(CLAIMER);
+
+        // Then
+        assertThat(claimed).isPresent();
+        assertThat(claimed.get().getId()).isEqualTo(soonest.getId());
+        assertThat(claimed.get().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(claimed.get().getAssignee()).isEqualTo(CLAIMER);
+        assertThat(taskRepository.findById(soonest.getId()).orElseThrow())
+            .extracting(TaskEntity::getStatus, TaskEntity::getAssignee)
+            .containsExactly(TaskStatus.IN_PROGRESS, CLAIMER);
+        assertThat(publishedEvents).hasSize(1);
+        assertThat(taskClaimService.getQueueSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject a claim without a claimer and leave the queue untouched")
+    void shouldRejectClaimWithoutClaimer() {
+        // Given
+        persist("Pending", TaskStatus.PENDING, now.plusDays(1));
+        taskClaimService.rebuild();
+
+        // When & Then
+        assertThatThrownBy(() -> taskClaimService.claimNext(" "))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskClaimService.claimNext("x".repeat(TaskService.MAX_ASSIGNEE_LENGTH + 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(taskClaimService.getQueueSize()).isEqualTo(1);
+        assertThat(taskRepository.countByStatus(TaskStatus.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip a queued task that is no longer pending")
+    void shouldSkipStaleCandidate() {
+        // Given
+        TaskEntity stale = persist("Stale", TaskStatus.PENDING, now.plusDays(1));
+        TaskEntity next = persist("Next", TaskStatus.PENDING, now.plusDays(2));
+        taskClaimService.rebuild();
+        stale.setStatus(TaskStatus.COMPLETED);
+        taskRepository.save(stale);  // changed without an event reaching the queue
+
+        // When
+        Optional<Task> claimed = taskClaimService.claimNext(CLAIMER);
+
+        // Then
+        assertThat(claimed).map(Task::getId).contains(next.getId());
+        assertThat(meterRegistry.get("task.claim.stale").counter().count()).isEqualTo(1.0);
+        assertThat(taskRepository.findById(stale.getId()).orElseThrow().getStatus())
+            .isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should queue tasks that become pending and drop ones that stop being pending")
+    void shouldFollowTaskChangeEvents() {
+        // Given
+        taskClaimService.rebuild();
+        TaskEntity created = persist("Created later", TaskStatus.PENDING, now.plusDays(1));
+        TaskEntity completed = persist("Completed later", TaskStatus.PENDING, now);
+        TaskMapper mapper = new TaskMapper();
+        taskClaimService.onTaskChanged(TaskChangedEvent.saved(mapper.toModel(created)));
+        taskClaimService.onTaskChanged(TaskChangedEvent.saved(mapper.toModel(completed)));
+        completed.setStatus(TaskStatus.COMPLETED);
+        taskClaimService.onTaskChanged(TaskChangedEvent.saved(mapper.toModel(taskRepository.save(completed))));
+
+        // When
+        Optional<Task> first = taskClaimService.claimNext(CLAIMER);
+        Optional<Task> second = taskClaimService.claimNext(CLAIMER);
+
+        // Then
+        assertThat(first).map(Task::getId).contains(created.getId());
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should give hundreds of concurrent claimers distinct tasks without retries")
+    void shouldGiveConcurrentClaimersDistinctTasks() throws Exception {
+        // Given
+        int taskCount = 500;
+        int claimers = 200;
+        List<TaskEntity> entities = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            entities.add(newEntity("Task " + i, TaskStatus.PENDING, now.plusMinutes(i)));
+        }
+        taskRepository.saveAll(entities);
+        taskClaimService.rebuild();
+
+        ExecutorService executor = Executors.newFixedThreadPool(claimers);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Long> claimedIds = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < claimers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                Optional<Task> claimed;
+                while ((claimed = taskClaimService.claimNext(CLAIMER)).isPresent()) {
+                    claimedIds.add(claimed.get().getId());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(claimedIds).hasSize(taskCount).doesNotHaveDuplicates();
+        assertThat(taskRepository.countByStatus(TaskStatus.PENDING)).isZero();
+        assertThat(taskRepository.countByStatus(TaskStatus.IN_PROGRESS)).isEqualTo(taskCount);
+        assertThat(meterRegistry.get("task.claim.stale").counter().count()).isZero();
+        assertThat(meterRegistry.get("task.claim.claimed").counter().count()).isEqualTo(taskCount);
+    }
+
+    @Test
+    @DisplayName("Should put a candidate back when its claim transaction fails")
+    void shouldRequeueCandidateWhenClaimTransactionFails() throws Exception {
+        // Given
+        int taskCount = 200;
+        int claimers = 50;
+        List<TaskEntity> entities = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            entities.add(newEntity("Task " + i, TaskStatus.PENDING, now.plusMinutes(i)));
+        }
+        taskRepository.saveAll(entities);
+        AtomicInteger transactions = new AtomicInteger();
+        AtomicBoolean failing = new AtomicBoolean();
+        PlatformTransactionManager flaky = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                if (failing.get() && transactions.incrementAndGet() % 5 == 0) {
+                    throw new CannotCreateTransactionException("Connection refused");
+                }
+                return transactionManager.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+        taskClaimService = new TaskClaimService(taskRepository, new TaskMapper(), flaky,
+                                                publishedEvents::add, meterRegistry);
+        taskClaimService.rebuild();
+        failing.set(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(claimers);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Long> claimedIds = new ConcurrentLinkedQueue<>();
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < claimers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (true) {
+                    try {
+                        Optional<Task> claimed = taskClaimService.claimNext(CLAIMER);
+                        if (claimed.isEmpty()) {
+                            return null;
+                        }
+                        claimedIds.add(claimed.get().getId());
+                    } catch (CannotCreateTransactionException e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(failures.get()).isPositive();
+        assertThat(claimedIds).hasSize(taskCount).doesNotHaveDuplicates();
+        assertThat(taskRepository.countByStatus(TaskStatus.PENDING)).isZero();
+        assertThat(taskClaimService.getQueueSize()).isZero();
+    }
+
+    private TaskEntity persist(String title, TaskStatus status, LocalDateTime dueDate) {
+        return taskRepository.save(newEntity(title, status, dueDate));
+    }
+
+    private TaskEntity newEntity(String title, TaskStatus status, LocalDateTime dueDate) {
+        return new TaskEntity(title, "Description", status, dueDate);
+    }
+}
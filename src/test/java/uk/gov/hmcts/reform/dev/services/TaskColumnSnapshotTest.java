@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksRemovedEvent;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.DueDateCount;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // the rebuild reads committed pages
+@DisplayName("TaskColumnSnapshot Tests")
+class TaskColumnSnapshotTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskColumnSnapshot columnSnapshot;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskMapper taskMapper;
+    private LocalDateTime testDateTime;
+
+    @BeforeEach
+    void setUp() {
+        testDateTime = LocalDateTime.of(2024, 1, 15, 10, 0);
+        taskRepository.deleteAll();
+        meterRegistry = new SimpleMeterRegistry();
+        taskMapper = new TaskMapper();
+        columnSnapshot = new TaskColumnSnapshot(taskRepository, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should load every task across several pages")
+    void shouldLoadTasksAcrossPages() {
+        // Given
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < TaskColumnSnapshot.REBUILD_PAGE_SIZE * 2 + 5; i++) {
+            tasks.add(new TaskEntity("Task " + i, "Description", i % 2 == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED,
+                                     testDateTime.plusDays(i % 3)));
+        }
+        taskRepository.saveAll(tasks);
+
+        // When
+        assertThat(columnSnapshot.isReady()).isFalse();
+        columnSnapshot.rebuild();
+
+        // Then
+        assertThat(columnSnapshot.isReady()).isTrue();
+        assertThat(columnSnapshot.countByStatus())
+            .containsEntry(TaskStatus.PENDING, (long) TaskColumnSnapshot.REBUILD_PAGE_SIZE + 3)
+            .containsEntry(TaskStatus.COMPLETED, (long) TaskColumnSnapshot.REBUILD_PAGE_SIZE + 2);
+        assertThat(meterRegistry.get("task.columns.rows").gauge().value())
+            .isEqualTo(TaskColumnSnapshot.REBUILD_PAGE_SIZE * 2 + 5);
+    }
+
+    @Test
+    @DisplayName("Should follow saved, deleted and archived tasks after loading")
+    void shouldApplyCommittedChanges() {
+        // Given
+        TaskEntity overdue = persist("Overdue", TaskStatus.PENDING, testDateTime.minusDays(1));
+        TaskEntity archived = persist("Archived", TaskStatus.COMPLETED, testDateTime.minusDays(2));
+        columnSnapshot.rebuild();
+
+        // When
+        TaskEntity created = persist("Created", TaskStatus.IN_PROGRESS, testDateTime.plusDays(1));
+        columnSnapshot.onTaskChanged(TaskChangedEvent.created(taskMapper.toModel(created)));
+        overdue.setStatus(TaskStatus.COMPLETED);
+        columnSnapshot.onTaskChanged(TaskChangedEvent.saved(taskMapper.toModel(taskRepository.save(overdue)),
+                                                            TaskStatus.PENDING));
+        columnSnapshot.onTasksRemoved(new TasksRemovedEvent(List.of(archived.getId())));
+
+        // Then
+        assertThat(columnSnapshot.countByStatus())
+            .containsEntry(TaskStatus.PENDING, 0L)
+            .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+            .containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(columnSnapshot.countOverdue(testDateTime, List.of(TaskStatus.CANCELLED))).isEqualTo(1);
+        assertThat(columnSnapshot.countByDueDay(testDateTime.toLocalDate().minusDays(2),
+                                                testDateTime.toLocalDate().plusDays(1)))
+            .extracting(DueDateCount::getDay, DueDateCount::getStatus, DueDateCount::getTotal)
+            .containsExactly(
+                tuple(testDateTime.toLocalDate().minusDays(1), TaskStatus.COMPLETED, 1L),
+                tuple(testDateTime.toLocalDate().plusDays(1), TaskStatus.IN_PROGRESS, 1L));
+
+        columnSnapshot.onTaskChanged(TaskChangedEvent.deleted(created.getId()));
+        assertThat(columnSnapshot.countByStatus()).containsEntry(TaskStatus.IN_PROGRESS, 0L);
+    }
+
+    private TaskEntity persist(String title, TaskStatus status, LocalDateTime dueDate) {
+        return taskRepository.save(new TaskEntity(title, "Description", status, dueDate));
+    }
+}
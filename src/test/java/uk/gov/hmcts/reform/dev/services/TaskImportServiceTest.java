@@ -0,0 +1,247 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.config.ImportProperties;
+import uk.gov.hmcts.reform.dev.entities.ImportJobEntity;
+import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TasksCreatedEvent;
+import uk.gov.hmcts.reform.dev.imports.ImportTooLargeException;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.ImportFormat;
+import uk.gov.hmcts.reform.dev.models.ImportJob;
+import uk.gov.hmcts.reform.dev.models.ImportJobStatus;
+import uk.gov.hmcts.reform.dev.models.ImportRowError;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.ImportJobRepository;
+import uk.gov.hmcts.reform.dev.repositories.ImportRowErrorRepository;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // each batch commits in its own transaction
+@DisplayName("TaskImportService Tests")
+class TaskImportServiceTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportRowErrorRepository importRowErrorRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private TaskImportService taskImportService;
+    private ImportProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Object> publishedEvents;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        importRowErrorRepository.deleteAll();
+        importJobRepository.deleteAll();
+        meterRegistry = new SimpleMeterRegistry();
+        publishedEvents = new CopyOnWriteArrayList<>();
+
+        properties = new ImportProperties();
+        properties.setDirectory(directory.toString());
+        properties.setBatchSize(3);
+        properties.setBatchPause(Duration.ZERO);
+        properties.setMaxErrors(2);
+        TaskMapper taskMapper = new TaskMapper();
+        TaskService taskService = new TaskService(taskRepository, taskMapper, publishedEvents::add, null);
+        taskImportService = new TaskImportService(taskService, taskRepository, importJobRepository,
+                                                  importRowErrorRepository, taskMapper, properties,
+                                                  transactionManager, publishedEvents::add, new ObjectMapper(),
+                                                  meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskImportService.close();
+        taskRepository.deleteAll();
+        importRowErrorRepository.deleteAll();
+        importJobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows in batches and record rejected ones")
+    void shouldImportCsvAndRecordRejectedRows() throws Exception {
+        // Given - a report-style header with an extra column, quoted fields and bad rows
+        String csv = "id,Title,description,status,dueDate\r\n"
+            + "1,First,\"Has \"\"quotes\"\", and a comma\",PENDING,2024-01-15T10:00:00\r\n"
+            + "2,Second,,in_progress,\r\n"
+            + "3,,No title,PENDING,\r\n"
+            + "\r\n"
+            + "4,Fourth,\"Spans\nlines\",DONE,\r\n"
+            + "5,Fifth,,COMPLETED,tomorrow\r\n"
+            + "6,Sixth,,,\r\n"
+            + "7,Seventh,,CANCELLED,2024-02-01T09:30:00\r\n";
+
+        // When
+        ImportJob job = taskImportService.startImport(ImportFormat.CSV, stream(csv));
+        ImportJob finished = awaitFinished(job.getId());
+
+        // Then
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getRowsProcessed()).isEqualTo(7);
+        assertThat(finished.getImported()).isEqualTo(4);
+        assertThat(finished.getFailed()).isEqualTo(3);
+        assertThat(taskRepository.findAll())
+            .extracting(TaskEntity::getTitle, TaskEntity::getDescription, TaskEntity::getStatus, TaskEntity::getDueDate)
+            .containsExactlyInAnyOrder(
+                tuple("First", "Has \"quotes\", and a comma", TaskStatus.PENDING, LocalDateTime.of(2024, 1, 15, 10, 0)),
+                tuple("Second", null, TaskStatus.IN_PROGRESS, null),
+                tuple("Sixth", null, TaskStatus.PENDING, null),
+                tuple("Seventh", null, TaskStatus.CANCELLED, LocalDateTime.of(2024, 2, 1, 9, 30)));
+
+        // Only max-errors rejections are kept
+        List<ImportRowError> errors = taskImportService.getErrors(job.getId(), PageRequest.of(0, 10)).orElseThrow();
+        assertThat(errors).extracting(ImportRowError::getRow).containsExactly(3L, 4L);
+        assertThat(errors.get(0).getMessage()).contains("title");
+        assertThat(errors.get(1).getMessage()).contains("Unknown status");
+
+        assertThat(publishedEvents).hasOnlyElementsOfType(TasksCreatedEvent.class);
+        assertThat(publishedEvents.stream().mapToInt(event -> ((TasksCreatedEvent) event).getTasks().size()).sum())
+            .isEqualTo(4);
+        assertThat(meterRegistry.get("task.imports.rows").tag("outcome", "rejected").counter().count())
+            .isEqualTo(3);
+        assertThat(Files.list(directory)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON, reject unreadable lines and refuse oversized uploads")
+    void shouldImportNdjson() throws Exception {
+        // Given
+        String ndjson = "{\"title\":\"First\",\"status\":\"COMPLETED\",\"description\":null}\n"
+            + "not json\n"
+            + "\n"
+            + "[1,2]\n"
+            + "{\"id\":9,\"title\":\"Second\",\"dueDate\":\"2024-01-15T10:00:00\"}\n";
+
+        // When
+        ImportJob job = taskImportService.startImport(ImportFormat.NDJSON, stream(ndjson));
+        ImportJob finished = awaitFinished(job.getId());
+
+        // Then
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getImported()).isEqualTo(2);
+        assertThat(finished.getFailed()).isEqualTo(2);
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle, TaskEntity::getStatus)
+            .containsExactlyInAnyOrder(tuple("First", TaskStatus.COMPLETED), tuple("Second", TaskStatus.PENDING));
+        assertThat(taskImportService.getErrors(job.getId(), PageRequest.of(0, 10)).orElseThrow())
+            .extracting(ImportRowError::getRow).containsExactly(2L, 3L);
+        assertThat(taskImportService.getErrors("unknown", PageRequest.of(0, 10))).isEmpty();
+
+        properties.setMaxUploadSize(DataSize.ofBytes(10));
+        assertThatThrownBy(() -> taskImportService.startImport(ImportFormat.NDJSON, stream(ndjson)))
+            .isInstanceOf(ImportTooLargeException.class);
+        assertThat(Files.list(directory)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject over-long records without buffering them and carry on with the next")
+    void shouldRejectOverLongRecords() throws Exception {
+        // Given - an unbalanced quote in the CSV and an NDJSON line over the limit
+        properties.setMaxRecordSize(DataSize.ofBytes(100));
+        String csv = "title,description\n"
+            + "First,ok\n"
+            + "Broken,\"never closed " + "x".repeat(200) + "\n"
+            + "Third,fine\n";
+        String ndjson = "{\"title\":\"Fourth\"}\n"
+            + "{\"title\":\"" + "y".repeat(200) + "\"}\n"
+            + "{\"title\":\"Sixth\"}";
+
+        // When
+        ImportJob csvJob = awaitFinished(taskImportService.startImport(ImportFormat.CSV, stream(csv)).getId());
+        ImportJob ndjsonJob = awaitFinished(
+            taskImportService.startImport(ImportFormat.NDJSON, stream(ndjson)).getId());
+
+        // Then
+        assertThat(csvJob.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(csvJob.getImported()).isEqualTo(2);
+        assertThat(csvJob.getFailed()).isEqualTo(1);
+        assertThat(ndjsonJob.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(ndjsonJob.getImported()).isEqualTo(2);
+        assertThat(ndjsonJob.getFailed()).isEqualTo(1);
+        assertThat(taskImportService.getErrors(csvJob.getId(), PageRequest.of(0, 10)).orElseThrow())
+            .extracting(ImportRowError::getRow, ImportRowError::getMessage)
+            .containsExactly(tuple(2L, "Record is longer than 100 characters"));
+        assertThat(taskImportService.getErrors(ndjsonJob.getId(), PageRequest.of(0, 10)).orElseThrow())
+            .extracting(ImportRowError::getRow).containsExactly(2L);
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle)
+            .containsExactlyInAnyOrder("First", "Third", "Fourth", "Sixth");
+    }
+
+    @Test
+    @DisplayName("Should resume an interrupted import after its last committed batch")
+    void shouldResumeAfterCommittedRows() throws Exception {
+        // Given - an import that committed its first three rows before the application stopped
+        Path file = Files.writeString(directory.resolve("import-resumed.csv"),
+                                      "title\nOne\nTwo\nThree\nFour\nFive\n");
+        ImportJobEntity interrupted = new ImportJobEntity("resumed", ImportFormat.CSV, file.toString());
+        interrupted.setStatus(ImportJobStatus.RUNNING);
+        interrupted.setRowsProcessed(3);
+        interrupted.setImported(3);
+        importJobRepository.save(interrupted);
+
+        // When
+        taskImportService.resumeImports();
+        ImportJob finished = awaitFinished("resumed");
+
+        // Then
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getRowsProcessed()).isEqualTo(5);
+        assertThat(finished.getImported()).isEqualTo(5);
+        assertThat(taskRepository.findAll()).extracting(TaskEntity::getTitle).containsExactlyInAnyOrder("Four", "Five");
+        assertThat(file).doesNotExist();
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ImportJob awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (System.nanoTime() < deadline) {
+            ImportJob job = taskImportService.getImport(id).orElseThrow();
+            if (job.getStatus() == ImportJobStatus.COMPLETED || job.getStatus() == ImportJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Import " + id + " did not finish");
+    }
+}
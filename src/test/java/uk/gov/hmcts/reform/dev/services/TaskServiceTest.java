@@ -4,24 +4,38 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gov.hmcts.reform.dev.entities.TaskEntity;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TasksReassignedEvent;
 import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.CalendarBucket;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskLookupResult;
+import uk.gov.hmcts.reform.dev.models.TaskPatch;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
-import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.repositories.DueDateCount;
+import uk.gov.hmcts.reform.dev.repositories.TaskStore;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
@@ -31,11 +45,14 @@ import static org.mockito.Mockito.*;
 class TaskServiceTest {
 
     @Mock
-    private TaskRepository taskRepository;
+    private TaskStore taskStore;
 
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -84,7 +101,7 @@ class TaskServiceTest {
         expectedTask.setTitle(title);
 
         when(taskMapper.createEntity(title, description, status, dueDate)).thenReturn(newEntity);
-        when(taskRepository.save(newEntity)).thenReturn(savedEntity);
+        when(taskStore.save(newEntity)).thenReturn(savedEntity);
         when(taskMapper.toModel(savedEntity)).thenReturn(expectedTask);
 
         // When
@@ -95,8 +112,12 @@ class TaskServiceTest {
         assertThat(result.getId()).isEqualTo(2L);
         assertThat(result.getTitle()).isEqualTo(title);
 
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getTask()).isSameAs(expectedTask);
+
         verify(taskMapper).createEntity(title, description, status, dueDate);
-        verify(taskRepository).save(newEntity);
+        verify(taskStore).save(newEntity);
         verify(taskMapper).toModel(savedEntity);
     }
 
@@ -114,7 +135,7 @@ class TaskServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Task title cannot be null or empty");
 
-        verify(taskRepository, never()).save(any());
+        verify(taskStore, never()).save(any());
     }
 
     @Test
@@ -122,7 +143,7 @@ class TaskServiceTest {
     void shouldGetTaskByIdSuccessfully() {
         // Given
         Long taskId = 1L;
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleEntity));
+        when(taskStore.findById(taskId)).thenReturn(Optional.of(sampleEntity));
         when(taskMapper.toModel(sampleEntity)).thenReturn(sampleTask);
 
         // When
@@ -133,7 +154,7 @@ class TaskServiceTest {
         assertThat(result.get().getId()).isEqualTo(taskId);
         assertThat(result.get().getTitle()).isEqualTo("Test Task");
 
-        verify(taskRepository).findById(taskId);
+        verify(taskStore).findById(taskId);
         verify(taskMapper).toModel(sampleEntity);
     }
 
@@ -142,14 +163,14 @@ class TaskServiceTest {
     void shouldReturnEmptyWhenTaskNotFoundById() {
         // Given
         Long taskId = 999L;
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskStore.findById(taskId)).thenReturn(Optional.empty());
 
         // When
         Optional<Task> result = taskService.getTaskById(taskId);
 
         // Then
         assertThat(result).isEmpty();
-        verify(taskRepository).findById(taskId);
+        verify(taskStore).findById(taskId);
         verify(taskMapper, never()).toModel(any());
     }
 
@@ -159,7 +180,7 @@ class TaskServiceTest {
         // Given
         List<TaskEntity> entities = Arrays.asList(sampleEntity);
 
-        when(taskRepository.findAllByOrderByDueDateAsc()).thenReturn(entities);
+        when(taskStore.findAllByOrderByDueDateAsc()).thenReturn(entities);
         when(taskMapper.toModel(sampleEntity)).thenReturn(sampleTask);
 
         // When
@@ -169,10 +190,60 @@ class TaskServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result).containsExactly(sampleTask);
 
-        verify(taskRepository).findAllByOrderByDueDateAsc();
+        verify(taskStore).findAllByOrderByDueDateAsc();
         verify(taskMapper).toModel(sampleEntity);
     }
 
+    @Test
+    @DisplayName("Should look up tasks in request order and mark missing IDs")
+    void shouldLookUpTasksInRequestOrder() {
+        // Given
+        TaskEntity otherEntity = new TaskEntity();
+        otherEntity.setId(3L);
+        Task otherTask = new Task();
+        otherTask.setId(3L);
+
+        when(taskStore.findAllById(Arrays.asList(3L, 2L, 1L))).thenReturn(Arrays.asList(sampleEntity, otherEntity));
+        when(taskMapper.toModel(sampleEntity)).thenReturn(sampleTask);
+        when(taskMapper.toModel(otherEntity)).thenReturn(otherTask);
+
+        // When
+        List<TaskLookupResult> results = taskService.lookupTasks(Arrays.asList(3L, 2L, 1L, 3L));
+
+        // Then
+        assertThat(results).extracting(TaskLookupResult::getId).containsExactly(3L, 2L, 1L, 3L);
+        assertThat(results).extracting(TaskLookupResult::isFound).containsExactly(true, false, true, true);
+        assertThat(results.get(2).getTask()).isSameAs(sampleTask);
+        assertThat(results.get(1).getTask()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should resolve large lookups in chunks")
+    void shouldResolveLargeLookupsInChunks() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, 1200).boxed().collect(Collectors.toList());
+        when(taskStore.findAllById(anyList())).thenReturn(Collections.emptyList());
+
+        // When
+        List<TaskLookupResult> results = taskService.lookupTasks(ids);
+
+        // Then
+        assertThat(results).hasSize(1200).noneMatch(TaskLookupResult::isFound);
+        verify(taskStore, times(3)).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject lookups over the ID limit")
+    void shouldRejectLookupsOverLimit() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, TaskService.MAX_LOOKUP_IDS + 1).boxed().collect(Collectors.toList());
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.lookupTasks(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(taskStore, never()).findAllById(anyList());
+    }
+
     @Test
     @DisplayName("Should update task status successfully")
     void shouldUpdateTaskStatusSuccessfully() {
@@ -187,8 +258,8 @@ class TaskServiceTest {
         updatedTask.setId(taskId);
         updatedTask.setStatus(newStatus);
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleEntity));
-        when(taskRepository.save(sampleEntity)).thenReturn(updatedEntity);
+        when(taskStore.findById(taskId)).thenReturn(Optional.of(sampleEntity));
+        when(taskStore.save(sampleEntity)).thenReturn(updatedEntity);
         when(taskMapper.toModel(updatedEntity)).thenReturn(updatedTask);
 
         // When
@@ -198,25 +269,136 @@ class TaskServiceTest {
         assertThat(result).isPresent();
         assertThat(result.get().getStatus()).isEqualTo(newStatus);
 
-        verify(taskRepository).findById(taskId);
-        verify(taskRepository).save(sampleEntity);
+        verify(taskStore).findById(taskId);
+        verify(taskStore).save(sampleEntity);
         verify(taskMapper).toModel(updatedEntity);
     }
 
+    @Test
+    @DisplayName("Should patch only the members present in the merge patch")
+    void shouldPatchOnlyPresentMembers() {
+        // Given
+        TaskPatch patch = new TaskPatch();
+        patch.setStatus(TaskStatus.COMPLETED);
+        patch.setDueDate(null);
+
+        when(taskStore.findById(1L)).thenReturn(Optional.of(sampleEntity));
+        when(taskStore.save(sampleEntity)).thenReturn(sampleEntity);
+        when(taskMapper.toModel(sampleEntity)).thenReturn(sampleTask);
+
+        // When
+        Optional<Task> result = taskService.patchTask(1L, patch);
+
+        // Then
+        assertThat(result).contains(sampleTask);
+        assertThat(sampleEntity.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(sampleEntity.getDueDate()).isNull();
+        assertThat(sampleEntity.getTitle()).isEqualTo("Test Task");
+        assertThat(sampleEntity.getDescription()).isEqualTo("Test Description");
+        verify(taskStore).save(sampleEntity);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the write when a patch changes nothing")
+    void shouldSkipWriteWhenPatchChangesNothing() {
+        // Given
+        TaskPatch patch = new TaskPatch();
+        patch.setTitle(" Test Task ");
+        patch.setStatus(TaskStatus.PENDING);
+
+        when(taskStore.findById(1L)).thenReturn(Optional.of(sampleEntity));
+        when(taskMapper.toModel(sampleEntity)).thenReturn(sampleTask);
+
+        // When
+        Optional<Task> result = taskService.patchTask(1L, patch);
+
+        // Then
+        assertThat(result).contains(sampleTask);
+        verify(taskStore, never()).save(any(TaskEntity.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should assign a task with a patch and trim the assignee")
+    void shouldAssignTaskWithPatch() {
+        // Given
+        TaskPatch patch = new TaskPatch();
+        patch.setAssignee(" alice ");
+
+        when(taskStore.findById(1L)).thenReturn(Optional.of(sampleEntity));
+        when(taskStore.save(sampleEntity)).thenReturn(sampleEntity);
+        when(taskMapper.toModel(sampleEntity)).thenReturn(sampleTask);
+
+        // When
+        taskService.patchTask(1L, patch);
+
+        // Then
+        assertThat(sampleEntity.getAssignee()).isEqualTo("alice");
+        verify(taskStore).save(sampleEntity);
+    }
+
+    @Test
+    @DisplayName("Should reassign open tasks in one statement and publish one event")
+    void shouldReassignOpenTasks() {
+        // Given
+        when(taskStore.reassign(eq("alice"), eq("bob"), anyCollection(), any(LocalDateTime.class)))
+            .thenReturn(3);
+
+        // When
+        int moved = taskService.reassignTasks(" alice ", "bob", null);
+
+        // Then
+        assertThat(moved).isEqualTo(3);
+        ArgumentCaptor<TasksReassignedEvent> event = ArgumentCaptor.forClass(TasksReassignedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getStatuses())
+            .containsExactlyInAnyOrder(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+        assertThat(event.getValue().getToAssignee()).isEqualTo("bob");
+        assertThat(event.getValue().getCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject reassigning tasks to their current assignee")
+    void shouldRejectReassignToSameAssignee() {
+        // When & Then
+        assertThatThrownBy(() -> taskService.reassignTasks("alice", " alice", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(taskStore, never()).reassign(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that clears the title")
+    void shouldRejectPatchClearingTitle() {
+        // Given
+        TaskPatch patch = new TaskPatch();
+        patch.setTitle(null);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.patchTask(1L, patch))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(taskStore, never()).findById(any());
+    }
+
     @Test
     @DisplayName("Should delete task successfully")
     void shouldDeleteTaskSuccessfully() {
         // Given
         Long taskId = 1L;
-        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(taskStore.existsById(taskId)).thenReturn(true);
 
         // When
         boolean result = taskService.deleteTask(taskId);
 
         // Then
         assertThat(result).isTrue();
-        verify(taskRepository).existsById(taskId);
-        verify(taskRepository).deleteById(taskId);
+        verify(taskStore).existsById(taskId);
+        verify(taskStore).deleteById(taskId);
+
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().isDeleted()).isTrue();
+        assertThat(event.getValue().getTaskId()).isEqualTo(taskId);
     }
 
     @Test
@@ -234,7 +416,7 @@ class TaskServiceTest {
 
         List<TaskEntity> overdueEntities = Arrays.asList(overdueEntity);
         
-        when(taskRepository.findOverdueTasks(any(LocalDateTime.class), anyList())).thenReturn(overdueEntities);
+        when(taskStore.findOverdueTasks(any(LocalDateTime.class), anyList())).thenReturn(overdueEntities);
         when(taskMapper.toModel(overdueEntity)).thenReturn(overdueTask);
 
         // When
@@ -244,41 +426,98 @@ class TaskServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getId()).isEqualTo(2L);
 
-        verify(taskRepository).findOverdueTasks(any(LocalDateTime.class), anyList());
+        verify(taskStore).findOverdueTasks(any(LocalDateTime.class), anyList());
         verify(taskMapper).toModel(overdueEntity);
     }
 
+    @Test
+    @DisplayName("Should fold daily due date counts into ISO weeks")
+    void shouldFoldDailyCountsIntoWeeks() {
+        // Given - 2024-01-15 is a Monday
+        List<DueDateCount> rows = Arrays.asList(
+            dueDateCount(LocalDate.of(2024, 1, 15), TaskStatus.PENDING, 2L),
+            dueDateCount(LocalDate.of(2024, 1, 21), TaskStatus.COMPLETED, 1L),
+            dueDateCount(LocalDate.of(2024, 1, 22), TaskStatus.PENDING, 3L));
+        when(taskStore.countByDueDay(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(rows);
+
+        // When
+        List<CalendarBucket> buckets = taskService.getDueDateCalendar(
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), CalendarGranularity.WEEK);
+
+        // Then
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0).getStart()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(buckets.get(0).getTotal()).isEqualTo(3);
+        assertThat(buckets.get(0).getByStatus()).containsEntry(TaskStatus.PENDING, 2L)
+                .containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(buckets.get(1).getStart()).isEqualTo(LocalDate.of(2024, 1, 22));
+        assertThat(buckets.get(1).getTotal()).isEqualTo(3);
+
+        verify(taskStore).countByDueDay(LocalDate.of(2024, 1, 1).atStartOfDay(),
+                                             LocalDate.of(2024, 2, 1).atStartOfDay());
+        verify(taskMapper, never()).toModel(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a calendar range that ends before it starts")
+    void shouldRejectInvertedCalendarRange() {
+        assertThatThrownBy(() -> taskService.getDueDateCalendar(
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), CalendarGranularity.DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(taskStore, never()).countByDueDay(any(), any());
+    }
+
     @Test
     @DisplayName("Should initialize sample data when repository is empty")
     void shouldInitializeSampleDataWhenRepositoryIsEmpty() {
         // Given
-        when(taskRepository.count()).thenReturn(0L);
+        when(taskStore.count()).thenReturn(0L);
         when(taskMapper.createEntity(anyString(), anyString(), any(TaskStatus.class), any(LocalDateTime.class)))
                 .thenReturn(sampleEntity);
-        when(taskRepository.save(any(TaskEntity.class))).thenReturn(sampleEntity);
+        when(taskStore.save(any(TaskEntity.class))).thenReturn(sampleEntity);
         when(taskMapper.toModel(any(TaskEntity.class))).thenReturn(sampleTask);
 
         // When
         taskService.initializeSampleData();
 
         // Then
-        verify(taskRepository).count();
+        verify(taskStore).count();
         verify(taskMapper, times(4)).createEntity(anyString(), anyString(), any(TaskStatus.class), any(LocalDateTime.class));
-        verify(taskRepository, times(4)).save(any(TaskEntity.class));
+        verify(taskStore, times(4)).save(any(TaskEntity.class));
     }
 
     @Test
     @DisplayName("Should not initialize sample data when repository has data")
     void shouldNotInitializeSampleDataWhenRepositoryHasData() {
         // Given
-        when(taskRepository.count()).thenReturn(5L);
+        when(taskStore.count()).thenReturn(5L);
 
         // When
         taskService.initializeSampleData();
 
         // Then
-        verify(taskRepository).count();
+        verify(taskStore).count();
         verify(taskMapper, never()).createEntity(anyString(), anyString(), any(TaskStatus.class), any(LocalDateTime.class));
-        verify(taskRepository, never()).save(any(TaskEntity.class));
+        verify(taskStore, never()).save(any(TaskEntity.class));
+    }
+
+    private DueDateCount dueDateCount(LocalDate day, TaskStatus status, Long total) {
+        return new DueDateCount() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
     }
-}
\ No newline at end of file
+}
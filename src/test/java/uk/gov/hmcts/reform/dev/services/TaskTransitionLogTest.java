@@ -0,0 +1,184 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.config.TransitionLogProperties;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.CalendarBucket;
+import uk.gov.hmcts.reform.dev.models.CalendarGranularity;
+import uk.gov.hmcts.reform.dev.models.StatusTimeStats;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskTransition;
+import uk.gov.hmcts.reform.dev.repositories.TaskTransitionRepository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // DDL for the log tables commits in H2
+@DisplayName("TaskTransitionLog Tests")
+class TaskTransitionLogTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskTransitionRepository transitionRepository;
+    private TaskTransitionLog transitionLog;
+    private TaskAnalyticsService analyticsService;
+    private SimpleMeterRegistry meterRegistry;
+    private LocalDate today;
+    private long startOfToday;
+
+    @BeforeEach
+    void setUp() {
+        NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(dataSource);
+        transitionRepository = new TaskTransitionRepository(jdbc);
+        transitionRepository.initialiseSchema();
+        jdbc.getJdbcTemplate().execute("DELETE FROM task_transitions");
+        jdbc.getJdbcTemplate().execute("DELETE FROM task_status_time_rollup");
+        jdbc.getJdbcTemplate().execute("DELETE FROM task_throughput_rollup");
+
+        TransitionLogProperties properties = new TransitionLogProperties();
+        properties.setBatchSize(3);
+        meterRegistry = new SimpleMeterRegistry();
+        transitionLog = new TaskTransitionLog(transitionRepository, transactionManager, properties, meterRegistry);
+        analyticsService = new TaskAnalyticsService(transitionRepository);
+
+        today = LocalDate.now();
+        startOfToday = today.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("Should log status changes only, with compact codes and timestamps")
+    void shouldLogStatusChangesOnly() {
+        // Given
+        Task created = task(1L, TaskStatus.PENDING);
+        Task started = task(1L, TaskStatus.IN_PROGRESS);
+
+        // When
+        transitionLog.onTaskChanged(TaskChangedEvent.created(created));
+        transitionLog.onTaskChanged(TaskChangedEvent.saved(created));
+        transitionLog.onTaskChanged(TaskChangedEvent.saved(started, TaskStatus.PENDING));
+        transitionLog.onTaskChanged(TaskChangedEvent.deleted(1L));
+        int written = transitionLog.flush();
+
+        // Then
+        assertThat(written).isEqualTo(2);
+        assertThat(transitionRepository.findByTaskId(1L))
+            .extracting(TaskTransition::fromStatus, TaskTransition::toStatus)
+            .containsExactly(
+                tuple(null, TaskStatus.PENDING),
+                tuple(TaskStatus.PENDING, TaskStatus.IN_PROGRESS));
+        assertThat(meterRegistry.get("task.transitions.logged").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should roll up time in status across batches")
+    void shouldRollUpTimeInStatusAcrossBatches() {
+        // Given - batch size 3, so task 2 leaves PENDING in a later batch than it entered it
+        transitionLog.append(new TaskTransition(1, null, TaskStatus.PENDING, at(0)));
+        transitionLog.append(new TaskTransition(2, null, TaskStatus.PENDING, at(0)));
+        transitionLog.append(new TaskTransition(1, TaskStatus.PENDING, TaskStatus.IN_PROGRESS, at(10)));
+        transitionLog.append(new TaskTransition(2, TaskStatus.PENDING, TaskStatus.IN_PROGRESS, at(30)));
+        transitionLog.append(new TaskTransition(1, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED, at(70)));
+
+        // When
+        transitionLog.flush();
+        List<StatusTimeStats> stats = analyticsService.getTimeInStatus(today, today);
+
+        // Then
+        assertThat(stats).extracting(StatusTimeStats::getStatus)
+            .containsExactly(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+        StatusTimeStats pending = stats.get(0);
+        assertThat(pending.getTransitions()).isEqualTo(2);
+        assertThat(pending.getMeanSeconds()).isEqualTo(20.0);
+        StatusTimeStats inProgress = stats.get(1);
+        assertThat(inProgress.getTransitions()).isEqualTo(1);
+        assertThat(inProgress.getMeanSeconds()).isEqualTo(60.0);
+        assertThat(inProgress.getP50Seconds()).isCloseTo(60.0, within(6.0));
+    }
+
+    @Test
+    @DisplayName("Should estimate percentiles from the histogram within its resolution")
+    void shouldEstimatePercentiles() {
+        // Given - tasks that stayed pending for 1..100 seconds
+        for (int i = 1; i <= 100; i++) {
+            transitionLog.append(new TaskTransition(i, null, TaskStatus.PENDING, at(0)));
+            transitionLog.append(new TaskTransition(i, TaskStatus.PENDING, TaskStatus.IN_PROGRESS, at(i)));
+        }
+
+        // When
+        transitionLog.flush();
+        StatusTimeStats pending = analyticsService.getTimeInStatus(today, today).get(0);
+
+        // Then
+        assertThat(pending.getMeanSeconds()).isEqualTo(50.5);
+        assertThat(pending.getP50Seconds()).isCloseTo(50.0, within(50.0 * 0.1));
+        assertThat(pending.getP90Seconds()).isCloseTo(90.0, within(90.0 * 0.1));
+        assertThat(pending.getP99Seconds()).isCloseTo(99.0, within(99.0 * 0.1));
+    }
+
+    @Test
+    @DisplayName("Should count transitions into each status per day")
+    void shouldReportThroughputPerDay() {
+        // Given
+        transitionLog.append(new TaskTransition(1, null, TaskStatus.PENDING, at(0) - 86_400_000L));
+        transitionLog.append(new TaskTransition(1, TaskStatus.PENDING, TaskStatus.COMPLETED, at(5)));
+        transitionLog.append(new TaskTransition(2, null, TaskStatus.PENDING, at(6)));
+        transitionLog.append(new TaskTransition(3, null, TaskStatus.PENDING, at(7)));
+        transitionLog.flush();
+        transitionLog.append(new TaskTransition(2, TaskStatus.PENDING, TaskStatus.COMPLETED, at(8)));
+        transitionLog.flush();
+
+        // When
+        List<CalendarBucket> throughput = analyticsService.getThroughput(today.minusDays(1), today,
+                                                                         CalendarGranularity.DAY);
+
+        // Then
+        assertThat(throughput).extracting(CalendarBucket::getStart).containsExactly(today.minusDays(1), today);
+        assertThat(throughput.get(0).getByStatus()).containsExactlyEntriesOf(Map.of(TaskStatus.PENDING, 1L));
+        assertThat(throughput.get(1).getByStatus())
+            .containsEntry(TaskStatus.PENDING, 2L)
+            .containsEntry(TaskStatus.COMPLETED, 2L);
+        assertThat(throughput.get(1).getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted date range")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> analyticsService.getTimeInStatus(today, today.minusDays(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long at(int seconds) {
+        return startOfToday + 3_600_000L + seconds * 1000L;
+    }
+
+    private Task task(Long id, TaskStatus status) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        return task;
+    }
+}
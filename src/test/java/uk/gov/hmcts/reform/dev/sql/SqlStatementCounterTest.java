@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlStatementCounter Tests")
+class SqlStatementCounterTest {
+
+    private static final String SELECT_TASK = "select t1_0.id,t1_0.title from tasks t1_0 where t1_0.id=?";
+
+    private SqlStatementCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter();
+    }
+
+    @Test
+    @DisplayName("Should count statements by kind only while a scope is open on this thread")
+    void shouldCountStatementsByKind() throws Exception {
+        // Given
+        counter.inspect(SELECT_TASK);
+
+        // When
+        StatementCounts counts;
+        try (StatementCounts open = SqlStatementCounter.open()) {
+            counts = open;
+            assertThat(counter.inspect(SELECT_TASK)).isEqualTo(SELECT_TASK);
+            counter.inspect("insert into tasks (title) values (?)");
+            counter.inspect("  update tasks set status=? where id=?");
+            counter.inspect("delete from tasks where id=?");
+            counter.inspect("with recent as (select id from tasks) select * from recent");
+            CompletableFuture.runAsync(() -> counter.inspect(SELECT_TASK)).get();
+        }
+        counter.inspect(SELECT_TASK);
+
+        // Then
+        assertThat(counts.getTotal()).isEqualTo(5);
+        assertThat(counts.getSelects()).isEqualTo(2);
+        assertThat(counts.getInserts()).isEqualTo(1);
+        assertThat(counts.getUpdates()).isEqualTo(1);
+        assertThat(counts.getDeletes()).isEqualTo(1);
+        assertThat(counts).hasToString("5 statements (2 select, 1 insert, 1 update, 1 delete)");
+    }
+
+    @Test
+    @DisplayName("Should count nested scopes towards their parents and find the most repeated statement")
+    void shouldCountNestedScopes() {
+        // Given
+        StatementCounts outer = SqlStatementCounter.open();
+        counter.inspect("select count(*) from tasks");
+
+        // When
+        StatementCounts inner = SqlStatementCounter.open();
+        for (int i = 0; i < 3; i++) {
+            counter.inspect(SELECT_TASK);
+        }
+        inner.close();
+        counter.inspect("select count(*) from tasks");
+        outer.close();
+        counter.inspect(SELECT_TASK);
+
+        // Then
+        assertThat(inner.getTotal()).isEqualTo(3);
+        assertThat(outer.getTotal()).isEqualTo(5);
+        assertThat(outer.getStatements()).containsExactly(Map.entry("select count(*) from tasks", 2),
+                                                          Map.entry(SELECT_TASK, 3));
+        assertThat(outer.getMostRepeated()).isEqualTo(Map.entry(SELECT_TASK, 3));
+        try (StatementCounts empty = SqlStatementCounter.open()) {
+            assertThat(empty.getMostRepeated()).isNull();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.dev.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import uk.gov.hmcts.reform.dev.mappers.TaskMapper;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskEntityRowMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskJsonStreamWriter Tests")
+class TaskJsonStreamWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ObjectMapper objectMapper;
+    private TaskJsonStreamWriter writer;
+    private LocalDateTime testDateTime;
+
+    @BeforeEach
+    void setUp() {
+        testDateTime = LocalDateTime.of(2024, 1, 15, 10, 0);
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:stream-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+                                 + "description VARCHAR(1000), status VARCHAR(20) NOT NULL, due_date TIMESTAMP, "
+                                 + "created_date TIMESTAMP NOT NULL, updated_date TIMESTAMP NOT NULL, "
+                                 + "assignee VARCHAR(100))");
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new TaskJsonStreamWriter(jdbcTemplate, objectMapper.getFactory());
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as serializing the mapped task list")
+    void shouldMatchJacksonListSerialization() throws Exception {
+        // Given
+        insert(1L, "Later \"quoted\"", "Line one\nline two", TaskStatus.PENDING, testDateTime.plusDays(3));
+        assign(1L, "caseworker-1");
+        insert(2L, "Undated", null, TaskStatus.IN_PROGRESS, null);
+        insert(3L, "Sooner", "\u00dcn\u00efc\u00f6d\u00e9", TaskStatus.COMPLETED, testDateTime.plusDays(1).plusNanos(123_000_000));
+
+        // When
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        writer.writeTasks(null, streamed);
+
+        // Then
+        assertThat(objectMapper.readTree(streamed.toByteArray()))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(currentPath())));
+        assertThat(objectMapper.readTree(streamed.toByteArray()).findValuesAsText("title"))
+                .containsExactly("Undated", "Sooner", "Later \"quoted\"");
+    }
+
+    @Test
+    @DisplayName("Should filter by status and write an empty array when nothing matches")
+    void shouldFilterByStatus() throws Exception {
+        // Given
+        insert(1L, "Pending", "Description", TaskStatus.PENDING, testDateTime);
+
+        // When
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        ByteArrayOutputStream cancelled = new ByteArrayOutputStream();
+        writer.writeTasks(TaskStatus.PENDING, pending);
+        writer.writeTasks(TaskStatus.CANCELLED, cancelled);
+
+        // Then
+        assertThat(objectMapper.readTree(pending.toByteArray())).hasSize(1);
+        assertThat(cancelled.toString()).isEqualTo("[]");
+    }
+
+    private List<Task> currentPath() {
+        TaskMapper taskMapper = new TaskMapper();
+        return jdbcTemplate.query("SELECT " + TaskEntityRowMapper.COLUMNS
+                                      + " FROM tasks ORDER BY due_date ASC NULLS FIRST, id ASC",
+                                  TaskEntityRowMapper.INSTANCE)
+            .stream()
+            .map(taskMapper::toModel)
+            .toList();
+    }
+
+    private void insert(Long id, String title, String description, TaskStatus status, LocalDateTime dueDate) {
+        jdbcTemplate.update("INSERT INTO tasks (" + TaskEntityRowMapper.COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                            id, title, description, status.name(),
+                            dueDate != null ? Timestamp.valueOf(dueDate) : null,
+                            Timestamp.valueOf(testDateTime), Timestamp.valueOf(testDateTime), null);
+    }
+
+    private void assign(Long id, String assignee) {
+        jdbcTemplate.update("UPDATE tasks SET assignee = ? WHERE id = ?", assignee, id);
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.dev.workload;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when permits and queue are exhausted")
+    void shouldRejectWhenPermitsAndQueueExhausted() {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(WorkloadClass.REPORTING, 2, 0, Duration.ofMillis(10), meterRegistry);
+        bulkhead.acquire();
+        bulkhead.acquire();
+
+        // When & Then
+        assertThatThrownBy(bulkhead::acquire)
+                .isInstanceOf(BulkheadFullException.class)
+                .extracting("workloadClass")
+                .isEqualTo(WorkloadClass.REPORTING);
+
+        assertThat(bulkhead.getActive()).isEqualTo(2);
+        assertThat(bulkhead.getSaturation()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("task.workload.rejected").tag("class", "reporting").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should hand a released permit to a queued caller")
+    void shouldHandReleasedPermitToQueuedCaller() throws Exception {
+        // Given
+        Bulkhead bulkhead = new Bulkhead(WorkloadClass.OLTP, 1, 1, Duration.ofSeconds(5), meterRegistry);
+        bulkhead.acquire();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+
+        try {
+            // When
+            Future<?> waiter = executor.submit(() -> {
+                started.countDown();
+                bulkhead.acquire();
+            });
+            started.await();
+            while (bulkhead.getQueued() == 0 && !waiter.isDone()) {
+                Thread.sleep(5);
+            }
+            bulkhead.release();
+
+            // Then
+            waiter.get(5, TimeUnit.SECONDS);
+            assertThat(bulkhead.getActive()).isEqualTo(1);
+            assertThat(bulkhead.getQueued()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep workload classes independent")
+    void shouldKeepWorkloadClassesIndependent() {
+        // Given
+        Bulkhead reporting = new Bulkhead(WorkloadClass.REPORTING, 1, 0, Duration.ZERO, meterRegistry);
+        Bulkhead oltp = new Bulkhead(WorkloadClass.OLTP, 1, 0, Duration.ZERO, meterRegistry);
+        reporting.acquire();
+
+        // When
+        oltp.acquire();
+
+        // Then
+        assertThat(oltp.getActive()).isEqualTo(1);
+        assertThatThrownBy(reporting::acquire).isInstanceOf(BulkheadFullException.class);
+    }
+}